@@ -0,0 +1,132 @@
+// Groups the nodes of a CompactCFG into basic blocks: maximal runs of nodes that are only entered at the first node
+// and only left at the last one. The analysis then handles a straight-line run as one unit instead of node by node.
+// Blocks are numbered in the order of their first node, so block 0 starts with the start node.
+// Like CompactCFG, the statement lists and block edges are stored in compressed sparse row arrays, and the blocks
+// form a FlowGraph of their own, so dataflow analyses can run on blocks instead of single statements.
+public class BasicBlocks implements FlowGraph {
+    private final CompactCFG cfg;
+    private final int[] blockOf; // node ID -> block ID
+    private final int[] nodeStart; // the nodes of block b are nodes[nodeStart[b]] .. nodes[nodeStart[b + 1] - 1]
+    private final int[] nodes;
+    private final int[] successorStart;
+    private final int[] successors;
+    private final int[] predecessorStart;
+    private final int[] predecessors;
+
+    public BasicBlocks(CompactCFG cfg) {
+        this.cfg = cfg;
+        int size = cfg.size();
+
+        // A node starts a block unless its only predecessor falls through to it and nowhere else
+        boolean[] leader = new boolean[size];
+        int blockCount = 0;
+        for (int node = 0; node < size; node++) {
+            leader[node] = node == 0 || cfg.getPredecessorCount(node) != 1
+                    || cfg.getSuccessorCount(cfg.getPredecessor(node, 0)) != 1
+                    || cfg.getPredecessor(node, 0) == node;
+            if (leader[node]) {
+                blockCount++;
+            }
+        }
+
+        // Follow the fall-through chain from every leader
+        blockOf = new int[size];
+        nodeStart = new int[blockCount + 1];
+        nodes = new int[size];
+        int block = 0;
+        int filled = 0;
+        for (int node = 0; node < size; node++) {
+            if (!leader[node]) {
+                continue;
+            }
+            nodeStart[block] = filled;
+            int current = node;
+            while (true) {
+                blockOf[current] = block;
+                nodes[filled++] = current;
+                if (cfg.getSuccessorCount(current) != 1 || leader[cfg.getSuccessor(current, 0)]) {
+                    break;
+                }
+                current = cfg.getSuccessor(current, 0);
+            }
+            block++;
+        }
+        nodeStart[blockCount] = filled;
+
+        // Block edges are the edges leaving the last node of each block
+        successorStart = new int[blockCount + 1];
+        predecessorStart = new int[blockCount + 1];
+        for (int b = 0; b < blockCount; b++) {
+            int last = getLastNode(b);
+            successorStart[b + 1] = successorStart[b] + cfg.getSuccessorCount(last);
+            for (int i = 0; i < cfg.getSuccessorCount(last); i++) {
+                predecessorStart[blockOf[cfg.getSuccessor(last, i)] + 1]++;
+            }
+        }
+        for (int b = 0; b < blockCount; b++) {
+            predecessorStart[b + 1] += predecessorStart[b];
+        }
+        successors = new int[successorStart[blockCount]];
+        predecessors = new int[predecessorStart[blockCount]];
+        int[] nextPredecessor = new int[blockCount];
+        for (int b = 0; b < blockCount; b++) {
+            int last = getLastNode(b);
+            for (int i = 0; i < cfg.getSuccessorCount(last); i++) {
+                int target = blockOf[cfg.getSuccessor(last, i)];
+                successors[successorStart[b] + i] = target;
+                predecessors[predecessorStart[target] + nextPredecessor[target]++] = b;
+            }
+        }
+    }
+
+    public CompactCFG getCFG() {
+        return cfg;
+    }
+
+    @Override
+    public int size() {
+        return nodeStart.length - 1;
+    }
+
+    @Override
+    public int getStart() {
+        return 0;
+    }
+
+    public int getBlockOf(int node) {
+        return blockOf[node];
+    }
+
+    public int getNodeCount(int block) {
+        return nodeStart[block + 1] - nodeStart[block];
+    }
+
+    // The index-th statement of the block, in execution order
+    public int getNode(int block, int index) {
+        return nodes[nodeStart[block] + index];
+    }
+
+    public int getLastNode(int block) {
+        return nodes[nodeStart[block + 1] - 1];
+    }
+
+    @Override
+    public int getSuccessorCount(int block) {
+        return successorStart[block + 1] - successorStart[block];
+    }
+
+    @Override
+    public int getSuccessor(int block, int index) {
+        return successors[successorStart[block] + index];
+    }
+
+    @Override
+    public int getPredecessorCount(int block) {
+        return predecessorStart[block + 1] - predecessorStart[block];
+    }
+
+    @Override
+    public int getPredecessor(int block, int index) {
+        return predecessors[predecessorStart[block] + index];
+    }
+}
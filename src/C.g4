@@ -61,48 +61,22 @@ castExpression
     | DigitSequence // for
     ;
 
-multiplicativeExpression
-    : castExpression (('*' | '/' | '%') castExpression)*
-    ;
-
-additiveExpression
-    : multiplicativeExpression (('+' | '-') multiplicativeExpression)*
-    ;
-
-shiftExpression
-    : additiveExpression (('<<' | '>>') additiveExpression)*
-    ;
-
-relationalExpression
-    : shiftExpression (('<' | '>' | '<=' | '>=') shiftExpression)*
-    ;
-
-equalityExpression
-    : relationalExpression (('==' | '!=') relationalExpression)*
-    ;
-
-andExpression
-    : equalityExpression ('&' equalityExpression)*
-    ;
-
-exclusiveOrExpression
-    : andExpression ('^' andExpression)*
-    ;
-
-inclusiveOrExpression
-    : exclusiveOrExpression ('|' exclusiveOrExpression)*
-    ;
-
-logicalAndExpression
-    : inclusiveOrExpression ('&&' inclusiveOrExpression)*
-    ;
-
-logicalOrExpression
-    : logicalAndExpression ('||' logicalAndExpression)*
-    ;
-
+// All binary operators and ?: in one left-recursive rule, from the tightest binding to the loosest.
+// ANTLR turns it into a precedence climbing loop, so an operand is a single conditionalExpression
+// node instead of a chain through a separate rule for every precedence level.
 conditionalExpression
-    : logicalOrExpression ('?' expression ':' conditionalExpression)?
+    : castExpression
+    | conditionalExpression ('*' | '/' | '%') conditionalExpression
+    | conditionalExpression ('+' | '-') conditionalExpression
+    | conditionalExpression ('<<' | '>>') conditionalExpression
+    | conditionalExpression ('<' | '>' | '<=' | '>=') conditionalExpression
+    | conditionalExpression ('==' | '!=') conditionalExpression
+    | conditionalExpression '&' conditionalExpression
+    | conditionalExpression '^' conditionalExpression
+    | conditionalExpression '|' conditionalExpression
+    | conditionalExpression '&&' conditionalExpression
+    | conditionalExpression '||' conditionalExpression
+    | <assoc = right> conditionalExpression '?' expression ':' conditionalExpression
     ;
 
 assignmentExpression
@@ -403,8 +377,8 @@ statement
     | iterationStatement
     | jumpStatement
     | ('__asm' | '__asm__') ('volatile' | '__volatile__') '(' (
-        logicalOrExpression (',' logicalOrExpression)*
-    )? (':' (logicalOrExpression (',' logicalOrExpression)*)?)* ')' ';'
+        conditionalExpression (',' conditionalExpression)*
+    )? (':' (conditionalExpression (',' conditionalExpression)*)?)* ')' ';'
     ;
 
 labeledStatement
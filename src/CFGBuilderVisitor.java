@@ -1,110 +1,245 @@
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 
+import java.io.PrintWriter;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class CFGBuilderVisitor extends CBaseVisitor<Void> {
-    private ControlFlowGraph cfg = new ControlFlowGraph();
-    private CFGNode lastNode = null;
-    private Map<String, Variable> variables = new HashMap<>();
-    public ControlFlowGraph getCFG() {
-        return cfg;
-    }
-    private Stack<CFGNode> branchStack = new Stack<>();
-
-    // Analyzes the CFG to update the state of variables, especially pointers
-    public void analyzeCFG(ControlFlowGraph cfg) {
-        Map<String, Variable> mainState = new HashMap<>(); // Main flow state
-        Map<String, Variable> ifState = new HashMap<>(); // State at the start of 'if'
-        boolean inElseBranch = false;
-        CFGNode elseNode = null; // Node representing the 'else' statement
-
-        for (CFGNode node : cfg.getAllNodes()) {
-            String code = node.getCode();
-            String varName = extractVariableName(node.getContext());
-
-            // Save state at the start of 'if' branch
-            if (code.startsWith("if(")) {
-                ifState = new HashMap<>(mainState);
-            } else if (code.equals("else")) {
-                inElseBranch = true;
-                elseNode = node;
-                mainState = new HashMap<>(ifState); // Use 'if' state for 'else' branch
-            }
+    private ControlFlowGraph cfg = new ControlFlowGraph(); // the graph being built, file scope or a function
+    private List<CFGNode> openEnds = new ArrayList<>(); // nodes that fall through to the next node that is added
+    private PersistentMap<String, Variable> variables = new PersistentMap<>(); // in scope, file level or of a function
+    private ModuleCFG module = new ModuleCFG(cfg, variables);
+    public ModuleCFG getModule() {
+        return module;
+    }
+    private Stack<JumpTargets> jumpTargets = new Stack<>(); // enclosing loops and switches, innermost on top
+    private List<CFGNode> returns = new ArrayList<>(); // return statements of the current function
+    private Map<String, CFGNode> labels = new HashMap<>(); // labels of the current function
+    private Map<String, List<CFGNode>> pendingGotos = new HashMap<>(); // gotos to labels further down
+    // Kind of the next edges out of branches and jumps, which decide it themselves instead of the code they link to
+    private Map<CFGNode, CFGNode.EdgeKind> branchEdgeKinds = new IdentityHashMap<>();
+    private List<String> diagnostics = new ArrayList<>(); // everything reported to the user, in order
+    private CharStream source = null; // the file every token comes from unchanged, null if that is not known
+    private boolean printReports = true; // false while the caller collects the reports to print them later
+    private boolean denseAnalysis = false; // find pointer states block by block instead of in SSA form
+    private int maxPathStates = 0; // path-sensitive analysis with this many states per function at most, 0 for off
+    private long maxPathMillis = 0;
+    private PointerAnalysis analysis = null; // states found for the last function analyzed
+
+    // Lets node text be read back from the file when it is needed instead of being copied while the graph is built.
+    // Only valid when the tokens are the lexer's own, not after preprocessing.
+    public void setSource(CharStream source) {
+        this.source = source;
+    }
 
-            // Update state based on code
-            if (varName != null) {
-                boolean isPointer = code.contains("*");
-                Variable.PointerState state = code.contains("NULL") ? Variable.PointerState.NULL : Variable.PointerState.ASSIGNED;
-                mainState.put(varName, new Variable(varName, isPointer, state));
-            }
+    // Runs NullPointerAnalysis over every block instead of SparsePointerAnalysis. Both find the same states.
+    public void setDenseAnalysis(boolean dense) {
+        this.denseAnalysis = dense;
+    }
 
-            // Check if we are exiting the 'if-else' structure
-            if (inElseBranch && (elseNode == null || !elseNode.getSuccessors().contains(node))) {
-                inElseBranch = false;
-                elseNode = null;
-                // Merge states from 'if' and 'else' branches
-                for (String key : ifState.keySet()) {
-                    Variable ifVarState = ifState.get(key);
-                    Variable elseVarState = mainState.getOrDefault(key, new Variable(key, false, Variable.PointerState.UNDEFINED));
-
-                    if (ifVarState.state != elseVarState.state) {
-                        elseVarState.state = Variable.PointerState.POTENTIALLY_NULL;
-                    }
-                    mainState.put(key, elseVarState);
-                }
-            }
+    // Runs PathSensitiveAnalysis, which also reports pointers that are null on only some paths, with at most maxStates
+    // path states and maxMillis milliseconds per function. A function over budget gets the path-insensitive states.
+    public void setPathSensitive(int maxStates, long maxMillis) {
+        this.maxPathStates = maxStates;
+        this.maxPathMillis = maxMillis;
+    }
 
-            // Update global state if not in 'else' branch
-            if (!inElseBranch) {
-                variables.putAll(mainState);
-            }
+    // Whether reports are printed as they are made. Either way they are kept for getDiagnostics().
+    public void setPrintReports(boolean print) {
+        this.printReports = print;
+    }
+
+    public List<String> getDiagnostics() {
+        return diagnostics;
+    }
+
+    private void report(String message) {
+        if (printReports) {
+            Output.result(message);
         }
+        diagnostics.add(message);
+    }
+
+    // Where 'break' and 'continue' statements inside one loop or switch go
+    private static class JumpTargets {
+        CFGNode switchNode; // only set for a switch, which takes 'break' but not 'continue'
+        boolean hasDefault;
+        List<CFGNode> breaks = new ArrayList<>();
+        List<CFGNode> continues = new ArrayList<>();
+    }
+
+    // Drops the current graphs so the next visit starts a new module. File level variables are kept so globals
+    // stay known.
+    public void startNewModule() {
+        cfg = new ControlFlowGraph();
+        module = new ModuleCFG(cfg, variables);
+        openEnds = new ArrayList<>();
+        jumpTargets.clear();
+        returns = new ArrayList<>();
+        labels.clear();
+        pendingGotos.clear();
+        branchEdgeKinds.clear();
+    }
+
+    // Analyzes the CFG to find the state of variables, especially pointers, at every node
+    public NullPointerAnalysis analyzeCFG(ControlFlowGraph cfg) {
+        return analyzeCFG(cfg.compact());
+    }
+
+    public NullPointerAnalysis analyzeCFG(CompactCFG cfg) {
+        return analyzeCFG(new BasicBlocks(cfg));
+    }
+
+    // Runs the dense dataflow analysis to a fixpoint over the basic blocks
+    public NullPointerAnalysis analyzeCFG(BasicBlocks blocks) {
+        return new NullPointerAnalysis(blocks, variables);
+    }
+
+    private PointerAnalysis analyze(BasicBlocks blocks, Dominators dominators, Map<String, Variable> variables) {
+        if (maxPathStates > 0) {
+            return new PathSensitiveAnalysis(blocks.getCFG(), dominators, variables, maxPathStates, maxPathMillis);
+        }
+        if (denseAnalysis) {
+            return new NullPointerAnalysis(blocks, variables);
+        }
+        return new SparsePointerAnalysis(blocks.getCFG(), dominators, variables);
+    }
+
+    // Runs the analysis on one function of the module with the function's own variables.
+    // Returns whether a null dereference was reported; getAnalysis() has the dataflow result.
+    public boolean analyzeFunction(ModuleCFG.Function function, BasicBlocks blocks) {
+        Dominators dominators = blocks.getCFG() == function.getCFG().compact()
+                ? function.getCFG().dominators() : new Dominators(blocks.getCFG());
+        analysis = analyze(blocks, dominators, function.getVariables());
+        return findNullDereferences(blocks, dominators);
+    }
+
+    public PointerAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    public void reportNoNullDereferences() {
+        report("No potential null pointer deferences found");
     }
 
     // Checks the CFG for potential null pointer dereferences
     public void checkForNullDereferences(ControlFlowGraph cfg) {
+        checkForNullDereferences(cfg.compact());
+    }
+
+    public void checkForNullDereferences(CompactCFG cfg) {
+        checkForNullDereferences(new BasicBlocks(cfg));
+    }
+
+    public void checkForNullDereferences(BasicBlocks blocks) {
+        Dominators dominators = new Dominators(blocks.getCFG());
+        analysis = analyze(blocks, dominators, variables);
+        if (!findNullDereferences(blocks, dominators)) {
+            reportNoNullDereferences();
+        }
+    }
+
+    private boolean findNullDereferences(BasicBlocks blocks, Dominators dominators) {
+        CompactCFG cfg = blocks.getCFG();
+        Map<String, Variable> variables = analysis.getVariables();
         boolean found = false;
-        for (CFGNode node : cfg.getAllNodes()) {
-            String code = node.getCode();
-            Pattern p = Pattern.compile("\\*\\s*(\\w+)");
-            Matcher m = p.matcher(code);
-
-            // Check each dereference to see if the pointer might be null based on analyzeCFG method
-            while (m.find()) {
-                String varName = m.group(1);
-                if (variables.containsKey(varName)) {
-                    Variable varInfo = variables.get(varName);
-
-                    // Warn if a null pointer is dereferenced
-                    if (varInfo.isPointer && varInfo.state == Variable.PointerState.NULL &&
-                            !code.matches("\\s*int\\s*\\*\\s*" + varName + "\\s*=.*") && !code.contains(varName + " = NULL")) {
-                        System.out.println("Potential null pointer dereference detected at: " + code);
-                        found = true;
+        Map<String, List<Integer>> guards = null; // found on the first candidate, most functions never need them
+        for (int block = 0; block < blocks.size(); block++) {
+            for (int i = 0; i < blocks.getNodeCount(block); i++) {
+                int node = blocks.getNode(block, i);
+
+                // Check each dereference against the state the pointer has when the statement starts
+                for (String varName : cfg.getStatement(node).getDereferenced()) {
+                    if (variables.containsKey(varName)) {
+                        Variable varInfo = variables.get(varName);
+
+                        // Warn if a null pointer is dereferenced. The '*' of a declarator is not a dereference.
+                        if (varInfo.isPointer && analysis.mayBeNull(node, varName)) {
+                            if (guards == null) {
+                                guards = findNonNullGuards(cfg);
+                            }
+                            if (isGuarded(cfg, dominators, guards.get(varName), varName, node)) {
+                                continue;
+                            }
+                            report("Potential null pointer dereference detected at: " + cfg.getCode(node));
+                            found = true;
+                        }
                     }
                 }
             }
         }
-        if (!found){
-            System.out.println("No potential null pointer deferences found");
+        return found;
+    }
+
+    // For every pointer tested against null in an 'if', the first node of the branch where it is known to be non-null.
+    // Only branches entered from the test alone count, so the test is the only way in.
+    private Map<String, List<Integer>> findNonNullGuards(CompactCFG cfg) {
+        Map<String, List<Integer>> guards = new HashMap<>();
+        for (int node = 0; node < cfg.size(); node++) {
+            if (cfg.getStatement(node).getKind() != Statement.Kind.IF) {
+                continue;
+            }
+            Matcher m = NON_NULL_TEST.matcher(cfg.getCode(node));
+            if (!m.matches() || cfg.getSuccessorCount(node) != 2) {
+                continue;
+            }
+            int thenBranch = cfg.getSuccessor(node, CFGNode.EdgeKind.TRUE);
+            if (thenBranch < 0 || cfg.getPredecessorCount(thenBranch) != 1) {
+                continue;
+            }
+            String varName = m.group(1) != null ? m.group(1) : m.group(2);
+            guards.computeIfAbsent(varName, k -> new ArrayList<>()).add(thenBranch);
+        }
+        return guards;
+    }
+
+    // Whether the dereference at node sits inside a branch that is only taken when the pointer is not null, and
+    // nothing in that branch sets the pointer back to NULL
+    private boolean isGuarded(CompactCFG cfg, Dominators dominators, List<Integer> guards, String varName, int node) {
+        if (guards == null) {
+            return false;
+        }
+        for (int guard : guards) {
+            if (!dominators.dominates(guard, node)) {
+                continue;
+            }
+            boolean reassigned = false;
+            for (int other = 0; other < cfg.size() && !reassigned; other++) {
+                reassigned = dominators.dominates(guard, other) && cfg.getStatement(other).mentionsNull()
+                        && varName.equals(cfg.getStatement(other).getDefined());
+            }
+            if (!reassigned) {
+                return true;
+            }
         }
+        return false;
     }
 
     // Prints the names and states of variables in each node of the CFG
-    public void printVariableNames() {
-        for (CFGNode node : cfg.getAllNodes()) {
-            String code = node.getCode();
-            String variableName = extractVariableName(node.getContext());
+    public void printVariableNames(PrintWriter out, ModuleCFG.Function function) {
+        Map<String, Variable> variables = function.getVariables();
+        CompactCFG graph = function.getCFG().compact();
+        for (int node = 0; node < graph.size(); node++) {
+            if (Output.dumpFull()) {
+                return;
+            }
+            String code = graph.getCode(node);
+            String variableName = graph.getStatement(node).getDefined();
+            out.print("Node: ");
+            out.print(code);
             if (variableName != null && variables.containsKey(variableName)) {
                 Variable varInfo = variables.get(variableName);
-                String pointerState = varInfo.isPointer ? varInfo.state.toString() : "Not a pointer";
-                System.out.println("Node: " + code + " - Variable: " + variableName + " - State: " + pointerState);
+                out.print(" - Variable: ");
+                out.print(variableName);
+                out.print(" - State: ");
+                out.println(varInfo.isPointer ? varInfo.state.toString() : "Not a pointer");
             } else {
-                System.out.println("Node: " + code + " - No variable");
+                out.println(" - No variable");
             }
         }
     }
@@ -114,25 +249,25 @@ public class CFGBuilderVisitor extends CBaseVisitor<Void> {
     public Void visitDeclaration(CParser.DeclarationContext ctx) {
         // Extract the variable name from the declaration context
         String varName = extractVariableName(ctx);
+        Statement statement = describe(Statement.Kind.DECLARATION, ctx, varName);
         // If the declared variable is a pointer
-        boolean isPointer = ctx.getText().contains("*");
+        boolean isPointer = statement.hasStar();
         // Set the initial state of the pointer (NULL or ASSIGNED)
-        Variable.PointerState state = ctx.getText().contains("NULL") ? Variable.PointerState.NULL : Variable.PointerState.ASSIGNED;
+        Variable.PointerState state = statement.mentionsNull() ? Variable.PointerState.NULL : Variable.PointerState.ASSIGNED;
         // Add variable information in the variables map
         variables.put(varName, new Variable(varName, isPointer, state));
 
         // Add this declaration statement as a node in the CFG
-        addNodeToCFG(ctx.getText(), ctx);
+        addNodeToCFG(statement);
         return super.visitDeclaration(ctx);
     }
 
     // Handles expressions statements like assignments to variables.
     @Override
     public Void visitExpressionStatement(CParser.ExpressionStatementContext ctx) {
-        // Retrieve the full code of the expression statement
-        String code = ctx.getText();
         // Get the variable name involved in the expression
         String varName = extractVariableName(ctx);
+        Statement statement = describe(Statement.Kind.EXPRESSION, ctx, varName);
 
         // If a variable is found in the expression
         if (varName != null) {
@@ -144,26 +279,19 @@ public class CFGBuilderVisitor extends CBaseVisitor<Void> {
             // Retrieve variable info from the map
             Variable varInfo = variables.get(varName);
             // If the variable is a pointer, update its state based on the assignment
-            if (varInfo.isPointer) {
-                if (code.matches(varName + "\\s*=\\s*NULL")) {
-                    varInfo.state = Variable.PointerState.NULL;
-                } else if (code.matches(varName + "\\s*=\\s*.*")) {
-                    varInfo.state = Variable.PointerState.ASSIGNED;
-                }
+            if (varInfo.isPointer && varName.equals(statement.getDefined())) {
+                varInfo.state = statement.mentionsNull() ? Variable.PointerState.NULL : Variable.PointerState.ASSIGNED;
             }
         }
 
         // Add this expression statement as a node in the CFG
-        addNodeToCFG(code, ctx);
+        addNodeToCFG(statement);
         return super.visitExpressionStatement(ctx);
     }
 
     // Handles things like return
     @Override
     public Void visitJumpStatement(CParser.JumpStatementContext ctx) {
-        // Retrieve the full code of the jump statement
-        String jumpStatement = ctx.getText();
-
         // Check if the jump statement includes an expression (like a return value)
         if (ctx.getChildCount() > 1 && ctx.getChild(1) instanceof CParser.ExpressionContext) {
             // Extract the variable name involved in the expression
@@ -172,66 +300,312 @@ public class CFGBuilderVisitor extends CBaseVisitor<Void> {
             Variable varInfo = variables.get(varName);
             // If the variable is a pointer and its state is NULL
             if (varInfo != null && varInfo.isPointer && varInfo.state == Variable.PointerState.NULL) {
-                System.out.println("Warning: Returning a null pointer in " + jumpStatement);
+                report("Warning: Returning a null pointer in " + ctx.getText());
             }
         }
 
-        // Add this jump statement as a node in the CFG
-        addNodeToCFG(ctx.getText(), ctx);
+        // Add this jump statement as a node in the CFG. Nothing falls through from it to the next statement.
+        Statement.Kind kind = ctx.Break() != null ? Statement.Kind.BREAK
+                : ctx.Continue() != null ? Statement.Kind.CONTINUE
+                : ctx.Goto() != null ? Statement.Kind.GOTO : Statement.Kind.RETURN;
+        CFGNode node = addNodeToCFG("", kind, ctx, "");
+        if (ctx.Break() != null && !jumpTargets.isEmpty()) {
+            jumpTargets.peek().breaks.add(node);
+            openEnds = new ArrayList<>();
+        } else if (ctx.Continue() != null && innermostLoop() != null) {
+            innermostLoop().continues.add(node);
+            openEnds = new ArrayList<>();
+        } else if (ctx.Goto() != null && ctx.Identifier() != null) {
+            String name = ctx.Identifier().getText();
+            if (labels.containsKey(name)) {
+                linkAll(Collections.singletonList(node), labels.get(name), CFGNode.EdgeKind.JUMP);
+            } else {
+                pendingGotos.computeIfAbsent(name, k -> new ArrayList<>()).add(node);
+            }
+            openEnds = new ArrayList<>();
+        } else if (ctx.Return() != null || ctx.Goto() != null) {
+            // A computed 'goto *p' can go anywhere, it is handled like leaving the function
+            returns.add(node);
+            openEnds = new ArrayList<>();
+        }
         return super.visitJumpStatement(ctx);
     }
 
-    // Handles selection statements like 'if-else'
+    // Every function gets a graph of its own, from an entry node to an exit node, and its own copy of the variables
+    @Override
+    public Void visitFunctionDefinition(CParser.FunctionDefinitionContext ctx) {
+        ControlFlowGraph fileGraph = cfg;
+        List<CFGNode> fileEnds = openEnds;
+        PersistentMap<String, Variable> fileVariables = variables;
+        cfg = new ControlFlowGraph();
+        openEnds = new ArrayList<>();
+        variables = new PersistentMap<>();
+        for (Variable global : fileVariables.values()) {
+            variables.put(global.name, new Variable(global.name, global.isPointer, global.state));
+        }
+        returns = new ArrayList<>();
+        labels.clear();
+        pendingGotos.clear();
+        branchEdgeKinds.clear();
+
+        addNodeToCFG(Statement.at(Statement.Kind.ENTRY, ctx.getStart(), "entry"));
+        super.visitFunctionDefinition(ctx);
+
+        // Returns, falling off the end and gotos to labels that never showed up all leave the function
+        openEnds.addAll(returns);
+        for (List<CFGNode> gotos : pendingGotos.values()) {
+            openEnds.addAll(gotos);
+        }
+        cfg.setExitNode(addNodeToCFG(Statement.at(Statement.Kind.EXIT, ctx.getStop(), "exit")));
+        module.addFunction(new ModuleCFG.Function(functionName(ctx.declarator()), cfg, variables));
+
+        cfg = fileGraph;
+        openEnds = fileEnds;
+        variables = fileVariables;
+        returns = new ArrayList<>();
+        labels.clear();
+        pendingGotos.clear();
+        branchEdgeKinds.clear();
+        return null;
+    }
+
+    // The declared identifier, or "(unnamed)" when error recovery left the declarator without one
+    private static String functionName(CParser.DeclaratorContext declarator) {
+        CParser.DirectDeclaratorContext direct = declarator == null ? null : declarator.directDeclarator();
+        while (direct != null && direct.Identifier() == null) {
+            if (direct.directDeclarator() != null) {
+                direct = direct.directDeclarator();
+            } else if (direct.declarator() != null) {
+                direct = direct.declarator().directDeclarator();
+            } else {
+                direct = null;
+            }
+        }
+        if (direct == null || direct.Identifier().getSymbol().getTokenIndex() < 0) {
+            return "(unnamed)";
+        }
+        return direct.Identifier().getText();
+    }
+
+    // Handles loops. The body flows back to the condition, 'continue' goes to the condition (or the step of a 'for'),
+    // and the code after the loop is reached from the condition and from every 'break'.
+    @Override
+    public Void visitIterationStatement(CParser.IterationStatementContext ctx) {
+        JumpTargets targets = new JumpTargets();
+        jumpTargets.push(targets);
+        if (ctx.Do() != null) {
+            CFGNode start = addNodeToCFG(Statement.at(Statement.Kind.LOOP_START, ctx.Do().getSymbol(), "do"));
+            visit(ctx.statement());
+            openEnds.addAll(targets.continues);
+            CFGNode condition = addNodeToCFG("while(", Statement.Kind.LOOP_TEST, ctx.expression(), ")");
+            linkAll(openEnds, start, CFGNode.EdgeKind.BACK); // the condition node stays open for the code after the loop
+            branchEdgeKinds.put(condition, CFGNode.EdgeKind.FALSE);
+        } else if (ctx.While() != null) {
+            CFGNode condition = addNodeToCFG("while(", Statement.Kind.LOOP_TEST, ctx.expression(), ")");
+            visit(ctx.statement());
+            openEnds.addAll(targets.continues);
+            linkAll(openEnds, condition, CFGNode.EdgeKind.BACK);
+            branchEdgeKinds.put(condition, CFGNode.EdgeKind.FALSE);
+            openEnds = new ArrayList<>(Collections.singletonList(condition));
+        } else {
+            // for (init; condition; step): find the parts by their position around the two semicolons
+            ParserRuleContext init = null;
+            CParser.ForExpressionContext test = null;
+            CParser.ForExpressionContext step = null;
+            int semicolons = 0;
+            for (ParseTree child : ctx.forCondition().children) {
+                if (child instanceof TerminalNode) {
+                    semicolons++;
+                } else if (semicolons == 0) {
+                    init = (ParserRuleContext) child;
+                } else if (semicolons == 1) {
+                    test = (CParser.ForExpressionContext) child;
+                } else {
+                    step = (CParser.ForExpressionContext) child;
+                }
+            }
+            if (init != null) {
+                addNodeToCFG("", init instanceof CParser.ForDeclarationContext
+                        ? Statement.Kind.DECLARATION : Statement.Kind.EXPRESSION, init, ";");
+            }
+            CFGNode condition = test != null
+                    ? addNodeToCFG("for(", Statement.Kind.LOOP_TEST, test, ")")
+                    : addNodeToCFG(Statement.at(Statement.Kind.LOOP_START, ctx.For().getSymbol(), "for()"));
+            visit(ctx.statement());
+            openEnds.addAll(targets.continues);
+            if (step != null) {
+                addNodeToCFG("", Statement.Kind.EXPRESSION, step, "");
+            }
+            linkAll(openEnds, condition, CFGNode.EdgeKind.BACK);
+            branchEdgeKinds.put(condition, CFGNode.EdgeKind.FALSE);
+            openEnds = new ArrayList<>();
+            if (test != null) {
+                openEnds.add(condition); // for(;;) is only left through 'break'
+            }
+        }
+        jumpTargets.pop();
+        openEnds.addAll(targets.breaks);
+        return null;
+    }
+
+    // Handles 'label:', 'case x:' and 'default:'
+    @Override
+    public Void visitLabeledStatement(CParser.LabeledStatementContext ctx) {
+        if (ctx.Identifier() != null) {
+            String name = ctx.Identifier().getText();
+            CFGNode label = addNodeToCFG(Statement.at(Statement.Kind.LABEL, ctx.Identifier().getSymbol(), name + ":"));
+            labels.put(name, label);
+            List<CFGNode> gotos = pendingGotos.remove(name);
+            if (gotos != null) {
+                linkAll(gotos, label, CFGNode.EdgeKind.JUMP);
+            }
+        } else {
+            CFGNode label = ctx.Case() != null
+                    ? addNodeToCFG("case", Statement.Kind.CASE, ctx.constantExpression(), ":")
+                    : addNodeToCFG(Statement.at(Statement.Kind.CASE, ctx.Default().getSymbol(), "default:"));
+            JumpTargets targets = innermostSwitch();
+            if (targets != null) {
+                linkAll(Collections.singletonList(targets.switchNode), label, CFGNode.EdgeKind.CASE);
+                targets.hasDefault |= ctx.Default() != null;
+            }
+        }
+        if (ctx.statement() != null) {
+            visit(ctx.statement());
+        }
+        return null;
+    }
+
+    private JumpTargets innermostLoop() {
+        for (int i = jumpTargets.size() - 1; i >= 0; i--) {
+            if (jumpTargets.get(i).switchNode == null) {
+                return jumpTargets.get(i);
+            }
+        }
+        return null;
+    }
+
+    private JumpTargets innermostSwitch() {
+        for (int i = jumpTargets.size() - 1; i >= 0; i--) {
+            if (jumpTargets.get(i).switchNode != null) {
+                return jumpTargets.get(i);
+            }
+        }
+        return null;
+    }
+
+    // Handles selection statements like 'if-else' and 'switch'
     @Override
     public Void visitSelectionStatement(CParser.SelectionStatementContext ctx) {
         if (ctx.If() != null) {
-            String ifCondition = ctx.expression().getText();
-            addNodeToCFG("if(" + ifCondition + ")", ctx);
+            CFGNode ifNode = addNodeToCFG("if(", Statement.Kind.IF, ctx.expression(), ")");
 
-            // Save the current state of variables before visiting 'if' block
-            Map<String, Variable> preIfState = new HashMap<>(variables);
+            // Save the current state of variables before visiting 'if' block. The snapshot shares the table instead
+            // of copying it, changes in the 'if' block copy only the part of the table they touch.
+            PersistentMap<String, Variable> preIfState = variables.snapshot();
 
             visit(ctx.statement(0)); // Visit 'if' block
+            branchEdgeKinds.put(ifNode, CFGNode.EdgeKind.FALSE);
+            List<CFGNode> thenEnds = openEnds;
 
+            // The 'else' block, or the code after the 'if', is reached from the condition
+            openEnds = new ArrayList<>(Collections.singletonList(ifNode));
             if (ctx.Else() != null) {
                 // Restore variables to state before 'if' block
-                variables = new HashMap<>(preIfState);
+                variables = preIfState;
 
-                addNodeToCFG("else", ctx);
+                addNodeToCFG(Statement.at(Statement.Kind.ELSE, ctx.Else().getSymbol(), "else"));
                 visit(ctx.statement(1)); // Visit 'else' block
             }
+            thenEnds.addAll(openEnds);
+            openEnds = thenEnds;
+        } else if (ctx.Switch() != null) {
+            CFGNode switchNode = addNodeToCFG("switch(", Statement.Kind.SWITCH, ctx.expression(), ")");
+            JumpTargets targets = new JumpTargets();
+            targets.switchNode = switchNode;
+            jumpTargets.push(targets);
+            openEnds = new ArrayList<>(); // the body is only entered through its case labels
+            visit(ctx.statement(0));
+            jumpTargets.pop();
+            openEnds.addAll(targets.breaks);
+            if (!targets.hasDefault) {
+                branchEdgeKinds.put(switchNode, CFGNode.EdgeKind.FALLTHROUGH);
+                openEnds.add(switchNode);
+            }
         }
         return null; // Return null to avoid visiting children automatically
     }
 
-    private void addNodeToCFG(String code, ParserRuleContext ctx) {
-        CFGNode currentNode = new CFGNode(code, ctx);
+    // The node only keeps what the Statement takes from ctx, not ctx itself. Its code is prefix, the text of ctx
+    // and suffix.
+    private CFGNode addNodeToCFG(String prefix, Statement.Kind kind, ParserRuleContext ctx, String suffix) {
+        return addNodeToCFG(prefix, describe(kind, ctx, extractVariableName(ctx)), suffix);
+    }
+
+    private CFGNode addNodeToCFG(Statement statement) {
+        return addNodeToCFG("", statement, "");
+    }
+
+    private Statement describe(Statement.Kind kind, ParserRuleContext ctx, String defined) {
+        return Statement.of(kind, ctx, defined, source);
+    }
+
+    private CFGNode addNodeToCFG(String prefix, Statement statement, String suffix) {
+        CFGNode currentNode = new CFGNode(prefix, statement, suffix);
+
+        if (cfg.getStartNode() == null) {
+            cfg.setStartNode(currentNode);
+        }
 
-        if (cfg.startNode == null) {
-            cfg.startNode = currentNode;
+        // Everything that falls through continues here
+        linkAll(openEnds, currentNode, CFGNode.EdgeKind.FALLTHROUGH);
+        openEnds = new ArrayList<>(Collections.singletonList(currentNode));
+
+        // The first edges out of a condition enter the branch or loop body, the builder switches them to FALSE after
+        Statement.Kind kind = statement.getKind();
+        if (kind == Statement.Kind.IF || kind == Statement.Kind.LOOP_TEST) {
+            branchEdgeKinds.put(currentNode, CFGNode.EdgeKind.TRUE);
+        } else if (kind == Statement.Kind.SWITCH) {
+            branchEdgeKinds.put(currentNode, CFGNode.EdgeKind.CASE);
+        } else if (kind.isJump()) {
+            branchEdgeKinds.put(currentNode, CFGNode.EdgeKind.JUMP);
         }
+        return currentNode;
+    }
 
-        if (lastNode != null && !lastNode.equals(currentNode)) {
-            if (!lastNode.getCode().startsWith("if(") && !lastNode.getCode().equals("else")) {
-                lastNode.addSuccessor(currentNode);
+    // Links every node in from to the node to. kind is the kind of the new edges, unless the node they leave is a
+    // branch or jump that decides its own.
+    private void linkAll(List<CFGNode> from, CFGNode to, CFGNode.EdgeKind kind) {
+        for (CFGNode node : from) {
+            if (!node.getSuccessors().contains(to)) {
+                cfg.addEdge(node, to, branchEdgeKinds.getOrDefault(node, kind));
             }
+        }
+    }
 
-            if (lastNode.getCode().startsWith("if(")) {
-                // Link 'if' node to the current node (start of the 'if' block)
-                lastNode.addSuccessor(currentNode);
-                // Push the 'if' node onto the branch stack
-                branchStack.push(currentNode);
-            } else if (lastNode.getCode().equals("else")) {
-                // Link 'else' node to the current node (start of the 'else' block)
-                lastNode.addSuccessor(currentNode);
-                if (!branchStack.isEmpty()) {
-                    // Pop the corresponding 'if' node from the stack
-                    CFGNode ifNode = branchStack.pop();
+    // if(p), if(p!=NULL), if(NULL!=p) and the same with 0
+    private static final Pattern NON_NULL_TEST =
+            Pattern.compile("if\\((?:(\\w+)(?:!=(?:NULL|0))?|(?:NULL|0)!=(\\w+))\\)");
+
+    // ctx.getText() up to the first '=', without building the rest of the text. null if there is no '='.
+    private static String textBeforeEquals(ParserRuleContext ctx) {
+        StringBuilder before = new StringBuilder();
+        Deque<ParseTree> stack = new ArrayDeque<>();
+        stack.push(ctx);
+        while (!stack.isEmpty()) {
+            ParseTree tree = stack.pop();
+            if (tree instanceof TerminalNode) {
+                String text = tree.getText();
+                int equals = text.indexOf('=');
+                if (equals >= 0) {
+                    return before.append(text, 0, equals).toString();
                 }
+                before.append(text);
+            }
+            for (int i = tree.getChildCount() - 1; i >= 0 && !(tree instanceof TerminalNode); i--) {
+                stack.push(tree.getChild(i));
             }
         }
-
-        lastNode = currentNode;
+        return null;
     }
 
     private String extractVariableName(ParserRuleContext ctx) {
@@ -248,11 +622,10 @@ public class CFGBuilderVisitor extends CBaseVisitor<Void> {
         // expression (like in an assignment)
         if (ctx instanceof CParser.ExpressionStatementContext) {
             CParser.ExpressionStatementContext exprStmtCtx = (CParser.ExpressionStatementContext) ctx;
-            String code = exprStmtCtx.getText();
-            // If the expression contains an assignment operator
-            if (code.contains("=")) {
-                // Return the variable name on the left side of the "="
-                return code.substring(0, code.indexOf("=")).trim();
+            // If the expression contains an assignment operator, return the variable name on the left side of the "="
+            String left = textBeforeEquals(exprStmtCtx);
+            if (left != null) {
+                return left.trim();
             }
             // Handle cases where the assignment expression is more complex
             List<CParser.AssignmentExpressionContext> assignExprList = exprStmtCtx.expression().assignmentExpression();
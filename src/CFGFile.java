@@ -0,0 +1,294 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Binary form of the control flow graphs of a run, so a later run can analyze them again without lexing or parsing.
+// Layout, numbers big-endian as DataOutputStream writes them:
+//   int magic "SBDC", int format version
+//   per module: byte 1, string file name, int function count, the functions with the file scope first
+//   byte 0 at the end
+// A function:
+//   string name
+//   int string count, strings   node text and variable names, everything below refers to them by index, -1 for none
+//   int variable count, per variable: int name, boolean pointer, byte state
+//   int node count, int exit node or -1
+//   per node: byte kind, byte flags (1 = has '*', 2 = mentions NULL, 4 = side effects), int prefix, int text,
+//             int suffix, int defined, int first token, int last token, int used count, used,
+//             int dereference count, dereferences
+//   int edge count, int[node count + 1] successor offsets, int[edge count] successors, byte[edge count] edge kinds
+// Nodes are stored in CompactCFG ID order, node 0 is the start. A string is an int byte length and UTF-8 bytes.
+public class CFGFile {
+    private static final int MAGIC = 0x53424443; // "SBDC"
+    private static final int VERSION = 4;
+
+    public static class Writer implements Closeable {
+        private final DataOutputStream out;
+        private int moduleCount = 0;
+        private long nodeCount = 0;
+
+        public Writer(Path file) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        public void write(String fileName, ModuleCFG module) throws IOException {
+            out.writeByte(1);
+            writeString(out, fileName);
+            out.writeInt(module.getFunctions().size() + 1);
+            writeFunction(module.getFileScope());
+            for (ModuleCFG.Function function : module.getFunctions()) {
+                writeFunction(function);
+            }
+            moduleCount++;
+        }
+
+        private void writeFunction(ModuleCFG.Function function) throws IOException {
+            CompactCFG cfg = function.getCFG().compact();
+            int size = cfg.size();
+            writeString(out, function.getName());
+
+            // Every string once, nodes and variables refer to them by index
+            List<String> strings = new ArrayList<>();
+            Map<String, Integer> index = new HashMap<>();
+            // The statement's own text apart from the text around it, so a condition reads the same as when parsed
+            int[] prefix = new int[size];
+            int[] text = new int[size];
+            int[] suffix = new int[size];
+            for (int node = 0; node < size; node++) {
+                Statement statement = cfg.getStatement(node);
+                prefix[node] = intern(cfg.getNode(node).prefix, strings, index);
+                text[node] = intern(statement.getText(), strings, index);
+                suffix[node] = intern(cfg.getNode(node).suffix, strings, index);
+                intern(statement.getDefined(), strings, index);
+                for (String name : statement.getUsed()) {
+                    intern(name, strings, index);
+                }
+                for (String name : statement.getDereferenced()) {
+                    intern(name, strings, index);
+                }
+            }
+            for (String name : function.getVariables().keySet()) {
+                intern(name, strings, index);
+            }
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                writeString(out, string);
+            }
+
+            out.writeInt(function.getVariables().size());
+            for (Map.Entry<String, Variable> entry : function.getVariables().entrySet()) {
+                out.writeInt(intern(entry.getKey(), strings, index));
+                out.writeBoolean(entry.getValue().isPointer);
+                out.writeByte(entry.getValue().state.ordinal());
+            }
+
+            CFGNode exit = function.getCFG().getExitNode();
+            out.writeInt(size);
+            out.writeInt(exit == null ? -1 : cfg.getId(exit));
+            for (int node = 0; node < size; node++) {
+                Statement statement = cfg.getStatement(node);
+                out.writeByte(statement.getKind().ordinal());
+                out.writeByte((statement.hasStar() ? 1 : 0) | (statement.mentionsNull() ? 2 : 0)
+                        | (statement.hasSideEffects() ? 4 : 0));
+                out.writeInt(prefix[node]);
+                out.writeInt(text[node]);
+                out.writeInt(suffix[node]);
+                out.writeInt(intern(statement.getDefined(), strings, index));
+                out.writeInt(statement.getFirstToken());
+                out.writeInt(statement.getLastToken());
+                writeNames(statement.getUsed(), strings, index);
+                writeNames(statement.getDereferenced(), strings, index);
+            }
+
+            out.writeInt(cfg.getEdgeCount());
+            int offset = 0;
+            out.writeInt(offset);
+            for (int node = 0; node < size; node++) {
+                offset += cfg.getSuccessorCount(node);
+                out.writeInt(offset);
+            }
+            for (int node = 0; node < size; node++) {
+                for (int i = 0; i < cfg.getSuccessorCount(node); i++) {
+                    out.writeInt(cfg.getSuccessor(node, i));
+                }
+            }
+            for (int node = 0; node < size; node++) {
+                for (int i = 0; i < cfg.getSuccessorCount(node); i++) {
+                    out.writeByte(cfg.getEdgeKind(node, i).ordinal());
+                }
+            }
+            nodeCount += size;
+        }
+
+        private void writeNames(String[] names, List<String> strings, Map<String, Integer> index) throws IOException {
+            out.writeInt(names.length);
+            for (String name : names) {
+                out.writeInt(intern(name, strings, index));
+            }
+        }
+
+        private static int intern(String string, List<String> strings, Map<String, Integer> index) {
+            if (string == null) {
+                return -1;
+            }
+            Integer known = index.get(string);
+            if (known != null) {
+                return known;
+            }
+            index.put(string, strings.size());
+            strings.add(string);
+            return strings.size() - 1;
+        }
+
+        public int getModuleCount() {
+            return moduleCount;
+        }
+
+        public long getNodeCount() {
+            return nodeCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.writeByte(0);
+            out.close();
+        }
+    }
+
+    public static class Reader implements Closeable {
+        private final DataInputStream in;
+        private String fileName = null;
+        private boolean done = false;
+
+        public Reader(Path file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a saved CFG file");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(file + " has CFG format version " + version + ", expected " + VERSION);
+            }
+        }
+
+        // The next module, or null after the last one
+        public ModuleCFG next() throws IOException {
+            if (done || in.readByte() == 0) {
+                done = true;
+                return null;
+            }
+            fileName = readString(in);
+            int functionCount = in.readInt();
+            ModuleCFG.Function fileScope = readFunction();
+            ModuleCFG module = new ModuleCFG(fileScope.getCFG(), fileScope.getVariables());
+            for (int i = 1; i < functionCount; i++) {
+                module.addFunction(readFunction());
+            }
+            return module;
+        }
+
+        // The source file of the module next() returned last
+        public String getFileName() {
+            return fileName;
+        }
+
+        private ModuleCFG.Function readFunction() throws IOException {
+            String name = readString(in);
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(in);
+            }
+
+            Map<String, Variable> variables = new HashMap<>();
+            int variableCount = in.readInt();
+            for (int i = 0; i < variableCount; i++) {
+                int nameIndex = in.readInt();
+                String variable = nameIndex < 0 ? null : strings[nameIndex]; // declarations without a name have one
+                boolean isPointer = in.readBoolean();
+                Variable.PointerState state = Variable.PointerState.values()[in.readByte()];
+                variables.put(variable, new Variable(variable, isPointer, state));
+            }
+
+            int size = in.readInt();
+            int exit = in.readInt();
+            CFGNode[] nodes = new CFGNode[size];
+            for (int node = 0; node < size; node++) {
+                Statement.Kind kind = Statement.Kind.values()[in.readByte()];
+                int flags = in.readByte();
+                String prefix = strings[in.readInt()];
+                String text = strings[in.readInt()];
+                String suffix = strings[in.readInt()];
+                int defined = in.readInt();
+                int firstToken = in.readInt();
+                int lastToken = in.readInt();
+                String[] used = readNames(strings);
+                String[] dereferenced = readNames(strings);
+                nodes[node] = new CFGNode(prefix, Statement.load(kind, defined < 0 ? null : strings[defined], used,
+                        dereferenced, (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, firstToken, lastToken,
+                        text), suffix);
+            }
+
+            ControlFlowGraph cfg = new ControlFlowGraph();
+            int[] successorStart = new int[size + 1];
+            int[] successors = new int[in.readInt()];
+            for (int node = 0; node <= size; node++) {
+                successorStart[node] = in.readInt();
+            }
+            for (int i = 0; i < successors.length; i++) {
+                successors[i] = in.readInt();
+            }
+            CFGNode.EdgeKind[] edgeKinds = new CFGNode.EdgeKind[successors.length];
+            for (int i = 0; i < successors.length; i++) {
+                edgeKinds[i] = CFGNode.EdgeKind.values()[in.readByte()];
+            }
+            if (size > 0) {
+                cfg.setStartNode(nodes[0]);
+            }
+            for (int node = 0; node < size; node++) {
+                for (int i = successorStart[node]; i < successorStart[node + 1]; i++) {
+                    cfg.addEdge(nodes[node], nodes[successors[i]], edgeKinds[i]);
+                }
+            }
+            if (exit >= 0) {
+                cfg.setExitNode(nodes[exit]);
+            }
+            return new ModuleCFG.Function(name, cfg, variables);
+        }
+
+        private String[] readNames(String[] strings) throws IOException {
+            String[] names = new String[in.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = strings[in.readInt()];
+            }
+            return names;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
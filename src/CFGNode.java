@@ -1,32 +1,61 @@
-import org.antlr.v4.runtime.ParserRuleContext;
-
 import java.util.ArrayList;
 import java.util.List;
 
 public class CFGNode {
-    String code; // represents the code at this node
-    ParserRuleContext context; // store the context for analysis
+    // What taking an edge means. Edges out of an IF or a LOOP_TEST are TRUE into the branch or loop body and FALSE
+    // past it. Edges out of a SWITCH are CASE, or FALLTHROUGH to the code after a switch without default. Edges out
+    // of a jump are JUMP, edges that close a loop are BACK, and all other edges FALLTHROUGH.
+    public enum EdgeKind {
+        FALLTHROUGH, TRUE, FALSE, BACK, CASE, JUMP
+    }
+
+    String prefix; // text around the statement's own text, like "if(" and ")" around a condition
+    String suffix;
+    Statement statement; // what the analysis needs to know about the code, instead of the parse tree
     List<CFGNode> successors; // nodes to which control may pass
+    List<EdgeKind> edgeKinds; // the kind of the edge to each successor
+    List<CFGNode> predecessors; // nodes from which control may come, kept in step with successors
 
-    public CFGNode(String code, ParserRuleContext context) {
-        this.code = code;
-        this.context = context;
+    public CFGNode(String prefix, Statement statement, String suffix) {
+        this.prefix = prefix;
+        this.statement = statement;
+        this.suffix = suffix;
         this.successors = new ArrayList<>();
+        this.edgeKinds = new ArrayList<>();
+        this.predecessors = new ArrayList<>();
     }
 
-    void addSuccessor(CFGNode node) {
+    void addSuccessor(CFGNode node, EdgeKind kind) {
         successors.add(node);
+        edgeKinds.add(kind);
+        node.predecessors.add(this);
     }
 
     public List<CFGNode> getSuccessors(){
         return successors;
     }
 
-    public ParserRuleContext getContext() {
-        return context;
+    public List<CFGNode> getPredecessors() {
+        return predecessors;
+    }
+
+    public List<EdgeKind> getEdgeKinds() {
+        return edgeKinds;
+    }
+
+    public Statement.Kind getKind() {
+        return statement.getKind();
+    }
+
+    public Statement getStatement() {
+        return statement;
     }
 
+    // The code at this node. It is put together when asked for, see Statement.getText().
     public String getCode() {
-        return code;
+        if (prefix.isEmpty() && suffix.isEmpty()) {
+            return statement.getText();
+        }
+        return prefix + statement.getText() + suffix;
     }
 }
@@ -96,106 +96,6 @@ public interface CListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCastExpression(CParser.CastExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterMultiplicativeExpression(CParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitMultiplicativeExpression(CParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAdditiveExpression(CParser.AdditiveExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAdditiveExpression(CParser.AdditiveExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#shiftExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterShiftExpression(CParser.ShiftExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#shiftExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitShiftExpression(CParser.ShiftExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterRelationalExpression(CParser.RelationalExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitRelationalExpression(CParser.RelationalExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterEqualityExpression(CParser.EqualityExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitEqualityExpression(CParser.EqualityExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAndExpression(CParser.AndExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAndExpression(CParser.AndExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#exclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterExclusiveOrExpression(CParser.ExclusiveOrExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#exclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitExclusiveOrExpression(CParser.ExclusiveOrExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#inclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterInclusiveOrExpression(CParser.InclusiveOrExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#inclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitInclusiveOrExpression(CParser.InclusiveOrExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#logicalAndExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterLogicalAndExpression(CParser.LogicalAndExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#logicalAndExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitLogicalAndExpression(CParser.LogicalAndExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CParser#logicalOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterLogicalOrExpression(CParser.LogicalOrExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CParser#logicalOrExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitLogicalOrExpression(CParser.LogicalOrExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link CParser#conditionalExpression}.
 	 * @param ctx the parse tree
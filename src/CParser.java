@@ -39,41 +39,34 @@ public class CParser extends Parser {
 		RULE_primaryExpression = 0, RULE_genericSelection = 1, RULE_genericAssocList = 2, 
 		RULE_genericAssociation = 3, RULE_postfixExpression = 4, RULE_argumentExpressionList = 5, 
 		RULE_unaryExpression = 6, RULE_unaryOperator = 7, RULE_castExpression = 8, 
-		RULE_multiplicativeExpression = 9, RULE_additiveExpression = 10, RULE_shiftExpression = 11, 
-		RULE_relationalExpression = 12, RULE_equalityExpression = 13, RULE_andExpression = 14, 
-		RULE_exclusiveOrExpression = 15, RULE_inclusiveOrExpression = 16, RULE_logicalAndExpression = 17, 
-		RULE_logicalOrExpression = 18, RULE_conditionalExpression = 19, RULE_assignmentExpression = 20, 
-		RULE_assignmentOperator = 21, RULE_expression = 22, RULE_constantExpression = 23, 
-		RULE_declaration = 24, RULE_declarationSpecifiers = 25, RULE_declarationSpecifiers2 = 26, 
-		RULE_declarationSpecifier = 27, RULE_initDeclaratorList = 28, RULE_initDeclarator = 29, 
-		RULE_storageClassSpecifier = 30, RULE_typeSpecifier = 31, RULE_structOrUnionSpecifier = 32, 
-		RULE_structOrUnion = 33, RULE_structDeclarationList = 34, RULE_structDeclaration = 35, 
-		RULE_specifierQualifierList = 36, RULE_structDeclaratorList = 37, RULE_structDeclarator = 38, 
-		RULE_enumSpecifier = 39, RULE_enumeratorList = 40, RULE_enumerator = 41, 
-		RULE_enumerationConstant = 42, RULE_atomicTypeSpecifier = 43, RULE_typeQualifier = 44, 
-		RULE_functionSpecifier = 45, RULE_alignmentSpecifier = 46, RULE_declarator = 47, 
-		RULE_directDeclarator = 48, RULE_vcSpecificModifer = 49, RULE_gccDeclaratorExtension = 50, 
-		RULE_gccAttributeSpecifier = 51, RULE_gccAttributeList = 52, RULE_gccAttribute = 53, 
-		RULE_nestedParenthesesBlock = 54, RULE_pointer = 55, RULE_typeQualifierList = 56, 
-		RULE_parameterTypeList = 57, RULE_parameterList = 58, RULE_parameterDeclaration = 59, 
-		RULE_identifierList = 60, RULE_typeName = 61, RULE_abstractDeclarator = 62, 
-		RULE_directAbstractDeclarator = 63, RULE_typedefName = 64, RULE_initializer = 65, 
-		RULE_initializerList = 66, RULE_designation = 67, RULE_designatorList = 68, 
-		RULE_designator = 69, RULE_staticAssertDeclaration = 70, RULE_statement = 71, 
-		RULE_labeledStatement = 72, RULE_compoundStatement = 73, RULE_blockItemList = 74, 
-		RULE_blockItem = 75, RULE_expressionStatement = 76, RULE_selectionStatement = 77, 
-		RULE_iterationStatement = 78, RULE_forCondition = 79, RULE_forDeclaration = 80, 
-		RULE_forExpression = 81, RULE_jumpStatement = 82, RULE_compilationUnit = 83, 
-		RULE_translationUnit = 84, RULE_externalDeclaration = 85, RULE_functionDefinition = 86, 
-		RULE_declarationList = 87;
+		RULE_conditionalExpression = 9, RULE_assignmentExpression = 10, RULE_assignmentOperator = 11, 
+		RULE_expression = 12, RULE_constantExpression = 13, RULE_declaration = 14, 
+		RULE_declarationSpecifiers = 15, RULE_declarationSpecifiers2 = 16, RULE_declarationSpecifier = 17, 
+		RULE_initDeclaratorList = 18, RULE_initDeclarator = 19, RULE_storageClassSpecifier = 20, 
+		RULE_typeSpecifier = 21, RULE_structOrUnionSpecifier = 22, RULE_structOrUnion = 23, 
+		RULE_structDeclarationList = 24, RULE_structDeclaration = 25, RULE_specifierQualifierList = 26, 
+		RULE_structDeclaratorList = 27, RULE_structDeclarator = 28, RULE_enumSpecifier = 29, 
+		RULE_enumeratorList = 30, RULE_enumerator = 31, RULE_enumerationConstant = 32, 
+		RULE_atomicTypeSpecifier = 33, RULE_typeQualifier = 34, RULE_functionSpecifier = 35, 
+		RULE_alignmentSpecifier = 36, RULE_declarator = 37, RULE_directDeclarator = 38, 
+		RULE_vcSpecificModifer = 39, RULE_gccDeclaratorExtension = 40, RULE_gccAttributeSpecifier = 41, 
+		RULE_gccAttributeList = 42, RULE_gccAttribute = 43, RULE_nestedParenthesesBlock = 44, 
+		RULE_pointer = 45, RULE_typeQualifierList = 46, RULE_parameterTypeList = 47, 
+		RULE_parameterList = 48, RULE_parameterDeclaration = 49, RULE_identifierList = 50, 
+		RULE_typeName = 51, RULE_abstractDeclarator = 52, RULE_directAbstractDeclarator = 53, 
+		RULE_typedefName = 54, RULE_initializer = 55, RULE_initializerList = 56, 
+		RULE_designation = 57, RULE_designatorList = 58, RULE_designator = 59, 
+		RULE_staticAssertDeclaration = 60, RULE_statement = 61, RULE_labeledStatement = 62, 
+		RULE_compoundStatement = 63, RULE_blockItemList = 64, RULE_blockItem = 65, 
+		RULE_expressionStatement = 66, RULE_selectionStatement = 67, RULE_iterationStatement = 68, 
+		RULE_forCondition = 69, RULE_forDeclaration = 70, RULE_forExpression = 71, 
+		RULE_jumpStatement = 72, RULE_compilationUnit = 73, RULE_translationUnit = 74, 
+		RULE_externalDeclaration = 75, RULE_functionDefinition = 76, RULE_declarationList = 77;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"primaryExpression", "genericSelection", "genericAssocList", "genericAssociation", 
 			"postfixExpression", "argumentExpressionList", "unaryExpression", "unaryOperator", 
-			"castExpression", "multiplicativeExpression", "additiveExpression", "shiftExpression", 
-			"relationalExpression", "equalityExpression", "andExpression", "exclusiveOrExpression", 
-			"inclusiveOrExpression", "logicalAndExpression", "logicalOrExpression", 
-			"conditionalExpression", "assignmentExpression", "assignmentOperator", 
+			"castExpression", "conditionalExpression", "assignmentExpression", "assignmentOperator", 
 			"expression", "constantExpression", "declaration", "declarationSpecifiers", 
 			"declarationSpecifiers2", "declarationSpecifier", "initDeclaratorList", 
 			"initDeclarator", "storageClassSpecifier", "typeSpecifier", "structOrUnionSpecifier", 
@@ -239,112 +232,119 @@ public class CParser extends Parser {
 		enterRule(_localctx, 0, RULE_primaryExpression);
 		int _la;
 		try {
-			setState(209);
+			int _alt;
+			setState(189);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(176);
+				setState(156);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(177);
+				setState(157);
 				match(Constant);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(179); 
+				setState(159); 
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = 1;
 				do {
-					{
-					{
-					setState(178);
-					match(StringLiteral);
-					}
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(158);
+						match(StringLiteral);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
 					}
-					setState(181); 
+					setState(161); 
 					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( _la==StringLiteral );
+					_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(183);
+				setState(163);
 				match(LeftParen);
-				setState(184);
+				setState(164);
 				expression();
-				setState(185);
+				setState(165);
 				match(RightParen);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(187);
+				setState(167);
 				genericSelection();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(189);
+				setState(169);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__0) {
 					{
-					setState(188);
+					setState(168);
 					match(T__0);
 					}
 				}
 
-				setState(191);
+				setState(171);
 				match(LeftParen);
-				setState(192);
+				setState(172);
 				compoundStatement();
-				setState(193);
+				setState(173);
 				match(RightParen);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(195);
+				setState(175);
 				match(T__1);
-				setState(196);
+				setState(176);
 				match(LeftParen);
-				setState(197);
+				setState(177);
 				unaryExpression();
-				setState(198);
+				setState(178);
 				match(Comma);
-				setState(199);
+				setState(179);
 				typeName();
-				setState(200);
+				setState(180);
 				match(RightParen);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(202);
+				setState(182);
 				match(T__2);
-				setState(203);
+				setState(183);
 				match(LeftParen);
-				setState(204);
+				setState(184);
 				typeName();
-				setState(205);
+				setState(185);
 				match(Comma);
-				setState(206);
+				setState(186);
 				unaryExpression();
-				setState(207);
+				setState(187);
 				match(RightParen);
 				}
 				break;
@@ -398,17 +398,17 @@ public class CParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(211);
+			setState(191);
 			match(Generic);
-			setState(212);
+			setState(192);
 			match(LeftParen);
-			setState(213);
+			setState(193);
 			assignmentExpression();
-			setState(214);
+			setState(194);
 			match(Comma);
-			setState(215);
+			setState(195);
 			genericAssocList();
-			setState(216);
+			setState(196);
 			match(RightParen);
 			}
 		}
@@ -461,21 +461,21 @@ public class CParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(218);
+			setState(198);
 			genericAssociation();
-			setState(223);
+			setState(203);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(219);
+				setState(199);
 				match(Comma);
-				setState(220);
+				setState(200);
 				genericAssociation();
 				}
 				}
-				setState(225);
+				setState(205);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -527,7 +527,7 @@ public class CParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(228);
+			setState(208);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__0:
@@ -555,22 +555,22 @@ public class CParser extends Parser {
 			case Complex:
 			case Identifier:
 				{
-				setState(226);
+				setState(206);
 				typeName();
 				}
 				break;
 			case Default:
 				{
-				setState(227);
+				setState(207);
 				match(Default);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(230);
+			setState(210);
 			match(Colon);
-			setState(231);
+			setState(211);
 			assignmentExpression();
 			}
 		}
@@ -671,126 +671,129 @@ public class CParser extends Parser {
 		enterRule(_localctx, 8, RULE_postfixExpression);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(247);
+			setState(227);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
 			case 1:
 				{
-				setState(233);
+				setState(213);
 				primaryExpression();
 				}
 				break;
 			case 2:
 				{
-				setState(235);
+				setState(215);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__0) {
 					{
-					setState(234);
+					setState(214);
 					match(T__0);
 					}
 				}
 
-				setState(237);
+				setState(217);
 				match(LeftParen);
-				setState(238);
+				setState(218);
 				typeName();
-				setState(239);
+				setState(219);
 				match(RightParen);
-				setState(240);
+				setState(220);
 				match(LeftBrace);
-				setState(241);
+				setState(221);
 				initializerList();
-				setState(243);
+				setState(223);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Comma) {
 					{
-					setState(242);
+					setState(222);
 					match(Comma);
 					}
 				}
 
-				setState(245);
+				setState(225);
 				match(RightBrace);
 				}
 				break;
 			}
-			setState(264);
+			setState(244);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 26388279107589L) != 0)) {
-				{
-				setState(262);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case LeftBracket:
-					{
-					setState(249);
-					match(LeftBracket);
-					setState(250);
-					expression();
-					setState(251);
-					match(RightBracket);
-					}
-					break;
-				case LeftParen:
+			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
 					{
-					setState(253);
-					match(LeftParen);
-					setState(255);
+					setState(242);
 					_errHandler.sync(this);
-					_la = _input.LA(1);
-					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
+					switch (_input.LA(1)) {
+					case LeftBracket:
 						{
-						setState(254);
-						argumentExpressionList();
+						setState(229);
+						match(LeftBracket);
+						setState(230);
+						expression();
+						setState(231);
+						match(RightBracket);
+						}
+						break;
+					case LeftParen:
+						{
+						setState(233);
+						match(LeftParen);
+						setState(235);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
+							{
+							setState(234);
+							argumentExpressionList();
+							}
 						}
-					}
 
-					setState(257);
-					match(RightParen);
-					}
-					break;
-				case Arrow:
-				case Dot:
-					{
-					setState(258);
-					_la = _input.LA(1);
-					if ( !(_la==Arrow || _la==Dot) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(259);
-					match(Identifier);
-					}
-					break;
-				case PlusPlus:
-					{
-					setState(260);
-					match(PlusPlus);
-					}
-					break;
-				case MinusMinus:
-					{
-					setState(261);
-					match(MinusMinus);
+						setState(237);
+						match(RightParen);
+						}
+						break;
+					case Arrow:
+					case Dot:
+						{
+						setState(238);
+						_la = _input.LA(1);
+						if ( !(_la==Arrow || _la==Dot) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(239);
+						match(Identifier);
+						}
+						break;
+					case PlusPlus:
+						{
+						setState(240);
+						match(PlusPlus);
+						}
+						break;
+					case MinusMinus:
+						{
+						setState(241);
+						match(MinusMinus);
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
 					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
+					} 
 				}
-				setState(266);
+				setState(246);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 			}
 			}
 		}
@@ -843,21 +846,21 @@ public class CParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(267);
+			setState(247);
 			assignmentExpression();
-			setState(272);
+			setState(252);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(268);
+				setState(248);
 				match(Comma);
-				setState(269);
+				setState(249);
 				assignmentExpression();
 				}
 				}
-				setState(274);
+				setState(254);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -932,14 +935,14 @@ public class CParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(278);
+			setState(258);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(275);
+					setState(255);
 					_la = _input.LA(1);
 					if ( !(((((_la - 44)) & ~0x3f) == 0 && ((1L << (_la - 44)) & 42949672961L) != 0)) ) {
 					_errHandler.recoverInline(this);
@@ -952,11 +955,11 @@ public class CParser extends Parser {
 					}
 					} 
 				}
-				setState(280);
+				setState(260);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			}
-			setState(292);
+			setState(272);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__0:
@@ -968,7 +971,7 @@ public class CParser extends Parser {
 			case Constant:
 			case StringLiteral:
 				{
-				setState(281);
+				setState(261);
 				postfixExpression();
 				}
 				break;
@@ -979,16 +982,16 @@ public class CParser extends Parser {
 			case Not:
 			case Tilde:
 				{
-				setState(282);
+				setState(262);
 				unaryOperator();
-				setState(283);
+				setState(263);
 				castExpression();
 				}
 				break;
 			case Sizeof:
 			case Alignof:
 				{
-				setState(285);
+				setState(265);
 				_la = _input.LA(1);
 				if ( !(_la==Sizeof || _la==Alignof) ) {
 				_errHandler.recoverInline(this);
@@ -998,19 +1001,19 @@ public class CParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(286);
+				setState(266);
 				match(LeftParen);
-				setState(287);
+				setState(267);
 				typeName();
-				setState(288);
+				setState(268);
 				match(RightParen);
 				}
 				break;
 			case AndAnd:
 				{
-				setState(290);
+				setState(270);
 				match(AndAnd);
-				setState(291);
+				setState(271);
 				match(Identifier);
 				}
 				break;
@@ -1064,7 +1067,7 @@ public class CParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(294);
+			setState(274);
 			_la = _input.LA(1);
 			if ( !(((((_la - 76)) & ~0x3f) == 0 && ((1L << (_la - 76)) & 12437L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1125,43 +1128,43 @@ public class CParser extends Parser {
 		enterRule(_localctx, 16, RULE_castExpression);
 		int _la;
 		try {
-			setState(306);
+			setState(286);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(297);
+				setState(277);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__0) {
 					{
-					setState(296);
+					setState(276);
 					match(T__0);
 					}
 				}
 
-				setState(299);
+				setState(279);
 				match(LeftParen);
-				setState(300);
+				setState(280);
 				typeName();
-				setState(301);
+				setState(281);
 				match(RightParen);
-				setState(302);
+				setState(282);
 				castExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(304);
+				setState(284);
 				unaryExpression();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(305);
+				setState(285);
 				match(DigitSequence);
 				}
 				break;
@@ -1179,76 +1182,272 @@ public class CParser extends Parser {
 	}
 
 	@SuppressWarnings("CheckReturnValue")
-	public static class MultiplicativeExpressionContext extends ParserRuleContext {
-		public List<CastExpressionContext> castExpression() {
-			return getRuleContexts(CastExpressionContext.class);
-		}
-		public CastExpressionContext castExpression(int i) {
-			return getRuleContext(CastExpressionContext.class,i);
+	public static class ConditionalExpressionContext extends ParserRuleContext {
+		public CastExpressionContext castExpression() {
+			return getRuleContext(CastExpressionContext.class,0);
 		}
-		public List<TerminalNode> Star() { return getTokens(CParser.Star); }
-		public TerminalNode Star(int i) {
-			return getToken(CParser.Star, i);
+		public List<ConditionalExpressionContext> conditionalExpression() {
+			return getRuleContexts(ConditionalExpressionContext.class);
 		}
-		public List<TerminalNode> Div() { return getTokens(CParser.Div); }
-		public TerminalNode Div(int i) {
-			return getToken(CParser.Div, i);
+		public ConditionalExpressionContext conditionalExpression(int i) {
+			return getRuleContext(ConditionalExpressionContext.class,i);
 		}
-		public List<TerminalNode> Mod() { return getTokens(CParser.Mod); }
-		public TerminalNode Mod(int i) {
-			return getToken(CParser.Mod, i);
+		public TerminalNode Star() { return getToken(CParser.Star, 0); }
+		public TerminalNode Div() { return getToken(CParser.Div, 0); }
+		public TerminalNode Mod() { return getToken(CParser.Mod, 0); }
+		public TerminalNode Plus() { return getToken(CParser.Plus, 0); }
+		public TerminalNode Minus() { return getToken(CParser.Minus, 0); }
+		public TerminalNode LeftShift() { return getToken(CParser.LeftShift, 0); }
+		public TerminalNode RightShift() { return getToken(CParser.RightShift, 0); }
+		public TerminalNode Less() { return getToken(CParser.Less, 0); }
+		public TerminalNode Greater() { return getToken(CParser.Greater, 0); }
+		public TerminalNode LessEqual() { return getToken(CParser.LessEqual, 0); }
+		public TerminalNode GreaterEqual() { return getToken(CParser.GreaterEqual, 0); }
+		public TerminalNode Equal() { return getToken(CParser.Equal, 0); }
+		public TerminalNode NotEqual() { return getToken(CParser.NotEqual, 0); }
+		public TerminalNode And() { return getToken(CParser.And, 0); }
+		public TerminalNode Caret() { return getToken(CParser.Caret, 0); }
+		public TerminalNode Or() { return getToken(CParser.Or, 0); }
+		public TerminalNode AndAnd() { return getToken(CParser.AndAnd, 0); }
+		public TerminalNode OrOr() { return getToken(CParser.OrOr, 0); }
+		public TerminalNode Question() { return getToken(CParser.Question, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode Colon() { return getToken(CParser.Colon, 0); }
+		public ConditionalExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
+		@Override public int getRuleIndex() { return RULE_conditionalExpression; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterMultiplicativeExpression(this);
+			if ( listener instanceof CListener ) ((CListener)listener).enterConditionalExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitMultiplicativeExpression(this);
+			if ( listener instanceof CListener ) ((CListener)listener).exitConditionalExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
+			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitConditionalExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
-		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_multiplicativeExpression);
+	public final ConditionalExpressionContext conditionalExpression() throws RecognitionException {
+		return conditionalExpression(0);
+	}
+
+	private ConditionalExpressionContext conditionalExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ConditionalExpressionContext _localctx = new ConditionalExpressionContext(_ctx, _parentState);
+		ConditionalExpressionContext _prevctx = _localctx;
+		int _startState = 18;
+		enterRecursionRule(_localctx, 18, RULE_conditionalExpression, _p);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(308);
+			{
+			setState(289);
 			castExpression();
-			setState(313);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(329);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & 7L) != 0)) {
-				{
-				{
-				setState(309);
-				_la = _input.LA(1);
-				if ( !(((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & 7L) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(310);
-				castExpression();
-				}
+			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(327);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(291);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(292);
+						_la = _input.LA(1);
+						if ( !(((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & 7L) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(293);
+						conditionalExpression(12);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(294);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(295);
+						_la = _input.LA(1);
+						if ( !(_la==Plus || _la==Minus) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(296);
+						conditionalExpression(11);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(297);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(298);
+						_la = _input.LA(1);
+						if ( !(_la==LeftShift || _la==RightShift) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(299);
+						conditionalExpression(10);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(300);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(301);
+						_la = _input.LA(1);
+						if ( !(((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & 15L) != 0)) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(302);
+						conditionalExpression(9);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(303);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(304);
+						_la = _input.LA(1);
+						if ( !(_la==Equal || _la==NotEqual) ) {
+						_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(305);
+						conditionalExpression(8);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(306);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(307);
+						match(And);
+						setState(308);
+						conditionalExpression(7);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(309);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(310);
+						match(Caret);
+						setState(311);
+						conditionalExpression(6);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(312);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(313);
+						match(Or);
+						setState(314);
+						conditionalExpression(5);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(315);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(316);
+						match(AndAnd);
+						setState(317);
+						conditionalExpression(4);
+						}
+						break;
+					case 10:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(318);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(319);
+						match(OrOr);
+						setState(320);
+						conditionalExpression(3);
+						}
+						break;
+					case 11:
+						{
+						_localctx = new ConditionalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_conditionalExpression);
+						setState(321);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(322);
+						match(Question);
+						setState(323);
+						expression();
+						setState(324);
+						match(Colon);
+						setState(325);
+						conditionalExpression(1);
+						}
+						break;
+					}
+					} 
 				}
-				setState(315);
+				setState(331);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
 			}
 		}
@@ -1258,754 +1457,7 @@ public class CParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class AdditiveExpressionContext extends ParserRuleContext {
-		public List<MultiplicativeExpressionContext> multiplicativeExpression() {
-			return getRuleContexts(MultiplicativeExpressionContext.class);
-		}
-		public MultiplicativeExpressionContext multiplicativeExpression(int i) {
-			return getRuleContext(MultiplicativeExpressionContext.class,i);
-		}
-		public List<TerminalNode> Plus() { return getTokens(CParser.Plus); }
-		public TerminalNode Plus(int i) {
-			return getToken(CParser.Plus, i);
-		}
-		public List<TerminalNode> Minus() { return getTokens(CParser.Minus); }
-		public TerminalNode Minus(int i) {
-			return getToken(CParser.Minus, i);
-		}
-		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_additiveExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterAdditiveExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitAdditiveExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitAdditiveExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
-		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_additiveExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(316);
-			multiplicativeExpression();
-			setState(321);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==Plus || _la==Minus) {
-				{
-				{
-				setState(317);
-				_la = _input.LA(1);
-				if ( !(_la==Plus || _la==Minus) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(318);
-				multiplicativeExpression();
-				}
-				}
-				setState(323);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ShiftExpressionContext extends ParserRuleContext {
-		public List<AdditiveExpressionContext> additiveExpression() {
-			return getRuleContexts(AdditiveExpressionContext.class);
-		}
-		public AdditiveExpressionContext additiveExpression(int i) {
-			return getRuleContext(AdditiveExpressionContext.class,i);
-		}
-		public List<TerminalNode> LeftShift() { return getTokens(CParser.LeftShift); }
-		public TerminalNode LeftShift(int i) {
-			return getToken(CParser.LeftShift, i);
-		}
-		public List<TerminalNode> RightShift() { return getTokens(CParser.RightShift); }
-		public TerminalNode RightShift(int i) {
-			return getToken(CParser.RightShift, i);
-		}
-		public ShiftExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_shiftExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterShiftExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitShiftExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitShiftExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ShiftExpressionContext shiftExpression() throws RecognitionException {
-		ShiftExpressionContext _localctx = new ShiftExpressionContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_shiftExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(324);
-			additiveExpression();
-			setState(329);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==LeftShift || _la==RightShift) {
-				{
-				{
-				setState(325);
-				_la = _input.LA(1);
-				if ( !(_la==LeftShift || _la==RightShift) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(326);
-				additiveExpression();
-				}
-				}
-				setState(331);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class RelationalExpressionContext extends ParserRuleContext {
-		public List<ShiftExpressionContext> shiftExpression() {
-			return getRuleContexts(ShiftExpressionContext.class);
-		}
-		public ShiftExpressionContext shiftExpression(int i) {
-			return getRuleContext(ShiftExpressionContext.class,i);
-		}
-		public List<TerminalNode> Less() { return getTokens(CParser.Less); }
-		public TerminalNode Less(int i) {
-			return getToken(CParser.Less, i);
-		}
-		public List<TerminalNode> Greater() { return getTokens(CParser.Greater); }
-		public TerminalNode Greater(int i) {
-			return getToken(CParser.Greater, i);
-		}
-		public List<TerminalNode> LessEqual() { return getTokens(CParser.LessEqual); }
-		public TerminalNode LessEqual(int i) {
-			return getToken(CParser.LessEqual, i);
-		}
-		public List<TerminalNode> GreaterEqual() { return getTokens(CParser.GreaterEqual); }
-		public TerminalNode GreaterEqual(int i) {
-			return getToken(CParser.GreaterEqual, i);
-		}
-		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_relationalExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterRelationalExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitRelationalExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitRelationalExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
-		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_relationalExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(332);
-			shiftExpression();
-			setState(337);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & 15L) != 0)) {
-				{
-				{
-				setState(333);
-				_la = _input.LA(1);
-				if ( !(((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & 15L) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(334);
-				shiftExpression();
-				}
-				}
-				setState(339);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class EqualityExpressionContext extends ParserRuleContext {
-		public List<RelationalExpressionContext> relationalExpression() {
-			return getRuleContexts(RelationalExpressionContext.class);
-		}
-		public RelationalExpressionContext relationalExpression(int i) {
-			return getRuleContext(RelationalExpressionContext.class,i);
-		}
-		public List<TerminalNode> Equal() { return getTokens(CParser.Equal); }
-		public TerminalNode Equal(int i) {
-			return getToken(CParser.Equal, i);
-		}
-		public List<TerminalNode> NotEqual() { return getTokens(CParser.NotEqual); }
-		public TerminalNode NotEqual(int i) {
-			return getToken(CParser.NotEqual, i);
-		}
-		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_equalityExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterEqualityExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitEqualityExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitEqualityExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
-		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_equalityExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(340);
-			relationalExpression();
-			setState(345);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==Equal || _la==NotEqual) {
-				{
-				{
-				setState(341);
-				_la = _input.LA(1);
-				if ( !(_la==Equal || _la==NotEqual) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(342);
-				relationalExpression();
-				}
-				}
-				setState(347);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class AndExpressionContext extends ParserRuleContext {
-		public List<EqualityExpressionContext> equalityExpression() {
-			return getRuleContexts(EqualityExpressionContext.class);
-		}
-		public EqualityExpressionContext equalityExpression(int i) {
-			return getRuleContext(EqualityExpressionContext.class,i);
-		}
-		public List<TerminalNode> And() { return getTokens(CParser.And); }
-		public TerminalNode And(int i) {
-			return getToken(CParser.And, i);
-		}
-		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_andExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterAndExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitAndExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitAndExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AndExpressionContext andExpression() throws RecognitionException {
-		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_andExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(348);
-			equalityExpression();
-			setState(353);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==And) {
-				{
-				{
-				setState(349);
-				match(And);
-				setState(350);
-				equalityExpression();
-				}
-				}
-				setState(355);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExclusiveOrExpressionContext extends ParserRuleContext {
-		public List<AndExpressionContext> andExpression() {
-			return getRuleContexts(AndExpressionContext.class);
-		}
-		public AndExpressionContext andExpression(int i) {
-			return getRuleContext(AndExpressionContext.class,i);
-		}
-		public List<TerminalNode> Caret() { return getTokens(CParser.Caret); }
-		public TerminalNode Caret(int i) {
-			return getToken(CParser.Caret, i);
-		}
-		public ExclusiveOrExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_exclusiveOrExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterExclusiveOrExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitExclusiveOrExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitExclusiveOrExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExclusiveOrExpressionContext exclusiveOrExpression() throws RecognitionException {
-		ExclusiveOrExpressionContext _localctx = new ExclusiveOrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_exclusiveOrExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(356);
-			andExpression();
-			setState(361);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==Caret) {
-				{
-				{
-				setState(357);
-				match(Caret);
-				setState(358);
-				andExpression();
-				}
-				}
-				setState(363);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class InclusiveOrExpressionContext extends ParserRuleContext {
-		public List<ExclusiveOrExpressionContext> exclusiveOrExpression() {
-			return getRuleContexts(ExclusiveOrExpressionContext.class);
-		}
-		public ExclusiveOrExpressionContext exclusiveOrExpression(int i) {
-			return getRuleContext(ExclusiveOrExpressionContext.class,i);
-		}
-		public List<TerminalNode> Or() { return getTokens(CParser.Or); }
-		public TerminalNode Or(int i) {
-			return getToken(CParser.Or, i);
-		}
-		public InclusiveOrExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_inclusiveOrExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterInclusiveOrExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitInclusiveOrExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitInclusiveOrExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final InclusiveOrExpressionContext inclusiveOrExpression() throws RecognitionException {
-		InclusiveOrExpressionContext _localctx = new InclusiveOrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_inclusiveOrExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(364);
-			exclusiveOrExpression();
-			setState(369);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==Or) {
-				{
-				{
-				setState(365);
-				match(Or);
-				setState(366);
-				exclusiveOrExpression();
-				}
-				}
-				setState(371);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class LogicalAndExpressionContext extends ParserRuleContext {
-		public List<InclusiveOrExpressionContext> inclusiveOrExpression() {
-			return getRuleContexts(InclusiveOrExpressionContext.class);
-		}
-		public InclusiveOrExpressionContext inclusiveOrExpression(int i) {
-			return getRuleContext(InclusiveOrExpressionContext.class,i);
-		}
-		public List<TerminalNode> AndAnd() { return getTokens(CParser.AndAnd); }
-		public TerminalNode AndAnd(int i) {
-			return getToken(CParser.AndAnd, i);
-		}
-		public LogicalAndExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_logicalAndExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterLogicalAndExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitLogicalAndExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitLogicalAndExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final LogicalAndExpressionContext logicalAndExpression() throws RecognitionException {
-		LogicalAndExpressionContext _localctx = new LogicalAndExpressionContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_logicalAndExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(372);
-			inclusiveOrExpression();
-			setState(377);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==AndAnd) {
-				{
-				{
-				setState(373);
-				match(AndAnd);
-				setState(374);
-				inclusiveOrExpression();
-				}
-				}
-				setState(379);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class LogicalOrExpressionContext extends ParserRuleContext {
-		public List<LogicalAndExpressionContext> logicalAndExpression() {
-			return getRuleContexts(LogicalAndExpressionContext.class);
-		}
-		public LogicalAndExpressionContext logicalAndExpression(int i) {
-			return getRuleContext(LogicalAndExpressionContext.class,i);
-		}
-		public List<TerminalNode> OrOr() { return getTokens(CParser.OrOr); }
-		public TerminalNode OrOr(int i) {
-			return getToken(CParser.OrOr, i);
-		}
-		public LogicalOrExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_logicalOrExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterLogicalOrExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitLogicalOrExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitLogicalOrExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final LogicalOrExpressionContext logicalOrExpression() throws RecognitionException {
-		LogicalOrExpressionContext _localctx = new LogicalOrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_logicalOrExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(380);
-			logicalAndExpression();
-			setState(385);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==OrOr) {
-				{
-				{
-				setState(381);
-				match(OrOr);
-				setState(382);
-				logicalAndExpression();
-				}
-				}
-				setState(387);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ConditionalExpressionContext extends ParserRuleContext {
-		public LogicalOrExpressionContext logicalOrExpression() {
-			return getRuleContext(LogicalOrExpressionContext.class,0);
-		}
-		public TerminalNode Question() { return getToken(CParser.Question, 0); }
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
-		public TerminalNode Colon() { return getToken(CParser.Colon, 0); }
-		public ConditionalExpressionContext conditionalExpression() {
-			return getRuleContext(ConditionalExpressionContext.class,0);
-		}
-		public ConditionalExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_conditionalExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).enterConditionalExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CListener ) ((CListener)listener).exitConditionalExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CVisitor ) return ((CVisitor<? extends T>)visitor).visitConditionalExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ConditionalExpressionContext conditionalExpression() throws RecognitionException {
-		ConditionalExpressionContext _localctx = new ConditionalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_conditionalExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(388);
-			logicalOrExpression();
-			setState(394);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==Question) {
-				{
-				setState(389);
-				match(Question);
-				setState(390);
-				expression();
-				setState(391);
-				match(Colon);
-				setState(392);
-				conditionalExpression();
-				}
-			}
-
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
@@ -2046,33 +1498,33 @@ public class CParser extends Parser {
 
 	public final AssignmentExpressionContext assignmentExpression() throws RecognitionException {
 		AssignmentExpressionContext _localctx = new AssignmentExpressionContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_assignmentExpression);
+		enterRule(_localctx, 20, RULE_assignmentExpression);
 		try {
-			setState(402);
+			setState(338);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(396);
-				conditionalExpression();
+				setState(332);
+				conditionalExpression(0);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(397);
+				setState(333);
 				unaryExpression();
-				setState(398);
+				setState(334);
 				assignmentOperator();
-				setState(399);
+				setState(335);
 				assignmentExpression();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(401);
+				setState(337);
 				match(DigitSequence);
 				}
 				break;
@@ -2123,12 +1575,12 @@ public class CParser extends Parser {
 
 	public final AssignmentOperatorContext assignmentOperator() throws RecognitionException {
 		AssignmentOperatorContext _localctx = new AssignmentOperatorContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_assignmentOperator);
+		enterRule(_localctx, 22, RULE_assignmentOperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(404);
+			setState(340);
 			_la = _input.LA(1);
 			if ( !(((((_la - 94)) & ~0x3f) == 0 && ((1L << (_la - 94)) & 2047L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2184,26 +1636,26 @@ public class CParser extends Parser {
 
 	public final ExpressionContext expression() throws RecognitionException {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_expression);
+		enterRule(_localctx, 24, RULE_expression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(406);
+			setState(342);
 			assignmentExpression();
-			setState(411);
+			setState(347);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(407);
+				setState(343);
 				match(Comma);
-				setState(408);
+				setState(344);
 				assignmentExpression();
 				}
 				}
-				setState(413);
+				setState(349);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2246,12 +1698,12 @@ public class CParser extends Parser {
 
 	public final ConstantExpressionContext constantExpression() throws RecognitionException {
 		ConstantExpressionContext _localctx = new ConstantExpressionContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_constantExpression);
+		enterRule(_localctx, 26, RULE_constantExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(414);
-			conditionalExpression();
+			setState(350);
+			conditionalExpression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2298,10 +1750,10 @@ public class CParser extends Parser {
 
 	public final DeclarationContext declaration() throws RecognitionException {
 		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_declaration);
+		enterRule(_localctx, 28, RULE_declaration);
 		int _la;
 		try {
-			setState(423);
+			setState(359);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__0:
@@ -2343,26 +1795,26 @@ public class CParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(416);
+				setState(352);
 				declarationSpecifiers();
-				setState(418);
+				setState(354);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 64000L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 70368752631809L) != 0)) {
 					{
-					setState(417);
+					setState(353);
 					initDeclaratorList();
 					}
 				}
 
-				setState(420);
+				setState(356);
 				match(Semi);
 				}
 				break;
 			case StaticAssert:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(422);
+				setState(358);
 				staticAssertDeclaration();
 				}
 				break;
@@ -2410,12 +1862,12 @@ public class CParser extends Parser {
 
 	public final DeclarationSpecifiersContext declarationSpecifiers() throws RecognitionException {
 		DeclarationSpecifiersContext _localctx = new DeclarationSpecifiersContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_declarationSpecifiers);
+		enterRule(_localctx, 30, RULE_declarationSpecifiers);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(426); 
+			setState(362); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -2423,7 +1875,7 @@ public class CParser extends Parser {
 				case 1:
 					{
 					{
-					setState(425);
+					setState(361);
 					declarationSpecifier();
 					}
 					}
@@ -2431,9 +1883,9 @@ public class CParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(428); 
+				setState(364); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -2477,22 +1929,22 @@ public class CParser extends Parser {
 
 	public final DeclarationSpecifiers2Context declarationSpecifiers2() throws RecognitionException {
 		DeclarationSpecifiers2Context _localctx = new DeclarationSpecifiers2Context(_ctx, getState());
-		enterRule(_localctx, 52, RULE_declarationSpecifiers2);
+		enterRule(_localctx, 32, RULE_declarationSpecifiers2);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(431); 
+			setState(367); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(430);
+				setState(366);
 				declarationSpecifier();
 				}
 				}
-				setState(433); 
+				setState(369); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & -6386264861217519630L) != 0) || _la==Identifier );
@@ -2547,43 +1999,43 @@ public class CParser extends Parser {
 
 	public final DeclarationSpecifierContext declarationSpecifier() throws RecognitionException {
 		DeclarationSpecifierContext _localctx = new DeclarationSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_declarationSpecifier);
+		enterRule(_localctx, 34, RULE_declarationSpecifier);
 		try {
-			setState(440);
+			setState(376);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(435);
+				setState(371);
 				storageClassSpecifier();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(436);
+				setState(372);
 				typeSpecifier();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(437);
+				setState(373);
 				typeQualifier();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(438);
+				setState(374);
 				functionSpecifier();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(439);
+				setState(375);
 				alignmentSpecifier();
 				}
 				break;
@@ -2633,26 +2085,26 @@ public class CParser extends Parser {
 
 	public final InitDeclaratorListContext initDeclaratorList() throws RecognitionException {
 		InitDeclaratorListContext _localctx = new InitDeclaratorListContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_initDeclaratorList);
+		enterRule(_localctx, 36, RULE_initDeclaratorList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(378);
 			initDeclarator();
-			setState(447);
+			setState(383);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(443);
+				setState(379);
 				match(Comma);
-				setState(444);
+				setState(380);
 				initDeclarator();
 				}
 				}
-				setState(449);
+				setState(385);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2699,21 +2151,21 @@ public class CParser extends Parser {
 
 	public final InitDeclaratorContext initDeclarator() throws RecognitionException {
 		InitDeclaratorContext _localctx = new InitDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_initDeclarator);
+		enterRule(_localctx, 38, RULE_initDeclarator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(450);
+			setState(386);
 			declarator();
-			setState(453);
+			setState(389);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Assign) {
 				{
-				setState(451);
+				setState(387);
 				match(Assign);
-				setState(452);
+				setState(388);
 				initializer();
 				}
 			}
@@ -2760,12 +2212,12 @@ public class CParser extends Parser {
 
 	public final StorageClassSpecifierContext storageClassSpecifier() throws RecognitionException {
 		StorageClassSpecifierContext _localctx = new StorageClassSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_storageClassSpecifier);
+		enterRule(_localctx, 40, RULE_storageClassSpecifier);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(455);
+			setState(391);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -9223054825601630208L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2839,118 +2291,118 @@ public class CParser extends Parser {
 
 	public final TypeSpecifierContext typeSpecifier() throws RecognitionException {
 		TypeSpecifierContext _localctx = new TypeSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_typeSpecifier);
+		enterRule(_localctx, 42, RULE_typeSpecifier);
 		int _la;
 		try {
-			setState(484);
+			setState(420);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Void:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(457);
+				setState(393);
 				match(Void);
 				}
 				break;
 			case Char:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(458);
+				setState(394);
 				match(Char);
 				}
 				break;
 			case Short:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(459);
+				setState(395);
 				match(Short);
 				}
 				break;
 			case Int:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(460);
+				setState(396);
 				match(Int);
 				}
 				break;
 			case Long:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(461);
+				setState(397);
 				match(Long);
 				}
 				break;
 			case Float:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(462);
+				setState(398);
 				match(Float);
 				}
 				break;
 			case Double:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(463);
+				setState(399);
 				match(Double);
 				}
 				break;
 			case Signed:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(464);
+				setState(400);
 				match(Signed);
 				}
 				break;
 			case Unsigned:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(465);
+				setState(401);
 				match(Unsigned);
 				}
 				break;
 			case Bool:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(466);
+				setState(402);
 				match(Bool);
 				}
 				break;
 			case Complex:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(467);
+				setState(403);
 				match(Complex);
 				}
 				break;
 			case T__3:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(468);
+				setState(404);
 				match(T__3);
 				}
 				break;
 			case T__4:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(469);
+				setState(405);
 				match(T__4);
 				}
 				break;
 			case T__5:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(470);
+				setState(406);
 				match(T__5);
 				}
 				break;
 			case T__0:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(471);
+				setState(407);
 				match(T__0);
-				setState(472);
+				setState(408);
 				match(LeftParen);
-				setState(473);
+				setState(409);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 112L) != 0)) ) {
 				_errHandler.recoverInline(this);
@@ -2960,14 +2412,14 @@ public class CParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(474);
+				setState(410);
 				match(RightParen);
 				}
 				break;
 			case Atomic:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(475);
+				setState(411);
 				atomicTypeSpecifier();
 				}
 				break;
@@ -2975,34 +2427,34 @@ public class CParser extends Parser {
 			case Union:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(476);
+				setState(412);
 				structOrUnionSpecifier();
 				}
 				break;
 			case Enum:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(477);
+				setState(413);
 				enumSpecifier();
 				}
 				break;
 			case Identifier:
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(478);
+				setState(414);
 				typedefName();
 				}
 				break;
 			case T__6:
 				enterOuterAlt(_localctx, 20);
 				{
-				setState(479);
+				setState(415);
 				match(T__6);
-				setState(480);
+				setState(416);
 				match(LeftParen);
-				setState(481);
+				setState(417);
 				constantExpression();
-				setState(482);
+				setState(418);
 				match(RightParen);
 				}
 				break;
@@ -3053,41 +2505,41 @@ public class CParser extends Parser {
 
 	public final StructOrUnionSpecifierContext structOrUnionSpecifier() throws RecognitionException {
 		StructOrUnionSpecifierContext _localctx = new StructOrUnionSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_structOrUnionSpecifier);
+		enterRule(_localctx, 44, RULE_structOrUnionSpecifier);
 		int _la;
 		try {
-			setState(497);
+			setState(433);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(486);
+				setState(422);
 				structOrUnion();
-				setState(488);
+				setState(424);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(487);
+					setState(423);
 					match(Identifier);
 					}
 				}
 
-				setState(490);
+				setState(426);
 				match(LeftBrace);
-				setState(491);
+				setState(427);
 				structDeclarationList();
-				setState(492);
+				setState(428);
 				match(RightBrace);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(494);
+				setState(430);
 				structOrUnion();
-				setState(495);
+				setState(431);
 				match(Identifier);
 				}
 				break;
@@ -3129,12 +2581,12 @@ public class CParser extends Parser {
 
 	public final StructOrUnionContext structOrUnion() throws RecognitionException {
 		StructOrUnionContext _localctx = new StructOrUnionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_structOrUnion);
+		enterRule(_localctx, 46, RULE_structOrUnion);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(499);
+			setState(435);
 			_la = _input.LA(1);
 			if ( !(_la==Struct || _la==Union) ) {
 			_errHandler.recoverInline(this);
@@ -3186,22 +2638,22 @@ public class CParser extends Parser {
 
 	public final StructDeclarationListContext structDeclarationList() throws RecognitionException {
 		StructDeclarationListContext _localctx = new StructDeclarationListContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_structDeclarationList);
+		enterRule(_localctx, 48, RULE_structDeclarationList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(502); 
+			setState(438); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(501);
+				setState(437);
 				structDeclaration();
 				}
 				}
-				setState(504); 
+				setState(440); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 5124618506368712946L) != 0) || _la==Identifier );
@@ -3251,35 +2703,35 @@ public class CParser extends Parser {
 
 	public final StructDeclarationContext structDeclaration() throws RecognitionException {
 		StructDeclarationContext _localctx = new StructDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_structDeclaration);
+		enterRule(_localctx, 50, RULE_structDeclaration);
 		try {
-			setState(514);
+			setState(450);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(506);
+				setState(442);
 				specifierQualifierList();
-				setState(507);
+				setState(443);
 				structDeclaratorList();
-				setState(508);
+				setState(444);
 				match(Semi);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(510);
+				setState(446);
 				specifierQualifierList();
-				setState(511);
+				setState(447);
 				match(Semi);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(513);
+				setState(449);
 				staticAssertDeclaration();
 				}
 				break;
@@ -3328,32 +2780,32 @@ public class CParser extends Parser {
 
 	public final SpecifierQualifierListContext specifierQualifierList() throws RecognitionException {
 		SpecifierQualifierListContext _localctx = new SpecifierQualifierListContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_specifierQualifierList);
+		enterRule(_localctx, 52, RULE_specifierQualifierList);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(518);
+			setState(454);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
 			case 1:
 				{
-				setState(516);
+				setState(452);
 				typeSpecifier();
 				}
 				break;
 			case 2:
 				{
-				setState(517);
+				setState(453);
 				typeQualifier();
 				}
 				break;
 			}
-			setState(521);
+			setState(457);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				{
-				setState(520);
+				setState(456);
 				specifierQualifierList();
 				}
 				break;
@@ -3404,26 +2856,26 @@ public class CParser extends Parser {
 
 	public final StructDeclaratorListContext structDeclaratorList() throws RecognitionException {
 		StructDeclaratorListContext _localctx = new StructDeclaratorListContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_structDeclaratorList);
+		enterRule(_localctx, 54, RULE_structDeclaratorList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(523);
+			setState(459);
 			structDeclarator();
-			setState(528);
+			setState(464);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(524);
+				setState(460);
 				match(Comma);
-				setState(525);
+				setState(461);
 				structDeclarator();
 				}
 				}
-				setState(530);
+				setState(466);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3470,35 +2922,35 @@ public class CParser extends Parser {
 
 	public final StructDeclaratorContext structDeclarator() throws RecognitionException {
 		StructDeclaratorContext _localctx = new StructDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_structDeclarator);
+		enterRule(_localctx, 56, RULE_structDeclarator);
 		int _la;
 		try {
-			setState(537);
+			setState(473);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(531);
+				setState(467);
 				declarator();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(533);
+				setState(469);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 64000L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 70368752631809L) != 0)) {
 					{
-					setState(532);
+					setState(468);
 					declarator();
 					}
 				}
 
-				setState(535);
+				setState(471);
 				match(Colon);
-				setState(536);
+				setState(472);
 				constantExpression();
 				}
 				break;
@@ -3546,51 +2998,51 @@ public class CParser extends Parser {
 
 	public final EnumSpecifierContext enumSpecifier() throws RecognitionException {
 		EnumSpecifierContext _localctx = new EnumSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_enumSpecifier);
+		enterRule(_localctx, 58, RULE_enumSpecifier);
 		int _la;
 		try {
-			setState(552);
+			setState(488);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(539);
+				setState(475);
 				match(Enum);
-				setState(541);
+				setState(477);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(540);
+					setState(476);
 					match(Identifier);
 					}
 				}
 
-				setState(543);
+				setState(479);
 				match(LeftBrace);
-				setState(544);
+				setState(480);
 				enumeratorList();
-				setState(546);
+				setState(482);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Comma) {
 					{
-					setState(545);
+					setState(481);
 					match(Comma);
 					}
 				}
 
-				setState(548);
+				setState(484);
 				match(RightBrace);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(550);
+				setState(486);
 				match(Enum);
-				setState(551);
+				setState(487);
 				match(Identifier);
 				}
 				break;
@@ -3640,30 +3092,30 @@ public class CParser extends Parser {
 
 	public final EnumeratorListContext enumeratorList() throws RecognitionException {
 		EnumeratorListContext _localctx = new EnumeratorListContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_enumeratorList);
+		enterRule(_localctx, 60, RULE_enumeratorList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(554);
+			setState(490);
 			enumerator();
-			setState(559);
+			setState(495);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(555);
+					setState(491);
 					match(Comma);
-					setState(556);
+					setState(492);
 					enumerator();
 					}
 					} 
 				}
-				setState(561);
+				setState(497);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 			}
 			}
 		}
@@ -3708,21 +3160,21 @@ public class CParser extends Parser {
 
 	public final EnumeratorContext enumerator() throws RecognitionException {
 		EnumeratorContext _localctx = new EnumeratorContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_enumerator);
+		enterRule(_localctx, 62, RULE_enumerator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(562);
+			setState(498);
 			enumerationConstant();
-			setState(565);
+			setState(501);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Assign) {
 				{
-				setState(563);
+				setState(499);
 				match(Assign);
-				setState(564);
+				setState(500);
 				constantExpression();
 				}
 			}
@@ -3764,11 +3216,11 @@ public class CParser extends Parser {
 
 	public final EnumerationConstantContext enumerationConstant() throws RecognitionException {
 		EnumerationConstantContext _localctx = new EnumerationConstantContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_enumerationConstant);
+		enterRule(_localctx, 64, RULE_enumerationConstant);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(567);
+			setState(503);
 			match(Identifier);
 			}
 		}
@@ -3812,17 +3264,17 @@ public class CParser extends Parser {
 
 	public final AtomicTypeSpecifierContext atomicTypeSpecifier() throws RecognitionException {
 		AtomicTypeSpecifierContext _localctx = new AtomicTypeSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_atomicTypeSpecifier);
+		enterRule(_localctx, 66, RULE_atomicTypeSpecifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(569);
+			setState(505);
 			match(Atomic);
-			setState(570);
+			setState(506);
 			match(LeftParen);
-			setState(571);
+			setState(507);
 			typeName();
-			setState(572);
+			setState(508);
 			match(RightParen);
 			}
 		}
@@ -3864,12 +3316,12 @@ public class CParser extends Parser {
 
 	public final TypeQualifierContext typeQualifier() throws RecognitionException {
 		TypeQualifierContext _localctx = new TypeQualifierContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_typeQualifier);
+		enterRule(_localctx, 68, RULE_typeQualifier);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(574);
+			setState(510);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -3923,56 +3375,56 @@ public class CParser extends Parser {
 
 	public final FunctionSpecifierContext functionSpecifier() throws RecognitionException {
 		FunctionSpecifierContext _localctx = new FunctionSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_functionSpecifier);
+		enterRule(_localctx, 70, RULE_functionSpecifier);
 		try {
-			setState(585);
+			setState(521);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Inline:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(576);
+				setState(512);
 				match(Inline);
 				}
 				break;
 			case Noreturn:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(577);
+				setState(513);
 				match(Noreturn);
 				}
 				break;
 			case T__7:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(578);
+				setState(514);
 				match(T__7);
 				}
 				break;
 			case T__8:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(579);
+				setState(515);
 				match(T__8);
 				}
 				break;
 			case T__16:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(580);
+				setState(516);
 				gccAttributeSpecifier();
 				}
 				break;
 			case T__9:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(581);
+				setState(517);
 				match(T__9);
-				setState(582);
+				setState(518);
 				match(LeftParen);
-				setState(583);
+				setState(519);
 				match(Identifier);
-				setState(584);
+				setState(520);
 				match(RightParen);
 				}
 				break;
@@ -4023,31 +3475,31 @@ public class CParser extends Parser {
 
 	public final AlignmentSpecifierContext alignmentSpecifier() throws RecognitionException {
 		AlignmentSpecifierContext _localctx = new AlignmentSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_alignmentSpecifier);
+		enterRule(_localctx, 72, RULE_alignmentSpecifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(587);
+			setState(523);
 			match(Alignas);
-			setState(588);
+			setState(524);
 			match(LeftParen);
-			setState(591);
+			setState(527);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				{
-				setState(589);
+				setState(525);
 				typeName();
 				}
 				break;
 			case 2:
 				{
-				setState(590);
+				setState(526);
 				constantExpression();
 				}
 				break;
 			}
-			setState(593);
+			setState(529);
 			match(RightParen);
 			}
 		}
@@ -4097,39 +3549,39 @@ public class CParser extends Parser {
 
 	public final DeclaratorContext declarator() throws RecognitionException {
 		DeclaratorContext _localctx = new DeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_declarator);
+		enterRule(_localctx, 74, RULE_declarator);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(596);
+			setState(532);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Star || _la==Caret) {
 				{
-				setState(595);
+				setState(531);
 				pointer();
 				}
 			}
 
-			setState(598);
+			setState(534);
 			directDeclarator(0);
-			setState(602);
+			setState(538);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(599);
+					setState(535);
 					gccDeclaratorExtension();
 					}
 					} 
 				}
-				setState(604);
+				setState(540);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
 			}
 			}
 		}
@@ -4204,104 +3656,104 @@ public class CParser extends Parser {
 		int _parentState = getState();
 		DirectDeclaratorContext _localctx = new DirectDeclaratorContext(_ctx, _parentState);
 		DirectDeclaratorContext _prevctx = _localctx;
-		int _startState = 96;
-		enterRecursionRule(_localctx, 96, RULE_directDeclarator, _p);
+		int _startState = 76;
+		enterRecursionRule(_localctx, 76, RULE_directDeclarator, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(622);
+			setState(558);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
 			case 1:
 				{
-				setState(606);
+				setState(542);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				{
-				setState(607);
+				setState(543);
 				match(LeftParen);
-				setState(608);
+				setState(544);
 				declarator();
-				setState(609);
+				setState(545);
 				match(RightParen);
 				}
 				break;
 			case 3:
 				{
-				setState(611);
+				setState(547);
 				match(Identifier);
-				setState(612);
+				setState(548);
 				match(Colon);
-				setState(613);
+				setState(549);
 				match(DigitSequence);
 				}
 				break;
 			case 4:
 				{
-				setState(614);
+				setState(550);
 				vcSpecificModifer();
-				setState(615);
+				setState(551);
 				match(Identifier);
 				}
 				break;
 			case 5:
 				{
-				setState(617);
+				setState(553);
 				match(LeftParen);
-				setState(618);
+				setState(554);
 				vcSpecificModifer();
-				setState(619);
+				setState(555);
 				declarator();
-				setState(620);
+				setState(556);
 				match(RightParen);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(669);
+			setState(605);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(667);
+					setState(603);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 					case 1:
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(624);
+						setState(560);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(625);
+						setState(561);
 						match(LeftBracket);
-						setState(627);
+						setState(563);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 							{
-							setState(626);
+							setState(562);
 							typeQualifierList();
 							}
 						}
 
-						setState(630);
+						setState(566);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 							{
-							setState(629);
+							setState(565);
 							assignmentExpression();
 							}
 						}
 
-						setState(632);
+						setState(568);
 						match(RightBracket);
 						}
 						break;
@@ -4309,25 +3761,25 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(633);
+						setState(569);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(634);
+						setState(570);
 						match(LeftBracket);
-						setState(635);
+						setState(571);
 						match(Static);
-						setState(637);
+						setState(573);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 							{
-							setState(636);
+							setState(572);
 							typeQualifierList();
 							}
 						}
 
-						setState(639);
+						setState(575);
 						assignmentExpression();
-						setState(640);
+						setState(576);
 						match(RightBracket);
 						}
 						break;
@@ -4335,17 +3787,17 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(642);
+						setState(578);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(643);
+						setState(579);
 						match(LeftBracket);
-						setState(644);
+						setState(580);
 						typeQualifierList();
-						setState(645);
+						setState(581);
 						match(Static);
-						setState(646);
+						setState(582);
 						assignmentExpression();
-						setState(647);
+						setState(583);
 						match(RightBracket);
 						}
 						break;
@@ -4353,23 +3805,23 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(649);
+						setState(585);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(650);
+						setState(586);
 						match(LeftBracket);
-						setState(652);
+						setState(588);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 							{
-							setState(651);
+							setState(587);
 							typeQualifierList();
 							}
 						}
 
-						setState(654);
+						setState(590);
 						match(Star);
-						setState(655);
+						setState(591);
 						match(RightBracket);
 						}
 						break;
@@ -4377,13 +3829,13 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(656);
+						setState(592);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(657);
+						setState(593);
 						match(LeftParen);
-						setState(658);
+						setState(594);
 						parameterTypeList();
-						setState(659);
+						setState(595);
 						match(RightParen);
 						}
 						break;
@@ -4391,30 +3843,30 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directDeclarator);
-						setState(661);
+						setState(597);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(662);
+						setState(598);
 						match(LeftParen);
-						setState(664);
+						setState(600);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if (_la==Identifier) {
 							{
-							setState(663);
+							setState(599);
 							identifierList();
 							}
 						}
 
-						setState(666);
+						setState(602);
 						match(RightParen);
 						}
 						break;
 					}
 					} 
 				}
-				setState(671);
+				setState(607);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
 			}
 			}
 		}
@@ -4452,12 +3904,12 @@ public class CParser extends Parser {
 
 	public final VcSpecificModiferContext vcSpecificModifer() throws RecognitionException {
 		VcSpecificModiferContext _localctx = new VcSpecificModiferContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_vcSpecificModifer);
+		enterRule(_localctx, 78, RULE_vcSpecificModifer);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(672);
+			setState(608);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 64000L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -4512,41 +3964,41 @@ public class CParser extends Parser {
 
 	public final GccDeclaratorExtensionContext gccDeclaratorExtension() throws RecognitionException {
 		GccDeclaratorExtensionContext _localctx = new GccDeclaratorExtensionContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_gccDeclaratorExtension);
+		enterRule(_localctx, 80, RULE_gccDeclaratorExtension);
 		int _la;
 		try {
-			setState(683);
+			setState(619);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__15:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(674);
+				setState(610);
 				match(T__15);
-				setState(675);
+				setState(611);
 				match(LeftParen);
-				setState(677); 
+				setState(613); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(676);
+					setState(612);
 					match(StringLiteral);
 					}
 					}
-					setState(679); 
+					setState(615); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==StringLiteral );
-				setState(681);
+				setState(617);
 				match(RightParen);
 				}
 				break;
 			case T__16:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(682);
+				setState(618);
 				gccAttributeSpecifier();
 				}
 				break;
@@ -4599,21 +4051,21 @@ public class CParser extends Parser {
 
 	public final GccAttributeSpecifierContext gccAttributeSpecifier() throws RecognitionException {
 		GccAttributeSpecifierContext _localctx = new GccAttributeSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_gccAttributeSpecifier);
+		enterRule(_localctx, 82, RULE_gccAttributeSpecifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(685);
+			setState(621);
 			match(T__16);
-			setState(686);
+			setState(622);
 			match(LeftParen);
-			setState(687);
+			setState(623);
 			match(LeftParen);
-			setState(688);
+			setState(624);
 			gccAttributeList();
-			setState(689);
+			setState(625);
 			match(RightParen);
-			setState(690);
+			setState(626);
 			match(RightParen);
 			}
 		}
@@ -4661,42 +4113,42 @@ public class CParser extends Parser {
 
 	public final GccAttributeListContext gccAttributeList() throws RecognitionException {
 		GccAttributeListContext _localctx = new GccAttributeListContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_gccAttributeList);
+		enterRule(_localctx, 84, RULE_gccAttributeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(693);
+			setState(629);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -2L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 36028796884746239L) != 0)) {
 				{
-				setState(692);
+				setState(628);
 				gccAttribute();
 				}
 			}
 
-			setState(701);
+			setState(637);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(695);
+				setState(631);
 				match(Comma);
-				setState(697);
+				setState(633);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -2L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 36028796884746239L) != 0)) {
 					{
-					setState(696);
+					setState(632);
 					gccAttribute();
 					}
 				}
 
 				}
 				}
-				setState(703);
+				setState(639);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4748,12 +4200,12 @@ public class CParser extends Parser {
 
 	public final GccAttributeContext gccAttribute() throws RecognitionException {
 		GccAttributeContext _localctx = new GccAttributeContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_gccAttribute);
+		enterRule(_localctx, 86, RULE_gccAttribute);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(704);
+			setState(640);
 			_la = _input.LA(1);
 			if ( _la <= 0 || (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 536870915L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -4763,24 +4215,24 @@ public class CParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(710);
+			setState(646);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LeftParen) {
 				{
-				setState(705);
+				setState(641);
 				match(LeftParen);
-				setState(707);
+				setState(643);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 					{
-					setState(706);
+					setState(642);
 					argumentExpressionList();
 					}
 				}
 
-				setState(709);
+				setState(645);
 				match(RightParen);
 				}
 			}
@@ -4835,17 +4287,17 @@ public class CParser extends Parser {
 
 	public final NestedParenthesesBlockContext nestedParenthesesBlock() throws RecognitionException {
 		NestedParenthesesBlockContext _localctx = new NestedParenthesesBlockContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_nestedParenthesesBlock);
+		enterRule(_localctx, 88, RULE_nestedParenthesesBlock);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(719);
+			setState(655);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -2L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 144115188075855869L) != 0)) {
 				{
-				setState(717);
+				setState(653);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case T__0:
@@ -4967,7 +4419,7 @@ public class CParser extends Parser {
 				case BlockComment:
 				case LineComment:
 					{
-					setState(712);
+					setState(648);
 					_la = _input.LA(1);
 					if ( _la <= 0 || (_la==LeftParen || _la==RightParen) ) {
 					_errHandler.recoverInline(this);
@@ -4981,11 +4433,11 @@ public class CParser extends Parser {
 					break;
 				case LeftParen:
 					{
-					setState(713);
+					setState(649);
 					match(LeftParen);
-					setState(714);
+					setState(650);
 					nestedParenthesesBlock();
-					setState(715);
+					setState(651);
 					match(RightParen);
 					}
 					break;
@@ -4993,7 +4445,7 @@ public class CParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(721);
+				setState(657);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5047,18 +4499,18 @@ public class CParser extends Parser {
 
 	public final PointerContext pointer() throws RecognitionException {
 		PointerContext _localctx = new PointerContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_pointer);
+		enterRule(_localctx, 90, RULE_pointer);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(726); 
+			setState(662); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(722);
+				setState(658);
 				_la = _input.LA(1);
 				if ( !(_la==Star || _la==Caret) ) {
 				_errHandler.recoverInline(this);
@@ -5068,19 +4520,19 @@ public class CParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(724);
+				setState(660);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 					{
-					setState(723);
+					setState(659);
 					typeQualifierList();
 					}
 				}
 
 				}
 				}
-				setState(728); 
+				setState(664); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Star || _la==Caret );
@@ -5126,22 +4578,22 @@ public class CParser extends Parser {
 
 	public final TypeQualifierListContext typeQualifierList() throws RecognitionException {
 		TypeQualifierListContext _localctx = new TypeQualifierListContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_typeQualifierList);
+		enterRule(_localctx, 92, RULE_typeQualifierList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(731); 
+			setState(667); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(730);
+				setState(666);
 				typeQualifier();
 				}
 				}
-				setState(733); 
+				setState(669); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0) );
@@ -5186,21 +4638,21 @@ public class CParser extends Parser {
 
 	public final ParameterTypeListContext parameterTypeList() throws RecognitionException {
 		ParameterTypeListContext _localctx = new ParameterTypeListContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_parameterTypeList);
+		enterRule(_localctx, 94, RULE_parameterTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(735);
+			setState(671);
 			parameterList();
-			setState(738);
+			setState(674);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Comma) {
 				{
-				setState(736);
+				setState(672);
 				match(Comma);
-				setState(737);
+				setState(673);
 				match(Ellipsis);
 				}
 			}
@@ -5251,30 +4703,30 @@ public class CParser extends Parser {
 
 	public final ParameterListContext parameterList() throws RecognitionException {
 		ParameterListContext _localctx = new ParameterListContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_parameterList);
+		enterRule(_localctx, 96, RULE_parameterList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(740);
+			setState(676);
 			parameterDeclaration();
-			setState(745);
+			setState(681);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(741);
+					setState(677);
 					match(Comma);
-					setState(742);
+					setState(678);
 					parameterDeclaration();
 					}
 					} 
 				}
-				setState(747);
+				setState(683);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
 			}
 			}
 		}
@@ -5324,32 +4776,32 @@ public class CParser extends Parser {
 
 	public final ParameterDeclarationContext parameterDeclaration() throws RecognitionException {
 		ParameterDeclarationContext _localctx = new ParameterDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_parameterDeclaration);
+		enterRule(_localctx, 98, RULE_parameterDeclaration);
 		int _la;
 		try {
-			setState(755);
+			setState(691);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(748);
+				setState(684);
 				declarationSpecifiers();
-				setState(749);
+				setState(685);
 				declarator();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(751);
+				setState(687);
 				declarationSpecifiers2();
-				setState(753);
+				setState(689);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 8454149L) != 0)) {
 					{
-					setState(752);
+					setState(688);
 					abstractDeclarator();
 					}
 				}
@@ -5400,26 +4852,26 @@ public class CParser extends Parser {
 
 	public final IdentifierListContext identifierList() throws RecognitionException {
 		IdentifierListContext _localctx = new IdentifierListContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_identifierList);
+		enterRule(_localctx, 100, RULE_identifierList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(757);
+			setState(693);
 			match(Identifier);
-			setState(762);
+			setState(698);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(758);
+				setState(694);
 				match(Comma);
-				setState(759);
+				setState(695);
 				match(Identifier);
 				}
 				}
-				setState(764);
+				setState(700);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5465,19 +4917,19 @@ public class CParser extends Parser {
 
 	public final TypeNameContext typeName() throws RecognitionException {
 		TypeNameContext _localctx = new TypeNameContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_typeName);
+		enterRule(_localctx, 102, RULE_typeName);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(765);
+			setState(701);
 			specifierQualifierList();
-			setState(767);
+			setState(703);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 8454149L) != 0)) {
 				{
-				setState(766);
+				setState(702);
 				abstractDeclarator();
 				}
 			}
@@ -5530,45 +4982,45 @@ public class CParser extends Parser {
 
 	public final AbstractDeclaratorContext abstractDeclarator() throws RecognitionException {
 		AbstractDeclaratorContext _localctx = new AbstractDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_abstractDeclarator);
+		enterRule(_localctx, 104, RULE_abstractDeclarator);
 		int _la;
 		try {
-			setState(780);
+			setState(716);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(769);
+				setState(705);
 				pointer();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(771);
+				setState(707);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Star || _la==Caret) {
 					{
-					setState(770);
+					setState(706);
 					pointer();
 					}
 				}
 
-				setState(773);
+				setState(709);
 				directAbstractDeclarator(0);
-				setState(777);
+				setState(713);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__15 || _la==T__16) {
 					{
 					{
-					setState(774);
+					setState(710);
 					gccDeclaratorExtension();
 					}
 					}
-					setState(779);
+					setState(715);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -5644,192 +5096,192 @@ public class CParser extends Parser {
 		int _parentState = getState();
 		DirectAbstractDeclaratorContext _localctx = new DirectAbstractDeclaratorContext(_ctx, _parentState);
 		DirectAbstractDeclaratorContext _prevctx = _localctx;
-		int _startState = 126;
-		enterRecursionRule(_localctx, 126, RULE_directAbstractDeclarator, _p);
+		int _startState = 106;
+		enterRecursionRule(_localctx, 106, RULE_directAbstractDeclarator, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(828);
+			setState(764);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
 			case 1:
 				{
-				setState(783);
+				setState(719);
 				match(LeftParen);
-				setState(784);
+				setState(720);
 				abstractDeclarator();
-				setState(785);
+				setState(721);
 				match(RightParen);
-				setState(789);
+				setState(725);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,84,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(786);
+						setState(722);
 						gccDeclaratorExtension();
 						}
 						} 
 					}
-					setState(791);
+					setState(727);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,84,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
 				}
 				}
 				break;
 			case 2:
 				{
-				setState(792);
+				setState(728);
 				match(LeftBracket);
-				setState(794);
+				setState(730);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 					{
-					setState(793);
+					setState(729);
 					typeQualifierList();
 					}
 				}
 
-				setState(797);
+				setState(733);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 					{
-					setState(796);
+					setState(732);
 					assignmentExpression();
 					}
 				}
 
-				setState(799);
+				setState(735);
 				match(RightBracket);
 				}
 				break;
 			case 3:
 				{
-				setState(800);
+				setState(736);
 				match(LeftBracket);
-				setState(801);
+				setState(737);
 				match(Static);
-				setState(803);
+				setState(739);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 					{
-					setState(802);
+					setState(738);
 					typeQualifierList();
 					}
 				}
 
-				setState(805);
+				setState(741);
 				assignmentExpression();
-				setState(806);
+				setState(742);
 				match(RightBracket);
 				}
 				break;
 			case 4:
 				{
-				setState(808);
+				setState(744);
 				match(LeftBracket);
-				setState(809);
+				setState(745);
 				typeQualifierList();
-				setState(810);
+				setState(746);
 				match(Static);
-				setState(811);
+				setState(747);
 				assignmentExpression();
-				setState(812);
+				setState(748);
 				match(RightBracket);
 				}
 				break;
 			case 5:
 				{
-				setState(814);
+				setState(750);
 				match(LeftBracket);
-				setState(815);
+				setState(751);
 				match(Star);
-				setState(816);
+				setState(752);
 				match(RightBracket);
 				}
 				break;
 			case 6:
 				{
-				setState(817);
+				setState(753);
 				match(LeftParen);
-				setState(819);
+				setState(755);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6386264861217519630L) != 0) || _la==Identifier) {
 					{
-					setState(818);
+					setState(754);
 					parameterTypeList();
 					}
 				}
 
-				setState(821);
+				setState(757);
 				match(RightParen);
-				setState(825);
+				setState(761);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,89,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(822);
+						setState(758);
 						gccDeclaratorExtension();
 						}
 						} 
 					}
-					setState(827);
+					setState(763);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,89,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 				}
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(873);
+			setState(809);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(871);
+					setState(807);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
 					case 1:
 						{
 						_localctx = new DirectAbstractDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directAbstractDeclarator);
-						setState(830);
+						setState(766);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(831);
+						setState(767);
 						match(LeftBracket);
-						setState(833);
+						setState(769);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 							{
-							setState(832);
+							setState(768);
 							typeQualifierList();
 							}
 						}
 
-						setState(836);
+						setState(772);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 							{
-							setState(835);
+							setState(771);
 							assignmentExpression();
 							}
 						}
 
-						setState(838);
+						setState(774);
 						match(RightBracket);
 						}
 						break;
@@ -5837,25 +5289,25 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectAbstractDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directAbstractDeclarator);
-						setState(839);
+						setState(775);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(840);
+						setState(776);
 						match(LeftBracket);
-						setState(841);
+						setState(777);
 						match(Static);
-						setState(843);
+						setState(779);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 76562293193703424L) != 0)) {
 							{
-							setState(842);
+							setState(778);
 							typeQualifierList();
 							}
 						}
 
-						setState(845);
+						setState(781);
 						assignmentExpression();
-						setState(846);
+						setState(782);
 						match(RightBracket);
 						}
 						break;
@@ -5863,17 +5315,17 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectAbstractDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directAbstractDeclarator);
-						setState(848);
+						setState(784);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(849);
+						setState(785);
 						match(LeftBracket);
-						setState(850);
+						setState(786);
 						typeQualifierList();
-						setState(851);
+						setState(787);
 						match(Static);
-						setState(852);
+						setState(788);
 						assignmentExpression();
-						setState(853);
+						setState(789);
 						match(RightBracket);
 						}
 						break;
@@ -5881,13 +5333,13 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectAbstractDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directAbstractDeclarator);
-						setState(855);
+						setState(791);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(856);
+						setState(792);
 						match(LeftBracket);
-						setState(857);
+						setState(793);
 						match(Star);
-						setState(858);
+						setState(794);
 						match(RightBracket);
 						}
 						break;
@@ -5895,46 +5347,46 @@ public class CParser extends Parser {
 						{
 						_localctx = new DirectAbstractDeclaratorContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_directAbstractDeclarator);
-						setState(859);
+						setState(795);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(860);
+						setState(796);
 						match(LeftParen);
-						setState(862);
+						setState(798);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6386264861217519630L) != 0) || _la==Identifier) {
 							{
-							setState(861);
+							setState(797);
 							parameterTypeList();
 							}
 						}
 
-						setState(864);
+						setState(800);
 						match(RightParen);
-						setState(868);
+						setState(804);
 						_errHandler.sync(this);
-						_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+						_alt = getInterpreter().adaptivePredict(_input,86,_ctx);
 						while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 							if ( _alt==1 ) {
 								{
 								{
-								setState(865);
+								setState(801);
 								gccDeclaratorExtension();
 								}
 								} 
 							}
-							setState(870);
+							setState(806);
 							_errHandler.sync(this);
-							_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+							_alt = getInterpreter().adaptivePredict(_input,86,_ctx);
 						}
 						}
 						break;
 					}
 					} 
 				}
-				setState(875);
+				setState(811);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
 			}
 			}
 		}
@@ -5973,11 +5425,11 @@ public class CParser extends Parser {
 
 	public final TypedefNameContext typedefName() throws RecognitionException {
 		TypedefNameContext _localctx = new TypedefNameContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_typedefName);
+		enterRule(_localctx, 108, RULE_typedefName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(876);
+			setState(812);
 			match(Identifier);
 			}
 		}
@@ -6024,10 +5476,10 @@ public class CParser extends Parser {
 
 	public final InitializerContext initializer() throws RecognitionException {
 		InitializerContext _localctx = new InitializerContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_initializer);
+		enterRule(_localctx, 110, RULE_initializer);
 		int _la;
 		try {
-			setState(886);
+			setState(822);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__0:
@@ -6052,28 +5504,28 @@ public class CParser extends Parser {
 			case StringLiteral:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(878);
+				setState(814);
 				assignmentExpression();
 				}
 				break;
 			case LeftBrace:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(879);
+				setState(815);
 				match(LeftBrace);
-				setState(880);
+				setState(816);
 				initializerList();
-				setState(882);
+				setState(818);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Comma) {
 					{
-					setState(881);
+					setState(817);
 					match(Comma);
 					}
 				}
 
-				setState(884);
+				setState(820);
 				match(RightBrace);
 				}
 				break;
@@ -6131,51 +5583,51 @@ public class CParser extends Parser {
 
 	public final InitializerListContext initializerList() throws RecognitionException {
 		InitializerListContext _localctx = new InitializerListContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_initializerList);
+		enterRule(_localctx, 112, RULE_initializerList);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(889);
+			setState(825);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LeftBracket || _la==Dot) {
 				{
-				setState(888);
+				setState(824);
 				designation();
 				}
 			}
 
-			setState(891);
+			setState(827);
 			initializer();
-			setState(899);
+			setState(835);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(892);
+					setState(828);
 					match(Comma);
-					setState(894);
+					setState(830);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==LeftBracket || _la==Dot) {
 						{
-						setState(893);
+						setState(829);
 						designation();
 						}
 					}
 
-					setState(896);
+					setState(832);
 					initializer();
 					}
 					} 
 				}
-				setState(901);
+				setState(837);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
 			}
 			}
 		}
@@ -6217,13 +5669,13 @@ public class CParser extends Parser {
 
 	public final DesignationContext designation() throws RecognitionException {
 		DesignationContext _localctx = new DesignationContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_designation);
+		enterRule(_localctx, 114, RULE_designation);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(902);
+			setState(838);
 			designatorList();
-			setState(903);
+			setState(839);
 			match(Assign);
 			}
 		}
@@ -6267,22 +5719,22 @@ public class CParser extends Parser {
 
 	public final DesignatorListContext designatorList() throws RecognitionException {
 		DesignatorListContext _localctx = new DesignatorListContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_designatorList);
+		enterRule(_localctx, 116, RULE_designatorList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(906); 
+			setState(842); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(905);
+				setState(841);
 				designator();
 				}
 				}
-				setState(908); 
+				setState(844); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==LeftBracket || _la==Dot );
@@ -6329,28 +5781,28 @@ public class CParser extends Parser {
 
 	public final DesignatorContext designator() throws RecognitionException {
 		DesignatorContext _localctx = new DesignatorContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_designator);
+		enterRule(_localctx, 118, RULE_designator);
 		try {
-			setState(916);
+			setState(852);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LeftBracket:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(910);
+				setState(846);
 				match(LeftBracket);
-				setState(911);
+				setState(847);
 				constantExpression();
-				setState(912);
+				setState(848);
 				match(RightBracket);
 				}
 				break;
 			case Dot:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(914);
+				setState(850);
 				match(Dot);
-				setState(915);
+				setState(851);
 				match(Identifier);
 				}
 				break;
@@ -6404,36 +5856,36 @@ public class CParser extends Parser {
 
 	public final StaticAssertDeclarationContext staticAssertDeclaration() throws RecognitionException {
 		StaticAssertDeclarationContext _localctx = new StaticAssertDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_staticAssertDeclaration);
+		enterRule(_localctx, 120, RULE_staticAssertDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(918);
+			setState(854);
 			match(StaticAssert);
-			setState(919);
+			setState(855);
 			match(LeftParen);
-			setState(920);
+			setState(856);
 			constantExpression();
-			setState(921);
+			setState(857);
 			match(Comma);
-			setState(923); 
+			setState(859); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(922);
+				setState(858);
 				match(StringLiteral);
 				}
 				}
-				setState(925); 
+				setState(861); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==StringLiteral );
-			setState(927);
+			setState(863);
 			match(RightParen);
-			setState(928);
+			setState(864);
 			match(Semi);
 			}
 		}
@@ -6472,11 +5924,11 @@ public class CParser extends Parser {
 		public TerminalNode RightParen() { return getToken(CParser.RightParen, 0); }
 		public TerminalNode Semi() { return getToken(CParser.Semi, 0); }
 		public TerminalNode Volatile() { return getToken(CParser.Volatile, 0); }
-		public List<LogicalOrExpressionContext> logicalOrExpression() {
-			return getRuleContexts(LogicalOrExpressionContext.class);
+		public List<ConditionalExpressionContext> conditionalExpression() {
+			return getRuleContexts(ConditionalExpressionContext.class);
 		}
-		public LogicalOrExpressionContext logicalOrExpression(int i) {
-			return getRuleContext(LogicalOrExpressionContext.class,i);
+		public ConditionalExpressionContext conditionalExpression(int i) {
+			return getRuleContext(ConditionalExpressionContext.class,i);
 		}
 		public List<TerminalNode> Colon() { return getTokens(CParser.Colon); }
 		public TerminalNode Colon(int i) {
@@ -6507,58 +5959,58 @@ public class CParser extends Parser {
 
 	public final StatementContext statement() throws RecognitionException {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_statement);
+		enterRule(_localctx, 122, RULE_statement);
 		int _la;
 		try {
-			setState(967);
+			setState(903);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,111,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,102,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(930);
+				setState(866);
 				labeledStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(931);
+				setState(867);
 				compoundStatement();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(932);
+				setState(868);
 				expressionStatement();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(933);
+				setState(869);
 				selectionStatement();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(934);
+				setState(870);
 				iterationStatement();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(935);
+				setState(871);
 				jumpStatement();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(936);
+				setState(872);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__17) ) {
 				_errHandler.recoverInline(this);
@@ -6568,7 +6020,7 @@ public class CParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(937);
+				setState(873);
 				_la = _input.LA(1);
 				if ( !(_la==T__18 || _la==Volatile) ) {
 				_errHandler.recoverInline(this);
@@ -6578,62 +6030,62 @@ public class CParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(938);
+				setState(874);
 				match(LeftParen);
-				setState(947);
+				setState(883);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 					{
-					setState(939);
-					logicalOrExpression();
-					setState(944);
+					setState(875);
+					conditionalExpression(0);
+					setState(880);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==Comma) {
 						{
 						{
-						setState(940);
+						setState(876);
 						match(Comma);
-						setState(941);
-						logicalOrExpression();
+						setState(877);
+						conditionalExpression(0);
 						}
 						}
-						setState(946);
+						setState(882);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(962);
+				setState(898);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==Colon) {
 					{
 					{
-					setState(949);
+					setState(885);
 					match(Colon);
-					setState(958);
+					setState(894);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 						{
-						setState(950);
-						logicalOrExpression();
-						setState(955);
+						setState(886);
+						conditionalExpression(0);
+						setState(891);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						while (_la==Comma) {
 							{
 							{
-							setState(951);
+							setState(887);
 							match(Comma);
-							setState(952);
-							logicalOrExpression();
+							setState(888);
+							conditionalExpression(0);
 							}
 							}
-							setState(957);
+							setState(893);
 							_errHandler.sync(this);
 							_la = _input.LA(1);
 						}
@@ -6642,13 +6094,13 @@ public class CParser extends Parser {
 
 					}
 					}
-					setState(964);
+					setState(900);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(965);
+				setState(901);
 				match(RightParen);
-				setState(966);
+				setState(902);
 				match(Semi);
 				}
 				break;
@@ -6698,24 +6150,24 @@ public class CParser extends Parser {
 
 	public final LabeledStatementContext labeledStatement() throws RecognitionException {
 		LabeledStatementContext _localctx = new LabeledStatementContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_labeledStatement);
+		enterRule(_localctx, 124, RULE_labeledStatement);
 		try {
-			setState(982);
+			setState(918);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(969);
+				setState(905);
 				match(Identifier);
-				setState(970);
+				setState(906);
 				match(Colon);
-				setState(972);
+				setState(908);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
 				case 1:
 					{
-					setState(971);
+					setState(907);
 					statement();
 					}
 					break;
@@ -6725,24 +6177,24 @@ public class CParser extends Parser {
 			case Case:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(974);
+				setState(910);
 				match(Case);
-				setState(975);
+				setState(911);
 				constantExpression();
-				setState(976);
+				setState(912);
 				match(Colon);
-				setState(977);
+				setState(913);
 				statement();
 				}
 				break;
 			case Default:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(979);
+				setState(915);
 				match(Default);
-				setState(980);
+				setState(916);
 				match(Colon);
-				setState(981);
+				setState(917);
 				statement();
 				}
 				break;
@@ -6789,24 +6241,24 @@ public class CParser extends Parser {
 
 	public final CompoundStatementContext compoundStatement() throws RecognitionException {
 		CompoundStatementContext _localctx = new CompoundStatementContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_compoundStatement);
+		enterRule(_localctx, 126, RULE_compoundStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(984);
+			setState(920);
 			match(LeftBrace);
-			setState(986);
+			setState(922);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1152921505144305666L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531484180497L) != 0)) {
 				{
-				setState(985);
+				setState(921);
 				blockItemList();
 				}
 			}
 
-			setState(988);
+			setState(924);
 			match(RightBrace);
 			}
 		}
@@ -6850,22 +6302,22 @@ public class CParser extends Parser {
 
 	public final BlockItemListContext blockItemList() throws RecognitionException {
 		BlockItemListContext _localctx = new BlockItemListContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_blockItemList);
+		enterRule(_localctx, 128, RULE_blockItemList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(991); 
+			setState(927); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(990);
+				setState(926);
 				blockItem();
 				}
 				}
-				setState(993); 
+				setState(929); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & -1152921505144305666L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531484180497L) != 0) );
@@ -6911,22 +6363,22 @@ public class CParser extends Parser {
 
 	public final BlockItemContext blockItem() throws RecognitionException {
 		BlockItemContext _localctx = new BlockItemContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_blockItem);
+		enterRule(_localctx, 130, RULE_blockItem);
 		try {
-			setState(997);
+			setState(933);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,116,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(995);
+				setState(931);
 				statement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(996);
+				setState(932);
 				declaration();
 				}
 				break;
@@ -6970,22 +6422,22 @@ public class CParser extends Parser {
 
 	public final ExpressionStatementContext expressionStatement() throws RecognitionException {
 		ExpressionStatementContext _localctx = new ExpressionStatementContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_expressionStatement);
+		enterRule(_localctx, 132, RULE_expressionStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1000);
+			setState(936);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 				{
-				setState(999);
+				setState(935);
 				expression();
 				}
 			}
 
-			setState(1002);
+			setState(938);
 			match(Semi);
 			}
 		}
@@ -7037,32 +6489,32 @@ public class CParser extends Parser {
 
 	public final SelectionStatementContext selectionStatement() throws RecognitionException {
 		SelectionStatementContext _localctx = new SelectionStatementContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_selectionStatement);
+		enterRule(_localctx, 134, RULE_selectionStatement);
 		try {
-			setState(1019);
+			setState(955);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case If:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1004);
+				setState(940);
 				match(If);
-				setState(1005);
+				setState(941);
 				match(LeftParen);
-				setState(1006);
+				setState(942);
 				expression();
-				setState(1007);
+				setState(943);
 				match(RightParen);
-				setState(1008);
+				setState(944);
 				statement();
-				setState(1011);
+				setState(947);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
 				case 1:
 					{
-					setState(1009);
+					setState(945);
 					match(Else);
-					setState(1010);
+					setState(946);
 					statement();
 					}
 					break;
@@ -7072,15 +6524,15 @@ public class CParser extends Parser {
 			case Switch:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1013);
+				setState(949);
 				match(Switch);
-				setState(1014);
+				setState(950);
 				match(LeftParen);
-				setState(1015);
+				setState(951);
 				expression();
-				setState(1016);
+				setState(952);
 				match(RightParen);
-				setState(1017);
+				setState(953);
 				statement();
 				}
 				break;
@@ -7137,57 +6589,57 @@ public class CParser extends Parser {
 
 	public final IterationStatementContext iterationStatement() throws RecognitionException {
 		IterationStatementContext _localctx = new IterationStatementContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_iterationStatement);
+		enterRule(_localctx, 136, RULE_iterationStatement);
 		try {
-			setState(1041);
+			setState(977);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case While:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1021);
+				setState(957);
 				match(While);
-				setState(1022);
+				setState(958);
 				match(LeftParen);
-				setState(1023);
+				setState(959);
 				expression();
-				setState(1024);
+				setState(960);
 				match(RightParen);
-				setState(1025);
+				setState(961);
 				statement();
 				}
 				break;
 			case Do:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1027);
+				setState(963);
 				match(Do);
-				setState(1028);
+				setState(964);
 				statement();
-				setState(1029);
+				setState(965);
 				match(While);
-				setState(1030);
+				setState(966);
 				match(LeftParen);
-				setState(1031);
+				setState(967);
 				expression();
-				setState(1032);
+				setState(968);
 				match(RightParen);
-				setState(1033);
+				setState(969);
 				match(Semi);
 				}
 				break;
 			case For:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1035);
+				setState(971);
 				match(For);
-				setState(1036);
+				setState(972);
 				match(LeftParen);
-				setState(1037);
+				setState(973);
 				forCondition();
-				setState(1038);
+				setState(974);
 				match(RightParen);
-				setState(1039);
+				setState(975);
 				statement();
 				}
 				break;
@@ -7245,28 +6697,28 @@ public class CParser extends Parser {
 
 	public final ForConditionContext forCondition() throws RecognitionException {
 		ForConditionContext _localctx = new ForConditionContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_forCondition);
+		enterRule(_localctx, 138, RULE_forCondition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1047);
+			setState(983);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,122,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
 			case 1:
 				{
-				setState(1043);
+				setState(979);
 				forDeclaration();
 				}
 				break;
 			case 2:
 				{
-				setState(1045);
+				setState(981);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 					{
-					setState(1044);
+					setState(980);
 					expression();
 					}
 				}
@@ -7274,26 +6726,26 @@ public class CParser extends Parser {
 				}
 				break;
 			}
-			setState(1049);
+			setState(985);
 			match(Semi);
-			setState(1051);
+			setState(987);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 				{
-				setState(1050);
+				setState(986);
 				forExpression();
 				}
 			}
 
-			setState(1053);
+			setState(989);
 			match(Semi);
-			setState(1055);
+			setState(991);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 				{
-				setState(1054);
+				setState(990);
 				forExpression();
 				}
 			}
@@ -7340,19 +6792,19 @@ public class CParser extends Parser {
 
 	public final ForDeclarationContext forDeclaration() throws RecognitionException {
 		ForDeclarationContext _localctx = new ForDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_forDeclaration);
+		enterRule(_localctx, 140, RULE_forDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1057);
+			setState(993);
 			declarationSpecifiers();
-			setState(1059);
+			setState(995);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 64000L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 70368752631809L) != 0)) {
 				{
-				setState(1058);
+				setState(994);
 				initDeclaratorList();
 				}
 			}
@@ -7403,26 +6855,26 @@ public class CParser extends Parser {
 
 	public final ForExpressionContext forExpression() throws RecognitionException {
 		ForExpressionContext _localctx = new ForExpressionContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_forExpression);
+		enterRule(_localctx, 142, RULE_forExpression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1061);
+			setState(997);
 			assignmentExpression();
-			setState(1066);
+			setState(1002);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(1062);
+				setState(998);
 				match(Comma);
-				setState(1063);
+				setState(999);
 				assignmentExpression();
 				}
 				}
-				setState(1068);
+				setState(1004);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -7474,44 +6926,44 @@ public class CParser extends Parser {
 
 	public final JumpStatementContext jumpStatement() throws RecognitionException {
 		JumpStatementContext _localctx = new JumpStatementContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_jumpStatement);
+		enterRule(_localctx, 144, RULE_jumpStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1079);
+			setState(1015);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
 			case 1:
 				{
-				setState(1069);
+				setState(1005);
 				match(Goto);
-				setState(1070);
+				setState(1006);
 				match(Identifier);
 				}
 				break;
 			case 2:
 				{
-				setState(1071);
+				setState(1007);
 				match(Continue);
 				}
 				break;
 			case 3:
 				{
-				setState(1072);
+				setState(1008);
 				match(Break);
 				}
 				break;
 			case 4:
 				{
-				setState(1073);
+				setState(1009);
 				match(Return);
-				setState(1075);
+				setState(1011);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 612507141508431886L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1055531215745025L) != 0)) {
 					{
-					setState(1074);
+					setState(1010);
 					expression();
 					}
 				}
@@ -7520,14 +6972,14 @@ public class CParser extends Parser {
 				break;
 			case 5:
 				{
-				setState(1077);
+				setState(1013);
 				match(Goto);
-				setState(1078);
+				setState(1014);
 				unaryExpression();
 				}
 				break;
 			}
-			setState(1081);
+			setState(1017);
 			match(Semi);
 			}
 		}
@@ -7569,22 +7021,22 @@ public class CParser extends Parser {
 
 	public final CompilationUnitContext compilationUnit() throws RecognitionException {
 		CompilationUnitContext _localctx = new CompilationUnitContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_compilationUnit);
+		enterRule(_localctx, 146, RULE_compilationUnit);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1084);
+			setState(1020);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1774578842790068238L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 70369021067265L) != 0)) {
 				{
-				setState(1083);
+				setState(1019);
 				translationUnit();
 				}
 			}
 
-			setState(1086);
+			setState(1022);
 			match(EOF);
 			}
 		}
@@ -7628,22 +7080,22 @@ public class CParser extends Parser {
 
 	public final TranslationUnitContext translationUnit() throws RecognitionException {
 		TranslationUnitContext _localctx = new TranslationUnitContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_translationUnit);
+		enterRule(_localctx, 148, RULE_translationUnit);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1089); 
+			setState(1025); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(1088);
+				setState(1024);
 				externalDeclaration();
 				}
 				}
-				setState(1091); 
+				setState(1027); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & -1774578842790068238L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 70369021067265L) != 0) );
@@ -7690,29 +7142,29 @@ public class CParser extends Parser {
 
 	public final ExternalDeclarationContext externalDeclaration() throws RecognitionException {
 		ExternalDeclarationContext _localctx = new ExternalDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_externalDeclaration);
+		enterRule(_localctx, 150, RULE_externalDeclaration);
 		try {
-			setState(1096);
+			setState(1032);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,131,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,122,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1093);
+				setState(1029);
 				functionDefinition();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1094);
+				setState(1030);
 				declaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1095);
+				setState(1031);
 				match(Semi);
 				}
 				break;
@@ -7764,34 +7216,34 @@ public class CParser extends Parser {
 
 	public final FunctionDefinitionContext functionDefinition() throws RecognitionException {
 		FunctionDefinitionContext _localctx = new FunctionDefinitionContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_functionDefinition);
+		enterRule(_localctx, 152, RULE_functionDefinition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1099);
+			setState(1035);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,132,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
 			case 1:
 				{
-				setState(1098);
+				setState(1034);
 				declarationSpecifiers();
 				}
 				break;
 			}
-			setState(1101);
+			setState(1037);
 			declarator();
-			setState(1103);
+			setState(1039);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -1774578842790131726L) != 0) || _la==Identifier) {
 				{
-				setState(1102);
+				setState(1038);
 				declarationList();
 				}
 			}
 
-			setState(1105);
+			setState(1041);
 			compoundStatement();
 			}
 		}
@@ -7835,22 +7287,22 @@ public class CParser extends Parser {
 
 	public final DeclarationListContext declarationList() throws RecognitionException {
 		DeclarationListContext _localctx = new DeclarationListContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_declarationList);
+		enterRule(_localctx, 154, RULE_declarationList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1108); 
+			setState(1044); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(1107);
+				setState(1043);
 				declaration();
 				}
 				}
-				setState(1110); 
+				setState(1046); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & -1774578842790131726L) != 0) || _la==Identifier );
@@ -7869,48 +7321,77 @@ public class CParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 48:
+		case 9:
+			return conditionalExpression_sempred((ConditionalExpressionContext)_localctx, predIndex);
+		case 38:
 			return directDeclarator_sempred((DirectDeclaratorContext)_localctx, predIndex);
-		case 63:
+		case 53:
 			return directAbstractDeclarator_sempred((DirectAbstractDeclaratorContext)_localctx, predIndex);
 		}
 		return true;
 	}
-	private boolean directDeclarator_sempred(DirectDeclaratorContext _localctx, int predIndex) {
+	private boolean conditionalExpression_sempred(ConditionalExpressionContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 9);
+			return precpred(_ctx, 11);
 		case 1:
-			return precpred(_ctx, 8);
+			return precpred(_ctx, 10);
 		case 2:
-			return precpred(_ctx, 7);
+			return precpred(_ctx, 9);
 		case 3:
-			return precpred(_ctx, 6);
+			return precpred(_ctx, 8);
 		case 4:
-			return precpred(_ctx, 5);
+			return precpred(_ctx, 7);
 		case 5:
+			return precpred(_ctx, 6);
+		case 6:
+			return precpred(_ctx, 5);
+		case 7:
+			return precpred(_ctx, 4);
+		case 8:
+			return precpred(_ctx, 3);
+		case 9:
+			return precpred(_ctx, 2);
+		case 10:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean directDeclarator_sempred(DirectDeclaratorContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 11:
+			return precpred(_ctx, 9);
+		case 12:
+			return precpred(_ctx, 8);
+		case 13:
+			return precpred(_ctx, 7);
+		case 14:
+			return precpred(_ctx, 6);
+		case 15:
+			return precpred(_ctx, 5);
+		case 16:
 			return precpred(_ctx, 4);
 		}
 		return true;
 	}
 	private boolean directAbstractDeclarator_sempred(DirectAbstractDeclaratorContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 6:
+		case 17:
 			return precpred(_ctx, 5);
-		case 7:
+		case 18:
 			return precpred(_ctx, 4);
-		case 8:
+		case 19:
 			return precpred(_ctx, 3);
-		case 9:
+		case 20:
 			return precpred(_ctx, 2);
-		case 10:
+		case 21:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001x\u0459\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001x\u0419\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -7929,710 +7410,677 @@ public class CParser extends Parser {
 		"<\u0007<\u0002=\u0007=\u0002>\u0007>\u0002?\u0007?\u0002@\u0007@\u0002"+
 		"A\u0007A\u0002B\u0007B\u0002C\u0007C\u0002D\u0007D\u0002E\u0007E\u0002"+
 		"F\u0007F\u0002G\u0007G\u0002H\u0007H\u0002I\u0007I\u0002J\u0007J\u0002"+
-		"K\u0007K\u0002L\u0007L\u0002M\u0007M\u0002N\u0007N\u0002O\u0007O\u0002"+
-		"P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002S\u0007S\u0002T\u0007T\u0002"+
-		"U\u0007U\u0002V\u0007V\u0002W\u0007W\u0001\u0000\u0001\u0000\u0001\u0000"+
-		"\u0004\u0000\u00b4\b\u0000\u000b\u0000\f\u0000\u00b5\u0001\u0000\u0001"+
-		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0003\u0000\u00be"+
+		"K\u0007K\u0002L\u0007L\u0002M\u0007M\u0001\u0000\u0001\u0000\u0001\u0000"+
+		"\u0004\u0000\u00a0\b\u0000\u000b\u0000\f\u0000\u00a1\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0003\u0000\u00aa"+
 		"\b\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
 		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
 		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
-		"\u0000\u0003\u0000\u00d2\b\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0000\u0003\u0000\u00be\b\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
 		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0005\u0002\u00de\b\u0002\n\u0002\f\u0002\u00e1\t\u0002\u0001\u0003"+
-		"\u0001\u0003\u0003\u0003\u00e5\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
-		"\u0001\u0004\u0001\u0004\u0003\u0004\u00ec\b\u0004\u0001\u0004\u0001\u0004"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u00f4\b\u0004"+
-		"\u0001\u0004\u0001\u0004\u0003\u0004\u00f8\b\u0004\u0001\u0004\u0001\u0004"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u0100\b\u0004"+
+		"\u0002\u0005\u0002\u00ca\b\u0002\n\u0002\f\u0002\u00cd\t\u0002\u0001\u0003"+
+		"\u0001\u0003\u0003\u0003\u00d1\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
+		"\u0001\u0004\u0001\u0004\u0003\u0004\u00d8\b\u0004\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u00e0\b\u0004"+
+		"\u0001\u0004\u0001\u0004\u0003\u0004\u00e4\b\u0004\u0001\u0004\u0001\u0004"+
+		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u00ec\b\u0004"+
 		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0005\u0004"+
-		"\u0107\b\u0004\n\u0004\f\u0004\u010a\t\u0004\u0001\u0005\u0001\u0005\u0001"+
-		"\u0005\u0005\u0005\u010f\b\u0005\n\u0005\f\u0005\u0112\t\u0005\u0001\u0006"+
-		"\u0005\u0006\u0115\b\u0006\n\u0006\f\u0006\u0118\t\u0006\u0001\u0006\u0001"+
+		"\u00f3\b\u0004\n\u0004\f\u0004\u00f6\t\u0004\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0005\u0005\u00fb\b\u0005\n\u0005\f\u0005\u00fe\t\u0005\u0001\u0006"+
+		"\u0005\u0006\u0101\b\u0006\n\u0006\f\u0006\u0104\t\u0006\u0001\u0006\u0001"+
 		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u0125\b\u0006\u0001"+
-		"\u0007\u0001\u0007\u0001\b\u0003\b\u012a\b\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0003\b\u0133\b\b\u0001\t\u0001\t\u0001\t\u0005"+
-		"\t\u0138\b\t\n\t\f\t\u013b\t\t\u0001\n\u0001\n\u0001\n\u0005\n\u0140\b"+
-		"\n\n\n\f\n\u0143\t\n\u0001\u000b\u0001\u000b\u0001\u000b\u0005\u000b\u0148"+
-		"\b\u000b\n\u000b\f\u000b\u014b\t\u000b\u0001\f\u0001\f\u0001\f\u0005\f"+
-		"\u0150\b\f\n\f\f\f\u0153\t\f\u0001\r\u0001\r\u0001\r\u0005\r\u0158\b\r"+
-		"\n\r\f\r\u015b\t\r\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u0160"+
-		"\b\u000e\n\u000e\f\u000e\u0163\t\u000e\u0001\u000f\u0001\u000f\u0001\u000f"+
-		"\u0005\u000f\u0168\b\u000f\n\u000f\f\u000f\u016b\t\u000f\u0001\u0010\u0001"+
-		"\u0010\u0001\u0010\u0005\u0010\u0170\b\u0010\n\u0010\f\u0010\u0173\t\u0010"+
-		"\u0001\u0011\u0001\u0011\u0001\u0011\u0005\u0011\u0178\b\u0011\n\u0011"+
-		"\f\u0011\u017b\t\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0005\u0012"+
-		"\u0180\b\u0012\n\u0012\f\u0012\u0183\t\u0012\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013\u018b\b\u0013\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0003"+
-		"\u0014\u0193\b\u0014\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0005\u0016\u019a\b\u0016\n\u0016\f\u0016\u019d\t\u0016\u0001\u0017"+
-		"\u0001\u0017\u0001\u0018\u0001\u0018\u0003\u0018\u01a3\b\u0018\u0001\u0018"+
-		"\u0001\u0018\u0001\u0018\u0003\u0018\u01a8\b\u0018\u0001\u0019\u0004\u0019"+
-		"\u01ab\b\u0019\u000b\u0019\f\u0019\u01ac\u0001\u001a\u0004\u001a\u01b0"+
-		"\b\u001a\u000b\u001a\f\u001a\u01b1\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0001\u001b\u0003\u001b\u01b9\b\u001b\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0005\u001c\u01be\b\u001c\n\u001c\f\u001c\u01c1\t\u001c\u0001"+
-		"\u001d\u0001\u001d\u0001\u001d\u0003\u001d\u01c6\b\u001d\u0001\u001e\u0001"+
-		"\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0003\u001f\u01e5\b\u001f\u0001"+
-		" \u0001 \u0003 \u01e9\b \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001"+
-		" \u0003 \u01f2\b \u0001!\u0001!\u0001\"\u0004\"\u01f7\b\"\u000b\"\f\""+
-		"\u01f8\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0003#"+
-		"\u0203\b#\u0001$\u0001$\u0003$\u0207\b$\u0001$\u0003$\u020a\b$\u0001%"+
-		"\u0001%\u0001%\u0005%\u020f\b%\n%\f%\u0212\t%\u0001&\u0001&\u0003&\u0216"+
-		"\b&\u0001&\u0001&\u0003&\u021a\b&\u0001\'\u0001\'\u0003\'\u021e\b\'\u0001"+
-		"\'\u0001\'\u0001\'\u0003\'\u0223\b\'\u0001\'\u0001\'\u0001\'\u0001\'\u0003"+
-		"\'\u0229\b\'\u0001(\u0001(\u0001(\u0005(\u022e\b(\n(\f(\u0231\t(\u0001"+
-		")\u0001)\u0001)\u0003)\u0236\b)\u0001*\u0001*\u0001+\u0001+\u0001+\u0001"+
-		"+\u0001+\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001"+
-		"-\u0001-\u0001-\u0003-\u024a\b-\u0001.\u0001.\u0001.\u0001.\u0003.\u0250"+
-		"\b.\u0001.\u0001.\u0001/\u0003/\u0255\b/\u0001/\u0001/\u0005/\u0259\b"+
-		"/\n/\f/\u025c\t/\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u0001"+
-		"0\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u0003"+
-		"0\u026f\b0\u00010\u00010\u00010\u00030\u0274\b0\u00010\u00030\u0277\b"+
-		"0\u00010\u00010\u00010\u00010\u00010\u00030\u027e\b0\u00010\u00010\u0001"+
-		"0\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u0001"+
-		"0\u00030\u028d\b0\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u0001"+
-		"0\u00010\u00010\u00030\u0299\b0\u00010\u00050\u029c\b0\n0\f0\u029f\t0"+
-		"\u00011\u00011\u00012\u00012\u00012\u00042\u02a6\b2\u000b2\f2\u02a7\u0001"+
-		"2\u00012\u00032\u02ac\b2\u00013\u00013\u00013\u00013\u00013\u00013\u0001"+
-		"3\u00014\u00034\u02b6\b4\u00014\u00014\u00034\u02ba\b4\u00054\u02bc\b"+
-		"4\n4\f4\u02bf\t4\u00015\u00015\u00015\u00035\u02c4\b5\u00015\u00035\u02c7"+
-		"\b5\u00016\u00016\u00016\u00016\u00016\u00056\u02ce\b6\n6\f6\u02d1\t6"+
-		"\u00017\u00017\u00037\u02d5\b7\u00047\u02d7\b7\u000b7\f7\u02d8\u00018"+
-		"\u00048\u02dc\b8\u000b8\f8\u02dd\u00019\u00019\u00019\u00039\u02e3\b9"+
-		"\u0001:\u0001:\u0001:\u0005:\u02e8\b:\n:\f:\u02eb\t:\u0001;\u0001;\u0001"+
-		";\u0001;\u0001;\u0003;\u02f2\b;\u0003;\u02f4\b;\u0001<\u0001<\u0001<\u0005"+
-		"<\u02f9\b<\n<\f<\u02fc\t<\u0001=\u0001=\u0003=\u0300\b=\u0001>\u0001>"+
-		"\u0003>\u0304\b>\u0001>\u0001>\u0005>\u0308\b>\n>\f>\u030b\t>\u0003>\u030d"+
-		"\b>\u0001?\u0001?\u0001?\u0001?\u0001?\u0005?\u0314\b?\n?\f?\u0317\t?"+
-		"\u0001?\u0001?\u0003?\u031b\b?\u0001?\u0003?\u031e\b?\u0001?\u0001?\u0001"+
-		"?\u0001?\u0003?\u0324\b?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001"+
-		"?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0003?\u0334\b?\u0001"+
-		"?\u0001?\u0005?\u0338\b?\n?\f?\u033b\t?\u0003?\u033d\b?\u0001?\u0001?"+
-		"\u0001?\u0003?\u0342\b?\u0001?\u0003?\u0345\b?\u0001?\u0001?\u0001?\u0001"+
-		"?\u0001?\u0003?\u034c\b?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001"+
-		"?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001?\u0001"+
-		"?\u0003?\u035f\b?\u0001?\u0001?\u0005?\u0363\b?\n?\f?\u0366\t?\u0005?"+
-		"\u0368\b?\n?\f?\u036b\t?\u0001@\u0001@\u0001A\u0001A\u0001A\u0001A\u0003"+
-		"A\u0373\bA\u0001A\u0001A\u0003A\u0377\bA\u0001B\u0003B\u037a\bB\u0001"+
-		"B\u0001B\u0001B\u0003B\u037f\bB\u0001B\u0005B\u0382\bB\nB\fB\u0385\tB"+
-		"\u0001C\u0001C\u0001C\u0001D\u0004D\u038b\bD\u000bD\fD\u038c\u0001E\u0001"+
-		"E\u0001E\u0001E\u0001E\u0001E\u0003E\u0395\bE\u0001F\u0001F\u0001F\u0001"+
-		"F\u0001F\u0004F\u039c\bF\u000bF\fF\u039d\u0001F\u0001F\u0001F\u0001G\u0001"+
-		"G\u0001G\u0001G\u0001G\u0001G\u0001G\u0001G\u0001G\u0001G\u0001G\u0001"+
-		"G\u0005G\u03af\bG\nG\fG\u03b2\tG\u0003G\u03b4\bG\u0001G\u0001G\u0001G"+
-		"\u0001G\u0005G\u03ba\bG\nG\fG\u03bd\tG\u0003G\u03bf\bG\u0005G\u03c1\b"+
-		"G\nG\fG\u03c4\tG\u0001G\u0001G\u0003G\u03c8\bG\u0001H\u0001H\u0001H\u0003"+
-		"H\u03cd\bH\u0001H\u0001H\u0001H\u0001H\u0001H\u0001H\u0001H\u0001H\u0003"+
-		"H\u03d7\bH\u0001I\u0001I\u0003I\u03db\bI\u0001I\u0001I\u0001J\u0004J\u03e0"+
-		"\bJ\u000bJ\fJ\u03e1\u0001K\u0001K\u0003K\u03e6\bK\u0001L\u0003L\u03e9"+
-		"\bL\u0001L\u0001L\u0001M\u0001M\u0001M\u0001M\u0001M\u0001M\u0001M\u0003"+
-		"M\u03f4\bM\u0001M\u0001M\u0001M\u0001M\u0001M\u0001M\u0003M\u03fc\bM\u0001"+
-		"N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001"+
-		"N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0001N\u0003"+
-		"N\u0412\bN\u0001O\u0001O\u0003O\u0416\bO\u0003O\u0418\bO\u0001O\u0001"+
-		"O\u0003O\u041c\bO\u0001O\u0001O\u0003O\u0420\bO\u0001P\u0001P\u0003P\u0424"+
-		"\bP\u0001Q\u0001Q\u0001Q\u0005Q\u0429\bQ\nQ\fQ\u042c\tQ\u0001R\u0001R"+
-		"\u0001R\u0001R\u0001R\u0001R\u0003R\u0434\bR\u0001R\u0001R\u0003R\u0438"+
-		"\bR\u0001R\u0001R\u0001S\u0003S\u043d\bS\u0001S\u0001S\u0001T\u0004T\u0442"+
-		"\bT\u000bT\fT\u0443\u0001U\u0001U\u0001U\u0003U\u0449\bU\u0001V\u0003"+
-		"V\u044c\bV\u0001V\u0001V\u0003V\u0450\bV\u0001V\u0001V\u0001W\u0004W\u0455"+
-		"\bW\u000bW\fW\u0456\u0001W\u0000\u0002`~X\u0000\u0002\u0004\u0006\b\n"+
-		"\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.0246"+
-		"8:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a"+
-		"\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2"+
-		"\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u0000\u0014\u0001\u0000kl\u0003\u0000"+
-		",,MMOO\u0002\u0000,,77\u0005\u0000LLNNPPSSXY\u0001\u0000PR\u0002\u0000"+
-		"LLNN\u0001\u0000JK\u0001\u0000FI\u0001\u0000ij\u0001\u0000^h\u0006\u0000"+
-		"\u0014\u0014\u001f\u001f\'\'--00??\u0001\u0000\u0004\u0006\u0002\u0000"+
-		"..11\u0004\u0000\u0018\u0018((4488\u0002\u0000\t\t\u000b\u000f\u0002\u0000"+
-		"@A]]\u0001\u0000@A\u0002\u0000PPWW\u0002\u0000\u0010\u0010\u0012\u0012"+
-		"\u0002\u0000\u0013\u001344\u04c7\u0000\u00d1\u0001\u0000\u0000\u0000\u0002"+
-		"\u00d3\u0001\u0000\u0000\u0000\u0004\u00da\u0001\u0000\u0000\u0000\u0006"+
-		"\u00e4\u0001\u0000\u0000\u0000\b\u00f7\u0001\u0000\u0000\u0000\n\u010b"+
-		"\u0001\u0000\u0000\u0000\f\u0116\u0001\u0000\u0000\u0000\u000e\u0126\u0001"+
-		"\u0000\u0000\u0000\u0010\u0132\u0001\u0000\u0000\u0000\u0012\u0134\u0001"+
-		"\u0000\u0000\u0000\u0014\u013c\u0001\u0000\u0000\u0000\u0016\u0144\u0001"+
-		"\u0000\u0000\u0000\u0018\u014c\u0001\u0000\u0000\u0000\u001a\u0154\u0001"+
-		"\u0000\u0000\u0000\u001c\u015c\u0001\u0000\u0000\u0000\u001e\u0164\u0001"+
-		"\u0000\u0000\u0000 \u016c\u0001\u0000\u0000\u0000\"\u0174\u0001\u0000"+
-		"\u0000\u0000$\u017c\u0001\u0000\u0000\u0000&\u0184\u0001\u0000\u0000\u0000"+
-		"(\u0192\u0001\u0000\u0000\u0000*\u0194\u0001\u0000\u0000\u0000,\u0196"+
-		"\u0001\u0000\u0000\u0000.\u019e\u0001\u0000\u0000\u00000\u01a7\u0001\u0000"+
-		"\u0000\u00002\u01aa\u0001\u0000\u0000\u00004\u01af\u0001\u0000\u0000\u0000"+
-		"6\u01b8\u0001\u0000\u0000\u00008\u01ba\u0001\u0000\u0000\u0000:\u01c2"+
-		"\u0001\u0000\u0000\u0000<\u01c7\u0001\u0000\u0000\u0000>\u01e4\u0001\u0000"+
-		"\u0000\u0000@\u01f1\u0001\u0000\u0000\u0000B\u01f3\u0001\u0000\u0000\u0000"+
-		"D\u01f6\u0001\u0000\u0000\u0000F\u0202\u0001\u0000\u0000\u0000H\u0206"+
-		"\u0001\u0000\u0000\u0000J\u020b\u0001\u0000\u0000\u0000L\u0219\u0001\u0000"+
-		"\u0000\u0000N\u0228\u0001\u0000\u0000\u0000P\u022a\u0001\u0000\u0000\u0000"+
-		"R\u0232\u0001\u0000\u0000\u0000T\u0237\u0001\u0000\u0000\u0000V\u0239"+
-		"\u0001\u0000\u0000\u0000X\u023e\u0001\u0000\u0000\u0000Z\u0249\u0001\u0000"+
-		"\u0000\u0000\\\u024b\u0001\u0000\u0000\u0000^\u0254\u0001\u0000\u0000"+
-		"\u0000`\u026e\u0001\u0000\u0000\u0000b\u02a0\u0001\u0000\u0000\u0000d"+
-		"\u02ab\u0001\u0000\u0000\u0000f\u02ad\u0001\u0000\u0000\u0000h\u02b5\u0001"+
-		"\u0000\u0000\u0000j\u02c0\u0001\u0000\u0000\u0000l\u02cf\u0001\u0000\u0000"+
-		"\u0000n\u02d6\u0001\u0000\u0000\u0000p\u02db\u0001\u0000\u0000\u0000r"+
-		"\u02df\u0001\u0000\u0000\u0000t\u02e4\u0001\u0000\u0000\u0000v\u02f3\u0001"+
-		"\u0000\u0000\u0000x\u02f5\u0001\u0000\u0000\u0000z\u02fd\u0001\u0000\u0000"+
-		"\u0000|\u030c\u0001\u0000\u0000\u0000~\u033c\u0001\u0000\u0000\u0000\u0080"+
-		"\u036c\u0001\u0000\u0000\u0000\u0082\u0376\u0001\u0000\u0000\u0000\u0084"+
-		"\u0379\u0001\u0000\u0000\u0000\u0086\u0386\u0001\u0000\u0000\u0000\u0088"+
-		"\u038a\u0001\u0000\u0000\u0000\u008a\u0394\u0001\u0000\u0000\u0000\u008c"+
-		"\u0396\u0001\u0000\u0000\u0000\u008e\u03c7\u0001\u0000\u0000\u0000\u0090"+
-		"\u03d6\u0001\u0000\u0000\u0000\u0092\u03d8\u0001\u0000\u0000\u0000\u0094"+
-		"\u03df\u0001\u0000\u0000\u0000\u0096\u03e5\u0001\u0000\u0000\u0000\u0098"+
-		"\u03e8\u0001\u0000\u0000\u0000\u009a\u03fb\u0001\u0000\u0000\u0000\u009c"+
-		"\u0411\u0001\u0000\u0000\u0000\u009e\u0417\u0001\u0000\u0000\u0000\u00a0"+
-		"\u0421\u0001\u0000\u0000\u0000\u00a2\u0425\u0001\u0000\u0000\u0000\u00a4"+
-		"\u0437\u0001\u0000\u0000\u0000\u00a6\u043c\u0001\u0000\u0000\u0000\u00a8"+
-		"\u0441\u0001\u0000\u0000\u0000\u00aa\u0448\u0001\u0000\u0000\u0000\u00ac"+
-		"\u044b\u0001\u0000\u0000\u0000\u00ae\u0454\u0001\u0000\u0000\u0000\u00b0"+
-		"\u00d2\u0005n\u0000\u0000\u00b1\u00d2\u0005o\u0000\u0000\u00b2\u00b4\u0005"+
-		"q\u0000\u0000\u00b3\u00b2\u0001\u0000\u0000\u0000\u00b4\u00b5\u0001\u0000"+
-		"\u0000\u0000\u00b5\u00b3\u0001\u0000\u0000\u0000\u00b5\u00b6\u0001\u0000"+
-		"\u0000\u0000\u00b6\u00d2\u0001\u0000\u0000\u0000\u00b7\u00b8\u0005@\u0000"+
-		"\u0000\u00b8\u00b9\u0003,\u0016\u0000\u00b9\u00ba\u0005A\u0000\u0000\u00ba"+
-		"\u00d2\u0001\u0000\u0000\u0000\u00bb\u00d2\u0003\u0002\u0001\u0000\u00bc"+
-		"\u00be\u0005\u0001\u0000\u0000\u00bd\u00bc\u0001\u0000\u0000\u0000\u00bd"+
-		"\u00be\u0001\u0000\u0000\u0000\u00be\u00bf\u0001\u0000\u0000\u0000\u00bf"+
-		"\u00c0\u0005@\u0000\u0000\u00c0\u00c1\u0003\u0092I\u0000\u00c1\u00c2\u0005"+
-		"A\u0000\u0000\u00c2\u00d2\u0001\u0000\u0000\u0000\u00c3\u00c4\u0005\u0002"+
-		"\u0000\u0000\u00c4\u00c5\u0005@\u0000\u0000\u00c5\u00c6\u0003\f\u0006"+
-		"\u0000\u00c6\u00c7\u0005]\u0000\u0000\u00c7\u00c8\u0003z=\u0000\u00c8"+
-		"\u00c9\u0005A\u0000\u0000\u00c9\u00d2\u0001\u0000\u0000\u0000\u00ca\u00cb"+
-		"\u0005\u0003\u0000\u0000\u00cb\u00cc\u0005@\u0000\u0000\u00cc\u00cd\u0003"+
-		"z=\u0000\u00cd\u00ce\u0005]\u0000\u0000\u00ce\u00cf\u0003\f\u0006\u0000"+
-		"\u00cf\u00d0\u0005A\u0000\u0000\u00d0\u00d2\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00b0\u0001\u0000\u0000\u0000\u00d1\u00b1\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00b3\u0001\u0000\u0000\u0000\u00d1\u00b7\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00bb\u0001\u0000\u0000\u0000\u00d1\u00bd\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00c3\u0001\u0000\u0000\u0000\u00d1\u00ca\u0001\u0000\u0000\u0000\u00d2"+
-		"\u0001\u0001\u0000\u0000\u0000\u00d3\u00d4\u0005;\u0000\u0000\u00d4\u00d5"+
-		"\u0005@\u0000\u0000\u00d5\u00d6\u0003(\u0014\u0000\u00d6\u00d7\u0005]"+
-		"\u0000\u0000\u00d7\u00d8\u0003\u0004\u0002\u0000\u00d8\u00d9\u0005A\u0000"+
-		"\u0000\u00d9\u0003\u0001\u0000\u0000\u0000\u00da\u00df\u0003\u0006\u0003"+
-		"\u0000\u00db\u00dc\u0005]\u0000\u0000\u00dc\u00de\u0003\u0006\u0003\u0000"+
-		"\u00dd\u00db\u0001\u0000\u0000\u0000\u00de\u00e1\u0001\u0000\u0000\u0000"+
-		"\u00df\u00dd\u0001\u0000\u0000\u0000\u00df\u00e0\u0001\u0000\u0000\u0000"+
-		"\u00e0\u0005\u0001\u0000\u0000\u0000\u00e1\u00df\u0001\u0000\u0000\u0000"+
-		"\u00e2\u00e5\u0003z=\u0000\u00e3\u00e5\u0005\u001a\u0000\u0000\u00e4\u00e2"+
-		"\u0001\u0000\u0000\u0000\u00e4\u00e3\u0001\u0000\u0000\u0000\u00e5\u00e6"+
-		"\u0001\u0000\u0000\u0000\u00e6\u00e7\u0005[\u0000\u0000\u00e7\u00e8\u0003"+
-		"(\u0014\u0000\u00e8\u0007\u0001\u0000\u0000\u0000\u00e9\u00f8\u0003\u0000"+
-		"\u0000\u0000\u00ea\u00ec\u0005\u0001\u0000\u0000\u00eb\u00ea\u0001\u0000"+
-		"\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u00ed\u0001\u0000"+
-		"\u0000\u0000\u00ed\u00ee\u0005@\u0000\u0000\u00ee\u00ef\u0003z=\u0000"+
-		"\u00ef\u00f0\u0005A\u0000\u0000\u00f0\u00f1\u0005D\u0000\u0000\u00f1\u00f3"+
-		"\u0003\u0084B\u0000\u00f2\u00f4\u0005]\u0000\u0000\u00f3\u00f2\u0001\u0000"+
-		"\u0000\u0000\u00f3\u00f4\u0001\u0000\u0000\u0000\u00f4\u00f5\u0001\u0000"+
-		"\u0000\u0000\u00f5\u00f6\u0005E\u0000\u0000\u00f6\u00f8\u0001\u0000\u0000"+
-		"\u0000\u00f7\u00e9\u0001\u0000\u0000\u0000\u00f7\u00eb\u0001\u0000\u0000"+
-		"\u0000\u00f8\u0108\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005B\u0000\u0000"+
-		"\u00fa\u00fb\u0003,\u0016\u0000\u00fb\u00fc\u0005C\u0000\u0000\u00fc\u0107"+
-		"\u0001\u0000\u0000\u0000\u00fd\u00ff\u0005@\u0000\u0000\u00fe\u0100\u0003"+
-		"\n\u0005\u0000\u00ff\u00fe\u0001\u0000\u0000\u0000\u00ff\u0100\u0001\u0000"+
-		"\u0000\u0000\u0100\u0101\u0001\u0000\u0000\u0000\u0101\u0107\u0005A\u0000"+
-		"\u0000\u0102\u0103\u0007\u0000\u0000\u0000\u0103\u0107\u0005n\u0000\u0000"+
-		"\u0104\u0107\u0005M\u0000\u0000\u0105\u0107\u0005O\u0000\u0000\u0106\u00f9"+
-		"\u0001\u0000\u0000\u0000\u0106\u00fd\u0001\u0000\u0000\u0000\u0106\u0102"+
-		"\u0001\u0000\u0000\u0000\u0106\u0104\u0001\u0000\u0000\u0000\u0106\u0105"+
-		"\u0001\u0000\u0000\u0000\u0107\u010a\u0001\u0000\u0000\u0000\u0108\u0106"+
-		"\u0001\u0000\u0000\u0000\u0108\u0109\u0001\u0000\u0000\u0000\u0109\t\u0001"+
-		"\u0000\u0000\u0000\u010a\u0108\u0001\u0000\u0000\u0000\u010b\u0110\u0003"+
-		"(\u0014\u0000\u010c\u010d\u0005]\u0000\u0000\u010d\u010f\u0003(\u0014"+
-		"\u0000\u010e\u010c\u0001\u0000\u0000\u0000\u010f\u0112\u0001\u0000\u0000"+
-		"\u0000\u0110\u010e\u0001\u0000\u0000\u0000\u0110\u0111\u0001\u0000\u0000"+
-		"\u0000\u0111\u000b\u0001\u0000\u0000\u0000\u0112\u0110\u0001\u0000\u0000"+
-		"\u0000\u0113\u0115\u0007\u0001\u0000\u0000\u0114\u0113\u0001\u0000\u0000"+
-		"\u0000\u0115\u0118\u0001\u0000\u0000\u0000\u0116\u0114\u0001\u0000\u0000"+
-		"\u0000\u0116\u0117\u0001\u0000\u0000\u0000\u0117\u0124\u0001\u0000\u0000"+
-		"\u0000\u0118\u0116\u0001\u0000\u0000\u0000\u0119\u0125\u0003\b\u0004\u0000"+
-		"\u011a\u011b\u0003\u000e\u0007\u0000\u011b\u011c\u0003\u0010\b\u0000\u011c"+
-		"\u0125\u0001\u0000\u0000\u0000\u011d\u011e\u0007\u0002\u0000\u0000\u011e"+
-		"\u011f\u0005@\u0000\u0000\u011f\u0120\u0003z=\u0000\u0120\u0121\u0005"+
-		"A\u0000\u0000\u0121\u0125\u0001\u0000\u0000\u0000\u0122\u0123\u0005U\u0000"+
-		"\u0000\u0123\u0125\u0005n\u0000\u0000\u0124\u0119\u0001\u0000\u0000\u0000"+
-		"\u0124\u011a\u0001\u0000\u0000\u0000\u0124\u011d\u0001\u0000\u0000\u0000"+
-		"\u0124\u0122\u0001\u0000\u0000\u0000\u0125\r\u0001\u0000\u0000\u0000\u0126"+
-		"\u0127\u0007\u0003\u0000\u0000\u0127\u000f\u0001\u0000\u0000\u0000\u0128"+
-		"\u012a\u0005\u0001\u0000\u0000\u0129\u0128\u0001\u0000\u0000\u0000\u0129"+
-		"\u012a\u0001\u0000\u0000\u0000\u012a\u012b\u0001\u0000\u0000\u0000\u012b"+
-		"\u012c\u0005@\u0000\u0000\u012c\u012d\u0003z=\u0000\u012d\u012e\u0005"+
-		"A\u0000\u0000\u012e\u012f\u0003\u0010\b\u0000\u012f\u0133\u0001\u0000"+
-		"\u0000\u0000\u0130\u0133\u0003\f\u0006\u0000\u0131\u0133\u0005p\u0000"+
-		"\u0000\u0132\u0129\u0001\u0000\u0000\u0000\u0132\u0130\u0001\u0000\u0000"+
-		"\u0000\u0132\u0131\u0001\u0000\u0000\u0000\u0133\u0011\u0001\u0000\u0000"+
-		"\u0000\u0134\u0139\u0003\u0010\b\u0000\u0135\u0136\u0007\u0004\u0000\u0000"+
-		"\u0136\u0138\u0003\u0010\b\u0000\u0137\u0135\u0001\u0000\u0000\u0000\u0138"+
-		"\u013b\u0001\u0000\u0000\u0000\u0139\u0137\u0001\u0000\u0000\u0000\u0139"+
-		"\u013a\u0001\u0000\u0000\u0000\u013a\u0013\u0001\u0000\u0000\u0000\u013b"+
-		"\u0139\u0001\u0000\u0000\u0000\u013c\u0141\u0003\u0012\t\u0000\u013d\u013e"+
-		"\u0007\u0005\u0000\u0000\u013e\u0140\u0003\u0012\t\u0000\u013f\u013d\u0001"+
-		"\u0000\u0000\u0000\u0140\u0143\u0001\u0000\u0000\u0000\u0141\u013f\u0001"+
-		"\u0000\u0000\u0000\u0141\u0142\u0001\u0000\u0000\u0000\u0142\u0015\u0001"+
-		"\u0000\u0000\u0000\u0143\u0141\u0001\u0000\u0000\u0000\u0144\u0149\u0003"+
-		"\u0014\n\u0000\u0145\u0146\u0007\u0006\u0000\u0000\u0146\u0148\u0003\u0014"+
-		"\n\u0000\u0147\u0145\u0001\u0000\u0000\u0000\u0148\u014b\u0001\u0000\u0000"+
-		"\u0000\u0149\u0147\u0001\u0000\u0000\u0000\u0149\u014a\u0001\u0000\u0000"+
-		"\u0000\u014a\u0017\u0001\u0000\u0000\u0000\u014b\u0149\u0001\u0000\u0000"+
-		"\u0000\u014c\u0151\u0003\u0016\u000b\u0000\u014d\u014e\u0007\u0007\u0000"+
-		"\u0000\u014e\u0150\u0003\u0016\u000b\u0000\u014f\u014d\u0001\u0000\u0000"+
-		"\u0000\u0150\u0153\u0001\u0000\u0000\u0000\u0151\u014f\u0001\u0000\u0000"+
-		"\u0000\u0151\u0152\u0001\u0000\u0000\u0000\u0152\u0019\u0001\u0000\u0000"+
-		"\u0000\u0153\u0151\u0001\u0000\u0000\u0000\u0154\u0159\u0003\u0018\f\u0000"+
-		"\u0155\u0156\u0007\b\u0000\u0000\u0156\u0158\u0003\u0018\f\u0000\u0157"+
-		"\u0155\u0001\u0000\u0000\u0000\u0158\u015b\u0001\u0000\u0000\u0000\u0159"+
-		"\u0157\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000\u0000\u0000\u015a"+
-		"\u001b\u0001\u0000\u0000\u0000\u015b\u0159\u0001\u0000\u0000\u0000\u015c"+
-		"\u0161\u0003\u001a\r\u0000\u015d\u015e\u0005S\u0000\u0000\u015e\u0160"+
-		"\u0003\u001a\r\u0000\u015f\u015d\u0001\u0000\u0000\u0000\u0160\u0163\u0001"+
-		"\u0000\u0000\u0000\u0161\u015f\u0001\u0000\u0000\u0000\u0161\u0162\u0001"+
-		"\u0000\u0000\u0000\u0162\u001d\u0001\u0000\u0000\u0000\u0163\u0161\u0001"+
-		"\u0000\u0000\u0000\u0164\u0169\u0003\u001c\u000e\u0000\u0165\u0166\u0005"+
-		"W\u0000\u0000\u0166\u0168\u0003\u001c\u000e\u0000\u0167\u0165\u0001\u0000"+
-		"\u0000\u0000\u0168\u016b\u0001\u0000\u0000\u0000\u0169\u0167\u0001\u0000"+
-		"\u0000\u0000\u0169\u016a\u0001\u0000\u0000\u0000\u016a\u001f\u0001\u0000"+
-		"\u0000\u0000\u016b\u0169\u0001\u0000\u0000\u0000\u016c\u0171\u0003\u001e"+
-		"\u000f\u0000\u016d\u016e\u0005T\u0000\u0000\u016e\u0170\u0003\u001e\u000f"+
-		"\u0000\u016f\u016d\u0001\u0000\u0000\u0000\u0170\u0173\u0001\u0000\u0000"+
-		"\u0000\u0171\u016f\u0001\u0000\u0000\u0000\u0171\u0172\u0001\u0000\u0000"+
-		"\u0000\u0172!\u0001\u0000\u0000\u0000\u0173\u0171\u0001\u0000\u0000\u0000"+
-		"\u0174\u0179\u0003 \u0010\u0000\u0175\u0176\u0005U\u0000\u0000\u0176\u0178"+
-		"\u0003 \u0010\u0000\u0177\u0175\u0001\u0000\u0000\u0000\u0178\u017b\u0001"+
-		"\u0000\u0000\u0000\u0179\u0177\u0001\u0000\u0000\u0000\u0179\u017a\u0001"+
-		"\u0000\u0000\u0000\u017a#\u0001\u0000\u0000\u0000\u017b\u0179\u0001\u0000"+
-		"\u0000\u0000\u017c\u0181\u0003\"\u0011\u0000\u017d\u017e\u0005V\u0000"+
-		"\u0000\u017e\u0180\u0003\"\u0011\u0000\u017f\u017d\u0001\u0000\u0000\u0000"+
-		"\u0180\u0183\u0001\u0000\u0000\u0000\u0181\u017f\u0001\u0000\u0000\u0000"+
-		"\u0181\u0182\u0001\u0000\u0000\u0000\u0182%\u0001\u0000\u0000\u0000\u0183"+
-		"\u0181\u0001\u0000\u0000\u0000\u0184\u018a\u0003$\u0012\u0000\u0185\u0186"+
-		"\u0005Z\u0000\u0000\u0186\u0187\u0003,\u0016\u0000\u0187\u0188\u0005["+
-		"\u0000\u0000\u0188\u0189\u0003&\u0013\u0000\u0189\u018b\u0001\u0000\u0000"+
-		"\u0000\u018a\u0185\u0001\u0000\u0000\u0000\u018a\u018b\u0001\u0000\u0000"+
-		"\u0000\u018b\'\u0001\u0000\u0000\u0000\u018c\u0193\u0003&\u0013\u0000"+
-		"\u018d\u018e\u0003\f\u0006\u0000\u018e\u018f\u0003*\u0015\u0000\u018f"+
-		"\u0190\u0003(\u0014\u0000\u0190\u0193\u0001\u0000\u0000\u0000\u0191\u0193"+
-		"\u0005p\u0000\u0000\u0192\u018c\u0001\u0000\u0000\u0000\u0192\u018d\u0001"+
-		"\u0000\u0000\u0000\u0192\u0191\u0001\u0000\u0000\u0000\u0193)\u0001\u0000"+
-		"\u0000\u0000\u0194\u0195\u0007\t\u0000\u0000\u0195+\u0001\u0000\u0000"+
-		"\u0000\u0196\u019b\u0003(\u0014\u0000\u0197\u0198\u0005]\u0000\u0000\u0198"+
-		"\u019a\u0003(\u0014\u0000\u0199\u0197\u0001\u0000\u0000\u0000\u019a\u019d"+
-		"\u0001\u0000\u0000\u0000\u019b\u0199\u0001\u0000\u0000\u0000\u019b\u019c"+
-		"\u0001\u0000\u0000\u0000\u019c-\u0001\u0000\u0000\u0000\u019d\u019b\u0001"+
-		"\u0000\u0000\u0000\u019e\u019f\u0003&\u0013\u0000\u019f/\u0001\u0000\u0000"+
-		"\u0000\u01a0\u01a2\u00032\u0019\u0000\u01a1\u01a3\u00038\u001c\u0000\u01a2"+
-		"\u01a1\u0001\u0000\u0000\u0000\u01a2\u01a3\u0001\u0000\u0000\u0000\u01a3"+
-		"\u01a4\u0001\u0000\u0000\u0000\u01a4\u01a5\u0005\\\u0000\u0000\u01a5\u01a8"+
-		"\u0001\u0000\u0000\u0000\u01a6\u01a8\u0003\u008cF\u0000\u01a7\u01a0\u0001"+
-		"\u0000\u0000\u0000\u01a7\u01a6\u0001\u0000\u0000\u0000\u01a81\u0001\u0000"+
-		"\u0000\u0000\u01a9\u01ab\u00036\u001b\u0000\u01aa\u01a9\u0001\u0000\u0000"+
-		"\u0000\u01ab\u01ac\u0001\u0000\u0000\u0000\u01ac\u01aa\u0001\u0000\u0000"+
-		"\u0000\u01ac\u01ad\u0001\u0000\u0000\u0000\u01ad3\u0001\u0000\u0000\u0000"+
-		"\u01ae\u01b0\u00036\u001b\u0000\u01af\u01ae\u0001\u0000\u0000\u0000\u01b0"+
-		"\u01b1\u0001\u0000\u0000\u0000\u01b1\u01af\u0001\u0000\u0000\u0000\u01b1"+
-		"\u01b2\u0001\u0000\u0000\u0000\u01b25\u0001\u0000\u0000\u0000\u01b3\u01b9"+
-		"\u0003<\u001e\u0000\u01b4\u01b9\u0003>\u001f\u0000\u01b5\u01b9\u0003X"+
-		",\u0000\u01b6\u01b9\u0003Z-\u0000\u01b7\u01b9\u0003\\.\u0000\u01b8\u01b3"+
-		"\u0001\u0000\u0000\u0000\u01b8\u01b4\u0001\u0000\u0000\u0000\u01b8\u01b5"+
-		"\u0001\u0000\u0000\u0000\u01b8\u01b6\u0001\u0000\u0000\u0000\u01b8\u01b7"+
-		"\u0001\u0000\u0000\u0000\u01b97\u0001\u0000\u0000\u0000\u01ba\u01bf\u0003"+
-		":\u001d\u0000\u01bb\u01bc\u0005]\u0000\u0000\u01bc\u01be\u0003:\u001d"+
-		"\u0000\u01bd\u01bb\u0001\u0000\u0000\u0000\u01be\u01c1\u0001\u0000\u0000"+
-		"\u0000\u01bf\u01bd\u0001\u0000\u0000\u0000\u01bf\u01c0\u0001\u0000\u0000"+
-		"\u0000\u01c09\u0001\u0000\u0000\u0000\u01c1\u01bf\u0001\u0000\u0000\u0000"+
-		"\u01c2\u01c5\u0003^/\u0000\u01c3\u01c4\u0005^\u0000\u0000\u01c4\u01c6"+
-		"\u0003\u0082A\u0000\u01c5\u01c3\u0001\u0000\u0000\u0000\u01c5\u01c6\u0001"+
-		"\u0000\u0000\u0000\u01c6;\u0001\u0000\u0000\u0000\u01c7\u01c8\u0007\n"+
-		"\u0000\u0000\u01c8=\u0001\u0000\u0000\u0000\u01c9\u01e5\u00053\u0000\u0000"+
-		"\u01ca\u01e5\u0005\u0017\u0000\u0000\u01cb\u01e5\u0005*\u0000\u0000\u01cc"+
-		"\u01e5\u0005%\u0000\u0000\u01cd\u01e5\u0005&\u0000\u0000\u01ce\u01e5\u0005"+
-		" \u0000\u0000\u01cf\u01e5\u0005\u001c\u0000\u0000\u01d0\u01e5\u0005+\u0000"+
-		"\u0000\u01d1\u01e5\u00052\u0000\u0000\u01d2\u01e5\u00059\u0000\u0000\u01d3"+
-		"\u01e5\u0005:\u0000\u0000\u01d4\u01e5\u0005\u0004\u0000\u0000\u01d5\u01e5"+
-		"\u0005\u0005\u0000\u0000\u01d6\u01e5\u0005\u0006\u0000\u0000\u01d7\u01d8"+
-		"\u0005\u0001\u0000\u0000\u01d8\u01d9\u0005@\u0000\u0000\u01d9\u01da\u0007"+
-		"\u000b\u0000\u0000\u01da\u01e5\u0005A\u0000\u0000\u01db\u01e5\u0003V+"+
-		"\u0000\u01dc\u01e5\u0003@ \u0000\u01dd\u01e5\u0003N\'\u0000\u01de\u01e5"+
-		"\u0003\u0080@\u0000\u01df\u01e0\u0005\u0007\u0000\u0000\u01e0\u01e1\u0005"+
-		"@\u0000\u0000\u01e1\u01e2\u0003.\u0017\u0000\u01e2\u01e3\u0005A\u0000"+
-		"\u0000\u01e3\u01e5\u0001\u0000\u0000\u0000\u01e4\u01c9\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01ca\u0001\u0000\u0000\u0000\u01e4\u01cb\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01cc\u0001\u0000\u0000\u0000\u01e4\u01cd\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01ce\u0001\u0000\u0000\u0000\u01e4\u01cf\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01d0\u0001\u0000\u0000\u0000\u01e4\u01d1\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01d2\u0001\u0000\u0000\u0000\u01e4\u01d3\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01d4\u0001\u0000\u0000\u0000\u01e4\u01d5\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01d6\u0001\u0000\u0000\u0000\u01e4\u01d7\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01db\u0001\u0000\u0000\u0000\u01e4\u01dc\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01dd\u0001\u0000\u0000\u0000\u01e4\u01de\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01df\u0001\u0000\u0000\u0000\u01e5?\u0001\u0000\u0000\u0000"+
-		"\u01e6\u01e8\u0003B!\u0000\u01e7\u01e9\u0005n\u0000\u0000\u01e8\u01e7"+
-		"\u0001\u0000\u0000\u0000\u01e8\u01e9\u0001\u0000\u0000\u0000\u01e9\u01ea"+
-		"\u0001\u0000\u0000\u0000\u01ea\u01eb\u0005D\u0000\u0000\u01eb\u01ec\u0003"+
-		"D\"\u0000\u01ec\u01ed\u0005E\u0000\u0000\u01ed\u01f2\u0001\u0000\u0000"+
-		"\u0000\u01ee\u01ef\u0003B!\u0000\u01ef\u01f0\u0005n\u0000\u0000\u01f0"+
-		"\u01f2\u0001\u0000\u0000\u0000\u01f1\u01e6\u0001\u0000\u0000\u0000\u01f1"+
-		"\u01ee\u0001\u0000\u0000\u0000\u01f2A\u0001\u0000\u0000\u0000\u01f3\u01f4"+
-		"\u0007\f\u0000\u0000\u01f4C\u0001\u0000\u0000\u0000\u01f5\u01f7\u0003"+
-		"F#\u0000\u01f6\u01f5\u0001\u0000\u0000\u0000\u01f7\u01f8\u0001\u0000\u0000"+
-		"\u0000\u01f8\u01f6\u0001\u0000\u0000\u0000\u01f8\u01f9\u0001\u0000\u0000"+
-		"\u0000\u01f9E\u0001\u0000\u0000\u0000\u01fa\u01fb\u0003H$\u0000\u01fb"+
-		"\u01fc\u0003J%\u0000\u01fc\u01fd\u0005\\\u0000\u0000\u01fd\u0203\u0001"+
-		"\u0000\u0000\u0000\u01fe\u01ff\u0003H$\u0000\u01ff\u0200\u0005\\\u0000"+
-		"\u0000\u0200\u0203\u0001\u0000\u0000\u0000\u0201\u0203\u0003\u008cF\u0000"+
-		"\u0202\u01fa\u0001\u0000\u0000\u0000\u0202\u01fe\u0001\u0000\u0000\u0000"+
-		"\u0202\u0201\u0001\u0000\u0000\u0000\u0203G\u0001\u0000\u0000\u0000\u0204"+
-		"\u0207\u0003>\u001f\u0000\u0205\u0207\u0003X,\u0000\u0206\u0204\u0001"+
-		"\u0000\u0000\u0000\u0206\u0205\u0001\u0000\u0000\u0000\u0207\u0209\u0001"+
-		"\u0000\u0000\u0000\u0208\u020a\u0003H$\u0000\u0209\u0208\u0001\u0000\u0000"+
-		"\u0000\u0209\u020a\u0001\u0000\u0000\u0000\u020aI\u0001\u0000\u0000\u0000"+
-		"\u020b\u0210\u0003L&\u0000\u020c\u020d\u0005]\u0000\u0000\u020d\u020f"+
-		"\u0003L&\u0000\u020e\u020c\u0001\u0000\u0000\u0000\u020f\u0212\u0001\u0000"+
-		"\u0000\u0000\u0210\u020e\u0001\u0000\u0000\u0000\u0210\u0211\u0001\u0000"+
-		"\u0000\u0000\u0211K\u0001\u0000\u0000\u0000\u0212\u0210\u0001\u0000\u0000"+
-		"\u0000\u0213\u021a\u0003^/\u0000\u0214\u0216\u0003^/\u0000\u0215\u0214"+
-		"\u0001\u0000\u0000\u0000\u0215\u0216\u0001\u0000\u0000\u0000\u0216\u0217"+
-		"\u0001\u0000\u0000\u0000\u0217\u0218\u0005[\u0000\u0000\u0218\u021a\u0003"+
-		".\u0017\u0000\u0219\u0213\u0001\u0000\u0000\u0000\u0219\u0215\u0001\u0000"+
-		"\u0000\u0000\u021aM\u0001\u0000\u0000\u0000\u021b\u021d\u0005\u001e\u0000"+
-		"\u0000\u021c\u021e\u0005n\u0000\u0000\u021d\u021c\u0001\u0000\u0000\u0000"+
-		"\u021d\u021e\u0001\u0000\u0000\u0000\u021e\u021f\u0001\u0000\u0000\u0000"+
-		"\u021f\u0220\u0005D\u0000\u0000\u0220\u0222\u0003P(\u0000\u0221\u0223"+
-		"\u0005]\u0000\u0000\u0222\u0221\u0001\u0000\u0000\u0000\u0222\u0223\u0001"+
-		"\u0000\u0000\u0000\u0223\u0224\u0001\u0000\u0000\u0000\u0224\u0225\u0005"+
-		"E\u0000\u0000\u0225\u0229\u0001\u0000\u0000\u0000\u0226\u0227\u0005\u001e"+
-		"\u0000\u0000\u0227\u0229\u0005n\u0000\u0000\u0228\u021b\u0001\u0000\u0000"+
-		"\u0000\u0228\u0226\u0001\u0000\u0000\u0000\u0229O\u0001\u0000\u0000\u0000"+
-		"\u022a\u022f\u0003R)\u0000\u022b\u022c\u0005]\u0000\u0000\u022c\u022e"+
-		"\u0003R)\u0000\u022d\u022b\u0001\u0000\u0000\u0000\u022e\u0231\u0001\u0000"+
-		"\u0000\u0000\u022f\u022d\u0001\u0000\u0000\u0000\u022f\u0230\u0001\u0000"+
-		"\u0000\u0000\u0230Q\u0001\u0000\u0000\u0000\u0231\u022f\u0001\u0000\u0000"+
-		"\u0000\u0232\u0235\u0003T*\u0000\u0233\u0234\u0005^\u0000\u0000\u0234"+
-		"\u0236\u0003.\u0017\u0000\u0235\u0233\u0001\u0000\u0000\u0000\u0235\u0236"+
-		"\u0001\u0000\u0000\u0000\u0236S\u0001\u0000\u0000\u0000\u0237\u0238\u0005"+
-		"n\u0000\u0000\u0238U\u0001\u0000\u0000\u0000\u0239\u023a\u00058\u0000"+
-		"\u0000\u023a\u023b\u0005@\u0000\u0000\u023b\u023c\u0003z=\u0000\u023c"+
-		"\u023d\u0005A\u0000\u0000\u023dW\u0001\u0000\u0000\u0000\u023e\u023f\u0007"+
-		"\r\u0000\u0000\u023fY\u0001\u0000\u0000\u0000\u0240\u024a\u0005$\u0000"+
-		"\u0000\u0241\u024a\u0005=\u0000\u0000\u0242\u024a\u0005\b\u0000\u0000"+
-		"\u0243\u024a\u0005\t\u0000\u0000\u0244\u024a\u0003f3\u0000\u0245\u0246"+
-		"\u0005\n\u0000\u0000\u0246\u0247\u0005@\u0000\u0000\u0247\u0248\u0005"+
-		"n\u0000\u0000\u0248\u024a\u0005A\u0000\u0000\u0249\u0240\u0001\u0000\u0000"+
-		"\u0000\u0249\u0241\u0001\u0000\u0000\u0000\u0249\u0242\u0001\u0000\u0000"+
-		"\u0000\u0249\u0243\u0001\u0000\u0000\u0000\u0249\u0244\u0001\u0000\u0000"+
-		"\u0000\u0249\u0245\u0001\u0000\u0000\u0000\u024a[\u0001\u0000\u0000\u0000"+
-		"\u024b\u024c\u00056\u0000\u0000\u024c\u024f\u0005@\u0000\u0000\u024d\u0250"+
-		"\u0003z=\u0000\u024e\u0250\u0003.\u0017\u0000\u024f\u024d\u0001\u0000"+
-		"\u0000\u0000\u024f\u024e\u0001\u0000\u0000\u0000\u0250\u0251\u0001\u0000"+
-		"\u0000\u0000\u0251\u0252\u0005A\u0000\u0000\u0252]\u0001\u0000\u0000\u0000"+
-		"\u0253\u0255\u0003n7\u0000\u0254\u0253\u0001\u0000\u0000\u0000\u0254\u0255"+
-		"\u0001\u0000\u0000\u0000\u0255\u0256\u0001\u0000\u0000\u0000\u0256\u025a"+
-		"\u0003`0\u0000\u0257\u0259\u0003d2\u0000\u0258\u0257\u0001\u0000\u0000"+
-		"\u0000\u0259\u025c\u0001\u0000\u0000\u0000\u025a\u0258\u0001\u0000\u0000"+
-		"\u0000\u025a\u025b\u0001\u0000\u0000\u0000\u025b_\u0001\u0000\u0000\u0000"+
-		"\u025c\u025a\u0001\u0000\u0000\u0000\u025d\u025e\u00060\uffff\uffff\u0000"+
-		"\u025e\u026f\u0005n\u0000\u0000\u025f\u0260\u0005@\u0000\u0000\u0260\u0261"+
-		"\u0003^/\u0000\u0261\u0262\u0005A\u0000\u0000\u0262\u026f\u0001\u0000"+
-		"\u0000\u0000\u0263\u0264\u0005n\u0000\u0000\u0264\u0265\u0005[\u0000\u0000"+
-		"\u0265\u026f\u0005p\u0000\u0000\u0266\u0267\u0003b1\u0000\u0267\u0268"+
-		"\u0005n\u0000\u0000\u0268\u026f\u0001\u0000\u0000\u0000\u0269\u026a\u0005"+
-		"@\u0000\u0000\u026a\u026b\u0003b1\u0000\u026b\u026c\u0003^/\u0000\u026c"+
-		"\u026d\u0005A\u0000\u0000\u026d\u026f\u0001\u0000\u0000\u0000\u026e\u025d"+
-		"\u0001\u0000\u0000\u0000\u026e\u025f\u0001\u0000\u0000\u0000\u026e\u0263"+
-		"\u0001\u0000\u0000\u0000\u026e\u0266\u0001\u0000\u0000\u0000\u026e\u0269"+
-		"\u0001\u0000\u0000\u0000\u026f\u029d\u0001\u0000\u0000\u0000\u0270\u0271"+
-		"\n\t\u0000\u0000\u0271\u0273\u0005B\u0000\u0000\u0272\u0274\u0003p8\u0000"+
-		"\u0273\u0272\u0001\u0000\u0000\u0000\u0273\u0274\u0001\u0000\u0000\u0000"+
-		"\u0274\u0276\u0001\u0000\u0000\u0000\u0275\u0277\u0003(\u0014\u0000\u0276"+
-		"\u0275\u0001\u0000\u0000\u0000\u0276\u0277\u0001\u0000\u0000\u0000\u0277"+
-		"\u0278\u0001\u0000\u0000\u0000\u0278\u029c\u0005C\u0000\u0000\u0279\u027a"+
-		"\n\b\u0000\u0000\u027a\u027b\u0005B\u0000\u0000\u027b\u027d\u0005-\u0000"+
-		"\u0000\u027c\u027e\u0003p8\u0000\u027d\u027c\u0001\u0000\u0000\u0000\u027d"+
-		"\u027e\u0001\u0000\u0000\u0000\u027e\u027f\u0001\u0000\u0000\u0000\u027f"+
-		"\u0280\u0003(\u0014\u0000\u0280\u0281\u0005C\u0000\u0000\u0281\u029c\u0001"+
-		"\u0000\u0000\u0000\u0282\u0283\n\u0007\u0000\u0000\u0283\u0284\u0005B"+
-		"\u0000\u0000\u0284\u0285\u0003p8\u0000\u0285\u0286\u0005-\u0000\u0000"+
-		"\u0286\u0287\u0003(\u0014\u0000\u0287\u0288\u0005C\u0000\u0000\u0288\u029c"+
-		"\u0001\u0000\u0000\u0000\u0289\u028a\n\u0006\u0000\u0000\u028a\u028c\u0005"+
-		"B\u0000\u0000\u028b\u028d\u0003p8\u0000\u028c\u028b\u0001\u0000\u0000"+
-		"\u0000\u028c\u028d\u0001\u0000\u0000\u0000\u028d\u028e\u0001\u0000\u0000"+
-		"\u0000\u028e\u028f\u0005P\u0000\u0000\u028f\u029c\u0005C\u0000\u0000\u0290"+
-		"\u0291\n\u0005\u0000\u0000\u0291\u0292\u0005@\u0000\u0000\u0292\u0293"+
-		"\u0003r9\u0000\u0293\u0294\u0005A\u0000\u0000\u0294\u029c\u0001\u0000"+
-		"\u0000\u0000\u0295\u0296\n\u0004\u0000\u0000\u0296\u0298\u0005@\u0000"+
-		"\u0000\u0297\u0299\u0003x<\u0000\u0298\u0297\u0001\u0000\u0000\u0000\u0298"+
-		"\u0299\u0001\u0000\u0000\u0000\u0299\u029a\u0001\u0000\u0000\u0000\u029a"+
-		"\u029c\u0005A\u0000\u0000\u029b\u0270\u0001\u0000\u0000\u0000\u029b\u0279"+
-		"\u0001\u0000\u0000\u0000\u029b\u0282\u0001\u0000\u0000\u0000\u029b\u0289"+
-		"\u0001\u0000\u0000\u0000\u029b\u0290\u0001\u0000\u0000\u0000\u029b\u0295"+
-		"\u0001\u0000\u0000\u0000\u029c\u029f\u0001\u0000\u0000\u0000\u029d\u029b"+
-		"\u0001\u0000\u0000\u0000\u029d\u029e\u0001\u0000\u0000\u0000\u029ea\u0001"+
-		"\u0000\u0000\u0000\u029f\u029d\u0001\u0000\u0000\u0000\u02a0\u02a1\u0007"+
-		"\u000e\u0000\u0000\u02a1c\u0001\u0000\u0000\u0000\u02a2\u02a3\u0005\u0010"+
-		"\u0000\u0000\u02a3\u02a5\u0005@\u0000\u0000\u02a4\u02a6\u0005q\u0000\u0000"+
-		"\u02a5\u02a4\u0001\u0000\u0000\u0000\u02a6\u02a7\u0001\u0000\u0000\u0000"+
-		"\u02a7\u02a5\u0001\u0000\u0000\u0000\u02a7\u02a8\u0001\u0000\u0000\u0000"+
-		"\u02a8\u02a9\u0001\u0000\u0000\u0000\u02a9\u02ac\u0005A\u0000\u0000\u02aa"+
-		"\u02ac\u0003f3\u0000\u02ab\u02a2\u0001\u0000\u0000\u0000\u02ab\u02aa\u0001"+
-		"\u0000\u0000\u0000\u02ace\u0001\u0000\u0000\u0000\u02ad\u02ae\u0005\u0011"+
-		"\u0000\u0000\u02ae\u02af\u0005@\u0000\u0000\u02af\u02b0\u0005@\u0000\u0000"+
-		"\u02b0\u02b1\u0003h4\u0000\u02b1\u02b2\u0005A\u0000\u0000\u02b2\u02b3"+
-		"\u0005A\u0000\u0000\u02b3g\u0001\u0000\u0000\u0000\u02b4\u02b6\u0003j"+
-		"5\u0000\u02b5\u02b4\u0001\u0000\u0000\u0000\u02b5\u02b6\u0001\u0000\u0000"+
-		"\u0000\u02b6\u02bd\u0001\u0000\u0000\u0000\u02b7\u02b9\u0005]\u0000\u0000"+
-		"\u02b8\u02ba\u0003j5\u0000\u02b9\u02b8\u0001\u0000\u0000\u0000\u02b9\u02ba"+
-		"\u0001\u0000\u0000\u0000\u02ba\u02bc\u0001\u0000\u0000\u0000\u02bb\u02b7"+
-		"\u0001\u0000\u0000\u0000\u02bc\u02bf\u0001\u0000\u0000\u0000\u02bd\u02bb"+
-		"\u0001\u0000\u0000\u0000\u02bd\u02be\u0001\u0000\u0000\u0000\u02bei\u0001"+
-		"\u0000\u0000\u0000\u02bf\u02bd\u0001\u0000\u0000\u0000\u02c0\u02c6\b\u000f"+
-		"\u0000\u0000\u02c1\u02c3\u0005@\u0000\u0000\u02c2\u02c4\u0003\n\u0005"+
-		"\u0000\u02c3\u02c2\u0001\u0000\u0000\u0000\u02c3\u02c4\u0001\u0000\u0000"+
-		"\u0000\u02c4\u02c5\u0001\u0000\u0000\u0000\u02c5\u02c7\u0005A\u0000\u0000"+
-		"\u02c6\u02c1\u0001\u0000\u0000\u0000\u02c6\u02c7\u0001\u0000\u0000\u0000"+
-		"\u02c7k\u0001\u0000\u0000\u0000\u02c8\u02ce\b\u0010\u0000\u0000\u02c9"+
-		"\u02ca\u0005@\u0000\u0000\u02ca\u02cb\u0003l6\u0000\u02cb\u02cc\u0005"+
-		"A\u0000\u0000\u02cc\u02ce\u0001\u0000\u0000\u0000\u02cd\u02c8\u0001\u0000"+
-		"\u0000\u0000\u02cd\u02c9\u0001\u0000\u0000\u0000\u02ce\u02d1\u0001\u0000"+
-		"\u0000\u0000\u02cf\u02cd\u0001\u0000\u0000\u0000\u02cf\u02d0\u0001\u0000"+
-		"\u0000\u0000\u02d0m\u0001\u0000\u0000\u0000\u02d1\u02cf\u0001\u0000\u0000"+
-		"\u0000\u02d2\u02d4\u0007\u0011\u0000\u0000\u02d3\u02d5\u0003p8\u0000\u02d4"+
-		"\u02d3\u0001\u0000\u0000\u0000\u02d4\u02d5\u0001\u0000\u0000\u0000\u02d5"+
-		"\u02d7\u0001\u0000\u0000\u0000\u02d6\u02d2\u0001\u0000\u0000\u0000\u02d7"+
-		"\u02d8\u0001\u0000\u0000\u0000\u02d8\u02d6\u0001\u0000\u0000\u0000\u02d8"+
-		"\u02d9\u0001\u0000\u0000\u0000\u02d9o\u0001\u0000\u0000\u0000\u02da\u02dc"+
-		"\u0003X,\u0000\u02db\u02da\u0001\u0000\u0000\u0000\u02dc\u02dd\u0001\u0000"+
-		"\u0000\u0000\u02dd\u02db\u0001\u0000\u0000\u0000\u02dd\u02de\u0001\u0000"+
-		"\u0000\u0000\u02deq\u0001\u0000\u0000\u0000\u02df\u02e2\u0003t:\u0000"+
-		"\u02e0\u02e1\u0005]\u0000\u0000\u02e1\u02e3\u0005m\u0000\u0000\u02e2\u02e0"+
-		"\u0001\u0000\u0000\u0000\u02e2\u02e3\u0001\u0000\u0000\u0000\u02e3s\u0001"+
-		"\u0000\u0000\u0000\u02e4\u02e9\u0003v;\u0000\u02e5\u02e6\u0005]\u0000"+
-		"\u0000\u02e6\u02e8\u0003v;\u0000\u02e7\u02e5\u0001\u0000\u0000\u0000\u02e8"+
-		"\u02eb\u0001\u0000\u0000\u0000\u02e9\u02e7\u0001\u0000\u0000\u0000\u02e9"+
-		"\u02ea\u0001\u0000\u0000\u0000\u02eau\u0001\u0000\u0000\u0000\u02eb\u02e9"+
-		"\u0001\u0000\u0000\u0000\u02ec\u02ed\u00032\u0019\u0000\u02ed\u02ee\u0003"+
-		"^/\u0000\u02ee\u02f4\u0001\u0000\u0000\u0000\u02ef\u02f1\u00034\u001a"+
-		"\u0000\u02f0\u02f2\u0003|>\u0000\u02f1\u02f0\u0001\u0000\u0000\u0000\u02f1"+
-		"\u02f2\u0001\u0000\u0000\u0000\u02f2\u02f4\u0001\u0000\u0000\u0000\u02f3"+
-		"\u02ec\u0001\u0000\u0000\u0000\u02f3\u02ef\u0001\u0000\u0000\u0000\u02f4"+
-		"w\u0001\u0000\u0000\u0000\u02f5\u02fa\u0005n\u0000\u0000\u02f6\u02f7\u0005"+
-		"]\u0000\u0000\u02f7\u02f9\u0005n\u0000\u0000\u02f8\u02f6\u0001\u0000\u0000"+
-		"\u0000\u02f9\u02fc\u0001\u0000\u0000\u0000\u02fa\u02f8\u0001\u0000\u0000"+
-		"\u0000\u02fa\u02fb\u0001\u0000\u0000\u0000\u02fby\u0001\u0000\u0000\u0000"+
-		"\u02fc\u02fa\u0001\u0000\u0000\u0000\u02fd\u02ff\u0003H$\u0000\u02fe\u0300"+
-		"\u0003|>\u0000\u02ff\u02fe\u0001\u0000\u0000\u0000\u02ff\u0300\u0001\u0000"+
-		"\u0000\u0000\u0300{\u0001\u0000\u0000\u0000\u0301\u030d\u0003n7\u0000"+
-		"\u0302\u0304\u0003n7\u0000\u0303\u0302\u0001\u0000\u0000\u0000\u0303\u0304"+
-		"\u0001\u0000\u0000\u0000\u0304\u0305\u0001\u0000\u0000\u0000\u0305\u0309"+
-		"\u0003~?\u0000\u0306\u0308\u0003d2\u0000\u0307\u0306\u0001\u0000\u0000"+
-		"\u0000\u0308\u030b\u0001\u0000\u0000\u0000\u0309\u0307\u0001\u0000\u0000"+
-		"\u0000\u0309\u030a\u0001\u0000\u0000\u0000\u030a\u030d\u0001\u0000\u0000"+
-		"\u0000\u030b\u0309\u0001\u0000\u0000\u0000\u030c\u0301\u0001\u0000\u0000"+
-		"\u0000\u030c\u0303\u0001\u0000\u0000\u0000\u030d}\u0001\u0000\u0000\u0000"+
-		"\u030e\u030f\u0006?\uffff\uffff\u0000\u030f\u0310\u0005@\u0000\u0000\u0310"+
-		"\u0311\u0003|>\u0000\u0311\u0315\u0005A\u0000\u0000\u0312\u0314\u0003"+
-		"d2\u0000\u0313\u0312\u0001\u0000\u0000\u0000\u0314\u0317\u0001\u0000\u0000"+
-		"\u0000\u0315\u0313\u0001\u0000\u0000\u0000\u0315\u0316\u0001\u0000\u0000"+
-		"\u0000\u0316\u033d\u0001\u0000\u0000\u0000\u0317\u0315\u0001\u0000\u0000"+
-		"\u0000\u0318\u031a\u0005B\u0000\u0000\u0319\u031b\u0003p8\u0000\u031a"+
-		"\u0319\u0001\u0000\u0000\u0000\u031a\u031b\u0001\u0000\u0000\u0000\u031b"+
-		"\u031d\u0001\u0000\u0000\u0000\u031c\u031e\u0003(\u0014\u0000\u031d\u031c"+
-		"\u0001\u0000\u0000\u0000\u031d\u031e\u0001\u0000\u0000\u0000\u031e\u031f"+
-		"\u0001\u0000\u0000\u0000\u031f\u033d\u0005C\u0000\u0000\u0320\u0321\u0005"+
-		"B\u0000\u0000\u0321\u0323\u0005-\u0000\u0000\u0322\u0324\u0003p8\u0000"+
-		"\u0323\u0322\u0001\u0000\u0000\u0000\u0323\u0324\u0001\u0000\u0000\u0000"+
-		"\u0324\u0325\u0001\u0000\u0000\u0000\u0325\u0326\u0003(\u0014\u0000\u0326"+
-		"\u0327\u0005C\u0000\u0000\u0327\u033d\u0001\u0000\u0000\u0000\u0328\u0329"+
-		"\u0005B\u0000\u0000\u0329\u032a\u0003p8\u0000\u032a\u032b\u0005-\u0000"+
-		"\u0000\u032b\u032c\u0003(\u0014\u0000\u032c\u032d\u0005C\u0000\u0000\u032d"+
-		"\u033d\u0001\u0000\u0000\u0000\u032e\u032f\u0005B\u0000\u0000\u032f\u0330"+
-		"\u0005P\u0000\u0000\u0330\u033d\u0005C\u0000\u0000\u0331\u0333\u0005@"+
-		"\u0000\u0000\u0332\u0334\u0003r9\u0000\u0333\u0332\u0001\u0000\u0000\u0000"+
-		"\u0333\u0334\u0001\u0000\u0000\u0000\u0334\u0335\u0001\u0000\u0000\u0000"+
-		"\u0335\u0339\u0005A\u0000\u0000\u0336\u0338\u0003d2\u0000\u0337\u0336"+
-		"\u0001\u0000\u0000\u0000\u0338\u033b\u0001\u0000\u0000\u0000\u0339\u0337"+
-		"\u0001\u0000\u0000\u0000\u0339\u033a\u0001\u0000\u0000\u0000\u033a\u033d"+
-		"\u0001\u0000\u0000\u0000\u033b\u0339\u0001\u0000\u0000\u0000\u033c\u030e"+
-		"\u0001\u0000\u0000\u0000\u033c\u0318\u0001\u0000\u0000\u0000\u033c\u0320"+
-		"\u0001\u0000\u0000\u0000\u033c\u0328\u0001\u0000\u0000\u0000\u033c\u032e"+
-		"\u0001\u0000\u0000\u0000\u033c\u0331\u0001\u0000\u0000\u0000\u033d\u0369"+
-		"\u0001\u0000\u0000\u0000\u033e\u033f\n\u0005\u0000\u0000\u033f\u0341\u0005"+
-		"B\u0000\u0000\u0340\u0342\u0003p8\u0000\u0341\u0340\u0001\u0000\u0000"+
-		"\u0000\u0341\u0342\u0001\u0000\u0000\u0000\u0342\u0344\u0001\u0000\u0000"+
-		"\u0000\u0343\u0345\u0003(\u0014\u0000\u0344\u0343\u0001\u0000\u0000\u0000"+
-		"\u0344\u0345\u0001\u0000\u0000\u0000\u0345\u0346\u0001\u0000\u0000\u0000"+
-		"\u0346\u0368\u0005C\u0000\u0000\u0347\u0348\n\u0004\u0000\u0000\u0348"+
-		"\u0349\u0005B\u0000\u0000\u0349\u034b\u0005-\u0000\u0000\u034a\u034c\u0003"+
-		"p8\u0000\u034b\u034a\u0001\u0000\u0000\u0000\u034b\u034c\u0001\u0000\u0000"+
-		"\u0000\u034c\u034d\u0001\u0000\u0000\u0000\u034d\u034e\u0003(\u0014\u0000"+
-		"\u034e\u034f\u0005C\u0000\u0000\u034f\u0368\u0001\u0000\u0000\u0000\u0350"+
-		"\u0351\n\u0003\u0000\u0000\u0351\u0352\u0005B\u0000\u0000\u0352\u0353"+
-		"\u0003p8\u0000\u0353\u0354\u0005-\u0000\u0000\u0354\u0355\u0003(\u0014"+
-		"\u0000\u0355\u0356\u0005C\u0000\u0000\u0356\u0368\u0001\u0000\u0000\u0000"+
-		"\u0357\u0358\n\u0002\u0000\u0000\u0358\u0359\u0005B\u0000\u0000\u0359"+
-		"\u035a\u0005P\u0000\u0000\u035a\u0368\u0005C\u0000\u0000\u035b\u035c\n"+
-		"\u0001\u0000\u0000\u035c\u035e\u0005@\u0000\u0000\u035d\u035f\u0003r9"+
-		"\u0000\u035e\u035d\u0001\u0000\u0000\u0000\u035e\u035f\u0001\u0000\u0000"+
-		"\u0000\u035f\u0360\u0001\u0000\u0000\u0000\u0360\u0364\u0005A\u0000\u0000"+
-		"\u0361\u0363\u0003d2\u0000\u0362\u0361\u0001\u0000\u0000\u0000\u0363\u0366"+
-		"\u0001\u0000\u0000\u0000\u0364\u0362\u0001\u0000\u0000\u0000\u0364\u0365"+
-		"\u0001\u0000\u0000\u0000\u0365\u0368\u0001\u0000\u0000\u0000\u0366\u0364"+
-		"\u0001\u0000\u0000\u0000\u0367\u033e\u0001\u0000\u0000\u0000\u0367\u0347"+
-		"\u0001\u0000\u0000\u0000\u0367\u0350\u0001\u0000\u0000\u0000\u0367\u0357"+
-		"\u0001\u0000\u0000\u0000\u0367\u035b\u0001\u0000\u0000\u0000\u0368\u036b"+
-		"\u0001\u0000\u0000\u0000\u0369\u0367\u0001\u0000\u0000\u0000\u0369\u036a"+
-		"\u0001\u0000\u0000\u0000\u036a\u007f\u0001\u0000\u0000\u0000\u036b\u0369"+
-		"\u0001\u0000\u0000\u0000\u036c\u036d\u0005n\u0000\u0000\u036d\u0081\u0001"+
-		"\u0000\u0000\u0000\u036e\u0377\u0003(\u0014\u0000\u036f\u0370\u0005D\u0000"+
-		"\u0000\u0370\u0372\u0003\u0084B\u0000\u0371\u0373\u0005]\u0000\u0000\u0372"+
-		"\u0371\u0001\u0000\u0000\u0000\u0372\u0373\u0001\u0000\u0000\u0000\u0373"+
-		"\u0374\u0001\u0000\u0000\u0000\u0374\u0375\u0005E\u0000\u0000\u0375\u0377"+
-		"\u0001\u0000\u0000\u0000\u0376\u036e\u0001\u0000\u0000\u0000\u0376\u036f"+
-		"\u0001\u0000\u0000\u0000\u0377\u0083\u0001\u0000\u0000\u0000\u0378\u037a"+
-		"\u0003\u0086C\u0000\u0379\u0378\u0001\u0000\u0000\u0000\u0379\u037a\u0001"+
-		"\u0000\u0000\u0000\u037a\u037b\u0001\u0000\u0000\u0000\u037b\u0383\u0003"+
-		"\u0082A\u0000\u037c\u037e\u0005]\u0000\u0000\u037d\u037f\u0003\u0086C"+
-		"\u0000\u037e\u037d\u0001\u0000\u0000\u0000\u037e\u037f\u0001\u0000\u0000"+
-		"\u0000\u037f\u0380\u0001\u0000\u0000\u0000\u0380\u0382\u0003\u0082A\u0000"+
-		"\u0381\u037c\u0001\u0000\u0000\u0000\u0382\u0385\u0001\u0000\u0000\u0000"+
-		"\u0383\u0381\u0001\u0000\u0000\u0000\u0383\u0384\u0001\u0000\u0000\u0000"+
-		"\u0384\u0085\u0001\u0000\u0000\u0000\u0385\u0383\u0001\u0000\u0000\u0000"+
-		"\u0386\u0387\u0003\u0088D\u0000\u0387\u0388\u0005^\u0000\u0000\u0388\u0087"+
-		"\u0001\u0000\u0000\u0000\u0389\u038b\u0003\u008aE\u0000\u038a\u0389\u0001"+
-		"\u0000\u0000\u0000\u038b\u038c\u0001\u0000\u0000\u0000\u038c\u038a\u0001"+
-		"\u0000\u0000\u0000\u038c\u038d\u0001\u0000\u0000\u0000\u038d\u0089\u0001"+
-		"\u0000\u0000\u0000\u038e\u038f\u0005B\u0000\u0000\u038f\u0390\u0003.\u0017"+
-		"\u0000\u0390\u0391\u0005C\u0000\u0000\u0391\u0395\u0001\u0000\u0000\u0000"+
-		"\u0392\u0393\u0005l\u0000\u0000\u0393\u0395\u0005n\u0000\u0000\u0394\u038e"+
-		"\u0001\u0000\u0000\u0000\u0394\u0392\u0001\u0000\u0000\u0000\u0395\u008b"+
-		"\u0001\u0000\u0000\u0000\u0396\u0397\u0005>\u0000\u0000\u0397\u0398\u0005"+
-		"@\u0000\u0000\u0398\u0399\u0003.\u0017\u0000\u0399\u039b\u0005]\u0000"+
-		"\u0000\u039a\u039c\u0005q\u0000\u0000\u039b\u039a\u0001\u0000\u0000\u0000"+
-		"\u039c\u039d\u0001\u0000\u0000\u0000\u039d\u039b\u0001\u0000\u0000\u0000"+
-		"\u039d\u039e\u0001\u0000\u0000\u0000\u039e\u039f\u0001\u0000\u0000\u0000"+
-		"\u039f\u03a0\u0005A\u0000\u0000\u03a0\u03a1\u0005\\\u0000\u0000\u03a1"+
-		"\u008d\u0001\u0000\u0000\u0000\u03a2\u03c8\u0003\u0090H\u0000\u03a3\u03c8"+
-		"\u0003\u0092I\u0000\u03a4\u03c8\u0003\u0098L\u0000\u03a5\u03c8\u0003\u009a"+
-		"M\u0000\u03a6\u03c8\u0003\u009cN\u0000\u03a7\u03c8\u0003\u00a4R\u0000"+
-		"\u03a8\u03a9\u0007\u0012\u0000\u0000\u03a9\u03aa\u0007\u0013\u0000\u0000"+
-		"\u03aa\u03b3\u0005@\u0000\u0000\u03ab\u03b0\u0003$\u0012\u0000\u03ac\u03ad"+
-		"\u0005]\u0000\u0000\u03ad\u03af\u0003$\u0012\u0000\u03ae\u03ac\u0001\u0000"+
-		"\u0000\u0000\u03af\u03b2\u0001\u0000\u0000\u0000\u03b0\u03ae\u0001\u0000"+
-		"\u0000\u0000\u03b0\u03b1\u0001\u0000\u0000\u0000\u03b1\u03b4\u0001\u0000"+
-		"\u0000\u0000\u03b2\u03b0\u0001\u0000\u0000\u0000\u03b3\u03ab\u0001\u0000"+
-		"\u0000\u0000\u03b3\u03b4\u0001\u0000\u0000\u0000\u03b4\u03c2\u0001\u0000"+
-		"\u0000\u0000\u03b5\u03be\u0005[\u0000\u0000\u03b6\u03bb\u0003$\u0012\u0000"+
-		"\u03b7\u03b8\u0005]\u0000\u0000\u03b8\u03ba\u0003$\u0012\u0000\u03b9\u03b7"+
-		"\u0001\u0000\u0000\u0000\u03ba\u03bd\u0001\u0000\u0000\u0000\u03bb\u03b9"+
-		"\u0001\u0000\u0000\u0000\u03bb\u03bc\u0001\u0000\u0000\u0000\u03bc\u03bf"+
-		"\u0001\u0000\u0000\u0000\u03bd\u03bb\u0001\u0000\u0000\u0000\u03be\u03b6"+
-		"\u0001\u0000\u0000\u0000\u03be\u03bf\u0001\u0000\u0000\u0000\u03bf\u03c1"+
-		"\u0001\u0000\u0000\u0000\u03c0\u03b5\u0001\u0000\u0000\u0000\u03c1\u03c4"+
-		"\u0001\u0000\u0000\u0000\u03c2\u03c0\u0001\u0000\u0000\u0000\u03c2\u03c3"+
-		"\u0001\u0000\u0000\u0000\u03c3\u03c5\u0001\u0000\u0000\u0000\u03c4\u03c2"+
-		"\u0001\u0000\u0000\u0000\u03c5\u03c6\u0005A\u0000\u0000\u03c6\u03c8\u0005"+
-		"\\\u0000\u0000\u03c7\u03a2\u0001\u0000\u0000\u0000\u03c7\u03a3\u0001\u0000"+
-		"\u0000\u0000\u03c7\u03a4\u0001\u0000\u0000\u0000\u03c7\u03a5\u0001\u0000"+
-		"\u0000\u0000\u03c7\u03a6\u0001\u0000\u0000\u0000\u03c7\u03a7\u0001\u0000"+
-		"\u0000\u0000\u03c7\u03a8\u0001\u0000\u0000\u0000\u03c8\u008f\u0001\u0000"+
-		"\u0000\u0000\u03c9\u03ca\u0005n\u0000\u0000\u03ca\u03cc\u0005[\u0000\u0000"+
-		"\u03cb\u03cd\u0003\u008eG\u0000\u03cc\u03cb\u0001\u0000\u0000\u0000\u03cc"+
-		"\u03cd\u0001\u0000\u0000\u0000\u03cd\u03d7\u0001\u0000\u0000\u0000\u03ce"+
-		"\u03cf\u0005\u0016\u0000\u0000\u03cf\u03d0\u0003.\u0017\u0000\u03d0\u03d1"+
-		"\u0005[\u0000\u0000\u03d1\u03d2\u0003\u008eG\u0000\u03d2\u03d7\u0001\u0000"+
-		"\u0000\u0000\u03d3\u03d4\u0005\u001a\u0000\u0000\u03d4\u03d5\u0005[\u0000"+
-		"\u0000\u03d5\u03d7\u0003\u008eG\u0000\u03d6\u03c9\u0001\u0000\u0000\u0000"+
-		"\u03d6\u03ce\u0001\u0000\u0000\u0000\u03d6\u03d3\u0001\u0000\u0000\u0000"+
-		"\u03d7\u0091\u0001\u0000\u0000\u0000\u03d8\u03da\u0005D\u0000\u0000\u03d9"+
-		"\u03db\u0003\u0094J\u0000\u03da\u03d9\u0001\u0000\u0000\u0000\u03da\u03db"+
-		"\u0001\u0000\u0000\u0000\u03db\u03dc\u0001\u0000\u0000\u0000\u03dc\u03dd"+
-		"\u0005E\u0000\u0000\u03dd\u0093\u0001\u0000\u0000\u0000\u03de\u03e0\u0003"+
-		"\u0096K\u0000\u03df\u03de\u0001\u0000\u0000\u0000\u03e0\u03e1\u0001\u0000"+
-		"\u0000\u0000\u03e1\u03df\u0001\u0000\u0000\u0000\u03e1\u03e2\u0001\u0000"+
-		"\u0000\u0000\u03e2\u0095\u0001\u0000\u0000\u0000\u03e3\u03e6\u0003\u008e"+
-		"G\u0000\u03e4\u03e6\u00030\u0018\u0000\u03e5\u03e3\u0001\u0000\u0000\u0000"+
-		"\u03e5\u03e4\u0001\u0000\u0000\u0000\u03e6\u0097\u0001\u0000\u0000\u0000"+
-		"\u03e7\u03e9\u0003,\u0016\u0000\u03e8\u03e7\u0001\u0000\u0000\u0000\u03e8"+
-		"\u03e9\u0001\u0000\u0000\u0000\u03e9\u03ea\u0001\u0000\u0000\u0000\u03ea"+
-		"\u03eb\u0005\\\u0000\u0000\u03eb\u0099\u0001\u0000\u0000\u0000\u03ec\u03ed"+
-		"\u0005#\u0000\u0000\u03ed\u03ee\u0005@\u0000\u0000\u03ee\u03ef\u0003,"+
-		"\u0016\u0000\u03ef\u03f0\u0005A\u0000\u0000\u03f0\u03f3\u0003\u008eG\u0000"+
-		"\u03f1\u03f2\u0005\u001d\u0000\u0000\u03f2\u03f4\u0003\u008eG\u0000\u03f3"+
-		"\u03f1\u0001\u0000\u0000\u0000\u03f3\u03f4\u0001\u0000\u0000\u0000\u03f4"+
-		"\u03fc\u0001\u0000\u0000\u0000\u03f5\u03f6\u0005/\u0000\u0000\u03f6\u03f7"+
-		"\u0005@\u0000\u0000\u03f7\u03f8\u0003,\u0016\u0000\u03f8\u03f9\u0005A"+
-		"\u0000\u0000\u03f9\u03fa\u0003\u008eG\u0000\u03fa\u03fc\u0001\u0000\u0000"+
-		"\u0000\u03fb\u03ec\u0001\u0000\u0000\u0000\u03fb\u03f5\u0001\u0000\u0000"+
-		"\u0000\u03fc\u009b\u0001\u0000\u0000\u0000\u03fd\u03fe\u00055\u0000\u0000"+
-		"\u03fe\u03ff\u0005@\u0000\u0000\u03ff\u0400\u0003,\u0016\u0000\u0400\u0401"+
-		"\u0005A\u0000\u0000\u0401\u0402\u0003\u008eG\u0000\u0402\u0412\u0001\u0000"+
-		"\u0000\u0000\u0403\u0404\u0005\u001b\u0000\u0000\u0404\u0405\u0003\u008e"+
-		"G\u0000\u0405\u0406\u00055\u0000\u0000\u0406\u0407\u0005@\u0000\u0000"+
-		"\u0407\u0408\u0003,\u0016\u0000\u0408\u0409\u0005A\u0000\u0000\u0409\u040a"+
-		"\u0005\\\u0000\u0000\u040a\u0412\u0001\u0000\u0000\u0000\u040b\u040c\u0005"+
-		"!\u0000\u0000\u040c\u040d\u0005@\u0000\u0000\u040d\u040e\u0003\u009eO"+
-		"\u0000\u040e\u040f\u0005A\u0000\u0000\u040f\u0410\u0003\u008eG\u0000\u0410"+
-		"\u0412\u0001\u0000\u0000\u0000\u0411\u03fd\u0001\u0000\u0000\u0000\u0411"+
-		"\u0403\u0001\u0000\u0000\u0000\u0411\u040b\u0001\u0000\u0000\u0000\u0412"+
-		"\u009d\u0001\u0000\u0000\u0000\u0413\u0418\u0003\u00a0P\u0000\u0414\u0416"+
-		"\u0003,\u0016\u0000\u0415\u0414\u0001\u0000\u0000\u0000\u0415\u0416\u0001"+
-		"\u0000\u0000\u0000\u0416\u0418\u0001\u0000\u0000\u0000\u0417\u0413\u0001"+
-		"\u0000\u0000\u0000\u0417\u0415\u0001\u0000\u0000\u0000\u0418\u0419\u0001"+
-		"\u0000\u0000\u0000\u0419\u041b\u0005\\\u0000\u0000\u041a\u041c\u0003\u00a2"+
-		"Q\u0000\u041b\u041a\u0001\u0000\u0000\u0000\u041b\u041c\u0001\u0000\u0000"+
-		"\u0000\u041c\u041d\u0001\u0000\u0000\u0000\u041d\u041f\u0005\\\u0000\u0000"+
-		"\u041e\u0420\u0003\u00a2Q\u0000\u041f\u041e\u0001\u0000\u0000\u0000\u041f"+
-		"\u0420\u0001\u0000\u0000\u0000\u0420\u009f\u0001\u0000\u0000\u0000\u0421"+
-		"\u0423\u00032\u0019\u0000\u0422\u0424\u00038\u001c\u0000\u0423\u0422\u0001"+
-		"\u0000\u0000\u0000\u0423\u0424\u0001\u0000\u0000\u0000\u0424\u00a1\u0001"+
-		"\u0000\u0000\u0000\u0425\u042a\u0003(\u0014\u0000\u0426\u0427\u0005]\u0000"+
-		"\u0000\u0427\u0429\u0003(\u0014\u0000\u0428\u0426\u0001\u0000\u0000\u0000"+
-		"\u0429\u042c\u0001\u0000\u0000\u0000\u042a\u0428\u0001\u0000\u0000\u0000"+
-		"\u042a\u042b\u0001\u0000\u0000\u0000\u042b\u00a3\u0001\u0000\u0000\u0000"+
-		"\u042c\u042a\u0001\u0000\u0000\u0000\u042d\u042e\u0005\"\u0000\u0000\u042e"+
-		"\u0438\u0005n\u0000\u0000\u042f\u0438\u0005\u0019\u0000\u0000\u0430\u0438"+
-		"\u0005\u0015\u0000\u0000\u0431\u0433\u0005)\u0000\u0000\u0432\u0434\u0003"+
-		",\u0016\u0000\u0433\u0432\u0001\u0000\u0000\u0000\u0433\u0434\u0001\u0000"+
-		"\u0000\u0000\u0434\u0438\u0001\u0000\u0000\u0000\u0435\u0436\u0005\"\u0000"+
-		"\u0000\u0436\u0438\u0003\f\u0006\u0000\u0437\u042d\u0001\u0000\u0000\u0000"+
-		"\u0437\u042f\u0001\u0000\u0000\u0000\u0437\u0430\u0001\u0000\u0000\u0000"+
-		"\u0437\u0431\u0001\u0000\u0000\u0000\u0437\u0435\u0001\u0000\u0000\u0000"+
-		"\u0438\u0439\u0001\u0000\u0000\u0000\u0439\u043a\u0005\\\u0000\u0000\u043a"+
-		"\u00a5\u0001\u0000\u0000\u0000\u043b\u043d\u0003\u00a8T\u0000\u043c\u043b"+
-		"\u0001\u0000\u0000\u0000\u043c\u043d\u0001\u0000\u0000\u0000\u043d\u043e"+
-		"\u0001\u0000\u0000\u0000\u043e\u043f\u0005\u0000\u0000\u0001\u043f\u00a7"+
-		"\u0001\u0000\u0000\u0000\u0440\u0442\u0003\u00aaU\u0000\u0441\u0440\u0001"+
-		"\u0000\u0000\u0000\u0442\u0443\u0001\u0000\u0000\u0000\u0443\u0441\u0001"+
-		"\u0000\u0000\u0000\u0443\u0444\u0001\u0000\u0000\u0000\u0444\u00a9\u0001"+
-		"\u0000\u0000\u0000\u0445\u0449\u0003\u00acV\u0000\u0446\u0449\u00030\u0018"+
-		"\u0000\u0447\u0449\u0005\\\u0000\u0000\u0448\u0445\u0001\u0000\u0000\u0000"+
-		"\u0448\u0446\u0001\u0000\u0000\u0000\u0448\u0447\u0001\u0000\u0000\u0000"+
-		"\u0449\u00ab\u0001\u0000\u0000\u0000\u044a\u044c\u00032\u0019\u0000\u044b"+
-		"\u044a\u0001\u0000\u0000\u0000\u044b\u044c\u0001\u0000\u0000\u0000\u044c"+
-		"\u044d\u0001\u0000\u0000\u0000\u044d\u044f\u0003^/\u0000\u044e\u0450\u0003"+
-		"\u00aeW\u0000\u044f\u044e\u0001\u0000\u0000\u0000\u044f\u0450\u0001\u0000"+
-		"\u0000\u0000\u0450\u0451\u0001\u0000\u0000\u0000\u0451\u0452\u0003\u0092"+
-		"I\u0000\u0452\u00ad\u0001\u0000\u0000\u0000\u0453\u0455\u00030\u0018\u0000"+
-		"\u0454\u0453\u0001\u0000\u0000\u0000\u0455\u0456\u0001\u0000\u0000\u0000"+
-		"\u0456\u0454\u0001\u0000\u0000\u0000\u0456\u0457\u0001\u0000\u0000\u0000"+
-		"\u0457\u00af\u0001\u0000\u0000\u0000\u0087\u00b5\u00bd\u00d1\u00df\u00e4"+
-		"\u00eb\u00f3\u00f7\u00ff\u0106\u0108\u0110\u0116\u0124\u0129\u0132\u0139"+
-		"\u0141\u0149\u0151\u0159\u0161\u0169\u0171\u0179\u0181\u018a\u0192\u019b"+
-		"\u01a2\u01a7\u01ac\u01b1\u01b8\u01bf\u01c5\u01e4\u01e8\u01f1\u01f8\u0202"+
-		"\u0206\u0209\u0210\u0215\u0219\u021d\u0222\u0228\u022f\u0235\u0249\u024f"+
-		"\u0254\u025a\u026e\u0273\u0276\u027d\u028c\u0298\u029b\u029d\u02a7\u02ab"+
-		"\u02b5\u02b9\u02bd\u02c3\u02c6\u02cd\u02cf\u02d4\u02d8\u02dd\u02e2\u02e9"+
-		"\u02f1\u02f3\u02fa\u02ff\u0303\u0309\u030c\u0315\u031a\u031d\u0323\u0333"+
-		"\u0339\u033c\u0341\u0344\u034b\u035e\u0364\u0367\u0369\u0372\u0376\u0379"+
-		"\u037e\u0383\u038c\u0394\u039d\u03b0\u03b3\u03bb\u03be\u03c2\u03c7\u03cc"+
-		"\u03d6\u03da\u03e1\u03e5\u03e8\u03f3\u03fb\u0411\u0415\u0417\u041b\u041f"+
-		"\u0423\u042a\u0433\u0437\u043c\u0443\u0448\u044b\u044f\u0456";
+		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u0111\b\u0006\u0001"+
+		"\u0007\u0001\u0007\u0001\b\u0003\b\u0116\b\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0003\b\u011f\b\b\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0005"+
+		"\t\u0148\b\t\n\t\f\t\u014b\t\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n"+
+		"\u0001\n\u0003\n\u0153\b\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001"+
+		"\f\u0005\f\u015a\b\f\n\f\f\f\u015d\t\f\u0001\r\u0001\r\u0001\u000e\u0001"+
+		"\u000e\u0003\u000e\u0163\b\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003"+
+		"\u000e\u0168\b\u000e\u0001\u000f\u0004\u000f\u016b\b\u000f\u000b\u000f"+
+		"\f\u000f\u016c\u0001\u0010\u0004\u0010\u0170\b\u0010\u000b\u0010\f\u0010"+
+		"\u0171\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0003"+
+		"\u0011\u0179\b\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0005\u0012\u017e"+
+		"\b\u0012\n\u0012\f\u0012\u0181\t\u0012\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0003\u0013\u0186\b\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0003\u0015\u01a5\b\u0015\u0001\u0016\u0001\u0016\u0003\u0016"+
+		"\u01a9\b\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0003\u0016\u01b2\b\u0016\u0001\u0017\u0001\u0017"+
+		"\u0001\u0018\u0004\u0018\u01b7\b\u0018\u000b\u0018\f\u0018\u01b8\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0003\u0019\u01c3\b\u0019\u0001\u001a\u0001\u001a\u0003"+
+		"\u001a\u01c7\b\u001a\u0001\u001a\u0003\u001a\u01ca\b\u001a\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0005\u001b\u01cf\b\u001b\n\u001b\f\u001b\u01d2"+
+		"\t\u001b\u0001\u001c\u0001\u001c\u0003\u001c\u01d6\b\u001c\u0001\u001c"+
+		"\u0001\u001c\u0003\u001c\u01da\b\u001c\u0001\u001d\u0001\u001d\u0003\u001d"+
+		"\u01de\b\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0003\u001d\u01e3\b"+
+		"\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0003\u001d\u01e9"+
+		"\b\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u01ee\b\u001e"+
+		"\n\u001e\f\u001e\u01f1\t\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0003"+
+		"\u001f\u01f6\b\u001f\u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001!"+
+		"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001"+
+		"#\u0001#\u0003#\u020a\b#\u0001$\u0001$\u0001$\u0001$\u0003$\u0210\b$\u0001"+
+		"$\u0001$\u0001%\u0003%\u0215\b%\u0001%\u0001%\u0005%\u0219\b%\n%\f%\u021c"+
+		"\t%\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0003&\u022f\b&\u0001"+
+		"&\u0001&\u0001&\u0003&\u0234\b&\u0001&\u0003&\u0237\b&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0003&\u023e\b&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0003&\u024d\b&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0003"+
+		"&\u0259\b&\u0001&\u0005&\u025c\b&\n&\f&\u025f\t&\u0001\'\u0001\'\u0001"+
+		"(\u0001(\u0001(\u0004(\u0266\b(\u000b(\f(\u0267\u0001(\u0001(\u0003(\u026c"+
+		"\b(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001*\u0003*\u0276"+
+		"\b*\u0001*\u0001*\u0003*\u027a\b*\u0005*\u027c\b*\n*\f*\u027f\t*\u0001"+
+		"+\u0001+\u0001+\u0003+\u0284\b+\u0001+\u0003+\u0287\b+\u0001,\u0001,\u0001"+
+		",\u0001,\u0001,\u0005,\u028e\b,\n,\f,\u0291\t,\u0001-\u0001-\u0003-\u0295"+
+		"\b-\u0004-\u0297\b-\u000b-\f-\u0298\u0001.\u0004.\u029c\b.\u000b.\f.\u029d"+
+		"\u0001/\u0001/\u0001/\u0003/\u02a3\b/\u00010\u00010\u00010\u00050\u02a8"+
+		"\b0\n0\f0\u02ab\t0\u00011\u00011\u00011\u00011\u00011\u00031\u02b2\b1"+
+		"\u00031\u02b4\b1\u00012\u00012\u00012\u00052\u02b9\b2\n2\f2\u02bc\t2\u0001"+
+		"3\u00013\u00033\u02c0\b3\u00014\u00014\u00034\u02c4\b4\u00014\u00014\u0005"+
+		"4\u02c8\b4\n4\f4\u02cb\t4\u00034\u02cd\b4\u00015\u00015\u00015\u00015"+
+		"\u00015\u00055\u02d4\b5\n5\f5\u02d7\t5\u00015\u00015\u00035\u02db\b5\u0001"+
+		"5\u00035\u02de\b5\u00015\u00015\u00015\u00015\u00035\u02e4\b5\u00015\u0001"+
+		"5\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u0001"+
+		"5\u00015\u00015\u00035\u02f4\b5\u00015\u00015\u00055\u02f8\b5\n5\f5\u02fb"+
+		"\t5\u00035\u02fd\b5\u00015\u00015\u00015\u00035\u0302\b5\u00015\u0003"+
+		"5\u0305\b5\u00015\u00015\u00015\u00015\u00015\u00035\u030c\b5\u00015\u0001"+
+		"5\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u00015\u0001"+
+		"5\u00015\u00015\u00015\u00015\u00015\u00035\u031f\b5\u00015\u00015\u0005"+
+		"5\u0323\b5\n5\f5\u0326\t5\u00055\u0328\b5\n5\f5\u032b\t5\u00016\u0001"+
+		"6\u00017\u00017\u00017\u00017\u00037\u0333\b7\u00017\u00017\u00037\u0337"+
+		"\b7\u00018\u00038\u033a\b8\u00018\u00018\u00018\u00038\u033f\b8\u0001"+
+		"8\u00058\u0342\b8\n8\f8\u0345\t8\u00019\u00019\u00019\u0001:\u0004:\u034b"+
+		"\b:\u000b:\f:\u034c\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0003;\u0355"+
+		"\b;\u0001<\u0001<\u0001<\u0001<\u0001<\u0004<\u035c\b<\u000b<\f<\u035d"+
+		"\u0001<\u0001<\u0001<\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"=\u0001=\u0001=\u0001=\u0001=\u0001=\u0005=\u036f\b=\n=\f=\u0372\t=\u0003"+
+		"=\u0374\b=\u0001=\u0001=\u0001=\u0001=\u0005=\u037a\b=\n=\f=\u037d\t="+
+		"\u0003=\u037f\b=\u0005=\u0381\b=\n=\f=\u0384\t=\u0001=\u0001=\u0003=\u0388"+
+		"\b=\u0001>\u0001>\u0001>\u0003>\u038d\b>\u0001>\u0001>\u0001>\u0001>\u0001"+
+		">\u0001>\u0001>\u0001>\u0003>\u0397\b>\u0001?\u0001?\u0003?\u039b\b?\u0001"+
+		"?\u0001?\u0001@\u0004@\u03a0\b@\u000b@\f@\u03a1\u0001A\u0001A\u0003A\u03a6"+
+		"\bA\u0001B\u0003B\u03a9\bB\u0001B\u0001B\u0001C\u0001C\u0001C\u0001C\u0001"+
+		"C\u0001C\u0001C\u0003C\u03b4\bC\u0001C\u0001C\u0001C\u0001C\u0001C\u0001"+
+		"C\u0003C\u03bc\bC\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001"+
+		"D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001"+
+		"D\u0001D\u0001D\u0003D\u03d2\bD\u0001E\u0001E\u0003E\u03d6\bE\u0003E\u03d8"+
+		"\bE\u0001E\u0001E\u0003E\u03dc\bE\u0001E\u0001E\u0003E\u03e0\bE\u0001"+
+		"F\u0001F\u0003F\u03e4\bF\u0001G\u0001G\u0001G\u0005G\u03e9\bG\nG\fG\u03ec"+
+		"\tG\u0001H\u0001H\u0001H\u0001H\u0001H\u0001H\u0003H\u03f4\bH\u0001H\u0001"+
+		"H\u0003H\u03f8\bH\u0001H\u0001H\u0001I\u0003I\u03fd\bI\u0001I\u0001I\u0001"+
+		"J\u0004J\u0402\bJ\u000bJ\fJ\u0403\u0001K\u0001K\u0001K\u0003K\u0409\b"+
+		"K\u0001L\u0003L\u040c\bL\u0001L\u0001L\u0003L\u0410\bL\u0001L\u0001L\u0001"+
+		"M\u0004M\u0415\bM\u000bM\fM\u0416\u0001M\u0000\u0003\u0012LjN\u0000\u0002"+
+		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
+		" \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086"+
+		"\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u0000\u0014"+
+		"\u0001\u0000kl\u0003\u0000,,MMOO\u0002\u0000,,77\u0005\u0000LLNNPPSSX"+
+		"Y\u0001\u0000PR\u0002\u0000LLNN\u0001\u0000JK\u0001\u0000FI\u0001\u0000"+
+		"ij\u0001\u0000^h\u0006\u0000\u0014\u0014\u001f\u001f\'\'--00??\u0001\u0000"+
+		"\u0004\u0006\u0002\u0000..11\u0004\u0000\u0018\u0018((4488\u0002\u0000"+
+		"\t\t\u000b\u000f\u0002\u0000@A]]\u0001\u0000@A\u0002\u0000PPWW\u0002\u0000"+
+		"\u0010\u0010\u0012\u0012\u0002\u0000\u0013\u001344\u0491\u0000\u00bd\u0001"+
+		"\u0000\u0000\u0000\u0002\u00bf\u0001\u0000\u0000\u0000\u0004\u00c6\u0001"+
+		"\u0000\u0000\u0000\u0006\u00d0\u0001\u0000\u0000\u0000\b\u00e3\u0001\u0000"+
+		"\u0000\u0000\n\u00f7\u0001\u0000\u0000\u0000\f\u0102\u0001\u0000\u0000"+
+		"\u0000\u000e\u0112\u0001\u0000\u0000\u0000\u0010\u011e\u0001\u0000\u0000"+
+		"\u0000\u0012\u0120\u0001\u0000\u0000\u0000\u0014\u0152\u0001\u0000\u0000"+
+		"\u0000\u0016\u0154\u0001\u0000\u0000\u0000\u0018\u0156\u0001\u0000\u0000"+
+		"\u0000\u001a\u015e\u0001\u0000\u0000\u0000\u001c\u0167\u0001\u0000\u0000"+
+		"\u0000\u001e\u016a\u0001\u0000\u0000\u0000 \u016f\u0001\u0000\u0000\u0000"+
+		"\"\u0178\u0001\u0000\u0000\u0000$\u017a\u0001\u0000\u0000\u0000&\u0182"+
+		"\u0001\u0000\u0000\u0000(\u0187\u0001\u0000\u0000\u0000*\u01a4\u0001\u0000"+
+		"\u0000\u0000,\u01b1\u0001\u0000\u0000\u0000.\u01b3\u0001\u0000\u0000\u0000"+
+		"0\u01b6\u0001\u0000\u0000\u00002\u01c2\u0001\u0000\u0000\u00004\u01c6"+
+		"\u0001\u0000\u0000\u00006\u01cb\u0001\u0000\u0000\u00008\u01d9\u0001\u0000"+
+		"\u0000\u0000:\u01e8\u0001\u0000\u0000\u0000<\u01ea\u0001\u0000\u0000\u0000"+
+		">\u01f2\u0001\u0000\u0000\u0000@\u01f7\u0001\u0000\u0000\u0000B\u01f9"+
+		"\u0001\u0000\u0000\u0000D\u01fe\u0001\u0000\u0000\u0000F\u0209\u0001\u0000"+
+		"\u0000\u0000H\u020b\u0001\u0000\u0000\u0000J\u0214\u0001\u0000\u0000\u0000"+
+		"L\u022e\u0001\u0000\u0000\u0000N\u0260\u0001\u0000\u0000\u0000P\u026b"+
+		"\u0001\u0000\u0000\u0000R\u026d\u0001\u0000\u0000\u0000T\u0275\u0001\u0000"+
+		"\u0000\u0000V\u0280\u0001\u0000\u0000\u0000X\u028f\u0001\u0000\u0000\u0000"+
+		"Z\u0296\u0001\u0000\u0000\u0000\\\u029b\u0001\u0000\u0000\u0000^\u029f"+
+		"\u0001\u0000\u0000\u0000`\u02a4\u0001\u0000\u0000\u0000b\u02b3\u0001\u0000"+
+		"\u0000\u0000d\u02b5\u0001\u0000\u0000\u0000f\u02bd\u0001\u0000\u0000\u0000"+
+		"h\u02cc\u0001\u0000\u0000\u0000j\u02fc\u0001\u0000\u0000\u0000l\u032c"+
+		"\u0001\u0000\u0000\u0000n\u0336\u0001\u0000\u0000\u0000p\u0339\u0001\u0000"+
+		"\u0000\u0000r\u0346\u0001\u0000\u0000\u0000t\u034a\u0001\u0000\u0000\u0000"+
+		"v\u0354\u0001\u0000\u0000\u0000x\u0356\u0001\u0000\u0000\u0000z\u0387"+
+		"\u0001\u0000\u0000\u0000|\u0396\u0001\u0000\u0000\u0000~\u0398\u0001\u0000"+
+		"\u0000\u0000\u0080\u039f\u0001\u0000\u0000\u0000\u0082\u03a5\u0001\u0000"+
+		"\u0000\u0000\u0084\u03a8\u0001\u0000\u0000\u0000\u0086\u03bb\u0001\u0000"+
+		"\u0000\u0000\u0088\u03d1\u0001\u0000\u0000\u0000\u008a\u03d7\u0001\u0000"+
+		"\u0000\u0000\u008c\u03e1\u0001\u0000\u0000\u0000\u008e\u03e5\u0001\u0000"+
+		"\u0000\u0000\u0090\u03f7\u0001\u0000\u0000\u0000\u0092\u03fc\u0001\u0000"+
+		"\u0000\u0000\u0094\u0401\u0001\u0000\u0000\u0000\u0096\u0408\u0001\u0000"+
+		"\u0000\u0000\u0098\u040b\u0001\u0000\u0000\u0000\u009a\u0414\u0001\u0000"+
+		"\u0000\u0000\u009c\u00be\u0005n\u0000\u0000\u009d\u00be\u0005o\u0000\u0000"+
+		"\u009e\u00a0\u0005q\u0000\u0000\u009f\u009e\u0001\u0000\u0000\u0000\u00a0"+
+		"\u00a1\u0001\u0000\u0000\u0000\u00a1\u009f\u0001\u0000\u0000\u0000\u00a1"+
+		"\u00a2\u0001\u0000\u0000\u0000\u00a2\u00be\u0001\u0000\u0000\u0000\u00a3"+
+		"\u00a4\u0005@\u0000\u0000\u00a4\u00a5\u0003\u0018\f\u0000\u00a5\u00a6"+
+		"\u0005A\u0000\u0000\u00a6\u00be\u0001\u0000\u0000\u0000\u00a7\u00be\u0003"+
+		"\u0002\u0001\u0000\u00a8\u00aa\u0005\u0001\u0000\u0000\u00a9\u00a8\u0001"+
+		"\u0000\u0000\u0000\u00a9\u00aa\u0001\u0000\u0000\u0000\u00aa\u00ab\u0001"+
+		"\u0000\u0000\u0000\u00ab\u00ac\u0005@\u0000\u0000\u00ac\u00ad\u0003~?"+
+		"\u0000\u00ad\u00ae\u0005A\u0000\u0000\u00ae\u00be\u0001\u0000\u0000\u0000"+
+		"\u00af\u00b0\u0005\u0002\u0000\u0000\u00b0\u00b1\u0005@\u0000\u0000\u00b1"+
+		"\u00b2\u0003\f\u0006\u0000\u00b2\u00b3\u0005]\u0000\u0000\u00b3\u00b4"+
+		"\u0003f3\u0000\u00b4\u00b5\u0005A\u0000\u0000\u00b5\u00be\u0001\u0000"+
+		"\u0000\u0000\u00b6\u00b7\u0005\u0003\u0000\u0000\u00b7\u00b8\u0005@\u0000"+
+		"\u0000\u00b8\u00b9\u0003f3\u0000\u00b9\u00ba\u0005]\u0000\u0000\u00ba"+
+		"\u00bb\u0003\f\u0006\u0000\u00bb\u00bc\u0005A\u0000\u0000\u00bc\u00be"+
+		"\u0001\u0000\u0000\u0000\u00bd\u009c\u0001\u0000\u0000\u0000\u00bd\u009d"+
+		"\u0001\u0000\u0000\u0000\u00bd\u009f\u0001\u0000\u0000\u0000\u00bd\u00a3"+
+		"\u0001\u0000\u0000\u0000\u00bd\u00a7\u0001\u0000\u0000\u0000\u00bd\u00a9"+
+		"\u0001\u0000\u0000\u0000\u00bd\u00af\u0001\u0000\u0000\u0000\u00bd\u00b6"+
+		"\u0001\u0000\u0000\u0000\u00be\u0001\u0001\u0000\u0000\u0000\u00bf\u00c0"+
+		"\u0005;\u0000\u0000\u00c0\u00c1\u0005@\u0000\u0000\u00c1\u00c2\u0003\u0014"+
+		"\n\u0000\u00c2\u00c3\u0005]\u0000\u0000\u00c3\u00c4\u0003\u0004\u0002"+
+		"\u0000\u00c4\u00c5\u0005A\u0000\u0000\u00c5\u0003\u0001\u0000\u0000\u0000"+
+		"\u00c6\u00cb\u0003\u0006\u0003\u0000\u00c7\u00c8\u0005]\u0000\u0000\u00c8"+
+		"\u00ca\u0003\u0006\u0003\u0000\u00c9\u00c7\u0001\u0000\u0000\u0000\u00ca"+
+		"\u00cd\u0001\u0000\u0000\u0000\u00cb\u00c9\u0001\u0000\u0000\u0000\u00cb"+
+		"\u00cc\u0001\u0000\u0000\u0000\u00cc\u0005\u0001\u0000\u0000\u0000\u00cd"+
+		"\u00cb\u0001\u0000\u0000\u0000\u00ce\u00d1\u0003f3\u0000\u00cf\u00d1\u0005"+
+		"\u001a\u0000\u0000\u00d0\u00ce\u0001\u0000\u0000\u0000\u00d0\u00cf\u0001"+
+		"\u0000\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d3\u0005"+
+		"[\u0000\u0000\u00d3\u00d4\u0003\u0014\n\u0000\u00d4\u0007\u0001\u0000"+
+		"\u0000\u0000\u00d5\u00e4\u0003\u0000\u0000\u0000\u00d6\u00d8\u0005\u0001"+
+		"\u0000\u0000\u00d7\u00d6\u0001\u0000\u0000\u0000\u00d7\u00d8\u0001\u0000"+
+		"\u0000\u0000\u00d8\u00d9\u0001\u0000\u0000\u0000\u00d9\u00da\u0005@\u0000"+
+		"\u0000\u00da\u00db\u0003f3\u0000\u00db\u00dc\u0005A\u0000\u0000\u00dc"+
+		"\u00dd\u0005D\u0000\u0000\u00dd\u00df\u0003p8\u0000\u00de\u00e0\u0005"+
+		"]\u0000\u0000\u00df\u00de\u0001\u0000\u0000\u0000\u00df\u00e0\u0001\u0000"+
+		"\u0000\u0000\u00e0\u00e1\u0001\u0000\u0000\u0000\u00e1\u00e2\u0005E\u0000"+
+		"\u0000\u00e2\u00e4\u0001\u0000\u0000\u0000\u00e3\u00d5\u0001\u0000\u0000"+
+		"\u0000\u00e3\u00d7\u0001\u0000\u0000\u0000\u00e4\u00f4\u0001\u0000\u0000"+
+		"\u0000\u00e5\u00e6\u0005B\u0000\u0000\u00e6\u00e7\u0003\u0018\f\u0000"+
+		"\u00e7\u00e8\u0005C\u0000\u0000\u00e8\u00f3\u0001\u0000\u0000\u0000\u00e9"+
+		"\u00eb\u0005@\u0000\u0000\u00ea\u00ec\u0003\n\u0005\u0000\u00eb\u00ea"+
+		"\u0001\u0000\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u00ed"+
+		"\u0001\u0000\u0000\u0000\u00ed\u00f3\u0005A\u0000\u0000\u00ee\u00ef\u0007"+
+		"\u0000\u0000\u0000\u00ef\u00f3\u0005n\u0000\u0000\u00f0\u00f3\u0005M\u0000"+
+		"\u0000\u00f1\u00f3\u0005O\u0000\u0000\u00f2\u00e5\u0001\u0000\u0000\u0000"+
+		"\u00f2\u00e9\u0001\u0000\u0000\u0000\u00f2\u00ee\u0001\u0000\u0000\u0000"+
+		"\u00f2\u00f0\u0001\u0000\u0000\u0000\u00f2\u00f1\u0001\u0000\u0000\u0000"+
+		"\u00f3\u00f6\u0001\u0000\u0000\u0000\u00f4\u00f2\u0001\u0000\u0000\u0000"+
+		"\u00f4\u00f5\u0001\u0000\u0000\u0000\u00f5\t\u0001\u0000\u0000\u0000\u00f6"+
+		"\u00f4\u0001\u0000\u0000\u0000\u00f7\u00fc\u0003\u0014\n\u0000\u00f8\u00f9"+
+		"\u0005]\u0000\u0000\u00f9\u00fb\u0003\u0014\n\u0000\u00fa\u00f8\u0001"+
+		"\u0000\u0000\u0000\u00fb\u00fe\u0001\u0000\u0000\u0000\u00fc\u00fa\u0001"+
+		"\u0000\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u000b\u0001"+
+		"\u0000\u0000\u0000\u00fe\u00fc\u0001\u0000\u0000\u0000\u00ff\u0101\u0007"+
+		"\u0001\u0000\u0000\u0100\u00ff\u0001\u0000\u0000\u0000\u0101\u0104\u0001"+
+		"\u0000\u0000\u0000\u0102\u0100\u0001\u0000\u0000\u0000\u0102\u0103\u0001"+
+		"\u0000\u0000\u0000\u0103\u0110\u0001\u0000\u0000\u0000\u0104\u0102\u0001"+
+		"\u0000\u0000\u0000\u0105\u0111\u0003\b\u0004\u0000\u0106\u0107\u0003\u000e"+
+		"\u0007\u0000\u0107\u0108\u0003\u0010\b\u0000\u0108\u0111\u0001\u0000\u0000"+
+		"\u0000\u0109\u010a\u0007\u0002\u0000\u0000\u010a\u010b\u0005@\u0000\u0000"+
+		"\u010b\u010c\u0003f3\u0000\u010c\u010d\u0005A\u0000\u0000\u010d\u0111"+
+		"\u0001\u0000\u0000\u0000\u010e\u010f\u0005U\u0000\u0000\u010f\u0111\u0005"+
+		"n\u0000\u0000\u0110\u0105\u0001\u0000\u0000\u0000\u0110\u0106\u0001\u0000"+
+		"\u0000\u0000\u0110\u0109\u0001\u0000\u0000\u0000\u0110\u010e\u0001\u0000"+
+		"\u0000\u0000\u0111\r\u0001\u0000\u0000\u0000\u0112\u0113\u0007\u0003\u0000"+
+		"\u0000\u0113\u000f\u0001\u0000\u0000\u0000\u0114\u0116\u0005\u0001\u0000"+
+		"\u0000\u0115\u0114\u0001\u0000\u0000\u0000\u0115\u0116\u0001\u0000\u0000"+
+		"\u0000\u0116\u0117\u0001\u0000\u0000\u0000\u0117\u0118\u0005@\u0000\u0000"+
+		"\u0118\u0119\u0003f3\u0000\u0119\u011a\u0005A\u0000\u0000\u011a\u011b"+
+		"\u0003\u0010\b\u0000\u011b\u011f\u0001\u0000\u0000\u0000\u011c\u011f\u0003"+
+		"\f\u0006\u0000\u011d\u011f\u0005p\u0000\u0000\u011e\u0115\u0001\u0000"+
+		"\u0000\u0000\u011e\u011c\u0001\u0000\u0000\u0000\u011e\u011d\u0001\u0000"+
+		"\u0000\u0000\u011f\u0011\u0001\u0000\u0000\u0000\u0120\u0121\u0006\t\uffff"+
+		"\uffff\u0000\u0121\u0122\u0003\u0010\b\u0000\u0122\u0149\u0001\u0000\u0000"+
+		"\u0000\u0123\u0124\n\u000b\u0000\u0000\u0124\u0125\u0007\u0004\u0000\u0000"+
+		"\u0125\u0148\u0003\u0012\t\f\u0126\u0127\n\n\u0000\u0000\u0127\u0128\u0007"+
+		"\u0005\u0000\u0000\u0128\u0148\u0003\u0012\t\u000b\u0129\u012a\n\t\u0000"+
+		"\u0000\u012a\u012b\u0007\u0006\u0000\u0000\u012b\u0148\u0003\u0012\t\n"+
+		"\u012c\u012d\n\b\u0000\u0000\u012d\u012e\u0007\u0007\u0000\u0000\u012e"+
+		"\u0148\u0003\u0012\t\t\u012f\u0130\n\u0007\u0000\u0000\u0130\u0131\u0007"+
+		"\b\u0000\u0000\u0131\u0148\u0003\u0012\t\b\u0132\u0133\n\u0006\u0000\u0000"+
+		"\u0133\u0134\u0005S\u0000\u0000\u0134\u0148\u0003\u0012\t\u0007\u0135"+
+		"\u0136\n\u0005\u0000\u0000\u0136\u0137\u0005W\u0000\u0000\u0137\u0148"+
+		"\u0003\u0012\t\u0006\u0138\u0139\n\u0004\u0000\u0000\u0139\u013a\u0005"+
+		"T\u0000\u0000\u013a\u0148\u0003\u0012\t\u0005\u013b\u013c\n\u0003\u0000"+
+		"\u0000\u013c\u013d\u0005U\u0000\u0000\u013d\u0148\u0003\u0012\t\u0004"+
+		"\u013e\u013f\n\u0002\u0000\u0000\u013f\u0140\u0005V\u0000\u0000\u0140"+
+		"\u0148\u0003\u0012\t\u0003\u0141\u0142\n\u0001\u0000\u0000\u0142\u0143"+
+		"\u0005Z\u0000\u0000\u0143\u0144\u0003\u0018\f\u0000\u0144\u0145\u0005"+
+		"[\u0000\u0000\u0145\u0146\u0003\u0012\t\u0001\u0146\u0148\u0001\u0000"+
+		"\u0000\u0000\u0147\u0123\u0001\u0000\u0000\u0000\u0147\u0126\u0001\u0000"+
+		"\u0000\u0000\u0147\u0129\u0001\u0000\u0000\u0000\u0147\u012c\u0001\u0000"+
+		"\u0000\u0000\u0147\u012f\u0001\u0000\u0000\u0000\u0147\u0132\u0001\u0000"+
+		"\u0000\u0000\u0147\u0135\u0001\u0000\u0000\u0000\u0147\u0138\u0001\u0000"+
+		"\u0000\u0000\u0147\u013b\u0001\u0000\u0000\u0000\u0147\u013e\u0001\u0000"+
+		"\u0000\u0000\u0147\u0141\u0001\u0000\u0000\u0000\u0148\u014b\u0001\u0000"+
+		"\u0000\u0000\u0149\u0147\u0001\u0000\u0000\u0000\u0149\u014a\u0001\u0000"+
+		"\u0000\u0000\u014a\u0013\u0001\u0000\u0000\u0000\u014b\u0149\u0001\u0000"+
+		"\u0000\u0000\u014c\u0153\u0003\u0012\t\u0000\u014d\u014e\u0003\f\u0006"+
+		"\u0000\u014e\u014f\u0003\u0016\u000b\u0000\u014f\u0150\u0003\u0014\n\u0000"+
+		"\u0150\u0153\u0001\u0000\u0000\u0000\u0151\u0153\u0005p\u0000\u0000\u0152"+
+		"\u014c\u0001\u0000\u0000\u0000\u0152\u014d\u0001\u0000\u0000\u0000\u0152"+
+		"\u0151\u0001\u0000\u0000\u0000\u0153\u0015\u0001\u0000\u0000\u0000\u0154"+
+		"\u0155\u0007\t\u0000\u0000\u0155\u0017\u0001\u0000\u0000\u0000\u0156\u015b"+
+		"\u0003\u0014\n\u0000\u0157\u0158\u0005]\u0000\u0000\u0158\u015a\u0003"+
+		"\u0014\n\u0000\u0159\u0157\u0001\u0000\u0000\u0000\u015a\u015d\u0001\u0000"+
+		"\u0000\u0000\u015b\u0159\u0001\u0000\u0000\u0000\u015b\u015c\u0001\u0000"+
+		"\u0000\u0000\u015c\u0019\u0001\u0000\u0000\u0000\u015d\u015b\u0001\u0000"+
+		"\u0000\u0000\u015e\u015f\u0003\u0012\t\u0000\u015f\u001b\u0001\u0000\u0000"+
+		"\u0000\u0160\u0162\u0003\u001e\u000f\u0000\u0161\u0163\u0003$\u0012\u0000"+
+		"\u0162\u0161\u0001\u0000\u0000\u0000\u0162\u0163\u0001\u0000\u0000\u0000"+
+		"\u0163\u0164\u0001\u0000\u0000\u0000\u0164\u0165\u0005\\\u0000\u0000\u0165"+
+		"\u0168\u0001\u0000\u0000\u0000\u0166\u0168\u0003x<\u0000\u0167\u0160\u0001"+
+		"\u0000\u0000\u0000\u0167\u0166\u0001\u0000\u0000\u0000\u0168\u001d\u0001"+
+		"\u0000\u0000\u0000\u0169\u016b\u0003\"\u0011\u0000\u016a\u0169\u0001\u0000"+
+		"\u0000\u0000\u016b\u016c\u0001\u0000\u0000\u0000\u016c\u016a\u0001\u0000"+
+		"\u0000\u0000\u016c\u016d\u0001\u0000\u0000\u0000\u016d\u001f\u0001\u0000"+
+		"\u0000\u0000\u016e\u0170\u0003\"\u0011\u0000\u016f\u016e\u0001\u0000\u0000"+
+		"\u0000\u0170\u0171\u0001\u0000\u0000\u0000\u0171\u016f\u0001\u0000\u0000"+
+		"\u0000\u0171\u0172\u0001\u0000\u0000\u0000\u0172!\u0001\u0000\u0000\u0000"+
+		"\u0173\u0179\u0003(\u0014\u0000\u0174\u0179\u0003*\u0015\u0000\u0175\u0179"+
+		"\u0003D\"\u0000\u0176\u0179\u0003F#\u0000\u0177\u0179\u0003H$\u0000\u0178"+
+		"\u0173\u0001\u0000\u0000\u0000\u0178\u0174\u0001\u0000\u0000\u0000\u0178"+
+		"\u0175\u0001\u0000\u0000\u0000\u0178\u0176\u0001\u0000\u0000\u0000\u0178"+
+		"\u0177\u0001\u0000\u0000\u0000\u0179#\u0001\u0000\u0000\u0000\u017a\u017f"+
+		"\u0003&\u0013\u0000\u017b\u017c\u0005]\u0000\u0000\u017c\u017e\u0003&"+
+		"\u0013\u0000\u017d\u017b\u0001\u0000\u0000\u0000\u017e\u0181\u0001\u0000"+
+		"\u0000\u0000\u017f\u017d\u0001\u0000\u0000\u0000\u017f\u0180\u0001\u0000"+
+		"\u0000\u0000\u0180%\u0001\u0000\u0000\u0000\u0181\u017f\u0001\u0000\u0000"+
+		"\u0000\u0182\u0185\u0003J%\u0000\u0183\u0184\u0005^\u0000\u0000\u0184"+
+		"\u0186\u0003n7\u0000\u0185\u0183\u0001\u0000\u0000\u0000\u0185\u0186\u0001"+
+		"\u0000\u0000\u0000\u0186\'\u0001\u0000\u0000\u0000\u0187\u0188\u0007\n"+
+		"\u0000\u0000\u0188)\u0001\u0000\u0000\u0000\u0189\u01a5\u00053\u0000\u0000"+
+		"\u018a\u01a5\u0005\u0017\u0000\u0000\u018b\u01a5\u0005*\u0000\u0000\u018c"+
+		"\u01a5\u0005%\u0000\u0000\u018d\u01a5\u0005&\u0000\u0000\u018e\u01a5\u0005"+
+		" \u0000\u0000\u018f\u01a5\u0005\u001c\u0000\u0000\u0190\u01a5\u0005+\u0000"+
+		"\u0000\u0191\u01a5\u00052\u0000\u0000\u0192\u01a5\u00059\u0000\u0000\u0193"+
+		"\u01a5\u0005:\u0000\u0000\u0194\u01a5\u0005\u0004\u0000\u0000\u0195\u01a5"+
+		"\u0005\u0005\u0000\u0000\u0196\u01a5\u0005\u0006\u0000\u0000\u0197\u0198"+
+		"\u0005\u0001\u0000\u0000\u0198\u0199\u0005@\u0000\u0000\u0199\u019a\u0007"+
+		"\u000b\u0000\u0000\u019a\u01a5\u0005A\u0000\u0000\u019b\u01a5\u0003B!"+
+		"\u0000\u019c\u01a5\u0003,\u0016\u0000\u019d\u01a5\u0003:\u001d\u0000\u019e"+
+		"\u01a5\u0003l6\u0000\u019f\u01a0\u0005\u0007\u0000\u0000\u01a0\u01a1\u0005"+
+		"@\u0000\u0000\u01a1\u01a2\u0003\u001a\r\u0000\u01a2\u01a3\u0005A\u0000"+
+		"\u0000\u01a3\u01a5\u0001\u0000\u0000\u0000\u01a4\u0189\u0001\u0000\u0000"+
+		"\u0000\u01a4\u018a\u0001\u0000\u0000\u0000\u01a4\u018b\u0001\u0000\u0000"+
+		"\u0000\u01a4\u018c\u0001\u0000\u0000\u0000\u01a4\u018d\u0001\u0000\u0000"+
+		"\u0000\u01a4\u018e\u0001\u0000\u0000\u0000\u01a4\u018f\u0001\u0000\u0000"+
+		"\u0000\u01a4\u0190\u0001\u0000\u0000\u0000\u01a4\u0191\u0001\u0000\u0000"+
+		"\u0000\u01a4\u0192\u0001\u0000\u0000\u0000\u01a4\u0193\u0001\u0000\u0000"+
+		"\u0000\u01a4\u0194\u0001\u0000\u0000\u0000\u01a4\u0195\u0001\u0000\u0000"+
+		"\u0000\u01a4\u0196\u0001\u0000\u0000\u0000\u01a4\u0197\u0001\u0000\u0000"+
+		"\u0000\u01a4\u019b\u0001\u0000\u0000\u0000\u01a4\u019c\u0001\u0000\u0000"+
+		"\u0000\u01a4\u019d\u0001\u0000\u0000\u0000\u01a4\u019e\u0001\u0000\u0000"+
+		"\u0000\u01a4\u019f\u0001\u0000\u0000\u0000\u01a5+\u0001\u0000\u0000\u0000"+
+		"\u01a6\u01a8\u0003.\u0017\u0000\u01a7\u01a9\u0005n\u0000\u0000\u01a8\u01a7"+
+		"\u0001\u0000\u0000\u0000\u01a8\u01a9\u0001\u0000\u0000\u0000\u01a9\u01aa"+
+		"\u0001\u0000\u0000\u0000\u01aa\u01ab\u0005D\u0000\u0000\u01ab\u01ac\u0003"+
+		"0\u0018\u0000\u01ac\u01ad\u0005E\u0000\u0000\u01ad\u01b2\u0001\u0000\u0000"+
+		"\u0000\u01ae\u01af\u0003.\u0017\u0000\u01af\u01b0\u0005n\u0000\u0000\u01b0"+
+		"\u01b2\u0001\u0000\u0000\u0000\u01b1\u01a6\u0001\u0000\u0000\u0000\u01b1"+
+		"\u01ae\u0001\u0000\u0000\u0000\u01b2-\u0001\u0000\u0000\u0000\u01b3\u01b4"+
+		"\u0007\f\u0000\u0000\u01b4/\u0001\u0000\u0000\u0000\u01b5\u01b7\u0003"+
+		"2\u0019\u0000\u01b6\u01b5\u0001\u0000\u0000\u0000\u01b7\u01b8\u0001\u0000"+
+		"\u0000\u0000\u01b8\u01b6\u0001\u0000\u0000\u0000\u01b8\u01b9\u0001\u0000"+
+		"\u0000\u0000\u01b91\u0001\u0000\u0000\u0000\u01ba\u01bb\u00034\u001a\u0000"+
+		"\u01bb\u01bc\u00036\u001b\u0000\u01bc\u01bd\u0005\\\u0000\u0000\u01bd"+
+		"\u01c3\u0001\u0000\u0000\u0000\u01be\u01bf\u00034\u001a\u0000\u01bf\u01c0"+
+		"\u0005\\\u0000\u0000\u01c0\u01c3\u0001\u0000\u0000\u0000\u01c1\u01c3\u0003"+
+		"x<\u0000\u01c2\u01ba\u0001\u0000\u0000\u0000\u01c2\u01be\u0001\u0000\u0000"+
+		"\u0000\u01c2\u01c1\u0001\u0000\u0000\u0000\u01c33\u0001\u0000\u0000\u0000"+
+		"\u01c4\u01c7\u0003*\u0015\u0000\u01c5\u01c7\u0003D\"\u0000\u01c6\u01c4"+
+		"\u0001\u0000\u0000\u0000\u01c6\u01c5\u0001\u0000\u0000\u0000\u01c7\u01c9"+
+		"\u0001\u0000\u0000\u0000\u01c8\u01ca\u00034\u001a\u0000\u01c9\u01c8\u0001"+
+		"\u0000\u0000\u0000\u01c9\u01ca\u0001\u0000\u0000\u0000\u01ca5\u0001\u0000"+
+		"\u0000\u0000\u01cb\u01d0\u00038\u001c\u0000\u01cc\u01cd\u0005]\u0000\u0000"+
+		"\u01cd\u01cf\u00038\u001c\u0000\u01ce\u01cc\u0001\u0000\u0000\u0000\u01cf"+
+		"\u01d2\u0001\u0000\u0000\u0000\u01d0\u01ce\u0001\u0000\u0000\u0000\u01d0"+
+		"\u01d1\u0001\u0000\u0000\u0000\u01d17\u0001\u0000\u0000\u0000\u01d2\u01d0"+
+		"\u0001\u0000\u0000\u0000\u01d3\u01da\u0003J%\u0000\u01d4\u01d6\u0003J"+
+		"%\u0000\u01d5\u01d4\u0001\u0000\u0000\u0000\u01d5\u01d6\u0001\u0000\u0000"+
+		"\u0000\u01d6\u01d7\u0001\u0000\u0000\u0000\u01d7\u01d8\u0005[\u0000\u0000"+
+		"\u01d8\u01da\u0003\u001a\r\u0000\u01d9\u01d3\u0001\u0000\u0000\u0000\u01d9"+
+		"\u01d5\u0001\u0000\u0000\u0000\u01da9\u0001\u0000\u0000\u0000\u01db\u01dd"+
+		"\u0005\u001e\u0000\u0000\u01dc\u01de\u0005n\u0000\u0000\u01dd\u01dc\u0001"+
+		"\u0000\u0000\u0000\u01dd\u01de\u0001\u0000\u0000\u0000\u01de\u01df\u0001"+
+		"\u0000\u0000\u0000\u01df\u01e0\u0005D\u0000\u0000\u01e0\u01e2\u0003<\u001e"+
+		"\u0000\u01e1\u01e3\u0005]\u0000\u0000\u01e2\u01e1\u0001\u0000\u0000\u0000"+
+		"\u01e2\u01e3\u0001\u0000\u0000\u0000\u01e3\u01e4\u0001\u0000\u0000\u0000"+
+		"\u01e4\u01e5\u0005E\u0000\u0000\u01e5\u01e9\u0001\u0000\u0000\u0000\u01e6"+
+		"\u01e7\u0005\u001e\u0000\u0000\u01e7\u01e9\u0005n\u0000\u0000\u01e8\u01db"+
+		"\u0001\u0000\u0000\u0000\u01e8\u01e6\u0001\u0000\u0000\u0000\u01e9;\u0001"+
+		"\u0000\u0000\u0000\u01ea\u01ef\u0003>\u001f\u0000\u01eb\u01ec\u0005]\u0000"+
+		"\u0000\u01ec\u01ee\u0003>\u001f\u0000\u01ed\u01eb\u0001\u0000\u0000\u0000"+
+		"\u01ee\u01f1\u0001\u0000\u0000\u0000\u01ef\u01ed\u0001\u0000\u0000\u0000"+
+		"\u01ef\u01f0\u0001\u0000\u0000\u0000\u01f0=\u0001\u0000\u0000\u0000\u01f1"+
+		"\u01ef\u0001\u0000\u0000\u0000\u01f2\u01f5\u0003@ \u0000\u01f3\u01f4\u0005"+
+		"^\u0000\u0000\u01f4\u01f6\u0003\u001a\r\u0000\u01f5\u01f3\u0001\u0000"+
+		"\u0000\u0000\u01f5\u01f6\u0001\u0000\u0000\u0000\u01f6?\u0001\u0000\u0000"+
+		"\u0000\u01f7\u01f8\u0005n\u0000\u0000\u01f8A\u0001\u0000\u0000\u0000\u01f9"+
+		"\u01fa\u00058\u0000\u0000\u01fa\u01fb\u0005@\u0000\u0000\u01fb\u01fc\u0003"+
+		"f3\u0000\u01fc\u01fd\u0005A\u0000\u0000\u01fdC\u0001\u0000\u0000\u0000"+
+		"\u01fe\u01ff\u0007\r\u0000\u0000\u01ffE\u0001\u0000\u0000\u0000\u0200"+
+		"\u020a\u0005$\u0000\u0000\u0201\u020a\u0005=\u0000\u0000\u0202\u020a\u0005"+
+		"\b\u0000\u0000\u0203\u020a\u0005\t\u0000\u0000\u0204\u020a\u0003R)\u0000"+
+		"\u0205\u0206\u0005\n\u0000\u0000\u0206\u0207\u0005@\u0000\u0000\u0207"+
+		"\u0208\u0005n\u0000\u0000\u0208\u020a\u0005A\u0000\u0000\u0209\u0200\u0001"+
+		"\u0000\u0000\u0000\u0209\u0201\u0001\u0000\u0000\u0000\u0209\u0202\u0001"+
+		"\u0000\u0000\u0000\u0209\u0203\u0001\u0000\u0000\u0000\u0209\u0204\u0001"+
+		"\u0000\u0000\u0000\u0209\u0205\u0001\u0000\u0000\u0000\u020aG\u0001\u0000"+
+		"\u0000\u0000\u020b\u020c\u00056\u0000\u0000\u020c\u020f\u0005@\u0000\u0000"+
+		"\u020d\u0210\u0003f3\u0000\u020e\u0210\u0003\u001a\r\u0000\u020f\u020d"+
+		"\u0001\u0000\u0000\u0000\u020f\u020e\u0001\u0000\u0000\u0000\u0210\u0211"+
+		"\u0001\u0000\u0000\u0000\u0211\u0212\u0005A\u0000\u0000\u0212I\u0001\u0000"+
+		"\u0000\u0000\u0213\u0215\u0003Z-\u0000\u0214\u0213\u0001\u0000\u0000\u0000"+
+		"\u0214\u0215\u0001\u0000\u0000\u0000\u0215\u0216\u0001\u0000\u0000\u0000"+
+		"\u0216\u021a\u0003L&\u0000\u0217\u0219\u0003P(\u0000\u0218\u0217\u0001"+
+		"\u0000\u0000\u0000\u0219\u021c\u0001\u0000\u0000\u0000\u021a\u0218\u0001"+
+		"\u0000\u0000\u0000\u021a\u021b\u0001\u0000\u0000\u0000\u021bK\u0001\u0000"+
+		"\u0000\u0000\u021c\u021a\u0001\u0000\u0000\u0000\u021d\u021e\u0006&\uffff"+
+		"\uffff\u0000\u021e\u022f\u0005n\u0000\u0000\u021f\u0220\u0005@\u0000\u0000"+
+		"\u0220\u0221\u0003J%\u0000\u0221\u0222\u0005A\u0000\u0000\u0222\u022f"+
+		"\u0001\u0000\u0000\u0000\u0223\u0224\u0005n\u0000\u0000\u0224\u0225\u0005"+
+		"[\u0000\u0000\u0225\u022f\u0005p\u0000\u0000\u0226\u0227\u0003N\'\u0000"+
+		"\u0227\u0228\u0005n\u0000\u0000\u0228\u022f\u0001\u0000\u0000\u0000\u0229"+
+		"\u022a\u0005@\u0000\u0000\u022a\u022b\u0003N\'\u0000\u022b\u022c\u0003"+
+		"J%\u0000\u022c\u022d\u0005A\u0000\u0000\u022d\u022f\u0001\u0000\u0000"+
+		"\u0000\u022e\u021d\u0001\u0000\u0000\u0000\u022e\u021f\u0001\u0000\u0000"+
+		"\u0000\u022e\u0223\u0001\u0000\u0000\u0000\u022e\u0226\u0001\u0000\u0000"+
+		"\u0000\u022e\u0229\u0001\u0000\u0000\u0000\u022f\u025d\u0001\u0000\u0000"+
+		"\u0000\u0230\u0231\n\t\u0000\u0000\u0231\u0233\u0005B\u0000\u0000\u0232"+
+		"\u0234\u0003\\.\u0000\u0233\u0232\u0001\u0000\u0000\u0000\u0233\u0234"+
+		"\u0001\u0000\u0000\u0000\u0234\u0236\u0001\u0000\u0000\u0000\u0235\u0237"+
+		"\u0003\u0014\n\u0000\u0236\u0235\u0001\u0000\u0000\u0000\u0236\u0237\u0001"+
+		"\u0000\u0000\u0000\u0237\u0238\u0001\u0000\u0000\u0000\u0238\u025c\u0005"+
+		"C\u0000\u0000\u0239\u023a\n\b\u0000\u0000\u023a\u023b\u0005B\u0000\u0000"+
+		"\u023b\u023d\u0005-\u0000\u0000\u023c\u023e\u0003\\.\u0000\u023d\u023c"+
+		"\u0001\u0000\u0000\u0000\u023d\u023e\u0001\u0000\u0000\u0000\u023e\u023f"+
+		"\u0001\u0000\u0000\u0000\u023f\u0240\u0003\u0014\n\u0000\u0240\u0241\u0005"+
+		"C\u0000\u0000\u0241\u025c\u0001\u0000\u0000\u0000\u0242\u0243\n\u0007"+
+		"\u0000\u0000\u0243\u0244\u0005B\u0000\u0000\u0244\u0245\u0003\\.\u0000"+
+		"\u0245\u0246\u0005-\u0000\u0000\u0246\u0247\u0003\u0014\n\u0000\u0247"+
+		"\u0248\u0005C\u0000\u0000\u0248\u025c\u0001\u0000\u0000\u0000\u0249\u024a"+
+		"\n\u0006\u0000\u0000\u024a\u024c\u0005B\u0000\u0000\u024b\u024d\u0003"+
+		"\\.\u0000\u024c\u024b\u0001\u0000\u0000\u0000\u024c\u024d\u0001\u0000"+
+		"\u0000\u0000\u024d\u024e\u0001\u0000\u0000\u0000\u024e\u024f\u0005P\u0000"+
+		"\u0000\u024f\u025c\u0005C\u0000\u0000\u0250\u0251\n\u0005\u0000\u0000"+
+		"\u0251\u0252\u0005@\u0000\u0000\u0252\u0253\u0003^/\u0000\u0253\u0254"+
+		"\u0005A\u0000\u0000\u0254\u025c\u0001\u0000\u0000\u0000\u0255\u0256\n"+
+		"\u0004\u0000\u0000\u0256\u0258\u0005@\u0000\u0000\u0257\u0259\u0003d2"+
+		"\u0000\u0258\u0257\u0001\u0000\u0000\u0000\u0258\u0259\u0001\u0000\u0000"+
+		"\u0000\u0259\u025a\u0001\u0000\u0000\u0000\u025a\u025c\u0005A\u0000\u0000"+
+		"\u025b\u0230\u0001\u0000\u0000\u0000\u025b\u0239\u0001\u0000\u0000\u0000"+
+		"\u025b\u0242\u0001\u0000\u0000\u0000\u025b\u0249\u0001\u0000\u0000\u0000"+
+		"\u025b\u0250\u0001\u0000\u0000\u0000\u025b\u0255\u0001\u0000\u0000\u0000"+
+		"\u025c\u025f\u0001\u0000\u0000\u0000\u025d\u025b\u0001\u0000\u0000\u0000"+
+		"\u025d\u025e\u0001\u0000\u0000\u0000\u025eM\u0001\u0000\u0000\u0000\u025f"+
+		"\u025d\u0001\u0000\u0000\u0000\u0260\u0261\u0007\u000e\u0000\u0000\u0261"+
+		"O\u0001\u0000\u0000\u0000\u0262\u0263\u0005\u0010\u0000\u0000\u0263\u0265"+
+		"\u0005@\u0000\u0000\u0264\u0266\u0005q\u0000\u0000\u0265\u0264\u0001\u0000"+
+		"\u0000\u0000\u0266\u0267\u0001\u0000\u0000\u0000\u0267\u0265\u0001\u0000"+
+		"\u0000\u0000\u0267\u0268\u0001\u0000\u0000\u0000\u0268\u0269\u0001\u0000"+
+		"\u0000\u0000\u0269\u026c\u0005A\u0000\u0000\u026a\u026c\u0003R)\u0000"+
+		"\u026b\u0262\u0001\u0000\u0000\u0000\u026b\u026a\u0001\u0000\u0000\u0000"+
+		"\u026cQ\u0001\u0000\u0000\u0000\u026d\u026e\u0005\u0011\u0000\u0000\u026e"+
+		"\u026f\u0005@\u0000\u0000\u026f\u0270\u0005@\u0000\u0000\u0270\u0271\u0003"+
+		"T*\u0000\u0271\u0272\u0005A\u0000\u0000\u0272\u0273\u0005A\u0000\u0000"+
+		"\u0273S\u0001\u0000\u0000\u0000\u0274\u0276\u0003V+\u0000\u0275\u0274"+
+		"\u0001\u0000\u0000\u0000\u0275\u0276\u0001\u0000\u0000\u0000\u0276\u027d"+
+		"\u0001\u0000\u0000\u0000\u0277\u0279\u0005]\u0000\u0000\u0278\u027a\u0003"+
+		"V+\u0000\u0279\u0278\u0001\u0000\u0000\u0000\u0279\u027a\u0001\u0000\u0000"+
+		"\u0000\u027a\u027c\u0001\u0000\u0000\u0000\u027b\u0277\u0001\u0000\u0000"+
+		"\u0000\u027c\u027f\u0001\u0000\u0000\u0000\u027d\u027b\u0001\u0000\u0000"+
+		"\u0000\u027d\u027e\u0001\u0000\u0000\u0000\u027eU\u0001\u0000\u0000\u0000"+
+		"\u027f\u027d\u0001\u0000\u0000\u0000\u0280\u0286\b\u000f\u0000\u0000\u0281"+
+		"\u0283\u0005@\u0000\u0000\u0282\u0284\u0003\n\u0005\u0000\u0283\u0282"+
+		"\u0001\u0000\u0000\u0000\u0283\u0284\u0001\u0000\u0000\u0000\u0284\u0285"+
+		"\u0001\u0000\u0000\u0000\u0285\u0287\u0005A\u0000\u0000\u0286\u0281\u0001"+
+		"\u0000\u0000\u0000\u0286\u0287\u0001\u0000\u0000\u0000\u0287W\u0001\u0000"+
+		"\u0000\u0000\u0288\u028e\b\u0010\u0000\u0000\u0289\u028a\u0005@\u0000"+
+		"\u0000\u028a\u028b\u0003X,\u0000\u028b\u028c\u0005A\u0000\u0000\u028c"+
+		"\u028e\u0001\u0000\u0000\u0000\u028d\u0288\u0001\u0000\u0000\u0000\u028d"+
+		"\u0289\u0001\u0000\u0000\u0000\u028e\u0291\u0001\u0000\u0000\u0000\u028f"+
+		"\u028d\u0001\u0000\u0000\u0000\u028f\u0290\u0001\u0000\u0000\u0000\u0290"+
+		"Y\u0001\u0000\u0000\u0000\u0291\u028f\u0001\u0000\u0000\u0000\u0292\u0294"+
+		"\u0007\u0011\u0000\u0000\u0293\u0295\u0003\\.\u0000\u0294\u0293\u0001"+
+		"\u0000\u0000\u0000\u0294\u0295\u0001\u0000\u0000\u0000\u0295\u0297\u0001"+
+		"\u0000\u0000\u0000\u0296\u0292\u0001\u0000\u0000\u0000\u0297\u0298\u0001"+
+		"\u0000\u0000\u0000\u0298\u0296\u0001\u0000\u0000\u0000\u0298\u0299\u0001"+
+		"\u0000\u0000\u0000\u0299[\u0001\u0000\u0000\u0000\u029a\u029c\u0003D\""+
+		"\u0000\u029b\u029a\u0001\u0000\u0000\u0000\u029c\u029d\u0001\u0000\u0000"+
+		"\u0000\u029d\u029b\u0001\u0000\u0000\u0000\u029d\u029e\u0001\u0000\u0000"+
+		"\u0000\u029e]\u0001\u0000\u0000\u0000\u029f\u02a2\u0003`0\u0000\u02a0"+
+		"\u02a1\u0005]\u0000\u0000\u02a1\u02a3\u0005m\u0000\u0000\u02a2\u02a0\u0001"+
+		"\u0000\u0000\u0000\u02a2\u02a3\u0001\u0000\u0000\u0000\u02a3_\u0001\u0000"+
+		"\u0000\u0000\u02a4\u02a9\u0003b1\u0000\u02a5\u02a6\u0005]\u0000\u0000"+
+		"\u02a6\u02a8\u0003b1\u0000\u02a7\u02a5\u0001\u0000\u0000\u0000\u02a8\u02ab"+
+		"\u0001\u0000\u0000\u0000\u02a9\u02a7\u0001\u0000\u0000\u0000\u02a9\u02aa"+
+		"\u0001\u0000\u0000\u0000\u02aaa\u0001\u0000\u0000\u0000\u02ab\u02a9\u0001"+
+		"\u0000\u0000\u0000\u02ac\u02ad\u0003\u001e\u000f\u0000\u02ad\u02ae\u0003"+
+		"J%\u0000\u02ae\u02b4\u0001\u0000\u0000\u0000\u02af\u02b1\u0003 \u0010"+
+		"\u0000\u02b0\u02b2\u0003h4\u0000\u02b1\u02b0\u0001\u0000\u0000\u0000\u02b1"+
+		"\u02b2\u0001\u0000\u0000\u0000\u02b2\u02b4\u0001\u0000\u0000\u0000\u02b3"+
+		"\u02ac\u0001\u0000\u0000\u0000\u02b3\u02af\u0001\u0000\u0000\u0000\u02b4"+
+		"c\u0001\u0000\u0000\u0000\u02b5\u02ba\u0005n\u0000\u0000\u02b6\u02b7\u0005"+
+		"]\u0000\u0000\u02b7\u02b9\u0005n\u0000\u0000\u02b8\u02b6\u0001\u0000\u0000"+
+		"\u0000\u02b9\u02bc\u0001\u0000\u0000\u0000\u02ba\u02b8\u0001\u0000\u0000"+
+		"\u0000\u02ba\u02bb\u0001\u0000\u0000\u0000\u02bbe\u0001\u0000\u0000\u0000"+
+		"\u02bc\u02ba\u0001\u0000\u0000\u0000\u02bd\u02bf\u00034\u001a\u0000\u02be"+
+		"\u02c0\u0003h4\u0000\u02bf\u02be\u0001\u0000\u0000\u0000\u02bf\u02c0\u0001"+
+		"\u0000\u0000\u0000\u02c0g\u0001\u0000\u0000\u0000\u02c1\u02cd\u0003Z-"+
+		"\u0000\u02c2\u02c4\u0003Z-\u0000\u02c3\u02c2\u0001\u0000\u0000\u0000\u02c3"+
+		"\u02c4\u0001\u0000\u0000\u0000\u02c4\u02c5\u0001\u0000\u0000\u0000\u02c5"+
+		"\u02c9\u0003j5\u0000\u02c6\u02c8\u0003P(\u0000\u02c7\u02c6\u0001\u0000"+
+		"\u0000\u0000\u02c8\u02cb\u0001\u0000\u0000\u0000\u02c9\u02c7\u0001\u0000"+
+		"\u0000\u0000\u02c9\u02ca\u0001\u0000\u0000\u0000\u02ca\u02cd\u0001\u0000"+
+		"\u0000\u0000\u02cb\u02c9\u0001\u0000\u0000\u0000\u02cc\u02c1\u0001\u0000"+
+		"\u0000\u0000\u02cc\u02c3\u0001\u0000\u0000\u0000\u02cdi\u0001\u0000\u0000"+
+		"\u0000\u02ce\u02cf\u00065\uffff\uffff\u0000\u02cf\u02d0\u0005@\u0000\u0000"+
+		"\u02d0\u02d1\u0003h4\u0000\u02d1\u02d5\u0005A\u0000\u0000\u02d2\u02d4"+
+		"\u0003P(\u0000\u02d3\u02d2\u0001\u0000\u0000\u0000\u02d4\u02d7\u0001\u0000"+
+		"\u0000\u0000\u02d5\u02d3\u0001\u0000\u0000\u0000\u02d5\u02d6\u0001\u0000"+
+		"\u0000\u0000\u02d6\u02fd\u0001\u0000\u0000\u0000\u02d7\u02d5\u0001\u0000"+
+		"\u0000\u0000\u02d8\u02da\u0005B\u0000\u0000\u02d9\u02db\u0003\\.\u0000"+
+		"\u02da\u02d9\u0001\u0000\u0000\u0000\u02da\u02db\u0001\u0000\u0000\u0000"+
+		"\u02db\u02dd\u0001\u0000\u0000\u0000\u02dc\u02de\u0003\u0014\n\u0000\u02dd"+
+		"\u02dc\u0001\u0000\u0000\u0000\u02dd\u02de\u0001\u0000\u0000\u0000\u02de"+
+		"\u02df\u0001\u0000\u0000\u0000\u02df\u02fd\u0005C\u0000\u0000\u02e0\u02e1"+
+		"\u0005B\u0000\u0000\u02e1\u02e3\u0005-\u0000\u0000\u02e2\u02e4\u0003\\"+
+		".\u0000\u02e3\u02e2\u0001\u0000\u0000\u0000\u02e3\u02e4\u0001\u0000\u0000"+
+		"\u0000\u02e4\u02e5\u0001\u0000\u0000\u0000\u02e5\u02e6\u0003\u0014\n\u0000"+
+		"\u02e6\u02e7\u0005C\u0000\u0000\u02e7\u02fd\u0001\u0000\u0000\u0000\u02e8"+
+		"\u02e9\u0005B\u0000\u0000\u02e9\u02ea\u0003\\.\u0000\u02ea\u02eb\u0005"+
+		"-\u0000\u0000\u02eb\u02ec\u0003\u0014\n\u0000\u02ec\u02ed\u0005C\u0000"+
+		"\u0000\u02ed\u02fd\u0001\u0000\u0000\u0000\u02ee\u02ef\u0005B\u0000\u0000"+
+		"\u02ef\u02f0\u0005P\u0000\u0000\u02f0\u02fd\u0005C\u0000\u0000\u02f1\u02f3"+
+		"\u0005@\u0000\u0000\u02f2\u02f4\u0003^/\u0000\u02f3\u02f2\u0001\u0000"+
+		"\u0000\u0000\u02f3\u02f4\u0001\u0000\u0000\u0000\u02f4\u02f5\u0001\u0000"+
+		"\u0000\u0000\u02f5\u02f9\u0005A\u0000\u0000\u02f6\u02f8\u0003P(\u0000"+
+		"\u02f7\u02f6\u0001\u0000\u0000\u0000\u02f8\u02fb\u0001\u0000\u0000\u0000"+
+		"\u02f9\u02f7\u0001\u0000\u0000\u0000\u02f9\u02fa\u0001\u0000\u0000\u0000"+
+		"\u02fa\u02fd\u0001\u0000\u0000\u0000\u02fb\u02f9\u0001\u0000\u0000\u0000"+
+		"\u02fc\u02ce\u0001\u0000\u0000\u0000\u02fc\u02d8\u0001\u0000\u0000\u0000"+
+		"\u02fc\u02e0\u0001\u0000\u0000\u0000\u02fc\u02e8\u0001\u0000\u0000\u0000"+
+		"\u02fc\u02ee\u0001\u0000\u0000\u0000\u02fc\u02f1\u0001\u0000\u0000\u0000"+
+		"\u02fd\u0329\u0001\u0000\u0000\u0000\u02fe\u02ff\n\u0005\u0000\u0000\u02ff"+
+		"\u0301\u0005B\u0000\u0000\u0300\u0302\u0003\\.\u0000\u0301\u0300\u0001"+
+		"\u0000\u0000\u0000\u0301\u0302\u0001\u0000\u0000\u0000\u0302\u0304\u0001"+
+		"\u0000\u0000\u0000\u0303\u0305\u0003\u0014\n\u0000\u0304\u0303\u0001\u0000"+
+		"\u0000\u0000\u0304\u0305\u0001\u0000\u0000\u0000\u0305\u0306\u0001\u0000"+
+		"\u0000\u0000\u0306\u0328\u0005C\u0000\u0000\u0307\u0308\n\u0004\u0000"+
+		"\u0000\u0308\u0309\u0005B\u0000\u0000\u0309\u030b\u0005-\u0000\u0000\u030a"+
+		"\u030c\u0003\\.\u0000\u030b\u030a\u0001\u0000\u0000\u0000\u030b\u030c"+
+		"\u0001\u0000\u0000\u0000\u030c\u030d\u0001\u0000\u0000\u0000\u030d\u030e"+
+		"\u0003\u0014\n\u0000\u030e\u030f\u0005C\u0000\u0000\u030f\u0328\u0001"+
+		"\u0000\u0000\u0000\u0310\u0311\n\u0003\u0000\u0000\u0311\u0312\u0005B"+
+		"\u0000\u0000\u0312\u0313\u0003\\.\u0000\u0313\u0314\u0005-\u0000\u0000"+
+		"\u0314\u0315\u0003\u0014\n\u0000\u0315\u0316\u0005C\u0000\u0000\u0316"+
+		"\u0328\u0001\u0000\u0000\u0000\u0317\u0318\n\u0002\u0000\u0000\u0318\u0319"+
+		"\u0005B\u0000\u0000\u0319\u031a\u0005P\u0000\u0000\u031a\u0328\u0005C"+
+		"\u0000\u0000\u031b\u031c\n\u0001\u0000\u0000\u031c\u031e\u0005@\u0000"+
+		"\u0000\u031d\u031f\u0003^/\u0000\u031e\u031d\u0001\u0000\u0000\u0000\u031e"+
+		"\u031f\u0001\u0000\u0000\u0000\u031f\u0320\u0001\u0000\u0000\u0000\u0320"+
+		"\u0324\u0005A\u0000\u0000\u0321\u0323\u0003P(\u0000\u0322\u0321\u0001"+
+		"\u0000\u0000\u0000\u0323\u0326\u0001\u0000\u0000\u0000\u0324\u0322\u0001"+
+		"\u0000\u0000\u0000\u0324\u0325\u0001\u0000\u0000\u0000\u0325\u0328\u0001"+
+		"\u0000\u0000\u0000\u0326\u0324\u0001\u0000\u0000\u0000\u0327\u02fe\u0001"+
+		"\u0000\u0000\u0000\u0327\u0307\u0001\u0000\u0000\u0000\u0327\u0310\u0001"+
+		"\u0000\u0000\u0000\u0327\u0317\u0001\u0000\u0000\u0000\u0327\u031b\u0001"+
+		"\u0000\u0000\u0000\u0328\u032b\u0001\u0000\u0000\u0000\u0329\u0327\u0001"+
+		"\u0000\u0000\u0000\u0329\u032a\u0001\u0000\u0000\u0000\u032ak\u0001\u0000"+
+		"\u0000\u0000\u032b\u0329\u0001\u0000\u0000\u0000\u032c\u032d\u0005n\u0000"+
+		"\u0000\u032dm\u0001\u0000\u0000\u0000\u032e\u0337\u0003\u0014\n\u0000"+
+		"\u032f\u0330\u0005D\u0000\u0000\u0330\u0332\u0003p8\u0000\u0331\u0333"+
+		"\u0005]\u0000\u0000\u0332\u0331\u0001\u0000\u0000\u0000\u0332\u0333\u0001"+
+		"\u0000\u0000\u0000\u0333\u0334\u0001\u0000\u0000\u0000\u0334\u0335\u0005"+
+		"E\u0000\u0000\u0335\u0337\u0001\u0000\u0000\u0000\u0336\u032e\u0001\u0000"+
+		"\u0000\u0000\u0336\u032f\u0001\u0000\u0000\u0000\u0337o\u0001\u0000\u0000"+
+		"\u0000\u0338\u033a\u0003r9\u0000\u0339\u0338\u0001\u0000\u0000\u0000\u0339"+
+		"\u033a\u0001\u0000\u0000\u0000\u033a\u033b\u0001\u0000\u0000\u0000\u033b"+
+		"\u0343\u0003n7\u0000\u033c\u033e\u0005]\u0000\u0000\u033d\u033f\u0003"+
+		"r9\u0000\u033e\u033d\u0001\u0000\u0000\u0000\u033e\u033f\u0001\u0000\u0000"+
+		"\u0000\u033f\u0340\u0001\u0000\u0000\u0000\u0340\u0342\u0003n7\u0000\u0341"+
+		"\u033c\u0001\u0000\u0000\u0000\u0342\u0345\u0001\u0000\u0000\u0000\u0343"+
+		"\u0341\u0001\u0000\u0000\u0000\u0343\u0344\u0001\u0000\u0000\u0000\u0344"+
+		"q\u0001\u0000\u0000\u0000\u0345\u0343\u0001\u0000\u0000\u0000\u0346\u0347"+
+		"\u0003t:\u0000\u0347\u0348\u0005^\u0000\u0000\u0348s\u0001\u0000\u0000"+
+		"\u0000\u0349\u034b\u0003v;\u0000\u034a\u0349\u0001\u0000\u0000\u0000\u034b"+
+		"\u034c\u0001\u0000\u0000\u0000\u034c\u034a\u0001\u0000\u0000\u0000\u034c"+
+		"\u034d\u0001\u0000\u0000\u0000\u034du\u0001\u0000\u0000\u0000\u034e\u034f"+
+		"\u0005B\u0000\u0000\u034f\u0350\u0003\u001a\r\u0000\u0350\u0351\u0005"+
+		"C\u0000\u0000\u0351\u0355\u0001\u0000\u0000\u0000\u0352\u0353\u0005l\u0000"+
+		"\u0000\u0353\u0355\u0005n\u0000\u0000\u0354\u034e\u0001\u0000\u0000\u0000"+
+		"\u0354\u0352\u0001\u0000\u0000\u0000\u0355w\u0001\u0000\u0000\u0000\u0356"+
+		"\u0357\u0005>\u0000\u0000\u0357\u0358\u0005@\u0000\u0000\u0358\u0359\u0003"+
+		"\u001a\r\u0000\u0359\u035b\u0005]\u0000\u0000\u035a\u035c\u0005q\u0000"+
+		"\u0000\u035b\u035a\u0001\u0000\u0000\u0000\u035c\u035d\u0001\u0000\u0000"+
+		"\u0000\u035d\u035b\u0001\u0000\u0000\u0000\u035d\u035e\u0001\u0000\u0000"+
+		"\u0000\u035e\u035f\u0001\u0000\u0000\u0000\u035f\u0360\u0005A\u0000\u0000"+
+		"\u0360\u0361\u0005\\\u0000\u0000\u0361y\u0001\u0000\u0000\u0000\u0362"+
+		"\u0388\u0003|>\u0000\u0363\u0388\u0003~?\u0000\u0364\u0388\u0003\u0084"+
+		"B\u0000\u0365\u0388\u0003\u0086C\u0000\u0366\u0388\u0003\u0088D\u0000"+
+		"\u0367\u0388\u0003\u0090H\u0000\u0368\u0369\u0007\u0012\u0000\u0000\u0369"+
+		"\u036a\u0007\u0013\u0000\u0000\u036a\u0373\u0005@\u0000\u0000\u036b\u0370"+
+		"\u0003\u0012\t\u0000\u036c\u036d\u0005]\u0000\u0000\u036d\u036f\u0003"+
+		"\u0012\t\u0000\u036e\u036c\u0001\u0000\u0000\u0000\u036f\u0372\u0001\u0000"+
+		"\u0000\u0000\u0370\u036e\u0001\u0000\u0000\u0000\u0370\u0371\u0001\u0000"+
+		"\u0000\u0000\u0371\u0374\u0001\u0000\u0000\u0000\u0372\u0370\u0001\u0000"+
+		"\u0000\u0000\u0373\u036b\u0001\u0000\u0000\u0000\u0373\u0374\u0001\u0000"+
+		"\u0000\u0000\u0374\u0382\u0001\u0000\u0000\u0000\u0375\u037e\u0005[\u0000"+
+		"\u0000\u0376\u037b\u0003\u0012\t\u0000\u0377\u0378\u0005]\u0000\u0000"+
+		"\u0378\u037a\u0003\u0012\t\u0000\u0379\u0377\u0001\u0000\u0000\u0000\u037a"+
+		"\u037d\u0001\u0000\u0000\u0000\u037b\u0379\u0001\u0000\u0000\u0000\u037b"+
+		"\u037c\u0001\u0000\u0000\u0000\u037c\u037f\u0001\u0000\u0000\u0000\u037d"+
+		"\u037b\u0001\u0000\u0000\u0000\u037e\u0376\u0001\u0000\u0000\u0000\u037e"+
+		"\u037f\u0001\u0000\u0000\u0000\u037f\u0381\u0001\u0000\u0000\u0000\u0380"+
+		"\u0375\u0001\u0000\u0000\u0000\u0381\u0384\u0001\u0000\u0000\u0000\u0382"+
+		"\u0380\u0001\u0000\u0000\u0000\u0382\u0383\u0001\u0000\u0000\u0000\u0383"+
+		"\u0385\u0001\u0000\u0000\u0000\u0384\u0382\u0001\u0000\u0000\u0000\u0385"+
+		"\u0386\u0005A\u0000\u0000\u0386\u0388\u0005\\\u0000\u0000\u0387\u0362"+
+		"\u0001\u0000\u0000\u0000\u0387\u0363\u0001\u0000\u0000\u0000\u0387\u0364"+
+		"\u0001\u0000\u0000\u0000\u0387\u0365\u0001\u0000\u0000\u0000\u0387\u0366"+
+		"\u0001\u0000\u0000\u0000\u0387\u0367\u0001\u0000\u0000\u0000\u0387\u0368"+
+		"\u0001\u0000\u0000\u0000\u0388{\u0001\u0000\u0000\u0000\u0389\u038a\u0005"+
+		"n\u0000\u0000\u038a\u038c\u0005[\u0000\u0000\u038b\u038d\u0003z=\u0000"+
+		"\u038c\u038b\u0001\u0000\u0000\u0000\u038c\u038d\u0001\u0000\u0000\u0000"+
+		"\u038d\u0397\u0001\u0000\u0000\u0000\u038e\u038f\u0005\u0016\u0000\u0000"+
+		"\u038f\u0390\u0003\u001a\r\u0000\u0390\u0391\u0005[\u0000\u0000\u0391"+
+		"\u0392\u0003z=\u0000\u0392\u0397\u0001\u0000\u0000\u0000\u0393\u0394\u0005"+
+		"\u001a\u0000\u0000\u0394\u0395\u0005[\u0000\u0000\u0395\u0397\u0003z="+
+		"\u0000\u0396\u0389\u0001\u0000\u0000\u0000\u0396\u038e\u0001\u0000\u0000"+
+		"\u0000\u0396\u0393\u0001\u0000\u0000\u0000\u0397}\u0001\u0000\u0000\u0000"+
+		"\u0398\u039a\u0005D\u0000\u0000\u0399\u039b\u0003\u0080@\u0000\u039a\u0399"+
+		"\u0001\u0000\u0000\u0000\u039a\u039b\u0001\u0000\u0000\u0000\u039b\u039c"+
+		"\u0001\u0000\u0000\u0000\u039c\u039d\u0005E\u0000\u0000\u039d\u007f\u0001"+
+		"\u0000\u0000\u0000\u039e\u03a0\u0003\u0082A\u0000\u039f\u039e\u0001\u0000"+
+		"\u0000\u0000\u03a0\u03a1\u0001\u0000\u0000\u0000\u03a1\u039f\u0001\u0000"+
+		"\u0000\u0000\u03a1\u03a2\u0001\u0000\u0000\u0000\u03a2\u0081\u0001\u0000"+
+		"\u0000\u0000\u03a3\u03a6\u0003z=\u0000\u03a4\u03a6\u0003\u001c\u000e\u0000"+
+		"\u03a5\u03a3\u0001\u0000\u0000\u0000\u03a5\u03a4\u0001\u0000\u0000\u0000"+
+		"\u03a6\u0083\u0001\u0000\u0000\u0000\u03a7\u03a9\u0003\u0018\f\u0000\u03a8"+
+		"\u03a7\u0001\u0000\u0000\u0000\u03a8\u03a9\u0001\u0000\u0000\u0000\u03a9"+
+		"\u03aa\u0001\u0000\u0000\u0000\u03aa\u03ab\u0005\\\u0000\u0000\u03ab\u0085"+
+		"\u0001\u0000\u0000\u0000\u03ac\u03ad\u0005#\u0000\u0000\u03ad\u03ae\u0005"+
+		"@\u0000\u0000\u03ae\u03af\u0003\u0018\f\u0000\u03af\u03b0\u0005A\u0000"+
+		"\u0000\u03b0\u03b3\u0003z=\u0000\u03b1\u03b2\u0005\u001d\u0000\u0000\u03b2"+
+		"\u03b4\u0003z=\u0000\u03b3\u03b1\u0001\u0000\u0000\u0000\u03b3\u03b4\u0001"+
+		"\u0000\u0000\u0000\u03b4\u03bc\u0001\u0000\u0000\u0000\u03b5\u03b6\u0005"+
+		"/\u0000\u0000\u03b6\u03b7\u0005@\u0000\u0000\u03b7\u03b8\u0003\u0018\f"+
+		"\u0000\u03b8\u03b9\u0005A\u0000\u0000\u03b9\u03ba\u0003z=\u0000\u03ba"+
+		"\u03bc\u0001\u0000\u0000\u0000\u03bb\u03ac\u0001\u0000\u0000\u0000\u03bb"+
+		"\u03b5\u0001\u0000\u0000\u0000\u03bc\u0087\u0001\u0000\u0000\u0000\u03bd"+
+		"\u03be\u00055\u0000\u0000\u03be\u03bf\u0005@\u0000\u0000\u03bf\u03c0\u0003"+
+		"\u0018\f\u0000\u03c0\u03c1\u0005A\u0000\u0000\u03c1\u03c2\u0003z=\u0000"+
+		"\u03c2\u03d2\u0001\u0000\u0000\u0000\u03c3\u03c4\u0005\u001b\u0000\u0000"+
+		"\u03c4\u03c5\u0003z=\u0000\u03c5\u03c6\u00055\u0000\u0000\u03c6\u03c7"+
+		"\u0005@\u0000\u0000\u03c7\u03c8\u0003\u0018\f\u0000\u03c8\u03c9\u0005"+
+		"A\u0000\u0000\u03c9\u03ca\u0005\\\u0000\u0000\u03ca\u03d2\u0001\u0000"+
+		"\u0000\u0000\u03cb\u03cc\u0005!\u0000\u0000\u03cc\u03cd\u0005@\u0000\u0000"+
+		"\u03cd\u03ce\u0003\u008aE\u0000\u03ce\u03cf\u0005A\u0000\u0000\u03cf\u03d0"+
+		"\u0003z=\u0000\u03d0\u03d2\u0001\u0000\u0000\u0000\u03d1\u03bd\u0001\u0000"+
+		"\u0000\u0000\u03d1\u03c3\u0001\u0000\u0000\u0000\u03d1\u03cb\u0001\u0000"+
+		"\u0000\u0000\u03d2\u0089\u0001\u0000\u0000\u0000\u03d3\u03d8\u0003\u008c"+
+		"F\u0000\u03d4\u03d6\u0003\u0018\f\u0000\u03d5\u03d4\u0001\u0000\u0000"+
+		"\u0000\u03d5\u03d6\u0001\u0000\u0000\u0000\u03d6\u03d8\u0001\u0000\u0000"+
+		"\u0000\u03d7\u03d3\u0001\u0000\u0000\u0000\u03d7\u03d5\u0001\u0000\u0000"+
+		"\u0000\u03d8\u03d9\u0001\u0000\u0000\u0000\u03d9\u03db\u0005\\\u0000\u0000"+
+		"\u03da\u03dc\u0003\u008eG\u0000\u03db\u03da\u0001\u0000\u0000\u0000\u03db"+
+		"\u03dc\u0001\u0000\u0000\u0000\u03dc\u03dd\u0001\u0000\u0000\u0000\u03dd"+
+		"\u03df\u0005\\\u0000\u0000\u03de\u03e0\u0003\u008eG\u0000\u03df\u03de"+
+		"\u0001\u0000\u0000\u0000\u03df\u03e0\u0001\u0000\u0000\u0000\u03e0\u008b"+
+		"\u0001\u0000\u0000\u0000\u03e1\u03e3\u0003\u001e\u000f\u0000\u03e2\u03e4"+
+		"\u0003$\u0012\u0000\u03e3\u03e2\u0001\u0000\u0000\u0000\u03e3\u03e4\u0001"+
+		"\u0000\u0000\u0000\u03e4\u008d\u0001\u0000\u0000\u0000\u03e5\u03ea\u0003"+
+		"\u0014\n\u0000\u03e6\u03e7\u0005]\u0000\u0000\u03e7\u03e9\u0003\u0014"+
+		"\n\u0000\u03e8\u03e6\u0001\u0000\u0000\u0000\u03e9\u03ec\u0001\u0000\u0000"+
+		"\u0000\u03ea\u03e8\u0001\u0000\u0000\u0000\u03ea\u03eb\u0001\u0000\u0000"+
+		"\u0000\u03eb\u008f\u0001\u0000\u0000\u0000\u03ec\u03ea\u0001\u0000\u0000"+
+		"\u0000\u03ed\u03ee\u0005\"\u0000\u0000\u03ee\u03f8\u0005n\u0000\u0000"+
+		"\u03ef\u03f8\u0005\u0019\u0000\u0000\u03f0\u03f8\u0005\u0015\u0000\u0000"+
+		"\u03f1\u03f3\u0005)\u0000\u0000\u03f2\u03f4\u0003\u0018\f\u0000\u03f3"+
+		"\u03f2\u0001\u0000\u0000\u0000\u03f3\u03f4\u0001\u0000\u0000\u0000\u03f4"+
+		"\u03f8\u0001\u0000\u0000\u0000\u03f5\u03f6\u0005\"\u0000\u0000\u03f6\u03f8"+
+		"\u0003\f\u0006\u0000\u03f7\u03ed\u0001\u0000\u0000\u0000\u03f7\u03ef\u0001"+
+		"\u0000\u0000\u0000\u03f7\u03f0\u0001\u0000\u0000\u0000\u03f7\u03f1\u0001"+
+		"\u0000\u0000\u0000\u03f7\u03f5\u0001\u0000\u0000\u0000\u03f8\u03f9\u0001"+
+		"\u0000\u0000\u0000\u03f9\u03fa\u0005\\\u0000\u0000\u03fa\u0091\u0001\u0000"+
+		"\u0000\u0000\u03fb\u03fd\u0003\u0094J\u0000\u03fc\u03fb\u0001\u0000\u0000"+
+		"\u0000\u03fc\u03fd\u0001\u0000\u0000\u0000\u03fd\u03fe\u0001\u0000\u0000"+
+		"\u0000\u03fe\u03ff\u0005\u0000\u0000\u0001\u03ff\u0093\u0001\u0000\u0000"+
+		"\u0000\u0400\u0402\u0003\u0096K\u0000\u0401\u0400\u0001\u0000\u0000\u0000"+
+		"\u0402\u0403\u0001\u0000\u0000\u0000\u0403\u0401\u0001\u0000\u0000\u0000"+
+		"\u0403\u0404\u0001\u0000\u0000\u0000\u0404\u0095\u0001\u0000\u0000\u0000"+
+		"\u0405\u0409\u0003\u0098L\u0000\u0406\u0409\u0003\u001c\u000e\u0000\u0407"+
+		"\u0409\u0005\\\u0000\u0000\u0408\u0405\u0001\u0000\u0000\u0000\u0408\u0406"+
+		"\u0001\u0000\u0000\u0000\u0408\u0407\u0001\u0000\u0000\u0000\u0409\u0097"+
+		"\u0001\u0000\u0000\u0000\u040a\u040c\u0003\u001e\u000f\u0000\u040b\u040a"+
+		"\u0001\u0000\u0000\u0000\u040b\u040c\u0001\u0000\u0000\u0000\u040c\u040d"+
+		"\u0001\u0000\u0000\u0000\u040d\u040f\u0003J%\u0000\u040e\u0410\u0003\u009a"+
+		"M\u0000\u040f\u040e\u0001\u0000\u0000\u0000\u040f\u0410\u0001\u0000\u0000"+
+		"\u0000\u0410\u0411\u0001\u0000\u0000\u0000\u0411\u0412\u0003~?\u0000\u0412"+
+		"\u0099\u0001\u0000\u0000\u0000\u0413\u0415\u0003\u001c\u000e\u0000\u0414"+
+		"\u0413\u0001\u0000\u0000\u0000\u0415\u0416\u0001\u0000\u0000\u0000\u0416"+
+		"\u0414\u0001\u0000\u0000\u0000\u0416\u0417\u0001\u0000\u0000\u0000\u0417"+
+		"\u009b\u0001\u0000\u0000\u0000~\u00a1\u00a9\u00bd\u00cb\u00d0\u00d7\u00df"+
+		"\u00e3\u00eb\u00f2\u00f4\u00fc\u0102\u0110\u0115\u011e\u0147\u0149\u0152"+
+		"\u015b\u0162\u0167\u016c\u0171\u0178\u017f\u0185\u01a4\u01a8\u01b1\u01b8"+
+		"\u01c2\u01c6\u01c9\u01d0\u01d5\u01d9\u01dd\u01e2\u01e8\u01ef\u01f5\u0209"+
+		"\u020f\u0214\u021a\u022e\u0233\u0236\u023d\u024c\u0258\u025b\u025d\u0267"+
+		"\u026b\u0275\u0279\u027d\u0283\u0286\u028d\u028f\u0294\u0298\u029d\u02a2"+
+		"\u02a9\u02b1\u02b3\u02ba\u02bf\u02c3\u02c9\u02cc\u02d5\u02da\u02dd\u02e3"+
+		"\u02f3\u02f9\u02fc\u0301\u0304\u030b\u031e\u0324\u0327\u0329\u0332\u0336"+
+		"\u0339\u033e\u0343\u034c\u0354\u035d\u0370\u0373\u037b\u037e\u0382\u0387"+
+		"\u038c\u0396\u039a\u03a1\u03a5\u03a8\u03b3\u03bb\u03d1\u03d5\u03d7\u03db"+
+		"\u03df\u03e3\u03ea\u03f3\u03f7\u03fc\u0403\u0408\u040b\u040f\u0416";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
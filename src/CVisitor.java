@@ -63,66 +63,6 @@ public interface CVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCastExpression(CParser.CastExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitMultiplicativeExpression(CParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAdditiveExpression(CParser.AdditiveExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#shiftExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitShiftExpression(CParser.ShiftExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitRelationalExpression(CParser.RelationalExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitEqualityExpression(CParser.EqualityExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#andExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAndExpression(CParser.AndExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#exclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExclusiveOrExpression(CParser.ExclusiveOrExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#inclusiveOrExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitInclusiveOrExpression(CParser.InclusiveOrExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#logicalAndExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitLogicalAndExpression(CParser.LogicalAndExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CParser#logicalOrExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitLogicalOrExpression(CParser.LogicalOrExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link CParser#conditionalExpression}.
 	 * @param ctx the parse tree
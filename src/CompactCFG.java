@@ -0,0 +1,192 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Finalized, read-only form of a ControlFlowGraph.
+// Nodes are numbered 0..size()-1 in reverse postorder from the start node, which is 0. For structured code the IDs
+// follow the source: then-branch before else-branch, loop body before the code after the loop. Every node comes
+// before its successors except along back edges.
+// Nodes that cannot be reached from the start node are left out.
+// Edges are stored in compressed sparse row form: the successors of node n are
+// successors[successorStart[n]] .. successors[successorStart[n + 1] - 1], and the same for predecessors.
+// Node attributes live in parallel arrays indexed by node ID, so walking the graph touches a few arrays instead of
+// chasing CFGNode and ArrayList objects around the heap.
+public class CompactCFG implements FlowGraph {
+    private final CFGNode[] nodes;
+    private final Map<CFGNode, Integer> ids = new IdentityHashMap<>();
+    private final Statement[] statement;
+    private final int[] successorStart;
+    private final int[] successors;
+    private final byte[] edgeKinds; // parallel to successors, EdgeKind ordinals
+    private final int[] predecessorStart;
+    private final int[] predecessors;
+    private final int[] postorder;
+
+    private static final CFGNode.EdgeKind[] EDGE_KINDS = CFGNode.EdgeKind.values();
+
+    CompactCFG(CFGNode start) {
+        nodes = reversePostorder(start);
+        int size = nodes.length;
+        statement = new Statement[size];
+        successorStart = new int[size + 1];
+        predecessorStart = new int[size + 1];
+
+        // Node IDs, and the edge counts per node
+        for (int i = 0; i < size; i++) {
+            ids.put(nodes[i], i);
+        }
+        for (int i = 0; i < size; i++) {
+            statement[i] = nodes[i].statement;
+            successorStart[i + 1] = successorStart[i] + nodes[i].successors.size();
+            for (CFGNode successor : nodes[i].successors) {
+                predecessorStart[ids.get(successor) + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            predecessorStart[i + 1] += predecessorStart[i];
+        }
+
+        // Fill the edge arrays. Predecessors end up sorted by node ID because the sources are visited in order.
+        successors = new int[successorStart[size]];
+        edgeKinds = new byte[successorStart[size]];
+        predecessors = new int[predecessorStart[size]];
+        int[] nextPredecessor = new int[size];
+        for (int i = 0; i < size; i++) {
+            int edge = successorStart[i];
+            for (int s = 0; s < nodes[i].successors.size(); s++) {
+                int target = ids.get(nodes[i].successors.get(s));
+                edgeKinds[edge] = (byte) nodes[i].edgeKinds.get(s).ordinal();
+                successors[edge++] = target;
+                predecessors[predecessorStart[target] + nextPredecessor[target]++] = i;
+            }
+        }
+
+        postorder = new int[size];
+        for (int i = 0; i < size; i++) {
+            postorder[i] = size - 1 - i;
+        }
+    }
+
+    // Depth first search with an explicit stack, so long statement chains cannot overflow the Java stack.
+    // Successors are explored last to first, which puts the first successor first in the reverse postorder.
+    private static CFGNode[] reversePostorder(CFGNode start) {
+        if (start == null) {
+            return new CFGNode[0];
+        }
+        List<CFGNode> postorder = new ArrayList<>();
+        Set<CFGNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<CFGNode> stack = new ArrayDeque<>();
+        Deque<Integer> nextEdge = new ArrayDeque<>(); // per node on the stack, the next successor to look at
+        stack.push(start);
+        nextEdge.push(start.successors.size() - 1);
+        visited.add(start);
+        while (!stack.isEmpty()) {
+            CFGNode node = stack.peek();
+            int edge = nextEdge.pop();
+            if (edge >= 0) {
+                nextEdge.push(edge - 1);
+                CFGNode successor = node.successors.get(edge);
+                if (visited.add(successor)) {
+                    stack.push(successor);
+                    nextEdge.push(successor.successors.size() - 1);
+                }
+            } else {
+                postorder.add(stack.pop());
+            }
+        }
+        Collections.reverse(postorder);
+        return postorder.toArray(new CFGNode[0]);
+    }
+
+    @Override
+    public int size() {
+        return nodes.length;
+    }
+
+    @Override
+    public int getStart() {
+        return 0;
+    }
+
+    public CFGNode getNode(int node) {
+        return nodes[node];
+    }
+
+    // All nodes by ID. The array is shared, callers must not change it.
+    public CFGNode[] getNodes() {
+        return nodes;
+    }
+
+    // The ID of a node of the graph this was built from, or -1 if it is not part of it
+    public int getId(CFGNode node) {
+        Integer id = ids.get(node);
+        return id == null ? -1 : id;
+    }
+
+    // Node IDs in depth first postorder, the reverse of the ID order. The array is shared, callers must not change it.
+    public int[] getPostorder() {
+        return postorder;
+    }
+
+    // Built from the source on every call, see CFGNode.getCode()
+    public String getCode(int node) {
+        return nodes[node].getCode();
+    }
+
+    public Statement getStatement(int node) {
+        return statement[node];
+    }
+
+    @Override
+    public int getSuccessorCount(int node) {
+        return successorStart[node + 1] - successorStart[node];
+    }
+
+    @Override
+    public int getSuccessor(int node, int index) {
+        return successors[successorStart[node] + index];
+    }
+
+    // The kind of the edge to getSuccessor(node, index)
+    public CFGNode.EdgeKind getEdgeKind(int node, int index) {
+        return EDGE_KINDS[edgeKinds[successorStart[node] + index]];
+    }
+
+    // The successor along the first edge of the given kind, or -1 if there is none
+    public int getSuccessor(int node, CFGNode.EdgeKind kind) {
+        for (int i = successorStart[node]; i < successorStart[node + 1]; i++) {
+            if (edgeKinds[i] == kind.ordinal()) {
+                return successors[i];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getPredecessorCount(int node) {
+        return predecessorStart[node + 1] - predecessorStart[node];
+    }
+
+    @Override
+    public int getPredecessor(int node, int index) {
+        return predecessors[predecessorStart[node] + index];
+    }
+
+    public boolean hasEdge(int from, int to) {
+        for (int i = successorStart[from]; i < successorStart[from + 1]; i++) {
+            if (successors[i] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getEdgeCount() {
+        return successors.length;
+    }
+}
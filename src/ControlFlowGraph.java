@@ -1,54 +1,112 @@
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.ParseTree;
 
+import java.io.PrintWriter;
 import java.util.*;
 
 public class ControlFlowGraph {
-    CFGNode startNode;
+    private CFGNode startNode;
+    private CFGNode exitNode; // the single exit of a function graph, null for the file scope graph
 
-    public void printGraph() {
-        printNode(startNode, new HashSet<>());
+    // Computed on first use and dropped whenever the graph changes
+    private CompactCFG compact = null;
+    private LoopForest loops = null;
+    private Dominators dominators = null;
+
+    public CFGNode getStartNode() {
+        return startNode;
     }
 
-    private void printNode(CFGNode node, Set<CFGNode> visited) {
-        if (node == null || visited.contains(node)) {
-            return;
-        }
-        visited.add(node);
-        System.out.println("Node: " + node.code);
-        for (CFGNode successor : node.successors) {
-            System.out.println("  Successor: " + successor.code);
-            printNode(successor, visited);
-        }
+    public void setStartNode(CFGNode node) {
+        startNode = node;
+        invalidate();
     }
 
-    public CFGNode[] getAllNodes() {
+    public CFGNode getExitNode() {
+        return exitNode;
+    }
+
+    public void setExitNode(CFGNode node) {
+        exitNode = node;
+    }
+
+    // All edges are added through the graph so it knows when its cached orders are out of date
+    public void addEdge(CFGNode from, CFGNode to, CFGNode.EdgeKind kind) {
+        from.addSuccessor(to, kind);
+        invalidate();
+    }
+
+    private void invalidate() {
+        compact = null;
+        loops = null;
+        dominators = null;
+    }
+
+    // Prints every node reachable from the start, depth first, with its successors. A node's own successors are
+    // printed right after it is reached, interleaved with the subtrees of the successors seen for the first time.
+    // The depth first search keeps its own stack, so a long chain of statements cannot overflow the Java stack.
+    public void printGraph(PrintWriter out) {
         if (startNode == null) {
-            return new CFGNode[0];
+            return;
         }
+        Set<CFGNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<CFGNode> stack = new ArrayDeque<>();
+        Deque<Integer> nextEdge = new ArrayDeque<>(); // per node on the stack, the next successor to print
+        printNode(startNode, out);
+        visited.add(startNode);
+        stack.push(startNode);
+        nextEdge.push(0);
+        while (!stack.isEmpty() && !Output.dumpFull()) {
+            CFGNode node = stack.peek();
+            int edge = nextEdge.pop();
+            if (edge == node.successors.size()) {
+                stack.pop();
+                continue;
+            }
+            nextEdge.push(edge + 1);
+            CFGNode successor = node.successors.get(edge);
+            out.print("  Successor: ");
+            out.println(successor.getCode());
+            if (visited.add(successor)) {
+                printNode(successor, out);
+                stack.push(successor);
+                nextEdge.push(0);
+            }
+        }
+    }
 
-        List<CFGNode> allNodes = new ArrayList<>();
-        Set<CFGNode> visited = new HashSet<>();
-        Queue<CFGNode> queue = new LinkedList<>();
+    private static void printNode(CFGNode node, PrintWriter out) {
+        out.print("Node: ");
+        out.println(node.getCode());
+    }
 
-        // Start BFS from the startNode
-        queue.add(startNode);
-        visited.add(startNode);
+    // The compact array form of the graph, with its traversal orders and predecessor lists.
+    // It is built once and shared until the graph changes. A CompactCFG that was handed out earlier is not updated.
+    public CompactCFG compact() {
+        if (compact == null) {
+            compact = new CompactCFG(startNode);
+        }
+        return compact;
+    }
 
-        while (!queue.isEmpty()) {
-            CFGNode currentNode = queue.poll();
-            allNodes.add(currentNode);
+    // Loop headers, nesting and depths over the node IDs of compact()
+    public LoopForest loops() {
+        if (loops == null) {
+            loops = new LoopForest(compact());
+        }
+        return loops;
+    }
 
-            // Enqueue successors that haven't been visited yet
-            for (CFGNode successor : currentNode.successors) {
-                if (!visited.contains(successor)) {
-                    queue.add(successor);
-                    visited.add(successor);
-                }
-            }
+    // Dominator tree over the node IDs of compact()
+    public Dominators dominators() {
+        if (dominators == null) {
+            dominators = new Dominators(compact());
         }
+        return dominators;
+    }
 
-        // Convert list to array and return
-        return allNodes.toArray(new CFGNode[0]);
+    // The reachable nodes in node ID order, see CompactCFG. The array is cached, callers must not change it.
+    public CFGNode[] getAllNodes() {
+        return compact().getNodes();
     }
 }
@@ -0,0 +1,111 @@
+import java.util.BitSet;
+
+// Worklist solver for monotone dataflow problems on a FlowGraph.
+// The analysis runs forward on the graph itself, a CompactCFG or its BasicBlocks to handle straight-line code as one
+// unit. The value entering a node is the join of the values leaving its predecessors, plus the entry value for the
+// start node; the value leaving it is the transfer function applied to that. Nodes that were not visited yet do not take part in joins.
+// The worklist always hands out the pending node that comes first in reverse postorder, so every node is visited
+// after its forward predecessors, and each loop body is gone through again only while the values around it change.
+// Nodes that cannot be reached from the start are never visited and keep the bottom value.
+public class Dataflow<S> {
+    public interface Transfer<S> {
+        // The value leaving node, given the value entering it
+        S apply(int node, S in);
+    }
+
+    private final FlowGraph graph;
+    private final Lattice<S> lattice;
+    private final Object[] in; // S, per node, null until the node is visited
+    private final Object[] out;
+    private final int reachable;
+    private long visits = 0;
+    private long requeues = 0;
+    private int maxVisits = 0; // most visits to one node
+
+    public Dataflow(FlowGraph graph, Lattice<S> lattice, Transfer<S> transfer, S entry) {
+        this.graph = graph;
+        this.lattice = lattice;
+        int size = graph.size();
+        in = new Object[size];
+        out = new Object[size];
+        int[] rpoNumber = new int[size];
+        int[] order = Dominators.reversePostorder(graph, rpoNumber);
+        reachable = order.length;
+        if (reachable == 0) {
+            return;
+        }
+
+        // Pending nodes by reverse postorder number, so the lowest set bit is the next node to visit
+        BitSet pending = new BitSet(reachable);
+        int[] nodeVisits = new int[size];
+        pending.set(0);
+        for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(0)) {
+            pending.clear(i);
+            int node = order[i];
+            S value = node == graph.getStart() ? entry : lattice.bottom();
+            for (int p = 0; p < graph.getPredecessorCount(node); p++) {
+                Object predecessorOut = out[graph.getPredecessor(node, p)];
+                if (predecessorOut != null) {
+                    value = lattice.join(value, cast(predecessorOut));
+                }
+            }
+            in[node] = value;
+            S result = transfer.apply(node, value);
+            visits++;
+            maxVisits = Math.max(maxVisits, ++nodeVisits[node]);
+
+            // The first visit always passes its value on, later ones only when it changed
+            if (out[node] != null && lattice.equal(cast(out[node]), result)) {
+                continue;
+            }
+            out[node] = result;
+            for (int s = 0; s < graph.getSuccessorCount(node); s++) {
+                int successor = rpoNumber[graph.getSuccessor(node, s)];
+                if (!pending.get(successor)) {
+                    pending.set(successor);
+                    if (nodeVisits[order[successor]] > 0) {
+                        requeues++;
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> S cast(Object value) {
+        return (S) value;
+    }
+
+    public FlowGraph getGraph() {
+        return graph;
+    }
+
+    // The value entering a node, bottom if it was never reached
+    public S getIn(int node) {
+        return in[node] == null ? lattice.bottom() : cast(in[node]);
+    }
+
+    // The value leaving a node, bottom if it was never reached
+    public S getOut(int node) {
+        return out[node] == null ? lattice.bottom() : cast(out[node]);
+    }
+
+    // Number of nodes reachable from the start, each of them is visited at least once
+    public int getReachableCount() {
+        return reachable;
+    }
+
+    // Transfer function applications until nothing changed any more
+    public long getVisits() {
+        return visits;
+    }
+
+    // Times a node that had already been visited was put back on the worklist because a predecessor changed
+    public long getRequeues() {
+        return requeues;
+    }
+
+    public int getMaxVisits() {
+        return maxVisits;
+    }
+}
@@ -0,0 +1,32 @@
+import org.antlr.v4.runtime.*;
+
+// Error strategy that gives up on the whole external declaration at the first syntax error.
+// DefaultErrorStrategy tries single-token insertion and deletion and then resynchronizes inside the broken rule,
+// which can take a long time on input the grammar does not cover. Here the error is reported once and
+// TopLevelParser skips ahead to the next top-level boundary instead.
+public class DeclarationResyncStrategy extends DefaultErrorStrategy {
+    // Thrown after the error has been reported, unwinding the parser out of the declaration
+    static class AbandonedDeclarationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        AbandonedDeclarationException(RecognitionException cause) {
+            super(cause);
+        }
+    }
+
+    @Override
+    public void recover(Parser recognizer, RecognitionException e) {
+        throw new AbandonedDeclarationException(e);
+    }
+
+    // Called by match() on a mismatched token. Throwing lets the rule report it and then call recover.
+    @Override
+    public Token recoverInline(Parser recognizer) throws RecognitionException {
+        throw new InputMismatchException(recognizer);
+    }
+
+    // No resynchronization before subrules, a wrong token will fail the next prediction instead
+    @Override
+    public void sync(Parser recognizer) {
+    }
+}
@@ -0,0 +1,14 @@
+import org.antlr.v4.runtime.*;
+
+// Wraps the lexer and only hands on tokens from the default channel.
+// UnbufferedTokenStream does not filter channels itself, so whitespace, comments and directives are dropped here.
+public class DefaultChannelTokenSource extends FilteringTokenSource {
+    public DefaultChannelTokenSource(TokenSource source) {
+        super(source);
+    }
+
+    @Override
+    protected boolean keep(Token token) {
+        return token.getChannel() == Token.DEFAULT_CHANNEL;
+    }
+}
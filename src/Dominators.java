@@ -0,0 +1,247 @@
+import java.util.ArrayList;
+import java.util.List;
+
+// Dominator tree of a FlowGraph, computed with the iterative algorithm of Cooper, Harvey and Kennedy.
+// Node a dominates node b when every path from the start to b goes through a.
+// The tree is numbered with depth first enter/leave times, so dominates() is two comparisons instead of a walk up
+// the tree. Nodes that cannot be reached from the start have no immediate dominator and dominate nothing.
+public class Dominators {
+    private final FlowGraph graph;
+    private final int[] idom; // node -> immediate dominator, the start for the start itself, -1 if unreachable
+    private final int[] order; // reachable nodes in reverse postorder
+    private final int[] rpoNumber; // node -> index in order, -1 if unreachable
+    private final int[] childStart; // the children of n are children[childStart[n]] .. children[childStart[n + 1] - 1]
+    private final int[] children;
+    private final int[] enter; // dominator tree preorder time, -1 if unreachable
+    private final int[] leave; // highest preorder time in the subtree
+    private int[] frontierStart = null; // dominance frontiers, computed on first use
+    private int[] frontiers = null;
+
+    public Dominators(FlowGraph graph) {
+        this.graph = graph;
+        int size = graph.size();
+        rpoNumber = new int[size];
+        order = reversePostorder(graph, rpoNumber);
+
+        // Iterate to a fixpoint in reverse postorder. For the graphs built from C code this takes two or three
+        // passes: one to set every dominator and one to see that nothing changed, plus one per irreducible loop.
+        idom = new int[size];
+        for (int node = 0; node < size; node++) {
+            idom[node] = -1;
+        }
+        int start = graph.getStart();
+        if (size > 0) {
+            idom[start] = start;
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 1; i < order.length; i++) {
+                int node = order[i];
+                int newIdom = -1;
+                for (int p = 0; p < graph.getPredecessorCount(node); p++) {
+                    int predecessor = graph.getPredecessor(node, p);
+                    if (idom[predecessor] < 0) {
+                        continue; // unreachable, or not handled yet in this pass
+                    }
+                    newIdom = newIdom < 0 ? predecessor : intersect(predecessor, newIdom);
+                }
+                if (idom[node] != newIdom) {
+                    idom[node] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+
+        // Child lists of the tree, in reverse postorder of the graph
+        childStart = new int[size + 1];
+        for (int i = 1; i < order.length; i++) {
+            childStart[idom[order[i]] + 1]++;
+        }
+        for (int node = 0; node < size; node++) {
+            childStart[node + 1] += childStart[node];
+        }
+        children = new int[childStart[size]];
+        int[] nextChild = new int[size];
+        for (int i = 1; i < order.length; i++) {
+            int parent = idom[order[i]];
+            children[childStart[parent] + nextChild[parent]++] = order[i];
+        }
+
+        // Number the tree depth first with an explicit stack
+        enter = new int[size];
+        leave = new int[size];
+        for (int node = 0; node < size; node++) {
+            enter[node] = -1;
+            leave[node] = -1;
+        }
+        if (order.length == 0) {
+            return;
+        }
+        int time = 0;
+        int[] stack = new int[order.length];
+        int[] nextEdge = new int[size];
+        int top = 0;
+        stack[0] = start;
+        enter[start] = time++;
+        while (top >= 0) {
+            int node = stack[top];
+            if (nextEdge[node] < getChildCount(node)) {
+                int child = getChild(node, nextEdge[node]++);
+                enter[child] = time++;
+                stack[++top] = child;
+            } else {
+                leave[node] = time - 1;
+                top--;
+            }
+        }
+    }
+
+    // Walks both nodes up the tree until they meet. A node with a lower reverse postorder number is never below
+    // one with a higher number, so the deeper of the two is always the one to move.
+    private int intersect(int a, int b) {
+        while (a != b) {
+            while (rpoNumber[a] > rpoNumber[b]) {
+                a = idom[a];
+            }
+            while (rpoNumber[b] > rpoNumber[a]) {
+                b = idom[b];
+            }
+        }
+        return a;
+    }
+
+    // The nodes reachable from the start in reverse postorder. Fills rpoNumber with each node's index in it, -1 for
+    // unreachable nodes.
+    static int[] reversePostorder(FlowGraph graph, int[] rpoNumber) {
+        int size = graph.size();
+        for (int node = 0; node < size; node++) {
+            rpoNumber[node] = -1;
+        }
+        if (size == 0) {
+            return new int[0];
+        }
+        boolean[] visited = new boolean[size];
+        int[] postorder = new int[size];
+        int count = 0;
+        int[] stack = new int[size];
+        int[] nextEdge = new int[size];
+        int top = 0;
+        stack[0] = graph.getStart();
+        visited[graph.getStart()] = true;
+        while (top >= 0) {
+            int node = stack[top];
+            if (nextEdge[node] < graph.getSuccessorCount(node)) {
+                int successor = graph.getSuccessor(node, nextEdge[node]++);
+                if (!visited[successor]) {
+                    visited[successor] = true;
+                    stack[++top] = successor;
+                }
+            } else {
+                postorder[count++] = node;
+                top--;
+            }
+        }
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = postorder[count - 1 - i];
+            rpoNumber[order[i]] = i;
+        }
+        return order;
+    }
+
+    public FlowGraph getGraph() {
+        return graph;
+    }
+
+    public boolean isReachable(int node) {
+        return idom[node] >= 0;
+    }
+
+    // The immediate dominator of a node, or -1 for the start node and for unreachable nodes
+    public int getImmediateDominator(int node) {
+        return node == graph.getStart() ? -1 : idom[node];
+    }
+
+    public int getChildCount(int node) {
+        return childStart[node + 1] - childStart[node];
+    }
+
+    public int getChild(int node, int index) {
+        return children[childStart[node] + index];
+    }
+
+    // Whether every path from the start to b passes through a. Every reachable node dominates itself.
+    public boolean dominates(int a, int b) {
+        return enter[a] >= 0 && enter[b] >= 0 && enter[a] <= enter[b] && enter[b] <= leave[a];
+    }
+
+    public boolean strictlyDominates(int a, int b) {
+        return a != b && dominates(a, b);
+    }
+
+    // Number of dominator tree edges between the start and the node, -1 if it is unreachable
+    public int getDepth(int node) {
+        if (!isReachable(node)) {
+            return -1;
+        }
+        int depth = 0;
+        for (int d = node; d != graph.getStart(); d = idom[d]) {
+            depth++;
+        }
+        return depth;
+    }
+
+    // The dominance frontier of a node: the nodes where its dominance ends, the first nodes outside its subtree on
+    // any path. These are the join points where a value defined at the node meets other values.
+    public int[] getFrontier(int node) {
+        if (frontiers == null) {
+            computeFrontiers();
+        }
+        int[] frontier = new int[frontierStart[node + 1] - frontierStart[node]];
+        System.arraycopy(frontiers, frontierStart[node], frontier, 0, frontier.length);
+        return frontier;
+    }
+
+    // Only join nodes can be in a frontier. From each predecessor of a join, walk up the tree to the join's
+    // immediate dominator; every node passed on the way has the join in its frontier.
+    private void computeFrontiers() {
+        int size = graph.size();
+        List<List<Integer>> found = new ArrayList<>();
+        for (int node = 0; node < size; node++) {
+            found.add(new ArrayList<>());
+        }
+        for (int node : order) {
+            // The start is entered from outside as well, so one edge back to it already makes it a join
+            if (graph.getPredecessorCount(node) < (node == graph.getStart() ? 1 : 2)) {
+                continue;
+            }
+            for (int p = 0; p < graph.getPredecessorCount(node); p++) {
+                int runner = graph.getPredecessor(node, p);
+                if (!isReachable(runner)) {
+                    continue;
+                }
+                // A back edge to the start node puts the start in the frontier of everything up to and including
+                // itself, since the start does not strictly dominate itself
+                int stop = node == graph.getStart() ? -1 : idom[node];
+                while (runner != stop) {
+                    List<Integer> frontier = found.get(runner);
+                    if (frontier.isEmpty() || frontier.get(frontier.size() - 1) != node) {
+                        frontier.add(node);
+                    }
+                    runner = runner == graph.getStart() ? -1 : idom[runner];
+                }
+            }
+        }
+        frontierStart = new int[size + 1];
+        for (int node = 0; node < size; node++) {
+            frontierStart[node + 1] = frontierStart[node] + found.get(node).size();
+        }
+        frontiers = new int[frontierStart[size]];
+        for (int node = 0; node < size; node++) {
+            for (int i = 0; i < found.get(node).size(); i++) {
+                frontiers[frontierStart[node] + i] = found.get(node).get(i);
+            }
+        }
+    }
+}
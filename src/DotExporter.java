@@ -0,0 +1,101 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Writes control flow graphs in Graphviz DOT format, one digraph per module with a cluster per function.
+// Edges other than plain fallthrough are labelled with their kind.
+// Nodes are written straight from the arrays of the CompactCFG in node ID order, so nothing is recursive and no
+// graph is held in memory beyond the one being written; graphs of any size stream to the file.
+public class DotExporter implements Closeable {
+    private final PrintWriter out;
+    private int graphCount = 0;
+    private long nodeCount = 0;
+    private long edgeCount = 0;
+
+    public DotExporter(Path file) throws IOException {
+        out = new PrintWriter(new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16));
+    }
+
+    public void export(String fileName, ModuleCFG module) {
+        out.println("digraph " + quote(fileName) + " {");
+        out.println("  node [shape=box, fontname=\"monospace\"];");
+        int cluster = 0;
+        for (ModuleCFG.Function function : module.getGraphs()) {
+            CompactCFG cfg = function.getCFG().compact();
+            String prefix = "f" + cluster + "n";
+            out.println("  subgraph " + quote("cluster_" + cluster) + " {");
+            out.println("    label=" + quote(function.getName()) + ";");
+            for (int node = 0; node < cfg.size(); node++) {
+                out.print("    ");
+                out.print(prefix);
+                out.print(node);
+                out.print(" [label=");
+                out.print(quote(cfg.getCode(node)));
+                out.println("];");
+            }
+            for (int node = 0; node < cfg.size(); node++) {
+                for (int i = 0; i < cfg.getSuccessorCount(node); i++) {
+                    out.print("    ");
+                    out.print(prefix);
+                    out.print(node);
+                    out.print(" -> ");
+                    out.print(prefix);
+                    out.print(cfg.getSuccessor(node, i));
+                    CFGNode.EdgeKind kind = cfg.getEdgeKind(node, i);
+                    if (kind != CFGNode.EdgeKind.FALLTHROUGH) {
+                        out.print(" [label=\"" + kind.name().toLowerCase() + "\"]");
+                    }
+                    out.println(";");
+                }
+            }
+            out.println("  }");
+            graphCount++;
+            nodeCount += cfg.size();
+            edgeCount += cfg.getEdgeCount();
+            cluster++;
+        }
+        out.println("}");
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2);
+        quoted.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c == '\n') {
+                quoted.append("\\n");
+            } else if (c != '\r') {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    public int getGraphCount() {
+        return graphCount;
+    }
+
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    // PrintWriter keeps write errors to itself, they are reported here
+    @Override
+    public void close() throws IOException {
+        boolean failed = out.checkError();
+        out.close();
+        if (failed) {
+            throw new IOException("could not write the DOT file");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+import org.antlr.v4.runtime.*;
+
+// Base class for token sources that sit between the lexer and the token stream and drop some tokens
+public abstract class FilteringTokenSource implements TokenSource {
+    private final TokenSource source;
+
+    protected FilteringTokenSource(TokenSource source) {
+        this.source = source;
+    }
+
+    // Returns true if the token should be passed on. Never called for EOF.
+    protected abstract boolean keep(Token token);
+
+    @Override
+    public Token nextToken() {
+        Token token = source.nextToken();
+        while (token.getType() != Token.EOF && !keep(token)) {
+            token = source.nextToken();
+        }
+        return token;
+    }
+
+    @Override
+    public int getLine() {
+        return source.getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return source.getCharPositionInLine();
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return source.getInputStream();
+    }
+
+    @Override
+    public String getSourceName() {
+        return source.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        source.setTokenFactory(factory);
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return source.getTokenFactory();
+    }
+}
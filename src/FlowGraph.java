@@ -0,0 +1,16 @@
+// A directed graph over dense int node IDs, walked from one start node.
+// Both CompactCFG and its BasicBlocks implement it, so a pass written against this interface runs on nodes or on
+// blocks without copying the graph.
+public interface FlowGraph {
+    int size();
+
+    int getStart();
+
+    int getSuccessorCount(int node);
+
+    int getSuccessor(int node, int index);
+
+    int getPredecessorCount(int node);
+
+    int getPredecessor(int node, int index);
+}
@@ -0,0 +1,142 @@
+import org.antlr.v4.runtime.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+// Process-wide cache of header files for the Preprocessor.
+// A header is lexed once per content hash, and its preprocessed output is kept per macro context
+// (path + content hash + MacroTable fingerprint), so files that include the same headers share the work.
+public class HeaderCache {
+    // The raw tokens of a header: default channel tokens and directives
+    static class Lexed {
+        String hash;
+        FileTime modified;
+        long size;
+        List<Token> tokens;
+        boolean pragmaOnce;
+    }
+
+    // What including the header produced in one macro context. The output also depends on which headers with
+    // '#pragma once' were already included, so the nested includes are kept to replay them and to tell whether the
+    // tokens still apply.
+    static class Expanded {
+        List<Token> tokens;
+        List<MacroTable.Change> changes;
+        List<Path> includes; // headers included by this one, in order
+        Set<Path> onceFiles; // headers that became '#pragma once' while expanding it
+        List<Path> onceSkipped; // headers left out because they were already included with '#pragma once'
+        List<String> unresolved;
+        List<Path> missing; // where the unresolved includes were looked for
+    }
+
+    private static final Map<Path, Lexed> lexed = new ConcurrentHashMap<>();
+    private static final Map<String, Expanded> expanded = new ConcurrentHashMap<>();
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+
+    // Returns the lexed header, re-reading it only when its size or modification time changed
+    static Lexed lex(Path path) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(path);
+        long size = Files.size(path);
+        Lexed cached = lexed.get(path);
+        if (cached != null && cached.modified.equals(modified) && cached.size == size) {
+            return cached;
+        }
+
+        byte[] bytes = Files.readAllBytes(path);
+        String hash = contentHash(bytes);
+        if (cached != null && cached.hash.equals(hash)) {
+            cached.modified = modified;
+            return cached;
+        }
+
+        CLexer lexer = new CLexer(CharStreams.fromString(new String(bytes, StandardCharsets.UTF_8), path.toString()));
+        lexer.setTokenFactory(new CommonTokenFactory(true)); // tokens keep their text once the stream is gone
+        Lexed result = new Lexed();
+        result.hash = hash;
+        result.modified = modified;
+        result.size = size;
+        result.tokens = new ArrayList<>();
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL || Preprocessor.isDirective(token)) {
+                result.tokens.add(token);
+                if (Preprocessor.isDirective(token) && token.getText().matches("#\\s*pragma\\s+once\\b.*")) {
+                    result.pragmaOnce = true;
+                }
+            }
+        }
+        lexed.put(path, result);
+        return result;
+    }
+
+    // Content hash of a header, without lexing it when it is not cached yet
+    static String hash(Path path) throws IOException {
+        Lexed cached = lexed.get(path);
+        if (cached != null && cached.modified.equals(Files.getLastModifiedTime(path)) && cached.size == Files.size(path)) {
+            return cached.hash;
+        }
+        return contentHash(Files.readAllBytes(path));
+    }
+
+    // The cached expansion, or null when there is none or the includer says it does not apply to it
+    static Expanded getExpanded(Path path, Lexed header, long fingerprint, Predicate<Expanded> applies) {
+        Expanded result = expanded.get(key(path, header, fingerprint));
+        if (result != null && !applies.test(result)) {
+            result = null;
+        }
+        if (result != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    static void putExpanded(Path path, Lexed header, long fingerprint, Expanded result) {
+        expanded.put(key(path, header, fingerprint), result);
+    }
+
+    private static String key(Path path, Lexed header, long fingerprint) {
+        return path + "|" + header.hash + "|" + Long.toHexString(fingerprint);
+    }
+
+    public static int getHits() {
+        return hits.get();
+    }
+
+    public static int getMisses() {
+        return misses.get();
+    }
+
+    static String contentHash(byte[] bytes) {
+        return contentHash(ByteBuffer.wrap(bytes));
+    }
+
+    // SHA-256 of the buffer's remaining bytes as hex. Works on mapped files without copying them.
+    static String contentHash(ByteBuffer bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+// The values a dataflow analysis computes for each node, ordered from bottom (nothing known yet, the node was not
+// reached) upwards. join gives the least value above both arguments and is what happens where control flow merges.
+// For Dataflow to terminate, every chain of values going up must be finite and the transfer functions monotone.
+// Values are never changed once handed to the solver; join and the transfer functions return new values, or one of
+// their arguments when nothing changes.
+public interface Lattice<S> {
+    S bottom();
+
+    S join(S a, S b);
+
+    boolean equal(S a, S b);
+}
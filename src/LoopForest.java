@@ -0,0 +1,213 @@
+import java.util.ArrayList;
+import java.util.List;
+
+// Loop nesting forest of a control flow graph, found with Havlak's algorithm.
+// Every loop is identified by its header node. A loop that can be entered at more than one node (only possible with
+// goto) is marked irreducible; it is still reported, with the node the depth first search reached first as header.
+// Headers are listed inner loops first, so a fixpoint can stabilize an inner loop before the loop around it.
+public class LoopForest {
+    private final int[] header; // node -> innermost loop header containing it, -1 outside any loop
+    private final int[] depth; // node -> number of loops containing it
+    private final boolean[] isHeader;
+    private final boolean[] irreducible;
+    private final int[] parent; // header -> header of the enclosing loop, -1 for outermost loops
+    private final int[] headers; // innermost loops first
+
+    public LoopForest(FlowGraph graph) {
+        int size = graph.size();
+        header = new int[size];
+        depth = new int[size];
+        isHeader = new boolean[size];
+        irreducible = new boolean[size];
+        parent = new int[size];
+        for (int node = 0; node < size; node++) {
+            header[node] = -1;
+            parent[node] = -1;
+        }
+        if (size == 0) {
+            headers = new int[0];
+            return;
+        }
+
+        // Depth first preorder numbers. last[n] is the highest number in the subtree of n, so w is an ancestor of
+        // v exactly when number[w] <= number[v] <= last[w].
+        int[] number = new int[size];
+        int[] nodeOf = new int[size];
+        int[] last = new int[size];
+        for (int node = 0; node < size; node++) {
+            number[node] = -1;
+        }
+        int count = 0;
+        int[] stack = new int[size];
+        int[] nextEdge = new int[size];
+        int top = 0;
+        stack[0] = graph.getStart();
+        number[graph.getStart()] = count;
+        nodeOf[count++] = graph.getStart();
+        while (top >= 0) {
+            int node = stack[top];
+            if (nextEdge[node] < graph.getSuccessorCount(node)) {
+                int successor = graph.getSuccessor(node, nextEdge[node]++);
+                if (number[successor] < 0) {
+                    number[successor] = count;
+                    nodeOf[count++] = successor;
+                    stack[++top] = successor;
+                }
+            } else {
+                last[number[node]] = count - 1;
+                top--;
+            }
+        }
+
+        // From here on nodes are handled by preorder number. Edges into a node from one of its descendants are
+        // back edges, all other edges into it are forward, cross or tree edges.
+        List<List<Integer>> backPredecessors = new ArrayList<>();
+        List<List<Integer>> otherPredecessors = new ArrayList<>();
+        for (int w = 0; w < count; w++) {
+            backPredecessors.add(new ArrayList<>());
+            otherPredecessors.add(new ArrayList<>());
+            int node = nodeOf[w];
+            for (int i = 0; i < graph.getPredecessorCount(node); i++) {
+                int v = number[graph.getPredecessor(node, i)];
+                if (v < 0) {
+                    continue; // unreachable predecessor
+                }
+                if (w <= v && v <= last[w]) {
+                    backPredecessors.get(w).add(v);
+                } else {
+                    otherPredecessors.get(w).add(v);
+                }
+            }
+        }
+
+        // Visit candidate headers from the deepest up, collapsing every loop found into its header with union-find,
+        // so an outer loop sees an inner loop as a single node
+        int[] representative = new int[count];
+        int[] loopParent = new int[count]; // by preorder number, -1 when not a header or outermost
+        boolean[] loopHeader = new boolean[count];
+        for (int w = 0; w < count; w++) {
+            representative[w] = w;
+            loopParent[w] = -1;
+        }
+        int[] innermostHeader = new int[count];
+        for (int w = 0; w < count; w++) {
+            innermostHeader[w] = -1;
+        }
+        List<Integer> headerOrder = new ArrayList<>();
+        boolean[] inBody = new boolean[count]; // cleared again for the entries of each body, not reallocated
+        for (int w = count - 1; w >= 0; w--) {
+            List<Integer> body = new ArrayList<>();
+            boolean selfLoop = false;
+            for (int v : backPredecessors.get(w)) {
+                if (v == w) {
+                    selfLoop = true;
+                } else {
+                    int x = find(representative, v);
+                    if (!inBody[x]) {
+                        inBody[x] = true;
+                        body.add(x);
+                    }
+                }
+            }
+            for (int i = 0; i < body.size(); i++) {
+                int x = body.get(i);
+                for (int y : otherPredecessors.get(x)) {
+                    int ydash = find(representative, y);
+                    if (!(w <= ydash && ydash <= last[w])) {
+                        // Entered from outside the subtree of w: a second entry into the loop
+                        irreducible[nodeOf[w]] = true;
+                        otherPredecessors.get(w).add(ydash);
+                    } else if (ydash != w && !inBody[ydash]) {
+                        inBody[ydash] = true;
+                        body.add(ydash);
+                    }
+                }
+            }
+            for (int x : body) {
+                inBody[x] = false;
+            }
+            if (body.isEmpty() && !selfLoop) {
+                continue;
+            }
+            loopHeader[w] = true;
+            headerOrder.add(nodeOf[w]);
+            for (int x : body) {
+                if (loopHeader[x]) {
+                    loopParent[x] = w;
+                } else {
+                    innermostHeader[x] = w;
+                }
+                representative[x] = w;
+            }
+        }
+
+        // Translate back to node IDs and count the nesting depth of every node
+        for (int w = 0; w < count; w++) {
+            int node = nodeOf[w];
+            isHeader[node] = loopHeader[w];
+            if (loopHeader[w]) {
+                header[node] = node;
+                parent[node] = loopParent[w] < 0 ? -1 : nodeOf[loopParent[w]];
+            } else if (innermostHeader[w] >= 0) {
+                header[node] = nodeOf[innermostHeader[w]];
+            }
+        }
+        for (int node = 0; node < size; node++) {
+            for (int h = header[node]; h >= 0; h = parent[h]) {
+                depth[node]++;
+            }
+        }
+        headers = new int[headerOrder.size()];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = headerOrder.get(i);
+        }
+    }
+
+    private static int find(int[] representative, int x) {
+        while (representative[x] != x) {
+            representative[x] = representative[representative[x]];
+            x = representative[x];
+        }
+        return x;
+    }
+
+    public int getLoopCount() {
+        return headers.length;
+    }
+
+    // Loop headers, every inner loop before the loops that contain it
+    public int[] getHeaders() {
+        return headers.clone();
+    }
+
+    public boolean isHeader(int node) {
+        return isHeader[node];
+    }
+
+    // Header of the innermost loop the node is in (the node itself for a header), or -1
+    public int getHeader(int node) {
+        return header[node];
+    }
+
+    // Header of the loop around the loop headed by the given header, or -1
+    public int getParent(int loopHeader) {
+        return parent[loopHeader];
+    }
+
+    // How many loops the node is in, 0 outside of loops
+    public int getDepth(int node) {
+        return depth[node];
+    }
+
+    public int getMaxDepth() {
+        int max = 0;
+        for (int d : depth) {
+            max = Math.max(max, d);
+        }
+        return max;
+    }
+
+    public boolean isIrreducible(int loopHeader) {
+        return irreducible[loopHeader];
+    }
+}
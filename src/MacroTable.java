@@ -0,0 +1,112 @@
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The #define table of one translation unit.
+// It keeps an order independent fingerprint of everything that is defined, so a header's preprocessed output can be
+// cached per macro context, and a history of changes so the effect of a cached header can be replayed.
+public class MacroTable {
+    static class Macro {
+        String name;
+        List<String> params; // null for object-like macros
+        boolean variadic;
+        List<Token> body;
+        long hash;
+
+        Macro(String name, List<String> params, boolean variadic, List<Token> body) {
+            this.name = name;
+            this.params = params;
+            this.variadic = variadic;
+            this.body = body;
+            StringBuilder text = new StringBuilder(name);
+            if (params != null) {
+                text.append('(').append(String.join(",", params)).append(variadic ? "...)" : ")");
+            }
+            for (Token token : body) {
+                text.append(' ').append(token.getText());
+            }
+            this.hash = hash(text);
+        }
+
+        boolean isFunctionLike() {
+            return params != null;
+        }
+    }
+
+    // One #define (macro set) or #undef (macro null)
+    static class Change {
+        String name;
+        Macro macro;
+
+        Change(String name, Macro macro) {
+            this.name = name;
+            this.macro = macro;
+        }
+    }
+
+    private final Map<String, Macro> macros = new HashMap<>();
+    private final List<Change> history = new ArrayList<>();
+    private long fingerprint = 0;
+
+    public Macro get(String name) {
+        return macros.get(name);
+    }
+
+    public boolean isDefined(String name) {
+        return macros.containsKey(name);
+    }
+
+    public void define(Macro macro) {
+        Macro old = macros.put(macro.name, macro);
+        if (old != null) {
+            fingerprint ^= old.hash;
+        }
+        fingerprint ^= macro.hash;
+        history.add(new Change(macro.name, macro));
+    }
+
+    public void undefine(String name) {
+        Macro old = macros.remove(name);
+        if (old != null) {
+            fingerprint ^= old.hash;
+            history.add(new Change(name, null));
+        }
+    }
+
+    public void apply(List<Change> changes) {
+        for (Change change : changes) {
+            if (change.macro != null) {
+                define(change.macro);
+            } else {
+                undefine(change.name);
+            }
+        }
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    // Position in the history, used to find out which changes a header made
+    public int getHistorySize() {
+        return history.size();
+    }
+
+    public List<Change> getChangesSince(int position) {
+        return new ArrayList<>(history.subList(position, history.size()));
+    }
+
+    // 64-bit FNV-1a with a final mix so XOR-ing many of them stays collision resistant
+    private static long hash(CharSequence text) {
+        long x = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            x = (x ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return x ^ (x >>> 33);
+    }
+}
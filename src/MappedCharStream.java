@@ -0,0 +1,136 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// A CharStream that reads the lexer input straight out of a memory-mapped file.
+// Every byte is one character (ASCII or Latin-1), so nothing is decoded or copied onto the heap up front;
+// text is only turned into Strings when the lexer or a diagnostic asks for it through getText.
+public class MappedCharStream implements CharStream {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String name;
+    private int position = 0;
+
+    private MappedCharStream(ByteBuffer buffer, String name) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+        this.name = name;
+    }
+
+    // Maps the file and uses it directly when it is plain ASCII (or latin1 is set).
+    // Files with other non-ASCII bytes are treated as UTF-8 and decoded the usual way.
+    public static CharStream fromFileName(String fileName, boolean latin1) throws IOException {
+        Path path = Paths.get(fileName);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(fileName + " is too large to lex (" + channel.size() + " bytes)");
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (latin1 || isAscii(buffer)) {
+            return new MappedCharStream(buffer, fileName);
+        }
+        return CharStreams.fromPath(path, StandardCharsets.UTF_8);
+    }
+
+    // Checks 8 bytes at a time for a set high bit
+    private static boolean isAscii(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        int i = 0;
+        for (; i + 8 <= limit; i += 8) {
+            if ((buffer.getLong(i) & 0x8080808080808080L) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void consume() {
+        if (position >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = position + i - 1;
+        } else if (i < 0) {
+            offset = position + i;
+        } else {
+            return 0; // undefined
+        }
+        if (offset < 0 || offset >= size) {
+            return IntStream.EOF;
+        }
+        return buffer.get(offset) & 0xFF;
+    }
+
+    // The whole file is always available, so marks are free
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = Math.min(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int stop = Math.min(interval.b, size - 1);
+        if (start < 0 || stop < start) {
+            return "";
+        }
+        byte[] bytes = new byte[stop - start + 1];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
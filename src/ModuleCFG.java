@@ -0,0 +1,61 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// The control flow graphs of one translation unit: one per function definition, plus one for the declarations at
+// file level. Every function graph has its own entry and exit node and its own variables, which start out as a copy
+// of the file level ones, so functions can be analyzed independently of each other.
+public class ModuleCFG {
+    public static class Function {
+        private final String name;
+        private final ControlFlowGraph cfg;
+        private final Map<String, Variable> variables;
+
+        Function(String name, ControlFlowGraph cfg, Map<String, Variable> variables) {
+            this.name = name;
+            this.cfg = cfg;
+            this.variables = variables;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ControlFlowGraph getCFG() {
+            return cfg;
+        }
+
+        public Map<String, Variable> getVariables() {
+            return variables;
+        }
+    }
+
+    private final Function fileScope;
+    private final List<Function> functions = new ArrayList<>();
+
+    ModuleCFG(ControlFlowGraph fileGraph, Map<String, Variable> globals) {
+        fileScope = new Function("(file scope)", fileGraph, globals);
+    }
+
+    void addFunction(Function function) {
+        functions.add(function);
+    }
+
+    public Function getFileScope() {
+        return fileScope;
+    }
+
+    public List<Function> getFunctions() {
+        return functions;
+    }
+
+    // The file scope graph, if it has any nodes, followed by the functions in source order
+    public List<Function> getGraphs() {
+        List<Function> graphs = new ArrayList<>();
+        if (fileScope.getCFG().getStartNode() != null) {
+            graphs.add(fileScope);
+        }
+        graphs.addAll(functions);
+        return graphs;
+    }
+}
@@ -0,0 +1,187 @@
+import java.util.HashMap;
+import java.util.Map;
+
+// Forward dataflow analysis of the pointer state of every variable, run by Dataflow on the basic blocks of a function.
+// A state says for each variable what the last assignment on the way there made it: NULL when it mentions NULL,
+// ASSIGNED otherwise. Where paths meet, a variable the paths disagree about becomes POTENTIALLY_NULL, and so does one
+// that is only assigned on some of them. Variables the function never assigns on the way to a node have no state
+// there; for those the state the CFG builder gave them is used.
+// The variables the function assigns are numbered densely, and a state is a long[] with 2 bits per variable, so
+// joining, copying and comparing states works on 32 variables at a time.
+public class NullPointerAnalysis implements PointerAnalysis, Lattice<long[]>, Dataflow.Transfer<long[]> {
+    // The 2 bit codes. Joining two different codes always gives POTENTIALLY_NULL, all bits set.
+    private static final int NONE = 0; // not assigned on the way here
+    private static final int ASSIGNED = 1;
+    private static final int NULL = 2;
+    private static final int POTENTIALLY_NULL = 3;
+    private static final long LOW_BITS = 0x5555555555555555L; // the low bit of every code in a word
+
+    // Bottom, the state of blocks that were not reached. Compared by identity.
+    private static final long[] UNREACHED = new long[0];
+
+    private final BasicBlocks blocks;
+    private final Map<String, Variable> variables;
+    private final Map<String, Integer> index = new HashMap<>(); // assigned variable -> number
+    private final int[] definedIndex; // node -> number of the variable it assigns, -1 if none
+    private final int[] definedCode; // node -> code it gives that variable
+    private final int words;
+    private final Dataflow<long[]> solution;
+
+    public NullPointerAnalysis(BasicBlocks blocks, Map<String, Variable> variables) {
+        this.blocks = blocks;
+        this.variables = variables;
+        CompactCFG cfg = blocks.getCFG();
+        definedIndex = new int[cfg.size()];
+        definedCode = new int[cfg.size()];
+        for (int node = 0; node < cfg.size(); node++) {
+            Statement statement = cfg.getStatement(node);
+            String name = statement.getDefined();
+            if (name == null) {
+                definedIndex[node] = -1;
+                continue;
+            }
+            Integer number = index.get(name);
+            if (number == null) {
+                number = index.size();
+                index.put(name, number);
+            }
+            definedIndex[node] = number;
+            definedCode[node] = statement.mentionsNull() ? NULL : ASSIGNED;
+        }
+        words = (index.size() + 31) / 32;
+        solution = new Dataflow<>(blocks, this, this, new long[words]);
+    }
+
+    @Override
+    public long[] bottom() {
+        return UNREACHED;
+    }
+
+    @Override
+    public long[] join(long[] a, long[] b) {
+        if (a == UNREACHED || a == b) {
+            return b;
+        }
+        if (b == UNREACHED) {
+            return a;
+        }
+        long[] joined = null;
+        for (int w = 0; w < words; w++) {
+            long differ = a[w] ^ b[w];
+            if (differ == 0) {
+                continue;
+            }
+            // Every code that differs in either bit becomes POTENTIALLY_NULL
+            long low = (differ | (differ >>> 1)) & LOW_BITS;
+            if (joined == null) {
+                joined = a.clone();
+            }
+            joined[w] = a[w] | low | (low << 1);
+        }
+        return joined == null ? a : joined;
+    }
+
+    @Override
+    public boolean equal(long[] a, long[] b) {
+        if (a == UNREACHED || b == UNREACHED) {
+            return a == b;
+        }
+        for (int w = 0; w < words; w++) {
+            if (a[w] != b[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // All statements of a block in order. The state is copied once, on the block's first assignment.
+    @Override
+    public long[] apply(int block, long[] in) {
+        long[] state = in;
+        for (int i = 0; i < blocks.getNodeCount(block); i++) {
+            int node = blocks.getNode(block, i);
+            if (definedIndex[node] < 0) {
+                continue;
+            }
+            if (state == in) {
+                state = in.clone();
+            }
+            set(state, definedIndex[node], definedCode[node]);
+        }
+        return state;
+    }
+
+    private static int get(long[] state, int variable) {
+        return (int) (state[variable >>> 5] >>> ((variable & 31) << 1)) & 3;
+    }
+
+    private static void set(long[] state, int variable, int code) {
+        int shift = (variable & 31) << 1;
+        state[variable >>> 5] = (state[variable >>> 5] & ~(3L << shift)) | ((long) code << shift);
+    }
+
+    // Starts from the state entering the node's block and replays the statements before it
+    @Override
+    public Variable.PointerState getStateBefore(int node, String name) {
+        int block = blocks.getBlockOf(node);
+        long[] state = solution.getIn(block);
+        Integer variable = index.get(name);
+        if (state == UNREACHED) {
+            return null;
+        }
+        int code = NONE;
+        if (variable != null) {
+            code = get(state, variable);
+            for (int i = 0; blocks.getNode(block, i) != node; i++) {
+                if (definedIndex[blocks.getNode(block, i)] == variable) {
+                    code = definedCode[blocks.getNode(block, i)];
+                }
+            }
+        }
+        switch (code) {
+            case ASSIGNED:
+                return Variable.PointerState.ASSIGNED;
+            case NULL:
+                return Variable.PointerState.NULL;
+            case POTENTIALLY_NULL:
+                return Variable.PointerState.POTENTIALLY_NULL;
+            default:
+                Variable known = variables.get(name);
+                return known == null ? null : known.state;
+        }
+    }
+
+    @Override
+    public Map<String, Variable> getVariables() {
+        return variables;
+    }
+
+    // Number of variables the function assigns, the ones a state has room for
+    public int getVariableCount() {
+        return index.size();
+    }
+
+    public BasicBlocks getBlocks() {
+        return blocks;
+    }
+
+    public Dataflow<long[]> getSolution() {
+        return solution;
+    }
+
+    @Override
+    public long getVisits() {
+        return solution.getVisits();
+    }
+
+    @Override
+    public long getRequeues() {
+        return solution.getRequeues();
+    }
+
+    @Override
+    public String getStatistics() {
+        return solution.getReachableCount() + " block(s), " + solution.getVisits() + " visit(s), "
+                + solution.getRequeues() + " re-queue(s), at most " + solution.getMaxVisits() + " visit(s) of one block";
+    }
+}
@@ -0,0 +1,164 @@
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.misc.Utils;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.Tree;
+import org.antlr.v4.runtime.tree.Trees;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// All program output goes through here, buffered, and filtered by the verbosity level.
+// Parse tree, CFG and variable dumps are written piece by piece into the buffer instead of being built as one String,
+// and callers ask dumpsEnabled() first so nothing is computed for a dump that is switched off.
+public class Output {
+    public enum Level {
+        QUIET,  // file names, diagnostics and the summary
+        NORMAL, // also parse mode, prefilter, preprocessor and recovery messages
+        DUMP    // also the parse tree, CFG and variable dumps
+    }
+
+    private static final PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+    private static Level level = Level.DUMP;
+    private static int maxDepth = 0; // deepest parse tree level that is dumped, 0 for no limit
+    private static long maxChars = 0; // characters per dump, 0 for no limit
+    private static LimitedWriter dump = null; // the dump that is being written, if any
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static void setMaxDepth(int depth) {
+        maxDepth = depth;
+    }
+
+    public static void setMaxChars(long chars) {
+        maxChars = chars;
+    }
+
+    public static boolean isEnabled(Level messageLevel) {
+        return level.compareTo(messageLevel) >= 0;
+    }
+
+    public static boolean dumpsEnabled() {
+        return isEnabled(Level.DUMP);
+    }
+
+    // Diagnostics and anything else that is printed even with --verbosity=quiet
+    public static void result(String message) {
+        out.println(message);
+    }
+
+    // Progress and statistics messages
+    public static void info(String message) {
+        if (isEnabled(Level.NORMAL)) {
+            out.println(message);
+        }
+    }
+
+    // Starts a dump: prints its title and returns the writer for its body, or null when dumps are off.
+    // The writer stops accepting characters once the size limit is reached.
+    public static PrintWriter beginDump(String title) {
+        if (!dumpsEnabled()) {
+            return null;
+        }
+        out.println(title);
+        dump = new LimitedWriter(out, maxChars);
+        return new PrintWriter(dump);
+    }
+
+    public static void endDump() {
+        if (dump != null && dump.truncated) {
+            out.println();
+            out.println("[output truncated after " + maxChars + " characters]");
+        }
+        dump = null;
+    }
+
+    // True once the current dump has hit its size limit, so writers can stop walking their data structure early
+    public static boolean dumpFull() {
+        return dump != null && dump.truncated;
+    }
+
+    // Same text as tree.toStringTree(parser), written directly to the dump without recursion.
+    // Subtrees below the depth limit are shown as "(rule ...)".
+    public static void printTree(PrintWriter writer, ParseTree tree, Parser parser) {
+        Deque<Object> stack = new ArrayDeque<>(); // trees still to print, or ")" to close a subtree
+        Deque<Integer> depths = new ArrayDeque<>();
+        stack.push(tree);
+        depths.push(1);
+        boolean first = true;
+        while (!stack.isEmpty() && !dumpFull()) {
+            Object item = stack.pop();
+            int depth = depths.pop();
+            if (item instanceof String) {
+                writer.print(item);
+                continue;
+            }
+            Tree node = (Tree) item;
+            if (!first) {
+                writer.print(' ');
+            }
+            first = false;
+            String text = Utils.escapeWhitespace(Trees.getNodeText(node, parser), false);
+            if (node.getChildCount() == 0) {
+                writer.print(text);
+            } else if (maxDepth > 0 && depth >= maxDepth) {
+                writer.print('(');
+                writer.print(text);
+                writer.print(" ...)");
+            } else {
+                writer.print('(');
+                writer.print(text);
+                stack.push(")");
+                depths.push(depth);
+                for (int i = node.getChildCount() - 1; i >= 0; i--) {
+                    stack.push(node.getChild(i));
+                    depths.push(depth + 1);
+                }
+            }
+        }
+        writer.println();
+    }
+
+    public static void flush() {
+        out.flush();
+    }
+
+    // Passes characters through until the limit is reached and drops the rest
+    private static class LimitedWriter extends Writer {
+        private final PrintWriter target;
+        private final long limit;
+        private long written = 0;
+        boolean truncated = false;
+
+        LimitedWriter(PrintWriter target, long limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            if (limit > 0 && written + length > limit) {
+                length = (int) Math.max(0, limit - written);
+                truncated = true;
+            }
+            if (length > 0) {
+                target.write(buffer, offset, length);
+                written += length;
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the shared output is flushed as a whole
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+// Limits how many tokens the parser may consume and how long it may take on one file.
+// Added to the parser as a parse listener; when the budget is used up the parse is stopped with an exception.
+public class ParseBudget implements ParseTreeListener {
+    static class ExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ExceededException(String message) {
+            super(message);
+        }
+    }
+
+    private final long maxTokens; // 0 means no limit
+    private final long maxNanos; // 0 means no limit
+    private long tokens = 0;
+    private long rules = 0;
+    private long startTime = System.nanoTime();
+    private long attemptTokens = 0; // where the budget stood when the current rule was first tried
+    private long attemptTime = 0;
+
+    public ParseBudget(long maxTokens, long maxMillis) {
+        this.maxTokens = maxTokens;
+        this.maxNanos = maxMillis * 1_000_000;
+    }
+
+    // Remembers where the budget stands before TwoStageParser tries a rule with SLL
+    public void beginAttempt() {
+        attemptTokens = tokens;
+        attemptTime = System.nanoTime();
+    }
+
+    // Gives back what the failed SLL attempt used, so the LL parse of the same tokens is not counted twice
+    public void retry() {
+        tokens = attemptTokens;
+        startTime += System.nanoTime() - attemptTime;
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        tokens++;
+        if (maxTokens > 0 && tokens > maxTokens) {
+            throw new ExceededException("token budget of " + maxTokens + " used up at line " + node.getSymbol().getLine());
+        }
+        if ((tokens & 255) == 0) {
+            checkTime();
+        }
+    }
+
+    // Prediction can run for a while without consuming anything, so rule entries check the clock too
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if ((++rules & 1023) == 0) {
+            checkTime();
+        }
+    }
+
+    private void checkTime() {
+        if (maxNanos > 0 && System.nanoTime() - startTime > maxNanos) {
+            throw new ExceededException("time budget of " + maxNanos / 1_000_000 + " ms used up after " + tokens + " tokens");
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+    }
+}
@@ -0,0 +1,305 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Pointer states that keep apart the paths through correlated branches: two branches on the same condition, like
+//     if (condition) { ptr = &value; } else { ptr = NULL; }
+//     ...
+//     if (condition) { v = *ptr; }
+// where the path-insensitive analyses join both states of ptr at the first merge and cannot tell that the
+// dereference only runs on the path that set it.
+// Every state carries the outcome of the 'if' conditions taken on the way there. Only conditions tested at more than
+// one branch are remembered, the others cannot decide a later branch, so paths that differ only in them are merged at
+// once. Each (node, outcomes) pair is memoized: a path reaching a node with outcomes already seen there is joined into
+// that state and only goes on if it changed something. A branch whose condition has a known outcome only follows the
+// edge that outcome takes.
+// An outcome is forgotten when a variable of its condition is assigned, and all of them are at a statement with side
+// effects (a call, '++', '--', a compound assignment or a store through a pointer), which may change a variable
+// without naming it, and on every edge back to an earlier node, so no outcome carries over into the next iteration of
+// a loop. Loop conditions are never remembered.
+// The number of states and the time per function are limited. A function over either budget gets the states of
+// SparsePointerAnalysis instead.
+public class PathSensitiveAnalysis implements PointerAnalysis {
+    private static final byte UNKNOWN = -1; // no path reached the node yet
+    private static final byte NONE = 0; // not assigned on the way here, and the builder gave no state either
+    private static final byte ASSIGNED = 1;
+    private static final byte NULL = 2;
+    private static final byte POTENTIALLY_NULL = 3;
+    private static final int MAX_CONDITIONS = 32; // outcomes are kept in 2 bits each of a long
+
+    private final Map<String, Variable> variables;
+    private final CompactCFG cfg;
+    private final Map<String, Integer> pointer = new HashMap<>(); // tracked pointer -> index in the state arrays
+    private final int[] condition; // branch node -> index of its correlated condition, -1 if none
+    private final long[] forget; // node -> outcome bits of the conditions whose variables it assigns
+    private final List<Map<Long, Integer>> statesAt = new ArrayList<>(); // node -> outcomes -> state, null if none
+    private final List<byte[]> states = new ArrayList<>(); // pointer states entering the node, per memoized state
+    private final List<Integer> stateNode = new ArrayList<>();
+    private final List<Long> stateOutcomes = new ArrayList<>();
+    private final int conditionCount;
+    private long visits = 0;
+    private long requeues = 0;
+    private PointerAnalysis fallback = null; // the path-insensitive states, when a budget ran out
+
+    public PathSensitiveAnalysis(CompactCFG cfg, Dominators dominators, Map<String, Variable> variables,
+                                 int maxStates, long maxMillis) {
+        this.variables = variables;
+        this.cfg = cfg;
+        int size = cfg.size();
+
+        // The pointers that are assigned and dereferenced, as in SparsePointerAnalysis
+        Set<String> dereferenced = new LinkedHashSet<>();
+        Set<String> defined = new LinkedHashSet<>();
+        for (int node = 0; node < size; node++) {
+            for (String name : cfg.getStatement(node).getDereferenced()) {
+                dereferenced.add(name);
+            }
+            if (cfg.getStatement(node).getDefined() != null) {
+                defined.add(cfg.getStatement(node).getDefined());
+            }
+        }
+        for (String name : dereferenced) {
+            Variable variable = variables.get(name);
+            if (defined.contains(name) && variable != null && variable.isPointer) {
+                pointer.put(name, pointer.size());
+            }
+        }
+
+        // 'if' conditions without side effects, grouped by the variables they read. Only groups with more than one
+        // branch can hold a correlated condition, and only in those is the text compared.
+        Map<List<String>, List<Integer>> branchesReading = new HashMap<>();
+        for (int node = 0; node < size; node++) {
+            Statement statement = cfg.getStatement(node);
+            if (statement.getKind() == Statement.Kind.IF && !statement.hasSideEffects()
+                    && statement.getDefined() == null && cfg.getSuccessor(node, CFGNode.EdgeKind.TRUE) >= 0
+                    && cfg.getSuccessor(node, CFGNode.EdgeKind.FALSE) >= 0) {
+                branchesReading.computeIfAbsent(Arrays.asList(statement.getUsed()), k -> new ArrayList<>()).add(node);
+            }
+        }
+        List<List<Integer>> branchesOn = new ArrayList<>(); // per condition, the branches testing it
+        for (List<Integer> group : branchesReading.values()) {
+            if (group.size() < 2) {
+                continue;
+            }
+            Map<String, List<Integer>> byText = new HashMap<>();
+            for (int node : group) {
+                byText.computeIfAbsent(cfg.getStatement(node).getText(), k -> new ArrayList<>()).add(node);
+            }
+            branchesOn.addAll(byText.values());
+        }
+        condition = new int[size];
+        for (int node = 0; node < size; node++) {
+            condition[node] = -1;
+        }
+        Map<String, Long> conditionsUsing = new HashMap<>(); // variable -> outcome bits of the conditions using it
+        int count = 0;
+        for (List<Integer> branches : branchesOn) {
+            if (branches.size() < 2 || count == MAX_CONDITIONS) {
+                continue;
+            }
+            for (int node : branches) {
+                condition[node] = count;
+            }
+            for (String name : cfg.getStatement(branches.get(0)).getUsed()) {
+                conditionsUsing.merge(name, 3L << (2 * count), (a, b) -> a | b);
+            }
+            count++;
+        }
+        conditionCount = count;
+        forget = new long[size];
+        for (int node = 0; node < size; node++) {
+            Statement statement = cfg.getStatement(node);
+            if (statement.hasSideEffects()) {
+                forget[node] = -1L;
+            } else if (statement.getDefined() != null) {
+                forget[node] = conditionsUsing.getOrDefault(statement.getDefined(), 0L);
+            }
+        }
+        for (int node = 0; node < size; node++) {
+            statesAt.add(null);
+        }
+
+        if (size > 0 && !explore(maxStates, maxMillis)) {
+            fallback = new SparsePointerAnalysis(cfg, dominators, variables);
+        }
+    }
+
+    // Follows the paths from the start, nodes in reverse postorder first. Returns false when a budget ran out.
+    private boolean explore(int maxStates, long maxMillis) {
+        long deadline = System.nanoTime() + maxMillis * 1_000_000L;
+        PriorityQueue<Long> work = new PriorityQueue<>(); // node in the high half, so the lowest node comes first
+        List<Boolean> queued = new ArrayList<>();
+        List<Boolean> done = new ArrayList<>(); // visited at least once
+        // A pointer that is not assigned on a path keeps the state it came in with, which is the one the builder gave
+        // it. Starting from NONE instead would make joining it with an assignment on another path POTENTIALLY_NULL.
+        byte[] entry = new byte[pointer.size()];
+        for (Map.Entry<String, Integer> tracked : pointer.entrySet()) {
+            entry[tracked.getValue()] = code(variables.get(tracked.getKey()).state);
+        }
+        merge(cfg.getStart(), 0L, entry, work, queued, done);
+        while (!work.isEmpty()) {
+            if (states.size() > maxStates || ((visits & 1023) == 0 && System.nanoTime() > deadline)) {
+                return false;
+            }
+            int state = (int) (long) work.poll();
+            queued.set(state, false);
+            done.set(state, true);
+            visits++;
+            int node = stateNode.get(state);
+            long outcomes = stateOutcomes.get(state) & ~forget[node];
+            byte[] out = states.get(state);
+            Integer assigned = pointer.get(cfg.getStatement(node).getDefined());
+            if (assigned != null) {
+                out = out.clone();
+                out[assigned] = cfg.getStatement(node).mentionsNull() ? NULL : ASSIGNED;
+            }
+            int c = condition[node];
+            for (int s = 0; s < cfg.getSuccessorCount(node); s++) {
+                int successor = cfg.getSuccessor(node, s);
+                long next = outcomes;
+                if (c >= 0) {
+                    CFGNode.EdgeKind kind = cfg.getEdgeKind(node, s);
+                    long taken = (kind == CFGNode.EdgeKind.TRUE ? 1L : 2L) << (2 * c);
+                    long known = outcomes & (3L << (2 * c));
+                    if (known != 0 && known != taken) {
+                        continue; // this path already went the other way on the same condition
+                    }
+                    next = outcomes | taken;
+                }
+                if (successor <= node) {
+                    next = 0L; // IDs are in reverse postorder, so this edge goes back around a loop
+                }
+                merge(successor, next, out, work, queued, done);
+            }
+        }
+        return true;
+    }
+
+    private static byte code(Variable.PointerState state) {
+        switch (state) {
+            case ASSIGNED:
+                return ASSIGNED;
+            case NULL:
+                return NULL;
+            case POTENTIALLY_NULL:
+                return POTENTIALLY_NULL;
+            default:
+                return NONE;
+        }
+    }
+
+    // Joins the pointer states of a path into the memoized state of (node, outcomes), queueing it if it changed
+    private void merge(int node, long outcomes, byte[] in, PriorityQueue<Long> work, List<Boolean> queued,
+                       List<Boolean> done) {
+        if (statesAt.get(node) == null) {
+            statesAt.set(node, new HashMap<>());
+        }
+        Integer state = statesAt.get(node).get(outcomes);
+        if (state == null) {
+            state = states.size();
+            statesAt.get(node).put(outcomes, state);
+            states.add(in);
+            stateNode.add(node);
+            stateOutcomes.add(outcomes);
+            queued.add(false);
+            done.add(false);
+        } else {
+            byte[] old = states.get(state);
+            byte[] joined = null;
+            for (int p = 0; p < in.length; p++) {
+                if (old[p] != in[p] && old[p] != POTENTIALLY_NULL) {
+                    if (joined == null) {
+                        joined = old.clone();
+                    }
+                    joined[p] = POTENTIALLY_NULL;
+                }
+            }
+            if (joined == null) {
+                return;
+            }
+            states.set(state, joined);
+        }
+        if (!queued.get(state)) {
+            queued.set(state, true);
+            work.add(((long) node << 32) | state);
+            if (done.get(state)) {
+                requeues++;
+            }
+        }
+    }
+
+    // The join over every path that reaches the node. Null for a variable the builder does not know, and for nodes
+    // no path reaches once the correlated branches are taken into account.
+    @Override
+    public Variable.PointerState getStateBefore(int node, String name) {
+        if (fallback != null) {
+            return fallback.getStateBefore(node, name);
+        }
+        Map<Long, Integer> at = statesAt.get(node);
+        if (at == null) {
+            return null;
+        }
+        Integer index = pointer.get(name);
+        byte code = UNKNOWN;
+        if (index != null) {
+            for (int state : at.values()) {
+                byte path = states.get(state)[index];
+                code = code == UNKNOWN || code == path ? path : POTENTIALLY_NULL;
+            }
+        }
+        switch (code) {
+            case ASSIGNED:
+                return Variable.PointerState.ASSIGNED;
+            case NULL:
+                return Variable.PointerState.NULL;
+            case POTENTIALLY_NULL:
+                return Variable.PointerState.POTENTIALLY_NULL;
+            default:
+                Variable known = variables.get(name);
+                return known == null ? null : known.state;
+        }
+    }
+
+    // Paths that cannot be taken are already left out, so a pointer that is null on only some of the paths that can
+    // is reported as well
+    @Override
+    public boolean mayBeNull(int node, String name) {
+        if (fallback != null) {
+            return fallback.mayBeNull(node, name);
+        }
+        Variable.PointerState state = getStateBefore(node, name);
+        return state == Variable.PointerState.NULL || state == Variable.PointerState.POTENTIALLY_NULL;
+    }
+
+    // Whether a budget ran out and the path-insensitive states are used instead
+    public boolean isOverBudget() {
+        return fallback != null;
+    }
+
+    @Override
+    public Map<String, Variable> getVariables() {
+        return variables;
+    }
+
+    @Override
+    public long getVisits() {
+        return fallback != null ? visits + fallback.getVisits() : visits;
+    }
+
+    @Override
+    public long getRequeues() {
+        return fallback != null ? requeues + fallback.getRequeues() : requeues;
+    }
+
+    @Override
+    public String getStatistics() {
+        String paths = conditionCount + " correlated condition(s), " + states.size() + " path state(s), " + visits
+                + " visit(s), " + requeues + " re-queue(s)";
+        return fallback != null ? paths + ", over budget, used " + fallback.getStatistics() : paths;
+    }
+}
@@ -0,0 +1,245 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// A Map whose snapshot() is O(1), for the variable tables the CFG builder saves before a branch and goes back to
+// after it. The entries live in a hash array mapped trie: each level takes 5 bits of the key's hash and stores only
+// the slots in use, as key and value, or null and the node of the next level. Nodes are never changed once built;
+// put() copies the nodes on the way down to the key and shares everything else, so a map and its snapshots only
+// cost memory for the entries that differ. Keys whose hashes are equal in all 32 bits share a collision node at the
+// bottom, a plain list of keys and values.
+// null keys and values are allowed. remove() is not supported.
+public class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final Object NULL_KEY = new Object(); // stands for the null key inside the trie
+    private static final Object MISSING = new Object(); // what find() returns for a key that is not there
+    private static final Node EMPTY = new Node(0, new Object[0]);
+
+    private static final class Node {
+        final int bitmap; // the slots of this level in use, in the order of array; unused in collision nodes
+        final Object[] array; // per slot in use: key and value, or null and the child node
+
+        Node(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private Object previous; // value replaced by the last put, null if the key was new
+    private boolean added; // whether the last put added a key
+
+    public PersistentMap() {
+        this(EMPTY, 0);
+    }
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    // A map with the same entries that changes independently of this one from now on
+    public PersistentMap<K, V> snapshot() {
+        return new PersistentMap<>(root, size);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key == null ? NULL_KEY : key) != MISSING;
+    }
+
+    @Override
+    public V get(Object key) {
+        Object found = find(key == null ? NULL_KEY : key);
+        return found == MISSING ? null : value(found);
+    }
+
+    // The value of the key, or MISSING
+    private Object find(Object key) {
+        int hash = hash(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (shift >= 32) {
+                for (int i = 0; i < node.array.length; i += 2) {
+                    if (node.array[i].equals(key)) {
+                        return node.array[i + 1];
+                    }
+                }
+                return MISSING;
+            }
+            int bit = 1 << ((hash >>> shift) & 31);
+            if ((node.bitmap & bit) == 0) {
+                return MISSING;
+            }
+            int i = 2 * Integer.bitCount(node.bitmap & (bit - 1));
+            if (node.array[i] == null) {
+                node = (Node) node.array[i + 1];
+            } else {
+                return node.array[i].equals(key) ? node.array[i + 1] : MISSING;
+            }
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Object k = key == null ? NULL_KEY : key;
+        previous = null;
+        added = false;
+        root = put(root, 0, hash(k), k, value);
+        if (added) {
+            size++;
+        }
+        return value(previous);
+    }
+
+    // The node with the key set, built from copies of the nodes on the way down
+    private Node put(Node node, int shift, int hash, Object key, Object value) {
+        if (shift >= 32) {
+            for (int i = 0; i < node.array.length; i += 2) {
+                if (node.array[i].equals(key)) {
+                    previous = node.array[i + 1];
+                    Object[] array = node.array.clone();
+                    array[i + 1] = value;
+                    return new Node(0, array);
+                }
+            }
+            added = true;
+            Object[] array = new Object[node.array.length + 2];
+            System.arraycopy(node.array, 0, array, 0, node.array.length);
+            array[node.array.length] = key;
+            array[node.array.length + 1] = value;
+            return new Node(0, array);
+        }
+        int bit = 1 << ((hash >>> shift) & 31);
+        int i = 2 * Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            added = true;
+            Object[] array = new Object[node.array.length + 2];
+            System.arraycopy(node.array, 0, array, 0, i);
+            array[i] = key;
+            array[i + 1] = value;
+            System.arraycopy(node.array, i, array, i + 2, node.array.length - i);
+            return new Node(node.bitmap | bit, array);
+        }
+        Object[] array = node.array.clone();
+        Object existing = node.array[i];
+        if (existing == null) {
+            array[i + 1] = put((Node) node.array[i + 1], shift + BITS, hash, key, value);
+        } else if (existing.equals(key)) {
+            previous = node.array[i + 1];
+            array[i + 1] = value;
+        } else {
+            // Two keys in one slot: move both down a level
+            added = true;
+            array[i] = null;
+            array[i + 1] = pair(shift + BITS, hash(existing), existing, node.array[i + 1], hash, key, value);
+        }
+        return new Node(node.bitmap, array);
+    }
+
+    private static Node pair(int shift, int hash1, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        if (shift >= 32) {
+            return new Node(0, new Object[] {key1, value1, key2, value2});
+        }
+        int slot1 = (hash1 >>> shift) & 31;
+        int slot2 = (hash2 >>> shift) & 31;
+        if (slot1 == slot2) {
+            return new Node(1 << slot1, new Object[] {null, pair(shift + BITS, hash1, key1, value1, hash2, key2, value2)});
+        }
+        Object[] array = slot1 < slot2 ? new Object[] {key1, value1, key2, value2}
+                : new Object[] {key2, value2, key1, value1};
+        return new Node((1 << slot1) | (1 << slot2), array);
+    }
+
+    @Override
+    public void clear() {
+        root = EMPTY;
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(Object value) {
+        return (T) value;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            // Sees the entries as they are when the iteration starts, later puts do not disturb it
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new Entries(root);
+            }
+        };
+    }
+
+    // Walks the trie depth first with an explicit stack of nodes and the next slot in each
+    private class Entries implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Node> nodes = new ArrayDeque<>();
+        private final Deque<Integer> next = new ArrayDeque<>();
+        private Map.Entry<K, V> pending = null;
+
+        Entries(Node start) {
+            nodes.push(start);
+            next.push(0);
+            advance();
+        }
+
+        private void advance() {
+            pending = null;
+            while (!nodes.isEmpty()) {
+                Node node = nodes.peek();
+                int i = next.pop();
+                if (i >= node.array.length) {
+                    nodes.pop();
+                    continue;
+                }
+                next.push(i + 2);
+                if (node.array[i] == null) {
+                    nodes.push((Node) node.array[i + 1]);
+                    next.push(0);
+                } else {
+                    K key = node.array[i] == NULL_KEY ? null : value(node.array[i]);
+                    pending = new AbstractMap.SimpleImmutableEntry<>(key, value(node.array[i + 1]));
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = pending;
+            advance();
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+import java.util.Map;
+
+// What the null dereference check needs from an analysis of the pointer states of one function, whichever way the
+// states were found: NullPointerAnalysis pushes them through every block, SparsePointerAnalysis follows them from
+// definitions to uses in SSA form, PathSensitiveAnalysis keeps paths through correlated branches apart.
+public interface PointerAnalysis {
+    // The state of a variable right before the statement at node runs, or null for a variable the builder does not
+    // know
+    Variable.PointerState getStateBefore(int node, String name);
+
+    // Whether a dereference of the variable at node is reported. The path-insensitive analyses join paths that cannot
+    // be taken together, so only a pointer that is NULL on every path is.
+    default boolean mayBeNull(int node, String name) {
+        return getStateBefore(node, name) == Variable.PointerState.NULL;
+    }
+
+    // The variables of the function as the CFG builder left them
+    Map<String, Variable> getVariables();
+
+    // Evaluations of a transfer or join until nothing changed any more
+    long getVisits();
+
+    // Times something already evaluated had to be evaluated again because an input changed
+    long getRequeues();
+
+    // How the analysis converged, for the dump
+    String getStatistics();
+}
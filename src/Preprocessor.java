@@ -0,0 +1,757 @@
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Preprocessing stage between CLexer and the token stream.
+// C.g4 sends every '#' line to the HIDDEN channel, so directives are handled here instead: #include, object-like and
+// function-like #define (with # and ##), #undef, #if/#ifdef/#ifndef/#elif/#else/#endif and #pragma once.
+// Headers come from the process-wide HeaderCache. NULL is never expanded because the analysis recognizes
+// null pointers by that name.
+public class Preprocessor implements TokenSource {
+    // '#' and '##' inside a macro body. The lexer has no token for them, they only exist while expanding.
+    private static final int HASH = -2;
+    private static final int HASH_HASH = -3;
+    private static final int MAX_INCLUDE_DEPTH = 200;
+    private static final Set<String> PRESERVED = Set.of("NULL");
+    private static final Pattern INCLUDE = Pattern.compile("#\\s*include\\s*([<\"])([^>\"]*)[>\"].*", Pattern.DOTALL);
+
+    // A token produced by macro expansion, with the names of the macros that must not expand it again
+    private static class ExpandedToken extends CommonToken {
+        private static final long serialVersionUID = 1L;
+
+        final Set<String> hideSet;
+
+        ExpandedToken(Token token, Token invocation, Set<String> hideSet) {
+            super(token);
+            setText(token.getText());
+            // Point at the macro invocation so errors and source slices refer to the code as written
+            source = new Pair<>(invocation.getTokenSource(), invocation.getInputStream());
+            setLine(invocation.getLine());
+            setCharPositionInLine(invocation.getCharPositionInLine());
+            setStartIndex(invocation.getStartIndex());
+            setStopIndex(invocation.getStopIndex());
+            setTokenIndex(-1);
+            this.hideSet = hideSet;
+        }
+    }
+
+    // One level of #if nesting
+    private static class Conditional {
+        boolean parentActive; // the enclosing region is kept
+        boolean active; // the current branch is kept
+        boolean taken; // some branch of this #if was already kept
+    }
+
+    // Shared by the main file and everything it includes
+    private final MacroTable macros;
+    private final List<Path> includePaths;
+    private final Set<Path> onceFiles;
+    private final List<Path> onceSkipped; // includes left out because of '#pragma once', in order
+    private final List<Path> includedFiles;
+    private final List<String> unresolvedIncludes;
+    private final List<Path> missingHeaders; // every place an unresolved include was looked for
+    private final int depth;
+
+    private final TokenSource input;
+    private final Path file;
+    private final Deque<Token> pending = new ArrayDeque<>(); // expanded tokens that are rescanned before reading input
+    private final Deque<Token> output = new ArrayDeque<>(); // finished tokens of an included header
+    private final Deque<Conditional> conditionals = new ArrayDeque<>();
+    private final Token end = new CommonToken(Token.EOF); // marks the end of a token list in expandAll
+
+    // Expression being evaluated by #if
+    private List<Token> expression;
+    private int expressionPosition;
+
+    // defines holds -D options: name to replacement text
+    public Preprocessor(TokenSource lexer, Path file, List<Path> includePaths, Map<String, String> defines) {
+        this.macros = new MacroTable();
+        this.includePaths = includePaths;
+        this.onceFiles = new HashSet<>();
+        this.onceSkipped = new ArrayList<>();
+        this.includedFiles = new ArrayList<>();
+        this.unresolvedIncludes = new ArrayList<>();
+        this.missingHeaders = new ArrayList<>();
+        this.depth = 0;
+        this.input = lexer;
+        this.file = file.toAbsolutePath().normalize();
+        for (Map.Entry<String, String> define : defines.entrySet()) {
+            define(lexLine(define.getKey() + " " + define.getValue()));
+        }
+    }
+
+    // Preprocessor for an included header, sharing the macros of the includer
+    private Preprocessor(TokenSource header, Path file, Preprocessor parent) {
+        this.macros = parent.macros;
+        this.includePaths = parent.includePaths;
+        this.onceFiles = parent.onceFiles;
+        this.onceSkipped = parent.onceSkipped;
+        this.includedFiles = parent.includedFiles;
+        this.unresolvedIncludes = parent.unresolvedIncludes;
+        this.missingHeaders = parent.missingHeaders;
+        this.depth = parent.depth + 1;
+        this.input = header;
+        this.file = file;
+    }
+
+    static boolean isDirective(Token token) {
+        return token.getType() == CLexer.Directive || token.getType() == CLexer.MultiLineMacro;
+    }
+
+    public List<Path> getIncludedFiles() {
+        return includedFiles;
+    }
+
+    public List<String> getUnresolvedIncludes() {
+        return unresolvedIncludes;
+    }
+
+    // Files that would have been included had they existed
+    public List<Path> getMissingHeaders() {
+        return missingHeaders;
+    }
+
+    @Override
+    public Token nextToken() {
+        while (true) {
+            if (!output.isEmpty()) {
+                return output.poll();
+            }
+            Token token = read();
+            if (token.getType() == Token.EOF) {
+                return token;
+            }
+            if (isDirective(token)) {
+                handleDirective(token);
+            } else if (isActive() && token.getChannel() == Token.DEFAULT_CHANNEL && !expand(token)) {
+                return token;
+            }
+        }
+    }
+
+    private Token read() {
+        if (!pending.isEmpty()) {
+            return pending.poll();
+        }
+        return input.nextToken();
+    }
+
+    // Next token that is not whitespace or a comment. Directives are returned so the caller can put them back.
+    private Token readSignificant() {
+        Token token = read();
+        while (token.getType() != Token.EOF && token.getChannel() != Token.DEFAULT_CHANNEL && !isDirective(token)) {
+            token = read();
+        }
+        return token;
+    }
+
+    private boolean isActive() {
+        return conditionals.isEmpty() || conditionals.peek().active;
+    }
+
+    // Expands the token if it names a macro. The replacement is put back into the input to be rescanned.
+    private boolean expand(Token token) {
+        String name = token.getText();
+        if (!isIdentifierLike(token) || PRESERVED.contains(name)) {
+            return false;
+        }
+        MacroTable.Macro macro = macros.get(name);
+        if (macro == null) {
+            return false;
+        }
+        Set<String> hideSet = token instanceof ExpandedToken ? ((ExpandedToken) token).hideSet : Collections.emptySet();
+        if (hideSet.contains(name)) {
+            return false;
+        }
+
+        List<List<Token>> args = null;
+        if (macro.isFunctionLike()) {
+            Token next = readSignificant();
+            if (next.getType() != CLexer.LeftParen) {
+                pending.addFirst(next); // a function-like macro name without arguments is just an identifier
+                return false;
+            }
+            args = readArguments(macro, next);
+            if (args == null) {
+                return false;
+            }
+        }
+
+        Set<String> newHideSet = new HashSet<>(hideSet);
+        newHideSet.add(name);
+        List<Token> replacement = substitute(macro, args, token, newHideSet);
+        for (int i = replacement.size() - 1; i >= 0; i--) {
+            pending.addFirst(replacement.get(i));
+        }
+        return true;
+    }
+
+    // Reads the arguments up to the ')' matching leftParen.
+    // If the input ends first, everything read is put back and null is returned.
+    private List<List<Token>> readArguments(MacroTable.Macro macro, Token leftParen) {
+        List<Token> consumed = new ArrayList<>();
+        consumed.add(leftParen);
+        List<List<Token>> args = new ArrayList<>();
+        List<Token> current = new ArrayList<>();
+        int parens = 0;
+        while (true) {
+            Token token = read();
+            if (token.getType() == Token.EOF) {
+                pending.addFirst(token);
+                for (int i = consumed.size() - 1; i >= 0; i--) {
+                    pending.addFirst(consumed.get(i));
+                }
+                return null;
+            }
+            consumed.add(token);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            int type = token.getType();
+            if (type == CLexer.LeftParen) {
+                parens++;
+            } else if (type == CLexer.RightParen) {
+                if (parens == 0) {
+                    args.add(current);
+                    break;
+                }
+                parens--;
+            } else if (type == CLexer.Comma && parens == 0 && !(macro.variadic && args.size() == macro.params.size())) {
+                args.add(current);
+                current = new ArrayList<>();
+                continue;
+            }
+            current.add(token);
+        }
+        // F() passes one empty argument, which a macro without parameters does not take
+        if (macro.params.isEmpty() && args.size() == 1 && args.get(0).isEmpty()) {
+            args.clear();
+        }
+        return args;
+    }
+
+    private List<Token> substitute(MacroTable.Macro macro, List<List<Token>> args, Token invocation, Set<String> hideSet) {
+        List<Token> body = macro.body;
+        List<Token> result = new ArrayList<>();
+        for (int i = 0; i < body.size(); i++) {
+            Token token = body.get(i);
+            if (token.getType() == HASH && i + 1 < body.size() && parameterIndex(macro, body.get(i + 1)) >= 0) {
+                result.add(stringize(argument(args, parameterIndex(macro, body.get(++i)))));
+                continue;
+            }
+            int parameter = parameterIndex(macro, token);
+            if (parameter >= 0) {
+                // Arguments are macro-expanded first, except when they are pasted with ##
+                boolean pasted = (i > 0 && body.get(i - 1).getType() == HASH_HASH)
+                        || (i + 1 < body.size() && body.get(i + 1).getType() == HASH_HASH);
+                List<Token> arg = argument(args, parameter);
+                result.addAll(pasted ? arg : expandAll(arg));
+            } else {
+                result.add(token);
+            }
+        }
+
+        List<Token> placed = new ArrayList<>();
+        for (Token token : paste(result)) {
+            if (token.getType() == HASH) {
+                continue; // a '#' that is not applied to a parameter has no meaning outside a directive
+            }
+            Set<String> tokenHideSet = hideSet;
+            if (token instanceof ExpandedToken) {
+                tokenHideSet = new HashSet<>(hideSet);
+                tokenHideSet.addAll(((ExpandedToken) token).hideSet);
+            }
+            placed.add(new ExpandedToken(token, invocation, tokenHideSet));
+        }
+        return placed;
+    }
+
+    private int parameterIndex(MacroTable.Macro macro, Token token) {
+        if (macro.params == null || !isIdentifierLike(token)) {
+            return -1;
+        }
+        if (macro.variadic && token.getText().equals("__VA_ARGS__")) {
+            return macro.params.size();
+        }
+        return macro.params.indexOf(token.getText());
+    }
+
+    private static List<Token> argument(List<List<Token>> args, int index) {
+        return index < args.size() ? args.get(index) : Collections.emptyList();
+    }
+
+    // Fully expands a list of tokens on its own, the way macro arguments are expanded
+    private List<Token> expandAll(List<Token> tokens) {
+        List<Token> saved = new ArrayList<>(pending);
+        pending.clear();
+        pending.addAll(tokens);
+        pending.add(end);
+        List<Token> result = new ArrayList<>();
+        for (Token token = pending.poll(); token != end; token = pending.poll()) {
+            if (!expand(token)) {
+                result.add(token);
+            }
+        }
+        pending.clear();
+        pending.addAll(saved);
+        return result;
+    }
+
+    // Joins the tokens around each ## into one token
+    private List<Token> paste(List<Token> tokens) {
+        List<Token> result = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.getType() != HASH_HASH) {
+                result.add(token);
+            } else if (!result.isEmpty() && i + 1 < tokens.size() && tokens.get(i + 1).getType() != HASH_HASH) {
+                // An empty argument on either side leaves the other operand as it is
+                Token left = result.remove(result.size() - 1);
+                result.addAll(lexLine(left.getText() + tokens.get(++i).getText()));
+            }
+        }
+        return result;
+    }
+
+    private static Token stringize(List<Token> arg) {
+        StringBuilder text = new StringBuilder("\"");
+        Token previous = null;
+        for (Token token : arg) {
+            if (previous != null && token.getStartIndex() > previous.getStopIndex() + 1) {
+                text.append(' ');
+            }
+            String tokenText = token.getText();
+            if (token.getType() == CLexer.StringLiteral || token.getType() == CLexer.Constant) {
+                tokenText = tokenText.replace("\\", "\\\\").replace("\"", "\\\"");
+            }
+            text.append(tokenText);
+            previous = token;
+        }
+        return new CommonToken(CLexer.StringLiteral, text.append('"').toString());
+    }
+
+    private static boolean isIdentifierLike(Token token) {
+        String text = token.getText();
+        return token.getType() != CLexer.StringLiteral && token.getType() != CLexer.Constant
+                && text != null && !text.isEmpty() && (Character.isLetter(text.charAt(0)) || text.charAt(0) == '_');
+    }
+
+    // Lexes one directive line (or a piece of one). '#' and '##' become HASH and HASH_HASH tokens.
+    private static List<Token> lexLine(String text) {
+        CLexer lexer = new CLexer(CharStreams.fromString(text.replaceAll("\\\\\r?\n", " ")));
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        lexer.removeErrorListeners();
+        List<Token> tokens = new ArrayList<>();
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (isDirective(token)) {
+                // The lexer swallows the rest of the line after a '#', so split it off and lex the remainder
+                boolean paste = token.getText().startsWith("##");
+                tokens.add(new CommonToken(paste ? HASH_HASH : HASH, paste ? "##" : "#"));
+                tokens.addAll(lexLine(token.getText().substring(paste ? 2 : 1)));
+            } else if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void handleDirective(Token directive) {
+        String text = directive.getText();
+        List<Token> line = lexLine(text.substring(1));
+        if (line.isEmpty()) {
+            return; // the null directive '#'
+        }
+        String keyword = line.get(0).getText();
+        List<Token> rest = line.subList(1, line.size());
+        Conditional current = conditionals.peek();
+        switch (keyword) {
+            case "if":
+                pushConditional(isActive() && evaluate(rest) != 0);
+                return;
+            case "ifdef":
+                pushConditional(isActive() && !rest.isEmpty() && macros.isDefined(rest.get(0).getText()));
+                return;
+            case "ifndef":
+                pushConditional(isActive() && !rest.isEmpty() && !macros.isDefined(rest.get(0).getText()));
+                return;
+            case "elif":
+                if (current != null) {
+                    current.active = current.parentActive && !current.taken && evaluate(rest) != 0;
+                    current.taken |= current.active;
+                }
+                return;
+            case "else":
+                if (current != null) {
+                    current.active = current.parentActive && !current.taken;
+                    current.taken = true;
+                }
+                return;
+            case "endif":
+                if (current != null) {
+                    conditionals.pop();
+                }
+                return;
+            default:
+                break;
+        }
+
+        if (!isActive()) {
+            return;
+        }
+        switch (keyword) {
+            case "define":
+                define(rest);
+                break;
+            case "undef":
+                if (!rest.isEmpty()) {
+                    macros.undefine(rest.get(0).getText());
+                }
+                break;
+            case "include":
+                include(text, rest);
+                break;
+            case "pragma":
+                if (!rest.isEmpty() && rest.get(0).getText().equals("once")) {
+                    onceFiles.add(file);
+                }
+                break;
+            default:
+                break; // #line, #error, #warning and unknown directives are ignored
+        }
+    }
+
+    private void pushConditional(boolean value) {
+        Conditional conditional = new Conditional();
+        conditional.parentActive = isActive();
+        conditional.active = value;
+        conditional.taken = value;
+        conditionals.push(conditional);
+    }
+
+    // Parses 'NAME body' or 'NAME(params) body'
+    private void define(List<Token> line) {
+        if (line.isEmpty() || !isIdentifierLike(line.get(0))) {
+            return;
+        }
+        Token name = line.get(0);
+        List<String> params = null;
+        boolean variadic = false;
+        int bodyStart = 1;
+        // It is only a function-like macro when '(' directly follows the name
+        if (line.size() > 1 && line.get(1).getType() == CLexer.LeftParen
+                && line.get(1).getStartIndex() == name.getStopIndex() + 1) {
+            params = new ArrayList<>();
+            int i = 2;
+            for (; i < line.size() && line.get(i).getType() != CLexer.RightParen; i++) {
+                Token token = line.get(i);
+                if (token.getType() == CLexer.Ellipsis) {
+                    variadic = true;
+                } else if (token.getType() != CLexer.Comma) {
+                    params.add(token.getText());
+                }
+            }
+            bodyStart = i + 1;
+        }
+        List<Token> body = new ArrayList<>(line.subList(Math.min(bodyStart, line.size()), line.size()));
+        macros.define(new MacroTable.Macro(name.getText(), params, variadic, body));
+    }
+
+    private void include(String text, List<Token> rest) {
+        String target;
+        boolean quoted;
+        Matcher matcher = INCLUDE.matcher(text);
+        if (matcher.matches()) {
+            quoted = matcher.group(1).equals("\"");
+            target = matcher.group(2);
+        } else {
+            // #include MACRO
+            List<Token> expanded = expandAll(rest);
+            StringBuilder name = new StringBuilder();
+            for (Token token : expanded) {
+                name.append(token.getText());
+            }
+            String spelled = name.toString();
+            if (spelled.length() < 2) {
+                return;
+            }
+            quoted = spelled.startsWith("\"");
+            target = spelled.substring(1, spelled.length() - 1);
+        }
+
+        Path path = resolve(target, quoted);
+        if (path == null) {
+            unresolvedIncludes.add(target); // like before, headers we cannot find (e.g. the system ones) are skipped
+            return;
+        }
+        if (onceFiles.contains(path)) {
+            onceSkipped.add(path);
+            return;
+        }
+        if (depth >= MAX_INCLUDE_DEPTH) {
+            return;
+        }
+
+        HeaderCache.Lexed header;
+        try {
+            header = HeaderCache.lex(path);
+        } catch (IOException e) {
+            unresolvedIncludes.add(target);
+            return;
+        }
+        if (header.pragmaOnce) {
+            onceFiles.add(path);
+        }
+        includedFiles.add(path);
+
+        long fingerprint = macros.getFingerprint();
+        HeaderCache.Expanded result = HeaderCache.getExpanded(path, header, fingerprint, this::appliesHere);
+        if (result != null) {
+            macros.apply(result.changes);
+            includedFiles.addAll(result.includes);
+            onceFiles.addAll(result.onceFiles);
+            onceSkipped.addAll(result.onceSkipped);
+            unresolvedIncludes.addAll(result.unresolved);
+            missingHeaders.addAll(result.missing);
+        } else {
+            int historyStart = macros.getHistorySize();
+            int includedStart = includedFiles.size();
+            int skippedStart = onceSkipped.size();
+            int unresolvedStart = unresolvedIncludes.size();
+            int missingStart = missingHeaders.size();
+            Set<Path> onceBefore = new HashSet<>(onceFiles);
+            Preprocessor child = new Preprocessor(new ListTokenSource(header.tokens, path.toString()), path, this);
+            result = new HeaderCache.Expanded();
+            result.tokens = new ArrayList<>();
+            for (Token token = child.nextToken(); token.getType() != Token.EOF; token = child.nextToken()) {
+                result.tokens.add(token);
+            }
+            result.changes = macros.getChangesSince(historyStart);
+            result.includes = new ArrayList<>(includedFiles.subList(includedStart, includedFiles.size()));
+            result.onceFiles = new HashSet<>(onceFiles);
+            result.onceFiles.removeAll(onceBefore);
+            result.onceSkipped = new ArrayList<>(onceSkipped.subList(skippedStart, onceSkipped.size()));
+            result.onceSkipped.removeAll(result.onceFiles); // skipped the second time the header itself included them
+            result.unresolved = new ArrayList<>(unresolvedIncludes.subList(unresolvedStart, unresolvedIncludes.size()));
+            result.missing = new ArrayList<>(missingHeaders.subList(missingStart, missingHeaders.size()));
+            HeaderCache.putExpanded(path, header, fingerprint, result);
+        }
+
+        // Cached tokens are shared between files, so the token stream gets its own copies
+        for (Token token : result.tokens) {
+            CommonToken copy = new CommonToken(token);
+            copy.setText(token.getText());
+            output.add(copy);
+        }
+    }
+
+    // Cached tokens are only right when the same nested headers are left out for '#pragma once' as when they were
+    // made: the ones skipped then must still be included, and none of the ones included then may be yet
+    private boolean appliesHere(HeaderCache.Expanded result) {
+        for (Path skipped : result.onceSkipped) {
+            if (!onceFiles.contains(skipped)) {
+                return false;
+            }
+        }
+        for (Path once : result.onceFiles) {
+            if (onceFiles.contains(once)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // "name" is looked up next to the including file first, <name> only in the -I directories
+    private Path resolve(String target, boolean quoted) {
+        List<Path> candidates = new ArrayList<>();
+        if (quoted && file.getParent() != null) {
+            candidates.add(file.getParent().resolve(target));
+        }
+        for (Path directory : includePaths) {
+            candidates.add(directory.resolve(target));
+        }
+        for (Path candidate : candidates) {
+            if (Files.isRegularFile(candidate)) {
+                return candidate.toAbsolutePath().normalize();
+            }
+        }
+        for (Path candidate : candidates) {
+            missingHeaders.add(candidate.toAbsolutePath().normalize());
+        }
+        return null;
+    }
+
+    // Evaluates a #if expression. Identifiers that are not macros count as 0.
+    private long evaluate(List<Token> tokens) {
+        List<Token> replaced = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (!token.getText().equals("defined")) {
+                replaced.add(token);
+                continue;
+            }
+            // defined NAME or defined(NAME)
+            boolean parens = i + 1 < tokens.size() && tokens.get(i + 1).getType() == CLexer.LeftParen;
+            int nameIndex = parens ? i + 2 : i + 1;
+            boolean defined = nameIndex < tokens.size() && macros.isDefined(tokens.get(nameIndex).getText());
+            replaced.add(new CommonToken(CLexer.Constant, defined ? "1" : "0"));
+            i = parens ? nameIndex + 1 : nameIndex;
+        }
+
+        expression = expandAll(replaced);
+        expressionPosition = 0;
+        try {
+            return conditionalExpression();
+        } catch (RuntimeException e) {
+            return 0; // malformed expressions are false
+        }
+    }
+
+    private static final String[][] BINARY_OPERATORS = {
+            {"||"}, {"&&"}, {"|"}, {"^"}, {"&"}, {"==", "!="}, {"<", ">", "<=", ">="}, {"<<", ">>"}, {"+", "-"}, {"*", "/", "%"}
+    };
+
+    private long conditionalExpression() {
+        long condition = binaryExpression(0);
+        if (accept("?")) {
+            long whenTrue = conditionalExpression();
+            accept(":");
+            long whenFalse = conditionalExpression();
+            return condition != 0 ? whenTrue : whenFalse;
+        }
+        return condition;
+    }
+
+    private long binaryExpression(int level) {
+        if (level == BINARY_OPERATORS.length) {
+            return unaryExpression();
+        }
+        long left = binaryExpression(level + 1);
+        while (expressionPosition < expression.size()) {
+            String operator = expression.get(expressionPosition).getText();
+            if (!Arrays.asList(BINARY_OPERATORS[level]).contains(operator)) {
+                break;
+            }
+            expressionPosition++;
+            long right = binaryExpression(level + 1);
+            left = applyOperator(operator, left, right);
+        }
+        return left;
+    }
+
+    private static long applyOperator(String operator, long left, long right) {
+        switch (operator) {
+            case "||": return (left != 0 || right != 0) ? 1 : 0;
+            case "&&": return (left != 0 && right != 0) ? 1 : 0;
+            case "|": return left | right;
+            case "^": return left ^ right;
+            case "&": return left & right;
+            case "==": return left == right ? 1 : 0;
+            case "!=": return left != right ? 1 : 0;
+            case "<": return left < right ? 1 : 0;
+            case ">": return left > right ? 1 : 0;
+            case "<=": return left <= right ? 1 : 0;
+            case ">=": return left >= right ? 1 : 0;
+            case "<<": return left << right;
+            case ">>": return left >> right;
+            case "+": return left + right;
+            case "-": return left - right;
+            case "*": return left * right;
+            case "/": return right == 0 ? 0 : left / right;
+            default: return right == 0 ? 0 : left % right;
+        }
+    }
+
+    private long unaryExpression() {
+        Token token = expression.get(expressionPosition++);
+        switch (token.getText()) {
+            case "!": return unaryExpression() == 0 ? 1 : 0;
+            case "~": return ~unaryExpression();
+            case "-": return -unaryExpression();
+            case "+": return unaryExpression();
+            case "(":
+                long value = conditionalExpression();
+                accept(")");
+                return value;
+            default:
+                break;
+        }
+        if (token.getType() == CLexer.Constant || token.getType() == CLexer.DigitSequence) {
+            return parseNumber(token.getText());
+        }
+        return 0; // an identifier that is not a macro
+    }
+
+    private boolean accept(String text) {
+        if (expressionPosition < expression.size() && expression.get(expressionPosition).getText().equals(text)) {
+            expressionPosition++;
+            return true;
+        }
+        return false;
+    }
+
+    private static long parseNumber(String text) {
+        if (text.startsWith("'")) {
+            // Character constant, only the plain and simple escaped forms
+            String body = text.substring(1, text.length() - 1);
+            if (body.startsWith("\\") && body.length() > 1) {
+                switch (body.charAt(1)) {
+                    case 'n': return '\n';
+                    case 't': return '\t';
+                    case 'r': return '\r';
+                    case '0': return 0;
+                    default: return body.charAt(1);
+                }
+            }
+            return body.isEmpty() ? 0 : body.charAt(0);
+        }
+        String digits = text.replaceAll("[uUlL]+$", "");
+        try {
+            if (digits.startsWith("0x") || digits.startsWith("0X")) {
+                return Long.parseUnsignedLong(digits.substring(2), 16);
+            } else if (digits.startsWith("0b") || digits.startsWith("0B")) {
+                return Long.parseUnsignedLong(digits.substring(2), 2);
+            } else if (digits.length() > 1 && digits.startsWith("0")) {
+                return Long.parseUnsignedLong(digits.substring(1), 8);
+            }
+            return Long.parseUnsignedLong(digits);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public int getLine() {
+        return input.getLine();
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return input.getCharPositionInLine();
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input.getInputStream();
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        input.setTokenFactory(factory);
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return input.getTokenFactory();
+    }
+}
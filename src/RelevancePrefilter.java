@@ -0,0 +1,217 @@
+import org.antlr.v4.runtime.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Token-level pre-pass that finds the top-level function definitions in a file without parsing it.
+// A function whose body has no pointer '*', no '->', no NULL and no mention of a global pointer cannot produce a
+// null dereference diagnostic, so its tokens can be dropped before the parser ever sees them.
+public class RelevancePrefilter {
+    // Source character range of one function definition, from its first specifier to the closing brace
+    static class FunctionRange {
+        int start;
+        int stop;
+        boolean hasStar;
+        boolean hasArrow;
+        boolean hasNull;
+        boolean usesGlobalPointer;
+
+        boolean isRelevant() {
+            return hasStar || hasArrow || hasNull || usesGlobalPointer;
+        }
+    }
+
+    private final List<FunctionRange> functions = new ArrayList<>();
+    private final List<FunctionRange> skipped = new ArrayList<>();
+
+    // Lexes the whole input once and rewinds it so the real lexer can start from the beginning
+    public static RelevancePrefilter scan(CharStream input) {
+        RelevancePrefilter prefilter = new RelevancePrefilter();
+        int start = input.index();
+        prefilter.scanTokens(new CLexer(input));
+        input.seek(start);
+        return prefilter;
+    }
+
+    private void scanTokens(TokenSource lexer) {
+        Set<String> globalPointers = new HashSet<>(); // file-level variables declared with a '*'
+        List<String> declaredNames = new ArrayList<>(); // identifiers in the current top-level declaration
+        boolean declarationHasStar = false;
+        int braceDepth = 0;
+        int parenDepth = 0;
+        int declarationStart = -1; // start of the current top-level declaration, -1 before its first token
+        Token previous = null; // previous token at brace depth 0
+        FunctionRange function = null; // function whose body we are in
+        int bodyPrevious = 0; // types of the two tokens before the current one inside a body
+        int bodyBeforePrevious = 0;
+
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            int type = token.getType();
+
+            if (function != null) {
+                // Inside a function body: only record facts and watch for the closing brace
+                if (type == CLexer.LeftBrace) {
+                    braceDepth++;
+                } else if (type == CLexer.RightBrace && --braceDepth == 0) {
+                    function.stop = token.getStopIndex();
+                    functions.add(function);
+                    if (!function.isRelevant()) {
+                        skipped.add(function);
+                    }
+                    function = null;
+                    declarationStart = -1;
+                    previous = null;
+                } else if (type == CLexer.Star && !isMultiplication(bodyBeforePrevious, bodyPrevious)) {
+                    function.hasStar = true;
+                } else if (type == CLexer.Arrow) {
+                    function.hasArrow = true;
+                } else if (type == CLexer.Identifier) {
+                    if (token.getText().equals("NULL")) {
+                        function.hasNull = true;
+                    } else if (globalPointers.contains(token.getText())) {
+                        function.usesGlobalPointer = true;
+                    }
+                }
+                bodyBeforePrevious = bodyPrevious;
+                bodyPrevious = type;
+                continue;
+            }
+
+            if (declarationStart < 0) {
+                declarationStart = token.getStartIndex();
+                declaredNames.clear();
+                declarationHasStar = false;
+            }
+
+            if (braceDepth > 0) {
+                // Struct, union, enum or initializer braces at file level
+                if (type == CLexer.LeftBrace) {
+                    braceDepth++;
+                } else if (type == CLexer.RightBrace) {
+                    braceDepth--;
+                }
+                continue;
+            }
+
+            if (type == CLexer.LeftParen) {
+                parenDepth++;
+            } else if (type == CLexer.RightParen) {
+                parenDepth--;
+            } else if (type == CLexer.LeftBrace) {
+                braceDepth++;
+                // A '{' right after ')' at file level opens a function body
+                if (parenDepth == 0 && previous != null && previous.getType() == CLexer.RightParen) {
+                    function = new FunctionRange();
+                    function.start = declarationStart;
+                }
+            } else if (type == CLexer.Semi && parenDepth == 0) {
+                if (declarationHasStar) {
+                    globalPointers.addAll(declaredNames);
+                }
+                declarationStart = -1;
+            } else if (type == CLexer.Star && parenDepth == 0) {
+                declarationHasStar = true;
+            } else if (type == CLexer.Identifier && parenDepth == 0) {
+                declaredNames.add(token.getText());
+            }
+            previous = token;
+        }
+    }
+
+    // A '*' is a multiplication when it follows the end of an operand, like in 'x * 2' or 'a[i] * b'.
+    // An identifier only counts as an operand after an operator; 'T *p' at the start of a statement is a declaration.
+    // After ')' it can go either way, 'f(a) * b' or 'if (x) *p = 1' and '(int)*p', so it is kept as a dereference.
+    private static boolean isMultiplication(int beforePrevious, int previous) {
+        switch (previous) {
+            case CLexer.Constant:
+            case CLexer.DigitSequence:
+            case CLexer.StringLiteral:
+            case CLexer.RightBracket:
+            case CLexer.PlusPlus:
+            case CLexer.MinusMinus:
+                return true;
+            case CLexer.Identifier:
+                return isOperator(beforePrevious);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isOperator(int type) {
+        switch (type) {
+            case CLexer.Return:
+            case CLexer.Assign:
+            case CLexer.StarAssign:
+            case CLexer.DivAssign:
+            case CLexer.ModAssign:
+            case CLexer.PlusAssign:
+            case CLexer.MinusAssign:
+            case CLexer.LeftShiftAssign:
+            case CLexer.RightShiftAssign:
+            case CLexer.AndAssign:
+            case CLexer.XorAssign:
+            case CLexer.OrAssign:
+            case CLexer.Plus:
+            case CLexer.Minus:
+            case CLexer.Star:
+            case CLexer.Div:
+            case CLexer.Mod:
+            case CLexer.LeftShift:
+            case CLexer.RightShift:
+            case CLexer.Less:
+            case CLexer.LessEqual:
+            case CLexer.Greater:
+            case CLexer.GreaterEqual:
+            case CLexer.Equal:
+            case CLexer.NotEqual:
+            case CLexer.Caret:
+            case CLexer.Or:
+            case CLexer.AndAnd:
+            case CLexer.OrOr:
+            case CLexer.Not:
+            case CLexer.Tilde:
+            case CLexer.Question:
+            case CLexer.LeftBracket:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public int getFunctionCount() {
+        return functions.size();
+    }
+
+    public int getSkippedCount() {
+        return skipped.size();
+    }
+
+    // Wraps a token source so that tokens of irrelevant functions never reach the parser
+    public TokenSource filter(TokenSource source) {
+        return new SkippingTokenSource(source, skipped);
+    }
+
+    private static class SkippingTokenSource extends FilteringTokenSource {
+        private final List<FunctionRange> ranges;
+        private int next = 0; // first range that does not end before the current token
+
+        SkippingTokenSource(TokenSource source, List<FunctionRange> ranges) {
+            super(source);
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected boolean keep(Token token) {
+            int index = token.getStartIndex();
+            while (next < ranges.size() && ranges.get(next).stop < index) {
+                next++;
+            }
+            return next == ranges.size() || index < ranges.get(next).start;
+        }
+    }
+}
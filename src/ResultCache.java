@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Persistent cache of per-file analysis results.
+// Entries are keyed by a hash of the file contents, its directory, the analyzer version and the options that change
+// results. The directory is part of it because "name" includes are looked up next to the file.
+// On a hit the stored diagnostics are replayed and the file is not lexed, parsed or analyzed at all.
+public class ResultCache {
+    // A hash of the analyzer's own classes, so any rebuilt analyzer starts with an empty cache without anyone having
+    // to remember to bump a number
+    static final String ANALYZER_VERSION = analyzerVersion();
+
+    private final Path directory;
+    private final String config;
+    private int hits = 0;
+    private int misses = 0;
+
+    // config describes every option that can change the diagnostics
+    public ResultCache(Path directory, String config) throws IOException {
+        this.directory = directory;
+        this.config = config;
+        Files.createDirectories(directory);
+    }
+
+    public String key(Path file) throws IOException {
+        String contentHash;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            contentHash = HeaderCache.contentHash(buffer);
+        }
+        Path directory = file.toRealPath().getParent();
+        String key = contentHash + "|" + directory + "|" + ANALYZER_VERSION + "|" + config;
+        return HeaderCache.contentHash(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Hashes the jar the analyzer runs from, or every class file when it runs from a directory of classes. When the
+    // classes cannot be read the version is unique to this run, so no entry ever matches.
+    private static String analyzerVersion() {
+        try {
+            Path location = Paths.get(ResultCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!Files.isDirectory(location)) {
+                return HeaderCache.hash(location);
+            }
+            List<Path> classes = new ArrayList<>();
+            try (Stream<Path> files = Files.walk(location)) {
+                files.filter(file -> file.toString().endsWith(".class")).sorted().forEach(classes::add);
+            }
+            StringBuilder hashes = new StringBuilder();
+            for (Path file : classes) {
+                hashes.append(location.relativize(file)).append(' ').append(HeaderCache.hash(file)).append('\n');
+            }
+            return HeaderCache.contentHash(hashes.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return "unknown " + System.nanoTime();
+        }
+    }
+
+    // Returns the stored diagnostics, or null if there is no valid entry.
+    // An entry is only valid while every header the file included still has the same contents and none of the
+    // headers it could not find has appeared since.
+    public List<String> lookup(String key) throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(entryPath(key), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            misses++;
+            return null;
+        }
+
+        List<String> diagnostics = new ArrayList<>();
+        boolean valid = !lines.isEmpty() && lines.get(0).equals("version " + ANALYZER_VERSION);
+        for (int i = 1; valid && i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.startsWith("include ")) {
+                // include <hash> <path>
+                String hash = line.substring(8, line.indexOf(' ', 8));
+                Path header = Paths.get(line.substring(line.indexOf(' ', 8) + 1));
+                valid = Files.isRegularFile(header) && HeaderCache.hash(header).equals(hash);
+            } else if (line.startsWith("missing ")) {
+                valid = !Files.isRegularFile(Paths.get(line.substring(8)));
+            } else if (line.startsWith("diagnostic ")) {
+                diagnostics.add(unescape(line.substring(11)));
+            }
+        }
+
+        if (!valid) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return diagnostics;
+    }
+
+    public void store(String key, List<Path> includes, List<Path> missing, List<String> diagnostics)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("version " + ANALYZER_VERSION);
+        for (Path include : new LinkedHashSet<>(includes)) {
+            lines.add("include " + HeaderCache.hash(include) + " " + include);
+        }
+        for (Path header : new LinkedHashSet<>(missing)) {
+            lines.add("missing " + header);
+        }
+        for (String diagnostic : diagnostics) {
+            lines.add("diagnostic " + escape(diagnostic));
+        }
+
+        // Write to a temporary file first so a crash or a concurrent run never sees half an entry
+        Path temporary = Files.createTempFile(directory, key, ".tmp");
+        Files.write(temporary, lines, StandardCharsets.UTF_8);
+        Files.move(temporary, entryPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ".result");
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String text) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                result.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,288 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Static single assignment form of a CompactCFG for a chosen set of variables.
+// Every assignment to one of the variables is a value of its own, and so is the value a variable has when the
+// function starts. Where different values of a variable meet, a phi value joins them, one operand per predecessor of
+// the node. Phis are placed at the iterated dominance frontier of the assignments (Cytron et al.), and the values are
+// numbered by walking the dominator tree with the value of each variable that is current at that point.
+// Each read of a variable is linked to the one value that reaches it, and each value to the phis that use it, so an
+// analysis can follow definitions to uses without going through the nodes in between.
+public class SSAForm {
+    public enum Kind {
+        ENTRY, // the value when the function starts
+        DEFINITION, // set by a statement
+        PHI // joins the values on the edges into a node
+    }
+
+    private static final String[] NONE = new String[0];
+
+    private final CompactCFG cfg;
+    private final Map<String, Integer> number = new HashMap<>(); // variable -> number
+    private final String[] names;
+
+    // Per value
+    private final List<Kind> kinds = new ArrayList<>();
+    private final List<Integer> variableOf = new ArrayList<>();
+    private final List<Integer> nodeOf = new ArrayList<>(); // the statement or the phi's node, -1 for ENTRY
+    private final List<int[]> operands = new ArrayList<>(); // of phis, in the order of the node's predecessors
+    private int phiCount = 0;
+    private int[] userStart; // the phis using value v are users[userStart[v]] .. users[userStart[v + 1] - 1]
+    private int[] users;
+
+    // The values read by each node: those of node n are at useStart[n] .. useStart[n + 1] - 1
+    private final int[] useStart;
+    private final int[] useVariable;
+    private final int[] useValue;
+
+    public SSAForm(CompactCFG cfg, Dominators dominators, List<String> variables) {
+        this.cfg = cfg;
+        names = variables.toArray(new String[0]);
+        for (int v = 0; v < names.length; v++) {
+            number.put(names[v], v);
+        }
+        int size = cfg.size();
+        for (int v = 0; v < names.length; v++) {
+            addValue(Kind.ENTRY, v, -1);
+        }
+
+        // Nodes assigning each variable, with the start standing in for the entry value
+        List<List<Integer>> definedAt = new ArrayList<>();
+        for (int v = 0; v < names.length; v++) {
+            definedAt.add(new ArrayList<>());
+            if (size > 0) {
+                definedAt.get(v).add(cfg.getStart());
+            }
+        }
+        int[] definedVariable = new int[size];
+        useStart = new int[size + 1];
+        for (int node = 0; node < size; node++) {
+            Statement statement = cfg.getStatement(node);
+            Integer defined = statement.getDefined() == null ? null : number.get(statement.getDefined());
+            definedVariable[node] = defined == null ? -1 : defined;
+            if (defined != null) {
+                definedAt.get(defined).add(node);
+            }
+            useStart[node + 1] = useStart[node];
+            for (String name : statement.getUsed()) {
+                if (number.containsKey(name)) {
+                    useStart[node + 1]++;
+                }
+            }
+        }
+        useVariable = new int[useStart[size]];
+        useValue = new int[useStart[size]];
+
+        // Phis at the iterated dominance frontier of each variable's assignments
+        List<List<Integer>> phisAt = new ArrayList<>(Collections.nCopies(size, null)); // null for nodes without
+        int[] placedFor = new int[size]; // the last variable that got a phi at the node, plus one
+        int[] queuedFor = new int[size];
+        for (int v = 0; v < names.length; v++) {
+            List<Integer> work = new ArrayList<>();
+            for (int node : definedAt.get(v)) {
+                if (queuedFor[node] != v + 1) {
+                    queuedFor[node] = v + 1;
+                    work.add(node);
+                }
+            }
+            while (!work.isEmpty()) {
+                int node = work.remove(work.size() - 1);
+                for (int join : dominators.getFrontier(node)) {
+                    if (placedFor[join] == v + 1) {
+                        continue;
+                    }
+                    placedFor[join] = v + 1;
+                    int phi = addValue(Kind.PHI, v, join);
+                    // The start node is also entered from outside, that edge brings the entry value
+                    int[] phiOperands = new int[cfg.getPredecessorCount(join) + (join == cfg.getStart() ? 1 : 0)];
+                    if (join == cfg.getStart()) {
+                        phiOperands[phiOperands.length - 1] = v;
+                    }
+                    operands.set(phi, phiOperands);
+                    if (phisAt.get(join) == null) {
+                        phisAt.set(join, new ArrayList<>());
+                    }
+                    phisAt.get(join).add(phi);
+                    phiCount++;
+                    if (queuedFor[join] != v + 1) {
+                        queuedFor[join] = v + 1;
+                        work.add(join);
+                    }
+                }
+            }
+        }
+
+        // Walk the dominator tree. current[v] is the value of v at the point of the walk; each node sets the values
+        // it defines and puts the old ones on the undo stack, to be restored when the walk leaves its subtree.
+        int[] current = new int[names.length];
+        for (int v = 0; v < names.length; v++) {
+            current[v] = v;
+        }
+        List<Integer> undoVariable = new ArrayList<>();
+        List<Integer> undoValue = new ArrayList<>();
+        int[] undoMark = new int[size];
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        int top = size > 0 ? 0 : -1;
+        if (size > 0) {
+            stack[0] = cfg.getStart();
+        }
+        while (top >= 0) {
+            int node = stack[top];
+            if (nextChild[node] == 0) {
+                undoMark[node] = undoVariable.size();
+                List<Integer> phis = phisAt.get(node);
+                if (phis != null) {
+                    for (int phi : phis) {
+                        undoVariable.add(variableOf.get(phi));
+                        undoValue.add(current[variableOf.get(phi)]);
+                        current[variableOf.get(phi)] = phi;
+                    }
+                }
+                int use = useStart[node];
+                for (String name : use == useStart[node + 1] ? NONE : cfg.getStatement(node).getUsed()) {
+                    Integer v = number.get(name);
+                    if (v != null) {
+                        useVariable[use] = v;
+                        useValue[use++] = current[v];
+                    }
+                }
+                if (definedVariable[node] >= 0) {
+                    int v = definedVariable[node];
+                    undoVariable.add(v);
+                    undoValue.add(current[v]);
+                    current[v] = addValue(Kind.DEFINITION, v, node);
+                }
+                // Fill in this node's operand of every phi at its successors
+                for (int s = 0; s < cfg.getSuccessorCount(node); s++) {
+                    int successor = cfg.getSuccessor(node, s);
+                    List<Integer> successorPhis = phisAt.get(successor);
+                    if (successorPhis == null) {
+                        continue;
+                    }
+                    for (int p = 0; p < cfg.getPredecessorCount(successor); p++) {
+                        if (cfg.getPredecessor(successor, p) != node) {
+                            continue;
+                        }
+                        for (int phi : successorPhis) {
+                            operands.get(phi)[p] = current[variableOf.get(phi)];
+                        }
+                    }
+                }
+            }
+            if (nextChild[node] < dominators.getChildCount(node)) {
+                stack[++top] = dominators.getChild(node, nextChild[node]++);
+            } else {
+                for (int i = undoVariable.size() - 1; i >= undoMark[node]; i--) {
+                    current[undoVariable.get(i)] = undoValue.get(i);
+                    undoVariable.remove(i);
+                    undoValue.remove(i);
+                }
+                top--;
+            }
+        }
+
+        // Def-use edges from each value to the phis that use it
+        int valueCount = kinds.size();
+        userStart = new int[valueCount + 1];
+        for (int value = 0; value < valueCount; value++) {
+            if (kinds.get(value) == Kind.PHI) {
+                for (int operand : operands.get(value)) {
+                    userStart[operand + 1]++;
+                }
+            }
+        }
+        for (int value = 0; value < valueCount; value++) {
+            userStart[value + 1] += userStart[value];
+        }
+        users = new int[userStart[valueCount]];
+        int[] nextUser = new int[valueCount];
+        for (int value = 0; value < valueCount; value++) {
+            if (kinds.get(value) == Kind.PHI) {
+                for (int operand : operands.get(value)) {
+                    users[userStart[operand] + nextUser[operand]++] = value;
+                }
+            }
+        }
+    }
+
+    private int addValue(Kind kind, int variable, int node) {
+        kinds.add(kind);
+        variableOf.add(variable);
+        nodeOf.add(node);
+        operands.add(null);
+        return kinds.size() - 1;
+    }
+
+    public CompactCFG getCFG() {
+        return cfg;
+    }
+
+    public int getVariableCount() {
+        return names.length;
+    }
+
+    public String getVariableName(int variable) {
+        return names[variable];
+    }
+
+    // The number of a variable, -1 if it is not one of the variables the form was built for
+    public int getVariable(String name) {
+        Integer v = number.get(name);
+        return v == null ? -1 : v;
+    }
+
+    // Values 0 .. getVariableCount() - 1 are the ENTRY values of the variables with the same numbers
+    public int getValueCount() {
+        return kinds.size();
+    }
+
+    public int getPhiCount() {
+        return phiCount;
+    }
+
+    public Kind getKind(int value) {
+        return kinds.get(value);
+    }
+
+    public int getVariableOf(int value) {
+        return variableOf.get(value);
+    }
+
+    public int getNode(int value) {
+        return nodeOf.get(value);
+    }
+
+    public int getOperandCount(int phi) {
+        return operands.get(phi).length;
+    }
+
+    public int getOperand(int phi, int index) {
+        return operands.get(phi)[index];
+    }
+
+    public int getUserCount(int value) {
+        return userStart[value + 1] - userStart[value];
+    }
+
+    public int getUser(int value, int index) {
+        return users[userStart[value] + index];
+    }
+
+    // The value of a variable that the node reads, -1 if the node does not read it or it is not in the form
+    public int getValueRead(int node, String name) {
+        Integer v = number.get(name);
+        if (v == null) {
+            return -1;
+        }
+        for (int use = useStart[node]; use < useStart[node + 1]; use++) {
+            if (useVariable[use] == v) {
+                return useValue[use];
+            }
+        }
+        return -1;
+    }
+}
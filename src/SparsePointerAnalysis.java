@@ -0,0 +1,142 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The pointer states of NullPointerAnalysis, found on the SSA form of the function instead of block by block.
+// Only pointers the function both assigns and dereferences are put in SSA form; every other variable either keeps the
+// state the CFG builder gave it or is never checked. An assignment's state is known from the statement alone, so the
+// only work left is the phis: each one joins its operands, and when its state changes the phis using it are joined
+// again. The cost depends on the number of assignments, phis and dereferences of pointers, not on the number of
+// nodes times the number of variables.
+// The states are the same as the dense analysis finds: a phi joins exactly the states the paths into its node bring.
+public class SparsePointerAnalysis implements PointerAnalysis {
+    private static final int UNKNOWN = -1; // a phi that was not joined yet
+    private static final int NONE = 0; // the entry value, not assigned in the function
+    private static final int ASSIGNED = 1;
+    private static final int NULL = 2;
+    private static final int POTENTIALLY_NULL = 3;
+
+    private final Map<String, Variable> variables;
+    private final SSAForm ssa;
+    private final int[] state; // per SSA value
+    private long visits = 0;
+    private long requeues = 0;
+
+    public SparsePointerAnalysis(CompactCFG cfg, Dominators dominators, Map<String, Variable> variables) {
+        this.variables = variables;
+
+        // Pointers that are dereferenced and assigned somewhere in the function
+        Set<String> dereferenced = new LinkedHashSet<>();
+        Set<String> defined = new LinkedHashSet<>();
+        for (int node = 0; node < cfg.size(); node++) {
+            Statement statement = cfg.getStatement(node);
+            for (String name : statement.getDereferenced()) {
+                dereferenced.add(name);
+            }
+            if (statement.getDefined() != null) {
+                defined.add(statement.getDefined());
+            }
+        }
+        List<String> tracked = new ArrayList<>();
+        for (String name : dereferenced) {
+            Variable variable = variables.get(name);
+            if (defined.contains(name) && variable != null && variable.isPointer) {
+                tracked.add(name);
+            }
+        }
+        ssa = new SSAForm(cfg, dominators, tracked);
+
+        int valueCount = ssa.getValueCount();
+        state = new int[valueCount];
+        Deque<Integer> work = new ArrayDeque<>();
+        boolean[] queued = new boolean[valueCount];
+        boolean[] joined = new boolean[valueCount];
+        for (int value = 0; value < valueCount; value++) {
+            switch (ssa.getKind(value)) {
+                case ENTRY:
+                    state[value] = NONE;
+                    break;
+                case DEFINITION:
+                    state[value] = cfg.getStatement(ssa.getNode(value)).mentionsNull() ? NULL : ASSIGNED;
+                    break;
+                default:
+                    state[value] = UNKNOWN;
+                    work.add(value);
+                    queued[value] = true;
+                    break;
+            }
+        }
+        while (!work.isEmpty()) {
+            int phi = work.poll();
+            queued[phi] = false;
+            visits++;
+            joined[phi] = true;
+            int result = UNKNOWN;
+            for (int i = 0; i < ssa.getOperandCount(phi); i++) {
+                int operand = state[ssa.getOperand(phi, i)];
+                if (operand != UNKNOWN) {
+                    result = result == UNKNOWN || result == operand ? operand : POTENTIALLY_NULL;
+                }
+            }
+            if (result == state[phi]) {
+                continue;
+            }
+            state[phi] = result;
+            for (int i = 0; i < ssa.getUserCount(phi); i++) {
+                int user = ssa.getUser(phi, i);
+                if (!queued[user]) {
+                    queued[user] = true;
+                    work.add(user);
+                    if (joined[user]) {
+                        requeues++;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Variable.PointerState getStateBefore(int node, String name) {
+        int value = ssa.getValueRead(node, name);
+        switch (value < 0 ? NONE : state[value]) {
+            case ASSIGNED:
+                return Variable.PointerState.ASSIGNED;
+            case NULL:
+                return Variable.PointerState.NULL;
+            case POTENTIALLY_NULL:
+                return Variable.PointerState.POTENTIALLY_NULL;
+            default:
+                Variable known = variables.get(name);
+                return known == null ? null : known.state;
+        }
+    }
+
+    @Override
+    public Map<String, Variable> getVariables() {
+        return variables;
+    }
+
+    public SSAForm getSSAForm() {
+        return ssa;
+    }
+
+    @Override
+    public long getVisits() {
+        return visits;
+    }
+
+    @Override
+    public long getRequeues() {
+        return requeues;
+    }
+
+    @Override
+    public String getStatistics() {
+        return ssa.getVariableCount() + " pointer(s) in SSA form, " + ssa.getValueCount() + " value(s), "
+                + ssa.getPhiCount() + " phi(s), " + visits + " visit(s), " + requeues + " re-queue(s)";
+    }
+}
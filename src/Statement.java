@@ -0,0 +1,273 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// What the analysis needs to know about the statement at one CFG node, taken from the parse tree while the graph is
+// built: the kind of statement, the variable it defines, the variables it reads and the pointers it dereferences,
+// and the tokens it came from. It holds no reference into the parse tree, so the tree can be garbage collected as
+// soon as the CFG is done.
+// The text of the statement is not kept as a String when it can be read back from the source file: only the
+// character interval is stored, and getText() lexes it again when a dump or diagnostic asks for it.
+public class Statement {
+    // What a node does. IF, SWITCH and LOOP_TEST are the only nodes with more than one way out, and the jumps
+    // (BREAK, CONTINUE, GOTO, RETURN) the only ones that do not fall through to the next statement.
+    public enum Kind {
+        ENTRY, EXIT, // of a function graph
+        DECLARATION, EXPRESSION,
+        IF, ELSE, SWITCH,
+        LOOP_START, // "do", and "for()" without a condition: the top of a loop that does not test anything there
+        LOOP_TEST, // the condition of a while, for or do-while loop
+        LABEL, CASE, // a goto label, a case or default label
+        BREAK, CONTINUE, GOTO, RETURN;
+
+        public boolean isBranch() {
+            return this == IF || this == SWITCH || this == LOOP_TEST;
+        }
+
+        public boolean isJump() {
+            return this == BREAK || this == CONTINUE || this == GOTO || this == RETURN;
+        }
+    }
+
+    private static final String[] NONE = new String[0];
+
+    private final Kind kind;
+    private final String defined; // declared or assigned variable, null if none
+    private final String[] used;
+    private final String[] dereferenced; // pointers dereferenced with '*', once per dereference, in source order
+    private final boolean hasStar; // a '*' anywhere in the text
+    private final boolean mentionsNull; // "NULL" anywhere in the text
+    private final boolean hasSideEffects; // may change memory other than the variable it defines, see of()
+    private final int firstToken; // token index interval in the token stream, -1 when unknown
+    private final int lastToken;
+    private final String text; // the text, or null when it is read from source
+    private final CharStream source;
+    private final int firstChar; // character interval in source
+    private final int lastChar;
+
+    private Statement(Kind kind, String defined, String[] used, String[] dereferenced, boolean hasStar,
+                      boolean mentionsNull, boolean hasSideEffects, int firstToken, int lastToken, String text,
+                      CharStream source, int firstChar, int lastChar) {
+        this.kind = kind;
+        this.defined = defined;
+        this.used = used;
+        this.dereferenced = dereferenced;
+        this.hasStar = hasStar;
+        this.mentionsNull = mentionsNull;
+        this.hasSideEffects = hasSideEffects;
+        this.firstToken = firstToken;
+        this.lastToken = lastToken;
+        this.text = text;
+        this.source = source;
+        this.firstChar = firstChar;
+        this.lastChar = lastChar;
+    }
+
+    // A node that stands for a position in the code rather than for code, like a function's entry and exit
+    static Statement at(Kind kind, Token token, String text) {
+        int index = token == null ? -1 : token.getTokenIndex();
+        return new Statement(kind, null, NONE, NONE, false, false, false, index, index, text, null, -1, -1);
+    }
+
+    // A statement read back from a saved graph, see CFGFile
+    static Statement load(Kind kind, String defined, String[] used, String[] dereferenced, boolean hasStar,
+                          boolean mentionsNull, boolean hasSideEffects, int firstToken, int lastToken, String text) {
+        return new Statement(kind, defined, used, dereferenced, hasStar, mentionsNull, hasSideEffects, firstToken,
+                lastToken, text, null, -1, -1);
+    }
+
+    // Collects the variables of a statement or expression. Names in the declaration specifiers and declarators of a
+    // declaration are not reads, and neither are member names after '.' and '->' or the target of a plain assignment.
+    // source is the file the tokens were lexed from, or null when they may not be plain slices of one file, as after
+    // macro expansion. The text is only read back from source if every token of ctx is found there in order.
+    // A statement has side effects when it calls a function, uses '++' or '--', or assigns anything other than a
+    // plain variable with '=': a compound assignment, or a store through a pointer, member or array element.
+    static Statement of(Kind kind, ParserRuleContext ctx, String defined, CharStream source) {
+        Set<String> used = new LinkedHashSet<>();
+        List<String> dereferenced = new ArrayList<>();
+        boolean hasStar = false;
+        boolean mentionsNull = false;
+        boolean hasSideEffects = false;
+        boolean inSource = source != null;
+        int lastStop = -1;
+        Deque<ParseTree> stack = new ArrayDeque<>();
+        Deque<Boolean> reads = new ArrayDeque<>(); // per tree on the stack, whether its variables are read
+        stack.push(ctx);
+        reads.push(true);
+        while (!stack.isEmpty()) {
+            ParseTree tree = stack.pop();
+            boolean read = reads.pop();
+            if (tree instanceof TerminalNode) {
+                Token token = ((TerminalNode) tree).getSymbol();
+                int type = token.getType();
+                if (type == CLexer.Star || type == CLexer.StarAssign) {
+                    hasStar = true;
+                } else if (type == CLexer.PlusPlus || type == CLexer.MinusMinus) {
+                    hasSideEffects = true;
+                } else if (type == CLexer.Identifier || type == CLexer.StringLiteral || type == CLexer.Constant) {
+                    // Only these tokens have text that can contain a '*' or "NULL"
+                    String tokenText = token.getText();
+                    hasStar |= tokenText.indexOf('*') >= 0;
+                    mentionsNull |= tokenText.contains("NULL");
+                    if (read && type == CLexer.Identifier && !isMemberName((TerminalNode) tree)) {
+                        used.add(tokenText);
+                    }
+                }
+                // Tokens the parser made up during error recovery are in the tree but not in the file
+                inSource &= token.getInputStream() == source && token.getTokenIndex() >= 0
+                        && token.getStartIndex() > lastStop;
+                lastStop = token.getStopIndex();
+                continue;
+            }
+            if (tree instanceof CParser.DeclarationSpecifiersContext || tree instanceof CParser.DeclaratorContext) {
+                read = false;
+            }
+            if (read && tree instanceof CParser.UnaryExpressionContext) {
+                String pointer = dereferencedName((CParser.UnaryExpressionContext) tree);
+                if (pointer != null) {
+                    dereferenced.add(pointer);
+                }
+            }
+            // The variable on the left of a plain assignment is written, not read
+            boolean writesFirst = tree instanceof CParser.AssignmentExpressionContext
+                    && isPlainAssignment((CParser.AssignmentExpressionContext) tree);
+            if (tree instanceof CParser.AssignmentExpressionContext && !writesFirst
+                    && ((CParser.AssignmentExpressionContext) tree).assignmentOperator() != null) {
+                hasSideEffects = true;
+            }
+            hasSideEffects |= tree instanceof CParser.PostfixExpressionContext && isCall(tree);
+            // Pushed last to first so the children come off the stack in source order
+            for (int i = tree.getChildCount() - 1; i >= 0; i--) {
+                stack.push(tree.getChild(i));
+                reads.push(read && !(writesFirst && i == 0));
+            }
+        }
+        int firstToken = ctx.getStart() == null ? -1 : ctx.getStart().getTokenIndex();
+        int lastToken = ctx.getStop() == null ? firstToken : ctx.getStop().getTokenIndex();
+        int firstChar = -1;
+        int lastChar = -1;
+        if (inSource && ctx.getStart() != null && ctx.getStop() != null) {
+            firstChar = ctx.getStart().getStartIndex();
+            lastChar = ctx.getStop().getStopIndex(); // before firstChar for a rule that matched nothing
+        }
+        return new Statement(kind, defined, used.toArray(NONE), dereferenced.toArray(NONE), hasStar, mentionsNull,
+                hasSideEffects, firstToken, lastToken, inSource ? null : ctx.getText(), inSource ? source : null,
+                firstChar, lastChar);
+    }
+
+    // The pointer in '*p', '*p->next' or '*p++'. For '**p' only the inner '*p' is counted.
+    private static String dereferencedName(CParser.UnaryExpressionContext unary) {
+        if (unary.unaryOperator() == null || !unary.unaryOperator().getText().equals("*")
+                || unary.castExpression().unaryExpression() == null) {
+            return null;
+        }
+        CParser.PostfixExpressionContext postfix = unary.castExpression().unaryExpression().postfixExpression();
+        if (postfix == null || postfix.primaryExpression() == null || postfix.primaryExpression().Identifier() == null) {
+            return null;
+        }
+        return postfix.primaryExpression().Identifier().getText();
+    }
+
+    // 'x = ...' with a bare variable on the left
+    private static boolean isPlainAssignment(CParser.AssignmentExpressionContext assignment) {
+        if (assignment.assignmentOperator() == null || !assignment.assignmentOperator().getText().equals("=")) {
+            return false;
+        }
+        CParser.PostfixExpressionContext postfix = assignment.unaryExpression().postfixExpression();
+        return postfix != null && postfix.getChildCount() == 1 && postfix.primaryExpression() != null
+                && postfix.primaryExpression().Identifier() != null;
+    }
+
+    // 'f(...)': a '(' after the first part of a postfix expression. A leading '(' is a compound literal.
+    private static boolean isCall(ParseTree postfix) {
+        for (int i = 1; i < postfix.getChildCount(); i++) {
+            ParseTree child = postfix.getChild(i);
+            if (child instanceof TerminalNode && ((TerminalNode) child).getSymbol().getType() == CLexer.LeftParen) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMemberName(TerminalNode identifier) {
+        ParseTree parent = identifier.getParent();
+        if (!(parent instanceof CParser.PostfixExpressionContext)) {
+            return false;
+        }
+        for (int i = 1; i < parent.getChildCount(); i++) {
+            if (parent.getChild(i) == identifier) {
+                String before = parent.getChild(i - 1).getText();
+                return before.equals(".") || before.equals("->");
+            }
+        }
+        return false;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getDefined() {
+        return defined;
+    }
+
+    // Variables read by the statement, each once
+    public String[] getUsed() {
+        return used.clone();
+    }
+
+    public String[] getDereferenced() {
+        return dereferenced.clone();
+    }
+
+    public boolean hasStar() {
+        return hasStar;
+    }
+
+    public boolean mentionsNull() {
+        return mentionsNull;
+    }
+
+    public boolean hasSideEffects() {
+        return hasSideEffects;
+    }
+
+    // The text the way ParserRuleContext.getText() gives it, all tokens without the whitespace and comments between
+    // them. When it is read from the source it is built again on every call.
+    public String getText() {
+        if (text != null) {
+            return text;
+        }
+        if (lastChar < firstChar) {
+            return "";
+        }
+        CLexer lexer = new CLexer(CharStreams.fromString(source.getText(Interval.of(firstChar, lastChar))));
+        lexer.removeErrorListeners(); // anything wrong was already reported when the file was lexed
+        StringBuilder builder = new StringBuilder(lastChar - firstChar + 1);
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                builder.append(token.getText());
+            }
+        }
+        return builder.toString();
+    }
+
+    public int getFirstToken() {
+        return firstToken;
+    }
+
+    public int getLastToken() {
+        return lastToken;
+    }
+}
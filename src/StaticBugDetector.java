@@ -1,37 +1,494 @@
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 //https://www.youtube.com/watch?v=HfargWnOxO0
 
 public class StaticBugDetector {
+    private static boolean twoStage = true;
+    private static boolean latin1 = false;
+    private static boolean streaming = false;
+    private static boolean prefilter = false;
+    private static boolean preprocess = false;
+    private static List<Path> includePaths = new ArrayList<>();
+    private static Map<String, String> defines = new LinkedHashMap<>();
+    private static ResultCache resultCache = null;
+    private static boolean recover = false;
+    private static long maxTokens = 0;
+    private static long maxParseMillis = 0;
+    private static DotExporter dotExporter = null;
+    private static CFGFile.Writer cfgWriter = null;
+    private static String currentFile = null; // the file being analyzed, to label exported graphs
+
+    // Totals for the run summary
+    private static int fallbacks = 0;
+    private static int functionsSeen = 0;
+    private static int functionsSkipped = 0;
+    private static int declarationsAbandoned = 0;
+    private static int filesOverBudget = 0;
+    private static int functionCount = 0;
+    private static long cfgNodes = 0;
+    private static long cfgBlocks = 0;
+    private static long loopCount = 0;
+    private static int maxLoopDepth = 0;
+    private static long dataflowVisits = 0;
+    private static long dataflowRequeues = 0;
+    private static boolean denseAnalysis = false;
+    private static boolean pathSensitive = false;
+    private static int maxPathStates = 10000;
+    private static long maxPathMillis = 1000;
+    private static int functionsOverPathBudget = 0;
+
+    // Usage: StaticBugDetector [--ll] [--latin1] [--stream] [--prefilter] [--preprocess] [-Idir] [-Dname[=value]] [file.c ...]
+    //   --ll            always parse with full LL prediction instead of trying SLL first
+    //   --latin1        read non-ASCII input as Latin-1 bytes instead of decoding it as UTF-8
+    //   --stream        parse and analyze one external declaration at a time instead of the whole file at once
+    //   --prefilter     skip parsing functions that contain no '*', '->', NULL or global pointer
+    //   --preprocess    run #include, #define and #if before parsing (implied by -I and -D)
+    //   -Idir           search dir for #include files
+    //   -Dname[=value]  define a macro, the value defaults to 1
+    //   --cache=dir     reuse the results of files that have not changed since an earlier run, stored in dir
+    //   --recover       on a syntax error skip to the next top-level declaration instead of repairing the input
+    //   --max-tokens=n  stop parsing a file after n tokens
+    //   --max-parse-ms=n  stop parsing a file after n milliseconds
+    //   --verbosity=quiet|normal|dump  how much to print, dump (the default) includes parse trees, CFGs and variables
+    //   --dump-depth=n  only dump the top n levels of parse trees
+    //   --dump-limit=n  stop each dump after n characters
+    //   --dot=file      write the control flow graphs to file in Graphviz DOT format
+    //   --save-cfg=file  write the control flow graphs to file in binary form
+    //   --load-cfg=file  analyze the graphs saved in file instead of parsing source files
+    //   --dense         find pointer states with the dense dataflow pass over every block instead of in SSA form
+    //   --paths         keep paths through branches on the same condition apart and also report maybe-null pointers
+    //   --max-paths=n   give a function the path-insensitive states after n path states (default 10000)
+    //   --max-path-ms=n  give a function the path-insensitive states after n milliseconds (default 1000)
     public static void main(String[] args) throws IOException {
+        List<String> files = new ArrayList<>();
+        String cacheDirectory = null;
+        String dotFile = null;
+        String saveFile = null;
+        String loadFile = null;
+        for (String arg : args) {
+            if (arg.equals("--ll")) {
+                twoStage = false;
+            } else if (arg.equals("--latin1")) {
+                latin1 = true;
+            } else if (arg.equals("--stream")) {
+                streaming = true;
+            } else if (arg.equals("--prefilter")) {
+                prefilter = true;
+            } else if (arg.equals("--preprocess")) {
+                preprocess = true;
+            } else if (arg.startsWith("-I")) {
+                preprocess = true;
+                includePaths.add(Paths.get(arg.substring(2)));
+            } else if (arg.startsWith("-D")) {
+                preprocess = true;
+                String define = arg.substring(2);
+                int equals = define.indexOf('=');
+                if (equals < 0) {
+                    defines.put(define, "1");
+                } else {
+                    defines.put(define.substring(0, equals), define.substring(equals + 1));
+                }
+            } else if (arg.startsWith("--cache=")) {
+                cacheDirectory = arg.substring(8);
+            } else if (arg.equals("--recover")) {
+                recover = true;
+            } else if (arg.startsWith("--max-tokens=")) {
+                maxTokens = parseCount(arg, 13);
+            } else if (arg.startsWith("--max-parse-ms=")) {
+                maxParseMillis = parseCount(arg, 15);
+            } else if (arg.startsWith("--verbosity=")) {
+                try {
+                    Output.setLevel(Output.Level.valueOf(arg.substring(12).toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    usageError(arg + ": the level must be quiet, normal or dump");
+                }
+            } else if (arg.startsWith("--dump-depth=")) {
+                Output.setMaxDepth((int) Math.min(parseCount(arg, 13), Integer.MAX_VALUE));
+            } else if (arg.startsWith("--dump-limit=")) {
+                Output.setMaxChars(parseCount(arg, 13));
+            } else if (arg.startsWith("--dot=")) {
+                dotFile = arg.substring(6);
+            } else if (arg.startsWith("--save-cfg=")) {
+                saveFile = arg.substring(11);
+            } else if (arg.startsWith("--load-cfg=")) {
+                loadFile = arg.substring(11);
+            } else if (arg.equals("--dense")) {
+                denseAnalysis = true;
+            } else if (arg.equals("--paths")) {
+                pathSensitive = true;
+            } else if (arg.startsWith("--max-paths=")) {
+                pathSensitive = true;
+                maxPathStates = (int) Math.min(parseCount(arg, 12), Integer.MAX_VALUE);
+            } else if (arg.startsWith("--max-path-ms=")) {
+                pathSensitive = true;
+                maxPathMillis = parseCount(arg, 14);
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.isEmpty() && loadFile == null) {
+            files.add("./src/example.c");
+        }
+        if (cacheDirectory != null) {
+            // Everything that can change the diagnostics of an unchanged file
+            String config = "latin1=" + latin1 + ";stream=" + streaming + ";prefilter=" + prefilter
+                    + ";preprocess=" + preprocess + ";I=" + includePaths + ";D=" + defines
+                    + ";recover=" + recover + ";maxTokens=" + maxTokens + ";maxParseMs=" + maxParseMillis
+                    + (pathSensitive ? ";paths=" + maxPathStates + "," + maxPathMillis : "");
+            resultCache = new ResultCache(Paths.get(cacheDirectory), config);
+        }
+
+        try {
+            if (dotFile != null) {
+                dotExporter = new DotExporter(Paths.get(dotFile));
+            }
+            if (saveFile != null) {
+                cfgWriter = new CFGFile.Writer(Paths.get(saveFile));
+            }
+            int fileCount = files.size();
+            if (loadFile != null) {
+                fileCount = analyzeSaved(Paths.get(loadFile));
+            } else {
+                for (String file : files) {
+                    analyzeFile(file);
+                    // Keeps the buffered output in step with parser errors, which go straight to System.err
+                    Output.flush();
+                }
+            }
+            if (dotExporter != null) {
+                dotExporter.close();
+            }
+            if (cfgWriter != null) {
+                cfgWriter.close();
+            }
+            printSummary(fileCount);
+        } finally {
+            Output.flush();
+        }
+    }
+
+    // Analyzes the modules of a file written with --save-cfg. Returns the number of source files they came from.
+    private static int analyzeSaved(Path file) throws IOException {
+        int fileCount = 0;
+        try (CFGFile.Reader reader = new CFGFile.Reader(file)) {
+            for (ModuleCFG module = reader.next(); module != null; module = reader.next()) {
+                if (!reader.getFileName().equals(currentFile)) {
+                    Output.flush();
+                    currentFile = reader.getFileName();
+                    Output.result("File: " + currentFile + " (saved CFG)");
+                    fileCount++;
+                }
+                analyze(new CFGBuilderVisitor(), module, false);
+            }
+        }
+        Output.flush();
+        return fileCount;
+    }
+
+    private static void printSummary(int fileCount) {
+        Output.result("\nSummary: " + fileCount + " file(s) analyzed, " + fallbacks + " SLL->LL fallback(s)");
+        Output.info("Functions: " + functionCount);
+        if (cfgBlocks > 0) {
+            Output.info(String.format("Basic blocks: %d node(s) in %d block(s), %.2f nodes per block",
+                    cfgNodes, cfgBlocks, (double) cfgNodes / cfgBlocks));
+        }
+        Output.info("Loops: " + loopCount + " loop(s), nested at most " + maxLoopDepth + " deep");
+        if (cfgBlocks > 0) {
+            Output.info("Dataflow: " + (pathSensitive ? "paths" : denseAnalysis ? "dense" : "sparse") + ", " + dataflowVisits + " visit(s), "
+                    + dataflowRequeues + " re-queue(s)");
+        }
+        if (pathSensitive) {
+            Output.info("Path budget: exceeded in " + functionsOverPathBudget + " function(s)");
+        }
+        if (prefilter) {
+            Output.info("Prefilter: skipped " + functionsSkipped + " of " + functionsSeen + " function(s)");
+        }
+        if (recover) {
+            Output.info("Recovery: " + declarationsAbandoned + " declaration(s) abandoned in total");
+        }
+        if (maxTokens > 0 || maxParseMillis > 0) {
+            Output.info("Parse budget: exceeded in " + filesOverBudget + " file(s)");
+        }
+        if (preprocess) {
+            Output.info("Header cache: " + HeaderCache.getHits() + " hit(s), " + HeaderCache.getMisses() + " miss(es)");
+        }
+        if (resultCache != null) {
+            Output.info("Result cache: " + resultCache.getHits() + " hit(s), " + resultCache.getMisses() + " miss(es)");
+        }
+        if (dotExporter != null) {
+            Output.info("DOT export: " + dotExporter.getGraphCount() + " graph(s), " + dotExporter.getNodeCount()
+                    + " node(s), " + dotExporter.getEdgeCount() + " edge(s)");
+        }
+        if (cfgWriter != null) {
+            Output.info("CFG save: " + cfgWriter.getModuleCount() + " module(s), " + cfgWriter.getNodeCount() + " node(s)");
+        }
+    }
+
+    // The number after the '=' of an option, which must be 0 or more
+    private static long parseCount(String arg, int start) {
+        try {
+            long value = Long.parseLong(arg.substring(start));
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        usageError(arg + ": expected a number of 0 or more after '='");
+        return 0;
+    }
+
+    private static void usageError(String message) {
+        System.err.println("StaticBugDetector: " + message);
+        System.exit(2);
+    }
+
+    // Runs the whole pipeline on one file
+    private static void analyzeFile(String fileName) throws IOException {
+        Output.result("File: " + fileName);
+        currentFile = fileName;
+        String cacheKey = null;
+        if (resultCache != null) {
+            cacheKey = resultCache.key(Paths.get(fileName));
+            // The cache only has the diagnostics, --dot and --save-cfg need the graphs, so the file is analyzed again
+            List<String> cached = dotExporter == null && cfgWriter == null ? resultCache.lookup(cacheKey) : null;
+            if (cached != null) {
+                Output.result("\nResult (cached):");
+                for (String diagnostic : cached) {
+                    Output.result(diagnostic);
+                }
+                return;
+            }
+        }
+
+        CharStream codeCharStream = MappedCharStream.fromFileName(fileName, latin1);
+        TokenSource tokenSource = new CLexer(codeCharStream);
+        if (prefilter) {
+            RelevancePrefilter relevance = RelevancePrefilter.scan(codeCharStream);
+            tokenSource = relevance.filter(tokenSource);
+            functionsSeen += relevance.getFunctionCount();
+            functionsSkipped += relevance.getSkippedCount();
+            Output.info("Prefilter: skipped " + relevance.getSkippedCount() + " of " + relevance.getFunctionCount() + " function(s)");
+        }
+        Preprocessor preprocessor = null;
+        if (preprocess) {
+            preprocessor = new Preprocessor(tokenSource, Paths.get(fileName), includePaths, defines);
+            tokenSource = preprocessor;
+        }
+
+        List<String> diagnostics = streaming ? analyzeStreaming(tokenSource) : analyzeWholeFile(tokenSource);
+
+        List<Path> includes = new ArrayList<>();
+        List<Path> missing = new ArrayList<>();
+        if (preprocessor != null) {
+            includes = preprocessor.getIncludedFiles();
+            missing = preprocessor.getMissingHeaders();
+            Output.info("Preprocessor: included " + includes.size() + " header(s)"
+                    + (preprocessor.getUnresolvedIncludes().isEmpty() ? "" : ", not found: " + preprocessor.getUnresolvedIncludes()));
+        }
+        if (resultCache != null) {
+            resultCache.store(cacheKey, includes, missing, diagnostics);
+        }
+    }
+
+    // Parses the whole file into one tree and analyzes it. Returns the diagnostics.
+    private static List<String> analyzeWholeFile(TokenSource tokenSource) throws IOException {
         //Step 1 Parse C code and generate a ParseTree
-        CharStream codeCharStream = CharStreams.fromFileName("./src/example.c");
-        CLexer lexer = new CLexer(codeCharStream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        CParser parser = new CParser(tokens);
-        ParseTree tree = parser.compilationUnit();
+        CommonTokenStream tokens = new CommonTokenStream(tokenSource);
+        CParser parser = createParser(tokens);
+        ParseTree tree;
+        if (recover || maxTokens > 0 || maxParseMillis > 0) {
+            // Collect the declarations that could be parsed under one translation unit
+            TopLevelParser topLevelParser = new TopLevelParser(parser, twoStage);
+            CParser.TranslationUnitContext unit = new CParser.TranslationUnitContext(null, -1);
+            for (CParser.ExternalDeclarationContext declaration = topLevelParser.next(); declaration != null; declaration = topLevelParser.next()) {
+                unit.addChild(declaration);
+                declaration.setParent(unit);
+            }
+            tree = unit;
+            reportParse(topLevelParser, "");
+        } else if (twoStage) {
+            TwoStageParser twoStageParser = new TwoStageParser(parser);
+            tree = twoStageParser.parseCompilationUnit();
+            int fileFallbacks = twoStageParser.getFallbackCount();
+            fallbacks += fileFallbacks;
+            Output.info("Parse mode: SLL" + (fileFallbacks > 0 ? " (fell back to LL " + fileFallbacks + " time(s))" : ""));
+        } else {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            tree = parser.compilationUnit();
+            Output.info("Parse mode: LL");
+        }
 
-        System.out.println("ParseTree:");
-        System.out.println(tree.toStringTree(parser) + "\n");
+        dumpTree(tree, parser);
 
-        // Step 2 Parse ParseTree and create a CFG of it.
-        CFGBuilderVisitor visitor = new CFGBuilderVisitor();
+        // Step 2 Parse ParseTree and create a CFG of it, one per function. The CFG keeps no reference to the tree.
+        CFGBuilderVisitor visitor = createVisitor(tokenSource);
         visitor.visit(tree);
-        ControlFlowGraph cfg = visitor.getCFG();
-        System.out.println("CFG:");
-        cfg.printGraph();
+        tree = null;
+        analyze(visitor, visitor.getModule(), false);
+        return visitor.getDiagnostics();
+    }
+
+    // Parses one external declaration (a function or a global declaration) at a time, analyzes it and drops it.
+    // Tokens are pulled from the lexer on demand, so only the current declaration's tokens, tree and CFG are alive.
+    private static List<String> analyzeStreaming(TokenSource tokenSource) throws IOException {
+        UnbufferedTokenStream<Token> tokens = new UnbufferedTokenStream<>(new DefaultChannelTokenSource(tokenSource));
+        CParser parser = createParser(tokens);
+        TopLevelParser topLevelParser = new TopLevelParser(parser, twoStage);
+        CFGBuilderVisitor visitor = createVisitor(tokenSource);
+        visitor.setPrintReports(false); // printed below as one result for the whole file
+
+        boolean found = false;
+        for (ParseTree declaration = topLevelParser.next(); declaration != null; declaration = topLevelParser.next()) {
+            dumpTree(declaration, parser);
+
+            visitor.visit(declaration);
+            found |= analyze(visitor, visitor.getModule(), true);
+            visitor.startNewModule();
+        }
+
+        reportParse(topLevelParser, ", streamed " + topLevelParser.getDeclarationCount() + " declaration(s)");
+        if (!found) {
+            visitor.reportNoNullDereferences();
+        }
+        Output.result("\nResult:");
+        for (String diagnostic : visitor.getDiagnostics()) {
+            Output.result(diagnostic);
+        }
+        return visitor.getDiagnostics();
+    }
+
+    // Without the preprocessor every token is a piece of the file as it is, so node text is read back from the file
+    // when a dump or diagnostic needs it. Macro expansion makes tokens that are not in the file.
+    private static CFGBuilderVisitor createVisitor(TokenSource tokenSource) {
+        CFGBuilderVisitor visitor = new CFGBuilderVisitor();
+        if (!preprocess) {
+            visitor.setSource(tokenSource.getInputStream());
+        }
+        return visitor;
+    }
+
+    // Installs the recovery strategy and parse budget the options ask for
+    private static CParser createParser(TokenStream tokens) {
+        CParser parser = new CParser(tokens);
+        if (recover) {
+            parser.setErrorHandler(new DeclarationResyncStrategy());
+        }
+        if (maxTokens > 0 || maxParseMillis > 0) {
+            parser.addParseListener(new ParseBudget(maxTokens, maxParseMillis));
+        }
+        return parser;
+    }
+
+    private static void reportParse(TopLevelParser topLevelParser, String details) {
+        int fileFallbacks = topLevelParser.getFallbackCount();
+        fallbacks += fileFallbacks;
+        declarationsAbandoned += topLevelParser.getAbandonedCount();
+        Output.info("Parse mode: " + (twoStage ? "SLL" : "LL") + details
+                + (fileFallbacks > 0 ? ", fell back to LL " + fileFallbacks + " time(s)" : ""));
+        if (topLevelParser.getAbandonedCount() > 0) {
+            Output.result("Recovery: abandoned " + topLevelParser.getAbandonedCount() + " declaration(s) with syntax errors");
+        }
+        if (topLevelParser.getBudgetMessage() != null) {
+            filesOverBudget++;
+            Output.result("Parse budget: " + topLevelParser.getBudgetMessage() + ", rest of the file skipped");
+        }
+    }
+
+    private static void dumpTree(ParseTree tree, Parser parser) {
+        PrintWriter out = Output.beginDump("ParseTree:");
+        if (out != null) {
+            Output.printTree(out, tree, parser);
+            out.println();
+            Output.endDump();
+        }
+    }
+
+    // Dumps, exports and analyzes the graphs of one module. A part of a file, as --stream makes, leaves printing the
+    // results to the caller. Returns whether a null dereference was reported.
+    private static boolean analyze(CFGBuilderVisitor visitor, ModuleCFG module, boolean part) throws IOException {
+        List<ModuleCFG.Function> graphs = module.getGraphs();
+        PrintWriter out = Output.beginDump("CFG:");
+        if (out != null) {
+            for (ModuleCFG.Function function : graphs) {
+                out.println("Function: " + function.getName());
+                function.getCFG().printGraph(out);
+            }
+            Output.endDump();
+        }
 
         // Step 3 Extract and keep track of all the variables like the pointers
-        System.out.println("\nVariables:");
-        visitor.printVariableNames();
+        out = Output.beginDump("\nVariables:");
+        if (out != null) {
+            for (ModuleCFG.Function function : graphs) {
+                out.println("Function: " + function.getName());
+                visitor.printVariableNames(out, function);
+            }
+            Output.endDump();
+        }
 
-        // Step 4 run dataflow analysis and show results.
-        System.out.println("\nResult:");
-        visitor.analyzeCFG(cfg);
-        visitor.checkForNullDereferences(cfg);
+        // Written before the analysis, so a dump limit or a crash in the analysis still leaves the graphs
+        if (dotExporter != null) {
+            dotExporter.export(currentFile, module);
+        }
+        if (cfgWriter != null) {
+            cfgWriter.write(currentFile, module);
+        }
 
+        // Step 4 run dataflow analysis and show results. Functions are analyzed one at a time.
+        if (!part) {
+            Output.result("\nResult:");
+        }
+        boolean found = false;
+        functionCount += module.getFunctions().size();
+        List<String> convergence = new ArrayList<>(); // per function, dumped after the results
+        visitor.setDenseAnalysis(denseAnalysis);
+        if (pathSensitive) {
+            visitor.setPathSensitive(maxPathStates, maxPathMillis);
+        }
+        for (ModuleCFG.Function function : graphs) {
+            ControlFlowGraph cfg = function.getCFG();
+            BasicBlocks blocks = new BasicBlocks(cfg.compact());
+            cfgNodes += blocks.getCFG().size();
+            cfgBlocks += blocks.size();
+            if (Output.isEnabled(Output.Level.NORMAL)) {
+                // Only the summary uses the loop forest, so it is not built when the summary line is not printed
+                LoopForest loops = cfg.loops();
+                loopCount += loops.getLoopCount();
+                maxLoopDepth = Math.max(maxLoopDepth, loops.getMaxDepth());
+            }
+            found |= visitor.analyzeFunction(function, blocks);
+            PointerAnalysis analysis = visitor.getAnalysis();
+            dataflowVisits += analysis.getVisits();
+            dataflowRequeues += analysis.getRequeues();
+            if (analysis instanceof PathSensitiveAnalysis && ((PathSensitiveAnalysis) analysis).isOverBudget()) {
+                functionsOverPathBudget++;
+            }
+            if (Output.dumpsEnabled()) {
+                convergence.add(function.getName() + ": " + analysis.getStatistics());
+            }
+        }
+        if (!found && !part) {
+            visitor.reportNoNullDereferences();
+        }
+        out = Output.beginDump("\nDataflow:");
+        if (out != null) {
+            for (String line : convergence) {
+                out.println(line);
+            }
+            Output.endDump();
+        }
+        return found;
     }
-}
\ No newline at end of file
+}
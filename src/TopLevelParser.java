@@ -0,0 +1,93 @@
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+// Parses a file one externalDeclaration at a time.
+// With DeclarationResyncStrategy installed on the parser, a declaration with a syntax error is abandoned and parsing
+// resumes at the next top-level boundary, so the rest of the file is still analyzed. A ParseBudget listener on
+// the parser ends the file early once its token or time budget is used up.
+public class TopLevelParser {
+    private final CParser parser;
+    private final TokenStream tokens;
+    private final TwoStageParser twoStageParser; // null when parsing with LL only
+    private int declarations = 0;
+    private int abandoned = 0;
+    private String budgetMessage = null;
+
+    public TopLevelParser(CParser parser, boolean twoStage) {
+        this.parser = parser;
+        this.tokens = parser.getInputStream();
+        this.twoStageParser = twoStage ? new TwoStageParser(parser) : null;
+        if (!twoStage) {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+    }
+
+    // Returns the next declaration, or null at the end of the input or once the budget is used up
+    public CParser.ExternalDeclarationContext next() {
+        while (budgetMessage == null && tokens.LA(1) != Token.EOF) {
+            int start = tokens.index();
+            int marker = tokens.mark(); // error messages and resync read tokens from anywhere in the current declaration
+            try {
+                CParser.ExternalDeclarationContext declaration = twoStageParser != null
+                        ? twoStageParser.parse(CParser::externalDeclaration) : parser.externalDeclaration();
+                if (tokens.index() == start) {
+                    tokens.consume(); // the parser could not use this token at all, skip it so we make progress
+                }
+                declarations++;
+                return declaration;
+            } catch (DeclarationResyncStrategy.AbandonedDeclarationException e) {
+                abandoned++;
+                parser.getErrorHandler().reset(parser);
+                tokens.seek(start);
+                skipDeclaration();
+            } catch (ParseBudget.ExceededException e) {
+                budgetMessage = e.getMessage();
+            } finally {
+                tokens.release(marker);
+            }
+        }
+        return null;
+    }
+
+    // Skips from the start of a declaration to just past its end: a ';' outside any parentheses and braces,
+    // or the '}' that closes its outermost braces (a function body, or a struct or initializer before its ';')
+    private void skipDeclaration() {
+        int braces = 0;
+        int parens = 0;
+        while (tokens.LA(1) != Token.EOF) {
+            int type = tokens.LA(1);
+            tokens.consume();
+            if (type == CLexer.LeftParen) {
+                parens++;
+            } else if (type == CLexer.RightParen) {
+                parens = Math.max(0, parens - 1);
+            } else if (type == CLexer.LeftBrace) {
+                braces++;
+            } else if (type == CLexer.RightBrace) {
+                braces = Math.max(0, braces - 1);
+                if (braces == 0 && parens == 0) {
+                    return;
+                }
+            } else if (type == CLexer.Semi && braces == 0 && parens == 0) {
+                return;
+            }
+        }
+    }
+
+    public int getDeclarationCount() {
+        return declarations;
+    }
+
+    public int getAbandonedCount() {
+        return abandoned;
+    }
+
+    public int getFallbackCount() {
+        return twoStageParser != null ? twoStageParser.getFallbackCount() : 0;
+    }
+
+    // Why parsing stopped early, or null if the whole file was parsed
+    public String getBudgetMessage() {
+        return budgetMessage;
+    }
+}
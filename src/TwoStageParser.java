@@ -0,0 +1,72 @@
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Runs a parser rule with the fast SLL prediction mode first and only re-parses with full LL when SLL fails.
+// If SLL parses the input without an error the tree is the same one LL would have built.
+public class TwoStageParser {
+    private final CParser parser;
+    private int fallbackCount = 0; // rules that had to be re-parsed with LL
+
+    public TwoStageParser(CParser parser) {
+        this.parser = parser;
+    }
+
+    public CParser.CompilationUnitContext parseCompilationUnit() {
+        return parse(CParser::compilationUnit);
+    }
+
+    public <T extends ParserRuleContext> T parse(Function<CParser, T> rule) {
+        TokenStream tokens = parser.getInputStream();
+        tokens.LT(1); // make sure the stream is positioned on its first token before remembering where we are
+        int start = tokens.index();
+        int marker = tokens.mark(); // keeps the tokens buffered for the rewind when the stream is unbuffered
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        ParseBudget budget = null;
+        for (ParseTreeListener listener : parser.getParseListeners()) {
+            if (listener instanceof ParseBudget) {
+                budget = (ParseBudget) listener;
+                budget.beginAttempt();
+            }
+        }
+
+        try {
+            // Stage 1: SLL with a strategy that gives up on the first syntax error
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.removeErrorListeners();
+            try {
+                return rule.apply(parser);
+            } catch (ParseCancellationException e) {
+                fallbackCount++;
+            } finally {
+                // Restore the caller's setup so stage 2 reports errors normally
+                parser.setErrorHandler(errorHandler);
+                for (ANTLRErrorListener listener : listeners) {
+                    parser.addErrorListener(listener);
+                }
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            }
+
+            // Stage 2: rewind the token stream and parse again with full LL
+            tokens.seek(start);
+            if (budget != null) {
+                budget.retry();
+            }
+            errorHandler.reset(parser);
+            return rule.apply(parser);
+        } finally {
+            tokens.release(marker);
+        }
+    }
+
+    public int getFallbackCount() {
+        return fallbackCount;
+    }
+}
@@ -0,0 +1,36 @@
+#include <stdio.h>
+
+int main() {
+    int *ptr = NULL;  // Pointer initialized to NULL
+    int *last = NULL;  // Never set to anything else
+    int actualValue = 42;
+    int value = 0;
+    int count = 3;
+    int *counter = &count;  // Changes count without naming it
+    int condition = 0;
+
+    // Conditional assignment to ptr
+    if (condition) {
+        ptr = &actualValue;
+    }
+
+    // The condition changes between the two tests, so this can run with ptr still NULL
+    condition += 1;
+    if (condition) {
+        actualValue = *ptr;
+    }
+
+    if (count) {
+        // The loop only changes its own condition through a pointer, so it does end
+        while (count) {
+            *counter = count - 1;
+        }
+
+        // Dereferencing a pointer that is NULL on every path
+        value = *last;
+    }
+
+    printf("Value: %d\n", value);
+
+    return 0;
+}